@@ -86,16 +86,16 @@ public class Codex {
     private static void runClient(ClientSettings settings) {
         switch (settings.getMode()) {
             case ClientMode.TEXTUAL:
-                runTuiClient(settings.getServerIp(), settings.getPort(),settings.getNetworkMode());
+                runTuiClient(settings.getServerIp(), settings.getPort(),settings.getNetworkMode(), settings.isFramed(), settings.getCodec());
                 break;
             case ClientMode.GRAPHICAL:
-                runGuiClient(settings.getServerIp(), settings.getPort(),settings.getNetworkMode());
+                runGuiClient(settings.getServerIp(), settings.getPort(),settings.getNetworkMode(), settings.isFramed(), settings.getCodec());
                 break;
         }
     }
 
-    private static void runGuiClient(String serverIp, int port, NetworkMode connection) {
-        GuiApplication.run(serverIp, port, connection);
+    private static void runGuiClient(String serverIp, int port, NetworkMode connection, boolean framed, String codec) {
+        GuiApplication.run(serverIp, port, connection, framed, codec);
     }
 
     /**
@@ -103,9 +103,11 @@ public class Codex {
      * @param serverIp The server Ip.
      * @param port The port number.
      * @param connection The type of connection (TCP or RMI)
+     * @param framed Whether the socket connection uses the framed protocol
+     * @param codec The codec of the framed protocol
      */
-    private static void runTuiClient(String serverIp, int port, NetworkMode connection) {
-        TuiApplication.run(serverIp, port, connection);
+    private static void runTuiClient(String serverIp, int port, NetworkMode connection, boolean framed, String codec) {
+        TuiApplication.run(serverIp, port, connection, framed, codec);
     }
 
     /**
@@ -7,7 +7,7 @@ import it.polimi.ingsw.am52.model.cards.Card;
 import it.polimi.ingsw.am52.model.game.GameLobby;
 import it.polimi.ingsw.am52.model.game.GameManager;
 import it.polimi.ingsw.am52.model.game.GamePhase;
-import it.polimi.ingsw.am52.model.objectives.Objective;
+import it.polimi.ingsw.am52.model.game.GameSnapshot;
 import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
 import it.polimi.ingsw.am52.network.server.ClientHandler;
 import it.polimi.ingsw.am52.network.server.Sender;
@@ -16,7 +16,8 @@ import it.polimi.ingsw.am52.json.response.ResponseStatus;
 import java.util.*;
 
 /**
- * Class to control the Game
+ * Class to control the Game. The endpoints are applied one at a time through the
+ * {@link GameMailbox} of the game, the games run in parallel.
  */
 public class GameController {
     /**
@@ -25,16 +26,56 @@ public class GameController {
     private final GameLobby lobby;
 
     /**
-     * The GameManager, it controls all the Model
+     * The GameManager, it controls all the Model. Set by the mailbox, read also by the snapshot readers
      */
-    private GameManager game;
+    private volatile GameManager game;
+
+    /**
+     * The mailbox of the game, it applies the endpoints sequentially
+     */
+    private final GameMailbox mailbox;
+
+    /**
+     * The directory where the seats of the lobby are published, null if the lobby is not listed
+     */
+    private final LobbyDirectory directory;
 
     /**
      * Constructor of the GameController
      * @param lobby The Lobby linked to this Game
      */
     public GameController(GameLobby lobby) {
+        this(lobby, new GameMailbox());
+    }
+
+    /**
+     * Constructor of the GameController
+     * @param lobby The Lobby linked to this Game
+     * @param directory The directory where the seats of the lobby are published
+     */
+    public GameController(GameLobby lobby, LobbyDirectory directory) {
+        this(lobby, new GameMailbox(), directory);
+    }
+
+    /**
+     * Constructor of the GameController
+     * @param lobby The Lobby linked to this Game
+     * @param mailbox The mailbox that applies the endpoints of this Game
+     */
+    public GameController(GameLobby lobby, GameMailbox mailbox) {
+        this(lobby, mailbox, null);
+    }
+
+    /**
+     * Constructor of the GameController
+     * @param lobby The Lobby linked to this Game
+     * @param mailbox The mailbox that applies the endpoints of this Game
+     * @param directory The directory where the seats of the lobby are published, null if the lobby is not listed
+     */
+    public GameController(GameLobby lobby, GameMailbox mailbox, LobbyDirectory directory) {
         this.lobby = lobby;
+        this.mailbox = mailbox;
+        this.directory = directory;
     }
 
     // region Endpoints
@@ -43,33 +84,36 @@ public class GameController {
      * The method to join the lobby
      * @param user the user that joined
      */
-    public synchronized JoinLobbyResponseData joinLobby(User user) {
-        try {
-            if (this.game != null) {
-                return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 403, "Game already started"));
-            }
+    public JoinLobbyResponseData joinLobby(User user) {
+        return this.mailbox.call("joinLobby", () -> {
+            try {
+                if (this.game != null) {
+                    return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 403, "Game already started"));
+                }
 
-            if (!this.lobby.addPlayer(user)) {
-                return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 403, "Nickname not available"));
-            }
+                if (!this.lobby.addPlayer(user)) {
+                    return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 403, "Nickname not available"));
+                }
+                this.publishLobby();
 
-            JoinLobbyResponseData res;
+                JoinLobbyResponseData res;
 
-            if (this.lobby.isFull()) {
-                if(this.startGame()){
-                    res = new JoinLobbyResponseData(new ResponseStatus(this.game.getStatusResponse()), this.getId(), this.lobby.getPlayersNickname());
+                if (this.lobby.isFull()) {
+                    if(this.startGame()){
+                        res = new JoinLobbyResponseData(new ResponseStatus(this.game.getStatusResponse()), this.getId(), this.lobby.getPlayersNickname());
+                    } else {
+                        res = new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 503, "Cannot start Game"), this.getId(), this.lobby.getPlayersNickname());
+                    }
                 } else {
-                    res = new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 503, "Cannot start Game"), this.getId(), this.lobby.getPlayersNickname());
+                    res = new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY,0,""), this.getId(), this.lobby.getPlayersNickname());
                 }
-            } else {
-                res = new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY,0,""), this.getId(), this.lobby.getPlayersNickname());
-            }
 
-            // Notify the clients and Response
-            return res;
-        } catch (Exception ex) {
-            return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 503, "Cannot add player"));
-        }
+                // Notify the clients and Response
+                return res;
+            } catch (Exception ex) {
+                return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 503, "Cannot add player"));
+            }
+        });
     }
 
     /**
@@ -77,26 +121,29 @@ public class GameController {
      *
      */
     public LeaveGameResponseData leaveLobby(int clientId) {
-        var user = this.lobby.getPlayer(clientId);
+        return this.mailbox.call("leaveLobby", () -> {
+            var user = this.lobby.getPlayer(clientId);
 
-        if (user.isEmpty()) {
-            return new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY, 404, "User not found"));
-        }
+            if (user.isEmpty()) {
+                return new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY, 404, "User not found"));
+            }
 
-        var nick = user.get().getUsername();
+            var nick = user.get().getUsername();
 
-        try {
-            this.lobby.removePlayer(nick);
-        } catch (Exception ex) {
-            return new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY, 405, "Player cannot be removed"));
-        }
+            try {
+                this.lobby.removePlayer(nick);
+            } catch (Exception ex) {
+                return new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY, 405, "Player cannot be removed"));
+            }
 
-        if (this.lobby.isEmpty()) {
-            ServerController.getInstance().deleteGame(this);
-        }
+            this.publishLobby();
+            if (this.lobby.isEmpty()) {
+                ServerController.getInstance().deleteGame(this);
+            }
 
-        // Notify the clients and Response
-        return new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY,0,""), nick, ServerController.getInstance().getLobbies());
+            // Notify the clients and Response
+            return new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY,0,""), nick);
+        });
     }
 
     /**
@@ -105,18 +152,20 @@ public class GameController {
      * @param objective The ID of the chosen objective
      */
     public SelectObjectiveResponseData selectObjective(int clientId, int objective) {
-        try {
-            this.game.setPlayerChosenObject(this.getNickname(clientId), objective);
-        } catch (NoSuchElementException e) {
-            return new SelectObjectiveResponseData(new ResponseStatus(this.game.getStatusResponse(), 404, "Player not found"));
-        } catch (PlayerException e) {
-            return new SelectObjectiveResponseData(new ResponseStatus(this.game.getStatusResponse(), 60, e.getMessage()));
-        } catch (GameException e) {
-            return new SelectObjectiveResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
-        }
+        return this.mailbox.call("selectObjective", () -> {
+            try {
+                this.game.setPlayerChosenObject(this.getNickname(clientId), objective);
+            } catch (NoSuchElementException e) {
+                return new SelectObjectiveResponseData(new ResponseStatus(this.game.getStatusResponse(), 404, "Player not found"));
+            } catch (PlayerException e) {
+                return new SelectObjectiveResponseData(new ResponseStatus(this.game.getStatusResponse(), 60, e.getMessage()));
+            } catch (GameException e) {
+                return new SelectObjectiveResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
+            }
 
-        //Notify the success of the action
-        return new SelectObjectiveResponseData(new ResponseStatus(this.game.getStatusResponse()), objective);
+            //Notify the success of the action
+            return new SelectObjectiveResponseData(new ResponseStatus(this.game.getStatusResponse()), objective);
+        });
     }
 
     /**
@@ -126,24 +175,26 @@ public class GameController {
      * @param face      The face of the starter card
      */
     public PlaceStarterCardResponseData placeStarterCard(int clientId, int cardId, int face) {
-        try {
-            this.game.placeStarterCard(this.getNickname(clientId), cardId, face);
-        } catch (NoSuchElementException e) {
-            return new PlaceStarterCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 404, "Player not found"));
-        } catch (PlayingBoardException e) {
-            return new PlaceStarterCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 50, e.getMessage()));
-        } catch (GameException e) {
-            return new PlaceStarterCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
-        }
+        return this.mailbox.call("placeStarterCard", () -> {
+            try {
+                this.game.placeStarterCard(this.getNickname(clientId), cardId, face);
+            } catch (NoSuchElementException e) {
+                return new PlaceStarterCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 404, "Player not found"));
+            } catch (PlayingBoardException e) {
+                return new PlaceStarterCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 50, e.getMessage()));
+            } catch (GameException e) {
+                return new PlaceStarterCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
+            }
 
-        //Notify the success of the action
-        return new PlaceStarterCardResponseData(
-                new ResponseStatus(this.game.getStatusResponse()),
-                cardId,
-                face,
-                this.getNickname(clientId),
-                this.game.getPlayer(this.getNickname(clientId)).getPlayingBoard().getAvailableSlots().toList()
-        );
+            //Notify the success of the action
+            return new PlaceStarterCardResponseData(
+                    new ResponseStatus(this.game.getStatusResponse()),
+                    cardId,
+                    face,
+                    this.getNickname(clientId),
+                    this.game.getPlayer(this.getNickname(clientId)).getPlayingBoard().getAvailableSlots().toList()
+            );
+        });
     }
 
     /**
@@ -154,57 +205,66 @@ public class GameController {
      * @param slot      The position of the card
      */
     public PlaceCardResponseData placeCard(int clientId, int cardId, int face, BoardSlot slot) {
-        if (!Objects.equals(this.getNickname(clientId), this.game.getCurrentPlayer().getNickname())) {
-            return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, "Not your turn!"));
-        }
-        try {
-            this.game.placeCard(cardId, face, slot);
-        } catch (PlayerException e) {
-            return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 32, e.getMessage()));
-        } catch (CardException e) {
-            return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 30, e.getMessage()));
-        } catch (PlayingBoardException e) {
-            return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 31, e.getMessage()));
-        } catch (GameException e) {
-            return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
-        }
+        return this.mailbox.call("placeCard", () -> {
+            if (!Objects.equals(this.getNickname(clientId), this.game.getCurrentPlayer().getNickname())) {
+                return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, "Not your turn!"));
+            }
+            try {
+                this.game.placeCard(cardId, face, slot);
+            } catch (PlayerException e) {
+                return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 32, e.getMessage()));
+            } catch (CardException e) {
+                return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 30, e.getMessage()));
+            } catch (PlayingBoardException e) {
+                return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 31, e.getMessage()));
+            } catch (GameException e) {
+                return new PlaceCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
+            }
 
-        //Notify the success of the action
-        return new PlaceCardResponseData(
-                new ResponseStatus(this.game.getStatusResponse()),
-                cardId,
-                face,
-                slot,
-                this.game.getPlayer(this.getNickname(clientId)).getPlayingBoard().getAvailableSlots().toList(),
-                this.getNickname(clientId),
-                this.game.getScoreBoard().get(this.getNickname(clientId))
-        );
+            //Notify the success of the action
+            return new PlaceCardResponseData(
+                    new ResponseStatus(this.game.getStatusResponse()),
+                    cardId,
+                    face,
+                    slot,
+                    this.game.getPlayer(this.getNickname(clientId)).getPlayingBoard().getAvailableSlots().toList(),
+                    this.getNickname(clientId),
+                    this.game.getScoreBoard().get(this.getNickname(clientId))
+            );
+        });
     }
 
     /**
-     * Method to get the init game data
+     * Method to get the init game data. It reads the last snapshot of the game, so it
+     * does not wait for the commands in the mailbox and it never sees a turn half applied
      *
      */
     public InitGameResponseData initGame(int clientId) {
+        var manager = this.game;
+        if (manager == null) {
+            return new InitGameResponseData(new ResponseStatus(GamePhase.LOBBY, 503, "Game not started"));
+        }
+
+        GameSnapshot snapshot = manager.getSnapshot();
         InitGameResponseData response;
         try {
-            var nickname = this.getNickname(clientId);
+            var player = snapshot.getPlayer(this.getNickname(clientId));
 
             response = new InitGameResponseData(
-                    new ResponseStatus(this.game.getStatusResponse()),
-                    this.lobby.getPlayersNickname(),
-                    this.game.getCommonObjectives(),
-                    this.game.getVisibleResourceCards(),
-                    this.game.getVisibleGoldCards(),
-                    this.game.getPlayer(nickname).getHand().stream().map(Card::getCardId).toList(),
-                    this.game.getPlayerObjectiveOptions(nickname).stream().map(Objective::getObjectiveId).toList(),
-                    this.game.getPlayer(nickname).getStarterCard().getCardId(),
-                    this.game.peekNextCard(DrawType.RESOURCE),
-                    this.game.peekNextCard(DrawType.GOLD)
+                    new ResponseStatus(snapshot),
+                    snapshot.getNicknames(),
+                    snapshot.commonObjectives(),
+                    snapshot.visibleResourceCards(),
+                    snapshot.visibleGoldCards(),
+                    player.hand(),
+                    player.objectiveOptions(),
+                    player.starterCardId(),
+                    snapshot.nextResourceCard(),
+                    snapshot.nextGoldCard()
             );
         } catch (Exception e) {
             System.out.println("Exception thrown on GameController.initGame: " + e.getMessage());
-            response = new InitGameResponseData(new ResponseStatus(this.game.getStatusResponse(), 503, "Method not working"));
+            response = new InitGameResponseData(new ResponseStatus(snapshot, 503, "Method not working"));
         }
 
         return response;
@@ -214,11 +274,13 @@ public class GameController {
      * Method to handle the ending phase of a game
      */
     public EndGameResponseData endGame() {
-        try {
-            return new EndGameResponseData(new ResponseStatus(this.game.getStatusResponse()), this.game.getWinners());
-        } catch (GameException e) {
-            return new EndGameResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
-        }
+        return this.mailbox.call("endGame", () -> {
+            try {
+                return new EndGameResponseData(new ResponseStatus(this.game.getStatusResponse()), this.game.getWinners());
+            } catch (GameException e) {
+                return new EndGameResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
+            }
+        });
     }
 
     /**
@@ -227,39 +289,41 @@ public class GameController {
      * @param deck      The deck to draw from
      */
     public DrawCardResponseData drawCard(int clientId, int deck) {
-        if (!Objects.equals(this.getNickname(clientId), this.game.getCurrentPlayer().getNickname())) {
-            return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, "Not your turn!"));
-        }
-        try {
-            var nextCard = this.game.peekNextCard(DrawType.fromInteger(deck));
-            switch (DrawType.fromInteger(deck)) {
-                case DrawType.RESOURCE -> this.game.drawResourceCard();
-                case DrawType.GOLD -> this.game.drawGoldCard();
-                case null, default -> {
-                    return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 1, "Invalid deck"));
-                }
+        return this.mailbox.call("drawCard", () -> {
+            if (!Objects.equals(this.getNickname(clientId), this.game.getCurrentPlayer().getNickname())) {
+                return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, "Not your turn!"));
             }
+            try {
+                var nextCard = this.game.peekNextCard(DrawType.fromInteger(deck));
+                switch (DrawType.fromInteger(deck)) {
+                    case DrawType.RESOURCE -> this.game.drawResourceCard();
+                    case DrawType.GOLD -> this.game.drawGoldCard();
+                    case null, default -> {
+                        return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 1, "Invalid deck"));
+                    }
+                }
 
-            if (!this.game.getPlayer(this.getNickname(clientId)).getHand().stream().map(Card::getCardId).toList().contains(nextCard)) {
-                throw new DeckException("Deck failed to draw");
-            }
+                if (!this.game.getPlayer(this.getNickname(clientId)).getHand().stream().map(Card::getCardId).toList().contains(nextCard)) {
+                    throw new DeckException("Deck failed to draw");
+                }
 
-            //Notify the success of the action
-            return new DrawCardResponseData(
-                    new ResponseStatus(this.game.getStatusResponse()),
-                    nextCard,
-                    deck,
-                    this.game.peekNextCard(DrawType.fromInteger(deck))
-            );
-        } catch (PlayerException e) {
-            return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 32, e.getMessage()));
-        } catch (DeckException e) {
-            return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 70, e.getMessage()));
-        } catch (IllegalStateException e) {
-            return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 99, e.getMessage()));
-        } catch (GameException e) {
-            return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
-        }
+                //Notify the success of the action
+                return new DrawCardResponseData(
+                        new ResponseStatus(this.game.getStatusResponse()),
+                        nextCard,
+                        deck,
+                        this.game.peekNextCard(DrawType.fromInteger(deck))
+                );
+            } catch (PlayerException e) {
+                return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 32, e.getMessage()));
+            } catch (DeckException e) {
+                return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 70, e.getMessage()));
+            } catch (IllegalStateException e) {
+                return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 99, e.getMessage()));
+            } catch (GameException e) {
+                return new DrawCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, e.getMessage()));
+            }
+        });
     }
 
     /**
@@ -267,32 +331,62 @@ public class GameController {
      *
      */
     public TakeCardResponseData takeCard(int clientId, int cardId, int type) {
-        try {
-            var drawType = DrawType.fromInteger(type);
-            if (!Objects.equals(this.getNickname(clientId), this.game.getCurrentPlayer().getNickname())) {
-                return new TakeCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, "Not your turn!"));
-            }
+        return this.mailbox.call("takeCard", () -> {
+            try {
+                var drawType = DrawType.fromInteger(type);
+                if (!Objects.equals(this.getNickname(clientId), this.game.getCurrentPlayer().getNickname())) {
+                    return new TakeCardResponseData(new ResponseStatus(this.game.getStatusResponse(), 3, "Not your turn!"));
+                }
 
-            int shownCard;
+                int shownCard;
 
-            if (drawType == DrawType.RESOURCE){
-                shownCard = this.game.takeResourceCard(cardId);
-            } else if (drawType == DrawType.GOLD) {
-                shownCard = this.game.takeGoldCard(cardId);
-            } else {
-                return new TakeCardResponseData(new ResponseStatus(this.game.getStatusResponse(),400, "Bad request type"));
-            }
+                if (drawType == DrawType.RESOURCE){
+                    shownCard = this.game.takeResourceCard(cardId);
+                } else if (drawType == DrawType.GOLD) {
+                    shownCard = this.game.takeGoldCard(cardId);
+                } else {
+                    return new TakeCardResponseData(new ResponseStatus(this.game.getStatusResponse(),400, "Bad request type"));
+                }
 
-            return new TakeCardResponseData(
-                    new ResponseStatus(this.game.getStatusResponse()),
-                    cardId,
-                    shownCard,
-                    type,
-                    this.game.peekNextCard(drawType)
-            );
-        } catch (Exception ex) {
-            return new TakeCardResponseData(new ResponseStatus(this.game.getStatusResponse(),503, "Exception on take card"));
-        }
+                return new TakeCardResponseData(
+                        new ResponseStatus(this.game.getStatusResponse()),
+                        cardId,
+                        shownCard,
+                        type,
+                        this.game.peekNextCard(drawType)
+                );
+            } catch (Exception ex) {
+                return new TakeCardResponseData(new ResponseStatus(this.game.getStatusResponse(),503, "Exception on take card"));
+            }
+        });
+    }
+    /**
+     * Method to get the legal placements of the cards in the hand of a player, with their points.
+     * It is applied by the mailbox, so the hints are about the board after the last command
+     * @param clientId  The ID of the client
+     */
+    public HintsResponseData hints(int clientId) {
+        return this.mailbox.call("hints", () -> {
+            if (this.game == null) {
+                return new HintsResponseData(new ResponseStatus(GamePhase.LOBBY, 503, "Game not started"));
+            }
+            try {
+                var hints = this.game.getPlayer(this.getNickname(clientId)).getMoves().stream()
+                        .map(move -> new HintsResponseData.Hint(
+                                move.card().getCardId(),
+                                move.side().toInteger(),
+                                move.slot(),
+                                move.points(),
+                                move.objectivePoints()))
+                        .toList();
+
+                return new HintsResponseData(new ResponseStatus(this.game.getStatusResponse()), hints);
+            } catch (NoSuchElementException e) {
+                return new HintsResponseData(new ResponseStatus(this.game.getStatusResponse(), 404, "Player not found"));
+            } catch (PlayingBoardException e) {
+                return new HintsResponseData(new ResponseStatus(this.game.getStatusResponse(), 31, e.getMessage()));
+            }
+        });
     }
     //endregion
 
@@ -346,27 +440,30 @@ public class GameController {
      *
      * @return the EndGameResponseData due to disconnection
      */
-    public synchronized EndGameResponseData disconnect(ClientHandler handler, int disconnectedClientId) {
-        var disconnectedNickname = "";
-        try {
-            disconnectedNickname = this.getNickname(disconnectedClientId);
-            this.lobby.removePlayer(handler.getClientId());
-
-            ServerController.getInstance().disconnect(handler);
-
-            if (this.lobby.isEmpty()) {
-                ServerController.getInstance().deleteGame(this);
+    public EndGameResponseData disconnect(ClientHandler handler, int disconnectedClientId) {
+        return this.mailbox.call("disconnect", () -> {
+            var disconnectedNickname = "";
+            try {
+                disconnectedNickname = this.getNickname(disconnectedClientId);
+                this.lobby.removePlayer(handler.getClientId());
+                this.publishLobby();
+
+                ServerController.getInstance().disconnect(handler);
+
+                if (this.lobby.isEmpty()) {
+                    ServerController.getInstance().deleteGame(this);
+                }
+            } catch (Exception e) {
+                System.out.println("Exception on disconnect: " + e.getMessage());
             }
-        } catch (Exception e) {
-            System.out.println("Exception on disconnect: " + e.getMessage());
-        }
-        List<String> winners = new ArrayList<>();
+            List<String> winners = new ArrayList<>();
 
-        if (this.game != null) {
-            winners = this.game.getWinners();
-        }
+            if (this.game != null) {
+                winners = this.game.getWinners();
+            }
 
-        return new EndGameResponseData(new ResponseStatus(GamePhase.END, 0, ""), winners, disconnectedNickname);
+            return new EndGameResponseData(new ResponseStatus(GamePhase.END, 0, ""), winners, disconnectedNickname);
+        });
     }
 
     /**
@@ -385,6 +482,15 @@ public class GameController {
         return this.lobby.getSpecificHandlerToBroadcast(client);
     }
 
+    /**
+     * Method to publish the free seats of the lobby in the directory
+     */
+    private void publishLobby() {
+        if (this.directory != null) {
+            this.directory.update(this.getId(), this.lobby.getMaxPlayers(), this.lobby.getFreeSpace());
+        }
+    }
+
     /**
      * Method used to return he number of player that can enter the lobby
      * @return the number of free spaces
@@ -393,5 +499,21 @@ public class GameController {
         return this.lobby.getFreeSpace();
     }
 
+    /**
+     * Method used to return the number of commands waiting to be applied to this Game
+     * @return the mailbox depth
+     */
+    public int getMailboxDepth() {
+        return this.mailbox.getDepth();
+    }
+
+    /**
+     * Method used to return the service time of the commands applied to this Game
+     * @return the service time, by command name
+     */
+    public Map<String, GameMailbox.ServiceTime> getServiceTimes() {
+        return this.mailbox.getServiceTimes();
+    }
+
     // endregion
 }
@@ -0,0 +1,235 @@
+package it.polimi.ingsw.am52.controller;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The mailbox of a single game. All the commands of the game are queued and applied
+ * one at a time, in the order they have been received, so the state of the game is never
+ * accessed concurrently and no lock is needed. The mailboxes of different games are
+ * drained in parallel by a shared pool of worker threads.
+ */
+public class GameMailbox {
+
+    /**
+     * The default number of worker threads shared by all the games.
+     */
+    public static final int DEF_WORKERS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The worker threads used by the games created without an explicit executor.
+     */
+    private static final ExecutorService SHARED_WORKERS = Executors.newFixedThreadPool(DEF_WORKERS,
+            Thread.ofPlatform().name("game-worker-", 0).daemon(true).factory());
+
+    /**
+     * The worker threads that apply the commands.
+     */
+    private final Executor workers;
+
+    /**
+     * The commands waiting to be applied.
+     */
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of commands waiting to be applied.
+     */
+    private final AtomicInteger depth = new AtomicInteger();
+
+    /**
+     * Whether the mailbox is already submitted to the workers.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * The thread applying the commands, null if the mailbox is idle.
+     */
+    private volatile Thread owner;
+
+    /**
+     * The service time of the commands, by command name.
+     */
+    private final Map<String, ServiceTime> serviceTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a mailbox drained by the shared workers.
+     */
+    public GameMailbox() {
+        this(SHARED_WORKERS);
+    }
+
+    /**
+     * Creates a mailbox drained by the specified workers.
+     * @param workers The worker threads that apply the commands.
+     */
+    public GameMailbox(Executor workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Queue a command and wait for its result. A command issued by another command of
+     * the same game is applied immediately.
+     * @param command The name of the command, used for the metrics.
+     * @param body The command.
+     * @return The result of the command.
+     * @param <T> The type of the result.
+     */
+    public <T> T call(String command, Supplier<T> body) {
+        if (Thread.currentThread() == this.owner) {
+            return apply(command, body);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        this.commands.add(() -> {
+            try {
+                result.complete(apply(command, body));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        this.depth.incrementAndGet();
+        if (this.scheduled.compareAndSet(false, true)) {
+            this.workers.execute(this::drain);
+        }
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // Throw the exception of the command, as if it was called directly.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     *
+     * @return The number of commands waiting to be applied.
+     */
+    public int getDepth() {
+        return this.depth.get();
+    }
+
+    /**
+     *
+     * @return The service time of the commands applied so far, by command name.
+     */
+    public Map<String, ServiceTime> getServiceTimes() {
+        return Collections.unmodifiableMap(this.serviceTimes);
+    }
+
+    /**
+     * Apply a command and record its service time.
+     * @param command The name of the command.
+     * @param body The command.
+     * @return The result of the command.
+     * @param <T> The type of the result.
+     */
+    private <T> T apply(String command, Supplier<T> body) {
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            this.serviceTimes.computeIfAbsent(command, c -> new ServiceTime()).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Apply all the commands in the mailbox. Only one worker at a time runs this method.
+     */
+    private void drain() {
+        do {
+            this.owner = Thread.currentThread();
+            Runnable command;
+            while ((command = this.commands.poll()) != null) {
+                this.depth.decrementAndGet();
+                command.run();
+            }
+            this.owner = null;
+            this.scheduled.set(false);
+            // new commands may have arrived after the last poll, take them if no other worker did.
+        } while (!this.commands.isEmpty() && this.scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * The service time statistics of a command.
+     */
+    public static class ServiceTime {
+
+        /**
+         * The number of times the command has been applied.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * The total service time, in nanoseconds.
+         */
+        private final LongAdder totalNanos = new LongAdder();
+
+        /**
+         * The maximum service time, in nanoseconds.
+         */
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        /**
+         * Add a sample.
+         * @param nanos The service time, in nanoseconds.
+         */
+        private void record(long nanos) {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+        }
+
+        /**
+         *
+         * @return The number of times the command has been applied.
+         */
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        /**
+         *
+         * @return The total service time, in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return this.totalNanos.sum();
+        }
+
+        /**
+         *
+         * @return The maximum service time, in nanoseconds.
+         */
+        public long getMaxNanos() {
+            return this.maxNanos.get();
+        }
+
+        /**
+         *
+         * @return The mean service time, in nanoseconds.
+         */
+        public long getMeanNanos() {
+            long count = getCount();
+            return count == 0 ? 0 : getTotalNanos() / count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[count: %d; mean: %d us; max: %d us]",
+                    getCount(), getMeanNanos() / 1000, getMaxNanos() / 1000);
+        }
+    }
+}
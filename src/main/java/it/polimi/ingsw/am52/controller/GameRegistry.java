@@ -0,0 +1,111 @@
+package it.polimi.ingsw.am52.controller;
+
+import it.polimi.ingsw.am52.json.response.JoinLobbyResponseData;
+import it.polimi.ingsw.am52.model.game.GameLobby;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The open games, indexed by lobbyId. The games are created with a new unique id, and they
+ * can be looked up, listed and removed from any thread, without a global lock.
+ * The games publish their seats in the {@link LobbyDirectory} of the registry.
+ */
+public class GameRegistry {
+
+    /**
+     * The last id assigned to a lobby
+     */
+    private final AtomicInteger lastId = new AtomicInteger(0);
+
+    /**
+     * The open games, by lobbyId
+     */
+    private final Map<Integer, GameController> games = new ConcurrentHashMap<>();
+
+    /**
+     * The directory of the lobbies of the games
+     */
+    private final LobbyDirectory directory = new LobbyDirectory();
+
+    /**
+     * Method to open a new game, with a unique id
+     * @param numPlayers the number of players of the lobby
+     * @return the GameController of the new game
+     */
+    public GameController create(int numPlayers) {
+        int id = this.lastId.incrementAndGet();
+        GameController gameController = new GameController(new GameLobby(id, numPlayers), this.directory);
+        this.games.put(id, gameController);
+        this.directory.update(id, numPlayers, numPlayers);
+        return gameController;
+    }
+
+    /**
+     * Method to open a game for players matched by the server. The game is never listed, and it is
+     * registered only after all the players have joined it, so no other client can take their seats.
+     * @param players the players of the game, they join in order and the last one starts the game
+     * @return the response of the last join, with the id of the game; the response of the first
+     * join that failed if the game could not be filled, in that case the game is not registered
+     */
+    public JoinLobbyResponseData createMatch(List<User> players) {
+        int id = this.lastId.incrementAndGet();
+        GameController gameController = new GameController(new GameLobby(id, players.size()));
+
+        JoinLobbyResponseData response = null;
+        for (User player : players) {
+            response = gameController.joinLobby(player);
+            if (response.getStatus().getErrorCode() != 0) {
+                return response;
+            }
+        }
+        this.games.put(id, gameController);
+        return response;
+    }
+
+    /**
+     * Method to get an open game
+     * @param lobbyId the id of the lobby
+     * @return the Optional of the GameController
+     */
+    public Optional<GameController> get(int lobbyId) {
+        return Optional.ofNullable(this.games.get(lobbyId));
+    }
+
+    /**
+     * Method to remove a game, only if it is still the registered game of its lobby
+     * @param gameController the game to remove
+     */
+    public void remove(GameController gameController) {
+        if (this.games.remove(gameController.getId(), gameController)) {
+            this.directory.remove(gameController.getId());
+        }
+    }
+
+    /**
+     * Method to get the number of open games
+     * @return the number of games
+     */
+    public int size() {
+        return this.games.size();
+    }
+
+    /**
+     * Method to get the directory of the lobbies
+     * @return the directory, updated by the games
+     */
+    public LobbyDirectory getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     *
+     * @return The free space of each open lobby, by lobbyId
+     */
+    public Map<Integer, Integer> getLobbies() {
+        return this.directory.getLobbies();
+    }
+}
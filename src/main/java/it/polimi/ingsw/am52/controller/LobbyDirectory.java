@@ -0,0 +1,255 @@
+package it.polimi.ingsw.am52.controller;
+
+import it.polimi.ingsw.am52.json.request.ListLobbyData;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The directory of the open lobbies, sorted by id. The games publish their seats when a player
+ * joins or leaves, so the listings do not visit the games. Every change increases the version of
+ * the directory: a client that knows the current version does not need to list the lobbies again.
+ * The changes are applied one at a time, in order of version, and they are notified to the
+ * {@link Listener} of the directory; the listings do not take any lock.
+ */
+public class LobbyDirectory {
+
+    //region Lobby
+
+    /**
+     * The seats of a lobby.
+     * @param lobbyId The id of the lobby.
+     * @param maxPlayers The number of players of the lobby.
+     * @param freeSeats The number of free seats.
+     */
+    public record Lobby(int lobbyId, int maxPlayers, int freeSeats) {
+    }
+
+    /**
+     * A page of the directory.
+     * @param version The version of the directory listed.
+     * @param lobbies The free seats of the lobbies, by lobbyId in order of id.
+     * @param nextLobbyId The id to start the next page after, -1 if this is the last page.
+     */
+    public record Page(long version, Map<Integer, Integer> lobbies, int nextLobbyId) {
+    }
+
+    /**
+     * The listener of the changes of the directory. It is notified while the change is applied,
+     * so it must not block: the changes are notified in order of version, without gaps.
+     */
+    public interface Listener {
+
+        /**
+         * A lobby has been added to the directory.
+         * @param version The version of the directory after the change.
+         * @param lobby The seats of the lobby.
+         */
+        void lobbyAdded(long version, Lobby lobby);
+
+        /**
+         * The seats of a lobby have changed.
+         * @param version The version of the directory after the change.
+         * @param lobby The seats of the lobby.
+         */
+        void lobbyChanged(long version, Lobby lobby);
+
+        /**
+         * A lobby has been removed from the directory.
+         * @param version The version of the directory after the change.
+         * @param lobbyId The id of the lobby.
+         */
+        void lobbyRemoved(long version, int lobbyId);
+    }
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * All the open lobbies, by lobbyId.
+     */
+    private final ConcurrentSkipListMap<Integer, Lobby> lobbies = new ConcurrentSkipListMap<>();
+
+    /**
+     * The lobbies with free seats, by lobbyId.
+     */
+    private final ConcurrentSkipListMap<Integer, Lobby> available = new ConcurrentSkipListMap<>();
+
+    /**
+     * The version of the directory, increased after every change.
+     */
+    private final AtomicLong version = new AtomicLong(0);
+
+    /**
+     * The free seats of all the lobbies, built at most once for each version.
+     */
+    private volatile Page allLobbies = new Page(0, Map.of(), -1);
+
+    /**
+     * The listener of the changes, null if none.
+     */
+    private volatile Listener listener;
+
+    //endregion
+
+    //region Public Methods
+
+    /**
+     * Publish the seats of a lobby, it is added to the directory if missing.
+     * @param lobbyId The id of the lobby.
+     * @param maxPlayers The number of players of the lobby.
+     * @param freeSeats The number of free seats.
+     */
+    public synchronized void update(int lobbyId, int maxPlayers, int freeSeats) {
+        Lobby lobby = new Lobby(lobbyId, maxPlayers, freeSeats);
+        boolean added = this.lobbies.put(lobbyId, lobby) == null;
+        if (freeSeats > 0) {
+            this.available.put(lobbyId, lobby);
+        } else {
+            this.available.remove(lobbyId);
+        }
+        long currentVersion = this.version.incrementAndGet();
+
+        Listener currentListener = this.listener;
+        if (currentListener != null) {
+            if (added) {
+                currentListener.lobbyAdded(currentVersion, lobby);
+            } else {
+                currentListener.lobbyChanged(currentVersion, lobby);
+            }
+        }
+    }
+
+    /**
+     * Remove a lobby from the directory.
+     * @param lobbyId The id of the lobby.
+     */
+    public synchronized void remove(int lobbyId) {
+        this.available.remove(lobbyId);
+        if (this.lobbies.remove(lobbyId) != null) {
+            long currentVersion = this.version.incrementAndGet();
+
+            Listener currentListener = this.listener;
+            if (currentListener != null) {
+                currentListener.lobbyRemoved(currentVersion, lobbyId);
+            }
+        }
+    }
+
+    /**
+     * Set the listener of the changes of the directory.
+     * @param listener The listener, null to remove it.
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     *
+     * @return The current version of the directory.
+     */
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    /**
+     *
+     * @return The number of open lobbies.
+     */
+    public int size() {
+        return this.lobbies.size();
+    }
+
+    /**
+     * List a page of the lobbies, in order of id.
+     * @param filter The page and the filters, null for all the lobbies.
+     * @return The page, its lobbies are never null.
+     */
+    public Page list(ListLobbyData filter) {
+        if (filter == null || isUnfiltered(filter)) {
+            return this.getAllLobbies();
+        }
+
+        // The version is read before the lobbies: the page may include later changes, not older ones.
+        long currentVersion = this.version.get();
+        ConcurrentNavigableMap<Integer, Lobby> candidates = (filter.getMinFreeSeats() > 0 ? this.available : this.lobbies)
+                .tailMap(filter.getAfterLobbyId(), false);
+
+        Map<Integer, Integer> page = new LinkedHashMap<>();
+        int lastLobbyId = -1;
+        int nextLobbyId = -1;
+        for (Lobby lobby : candidates.values()) {
+            if (!matches(lobby, filter)) {
+                continue;
+            }
+            if (filter.getLimit() > 0 && page.size() == filter.getLimit()) {
+                // Another lobby matches: the next page starts after the last lobby of this page.
+                nextLobbyId = lastLobbyId;
+                break;
+            }
+            page.put(lobby.lobbyId(), lobby.freeSeats());
+            lastLobbyId = lobby.lobbyId();
+        }
+        return new Page(currentVersion, page, nextLobbyId);
+    }
+
+    /**
+     *
+     * @return The free seats of all the lobbies, by lobbyId.
+     */
+    public Map<Integer, Integer> getLobbies() {
+        return this.getAllLobbies().lobbies();
+    }
+
+    //endregion
+
+    //region Private Methods
+
+    /**
+     *
+     * @return The page of all the lobbies, rebuilt only if the directory has changed.
+     */
+    private Page getAllLobbies() {
+        long currentVersion = this.version.get();
+        Page page = this.allLobbies;
+        if (page.version() == currentVersion) {
+            return page;
+        }
+
+        Map<Integer, Integer> lobbies = new LinkedHashMap<>();
+        for (Lobby lobby : this.lobbies.values()) {
+            lobbies.put(lobby.lobbyId(), lobby.freeSeats());
+        }
+        page = new Page(currentVersion, Collections.unmodifiableMap(lobbies), -1);
+        this.allLobbies = page;
+        return page;
+    }
+
+    /**
+     *
+     * @param filter The page and the filters.
+     * @return True if the filter lists all the lobbies.
+     */
+    private static boolean isUnfiltered(ListLobbyData filter) {
+        return filter.getAfterLobbyId() <= 0 && filter.getLimit() <= 0
+                && filter.getNumPlayers() <= 0 && filter.getMinFreeSeats() <= 0;
+    }
+
+    /**
+     *
+     * @param lobby The lobby.
+     * @param filter The filters.
+     * @return True if the lobby passes the filters.
+     */
+    private static boolean matches(Lobby lobby, ListLobbyData filter) {
+        return (filter.getNumPlayers() <= 0 || lobby.maxPlayers() == filter.getNumPlayers())
+                && lobby.freeSeats() >= filter.getMinFreeSeats();
+    }
+
+    //endregion
+}
@@ -0,0 +1,389 @@
+package it.polimi.ingsw.am52.controller;
+
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.response.ListLobbyResponseData;
+import it.polimi.ingsw.am52.json.response.LobbyUpdateResponse;
+import it.polimi.ingsw.am52.json.response.LobbyUpdateResponseData;
+import it.polimi.ingsw.am52.json.response.ResponseStatus;
+import it.polimi.ingsw.am52.network.server.BroadcastMetrics;
+import it.polimi.ingsw.am52.network.server.EncodedMessage;
+import it.polimi.ingsw.am52.network.server.Sender;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The clients subscribed to the lobbies, they receive the changes of the {@link LobbyDirectory}
+ * instead of listing the lobbies again. The changes are coalesced for a tick: the first change
+ * starts the tick, and at its end all the changes of the tick are sent as a single lobbyUpdate,
+ * with the last seats of each lobby. The update is encoded once for all the subscribers.
+ * The updates are handed to the sending threads, in order for each subscriber: a subscriber that
+ * does not take its updates does not delay the others, and it is unsubscribed when too many are waiting.
+ */
+public class LobbySubscriptions implements LobbyDirectory.Listener {
+
+    //region Change
+
+    /**
+     * The kind of change of a lobby.
+     */
+    private enum ChangeType {
+        ADDED,
+        CHANGED,
+        REMOVED
+    }
+
+    /**
+     * The last change of a lobby in the current tick.
+     * @param type The kind of change.
+     * @param freeSeats The free seats of the lobby, 0 if removed.
+     */
+    private record Change(ChangeType type, int freeSeats) {
+
+        /**
+         * Merge a later change of the same lobby into this one.
+         * @param next The later change.
+         * @return The change with the same effect of the two.
+         */
+        Change merge(Change next) {
+            // A lobby added in this tick is still new for the subscribers. If it is removed in
+            // the same tick the removal is kept: a client may have listed it in the meantime.
+            if (this.type == ChangeType.ADDED && next.type == ChangeType.CHANGED) {
+                return new Change(ChangeType.ADDED, next.freeSeats);
+            }
+            return next;
+        }
+    }
+
+    //endregion
+
+    //region Subscription
+
+    /**
+     * A subscriber, with the updates waiting to be sent to it. The updates are sent in order,
+     * by one sending thread at a time.
+     */
+    private final class Subscription implements Runnable {
+
+        /**
+         * The sender of the client.
+         */
+        private final Sender sender;
+
+        /**
+         * The updates waiting to be sent.
+         */
+        private final Queue<EncodedMessage> pending = new ConcurrentLinkedQueue<>();
+
+        /**
+         * The number of updates waiting to be sent.
+         */
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * Whether the subscription has been handed to a sending thread.
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        /**
+         * Create the subscription of a client.
+         * @param sender The sender of the client.
+         */
+        Subscription(Sender sender) {
+            this.sender = sender;
+        }
+
+        /**
+         * Queue an update, if the limit of the waiting updates has not been reached.
+         * @param message The update to send.
+         * @return True if the update has been queued, false if the subscriber is not taking its updates.
+         */
+        boolean offer(EncodedMessage message) {
+            if (this.size.incrementAndGet() > MAX_PENDING_UPDATES) {
+                this.size.decrementAndGet();
+                return false;
+            }
+            this.pending.add(message);
+            if (this.scheduled.compareAndSet(false, true)) {
+                LobbySubscriptions.this.senders.execute(this);
+            }
+            return true;
+        }
+
+        /**
+         * Send the waiting updates. Only one sending thread at a time runs this method.
+         */
+        @Override
+        public void run() {
+            do {
+                EncodedMessage message;
+                while ((message = this.pending.poll()) != null) {
+                    this.size.decrementAndGet();
+                    try {
+                        this.sender.sendEncoded(message);
+                    } catch (Exception e) {
+                        System.out.println("Exception:" + e.getMessage());
+                    }
+                }
+                this.scheduled.set(false);
+                // new updates may have arrived after the last poll, take them if no other thread did.
+            } while (!this.pending.isEmpty() && this.scheduled.compareAndSet(false, true));
+        }
+    }
+
+    //endregion
+
+    //region Public Static Final Fields
+
+    /**
+     * The default duration of a tick, in milliseconds.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 100;
+
+    /**
+     * The maximum number of updates waiting to be sent to a subscriber, over the limit it is unsubscribed.
+     */
+    public static final int MAX_PENDING_UPDATES = 16;
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * The directory of the lobbies.
+     */
+    private final LobbyDirectory directory;
+
+    /**
+     * The duration of a tick, in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * The subscribers, by clientId.
+     */
+    private final Map<Integer, Subscription> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * The changes of the current tick, by lobbyId in order of the first change. Guarded by this.
+     */
+    private Map<Integer, Change> changes = new LinkedHashMap<>();
+
+    /**
+     * The version of the directory before the changes of the current tick. Guarded by this.
+     */
+    private long fromVersion;
+
+    /**
+     * The version of the directory after the last change of the current tick. Guarded by this.
+     */
+    private long toVersion;
+
+    /**
+     * The lock of the sending of the updates, so they are sent in order of version.
+     */
+    private final Object sendLock = new Object();
+
+    /**
+     * The thread that ends the ticks.
+     */
+    private final ScheduledExecutorService ticker =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("lobby-updates").daemon().factory());
+
+    /**
+     * The threads that send the updates to the subscribers.
+     */
+    private final Executor senders;
+
+    //endregion
+
+    //region Constructors
+
+    /**
+     * Create the subscriptions to the changes of a directory, with the default tick.
+     * @param directory The directory of the lobbies.
+     */
+    public LobbySubscriptions(LobbyDirectory directory) {
+        this(directory, DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * Create the subscriptions to the changes of a directory.
+     * @param directory The directory of the lobbies.
+     * @param tickMillis The duration of a tick, in milliseconds.
+     */
+    public LobbySubscriptions(LobbyDirectory directory, long tickMillis) {
+        this(directory, tickMillis,
+                Executors.newCachedThreadPool(Thread.ofPlatform().name("lobby-update-sender-", 0).daemon().factory()));
+    }
+
+    /**
+     * Create the subscriptions to the changes of a directory.
+     * @param directory The directory of the lobbies.
+     * @param tickMillis The duration of a tick, in milliseconds.
+     * @param senders The threads that send the updates to the subscribers.
+     */
+    public LobbySubscriptions(LobbyDirectory directory, long tickMillis, Executor senders) {
+        this.directory = directory;
+        this.tickMillis = tickMillis;
+        this.senders = senders;
+        directory.setListener(this);
+    }
+
+    //endregion
+
+    //region Public Methods
+
+    /**
+     * Subscribe a client to the changes of the lobbies.
+     * @param clientId The id of the client.
+     * @param sender The sender of the client.
+     * @return The lobbies, at a version not older than the first update the client receives.
+     */
+    public ListLobbyResponseData subscribe(int clientId, Sender sender) {
+        // The client is registered before listing: the changes after the listing are in its updates.
+        this.subscribers.put(clientId, new Subscription(sender));
+        LobbyDirectory.Page page = this.directory.list(null);
+        return new ListLobbyResponseData(new ResponseStatus(), page.lobbies(), page.version(), page.nextLobbyId());
+    }
+
+    /**
+     * Unsubscribe a client, nothing happens if the client is not subscribed.
+     * @param clientId The id of the client.
+     */
+    public void unsubscribe(int clientId) {
+        this.subscribers.remove(clientId);
+    }
+
+    /**
+     *
+     * @param clientId The id of the client.
+     * @return True if the client is subscribed.
+     */
+    public boolean isSubscribed(int clientId) {
+        return this.subscribers.containsKey(clientId);
+    }
+
+    /**
+     *
+     * @return The number of subscribers.
+     */
+    public int size() {
+        return this.subscribers.size();
+    }
+
+    /**
+     * Send the changes of the current tick now, without waiting for its end. The update is queued
+     * to each subscriber, the subscribers with too many updates waiting are unsubscribed.
+     */
+    public void flush() {
+        synchronized (this.sendLock) {
+            LobbyUpdateResponseData update = this.takeChanges();
+            if (update == null) {
+                return;
+            }
+
+            JsonMessage<BaseResponseData> response = new LobbyUpdateResponse(update);
+            response.getData().setIsBroadcast(true);
+
+            // Encode once, all the subscribers share the same message
+            EncodedMessage message = new EncodedMessage(response);
+            BroadcastMetrics.getInstance().onBroadcast(this.subscribers.size());
+
+            for (Map.Entry<Integer, Subscription> entry : this.subscribers.entrySet()) {
+                if (!entry.getValue().offer(message)) {
+                    // the client is not taking its updates, it lists the lobbies again when it subscribes
+                    System.out.println("Too many lobby updates waiting, unsubscribing client: " + entry.getKey());
+                    this.subscribers.remove(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    //endregion
+
+    //region LobbyDirectory.Listener
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void lobbyAdded(long version, LobbyDirectory.Lobby lobby) {
+        this.onChange(version, lobby.lobbyId(), new Change(ChangeType.ADDED, lobby.freeSeats()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void lobbyChanged(long version, LobbyDirectory.Lobby lobby) {
+        this.onChange(version, lobby.lobbyId(), new Change(ChangeType.CHANGED, lobby.freeSeats()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void lobbyRemoved(long version, int lobbyId) {
+        this.onChange(version, lobbyId, new Change(ChangeType.REMOVED, 0));
+    }
+
+    //endregion
+
+    //region Private Methods
+
+    /**
+     * Add a change to the current tick, the first change of a tick schedules its end.
+     * The changes are dropped while nobody is subscribed: a new subscriber lists the lobbies.
+     * @param version The version of the directory after the change.
+     * @param lobbyId The id of the lobby.
+     * @param change The change of the lobby.
+     */
+    private synchronized void onChange(long version, int lobbyId, Change change) {
+        if (this.subscribers.isEmpty()) {
+            return;
+        }
+
+        if (this.changes.isEmpty()) {
+            this.fromVersion = version - 1;
+            this.ticker.schedule(this::flush, this.tickMillis, TimeUnit.MILLISECONDS);
+        }
+        this.toVersion = version;
+        this.changes.merge(lobbyId, change, Change::merge);
+    }
+
+    /**
+     * Take the changes of the current tick, and start a new tick.
+     * @return The update with the changes, null if there are no changes.
+     */
+    private synchronized LobbyUpdateResponseData takeChanges() {
+        if (this.changes.isEmpty()) {
+            return null;
+        }
+
+        Map<Integer, Integer> added = new LinkedHashMap<>();
+        Map<Integer, Integer> changed = new LinkedHashMap<>();
+        List<Integer> removed = new ArrayList<>();
+        for (Map.Entry<Integer, Change> entry : this.changes.entrySet()) {
+            Change change = entry.getValue();
+            switch (change.type()) {
+                case ADDED -> added.put(entry.getKey(), change.freeSeats());
+                case CHANGED -> changed.put(entry.getKey(), change.freeSeats());
+                case REMOVED -> removed.add(entry.getKey());
+            }
+        }
+        this.changes = new LinkedHashMap<>();
+
+        return new LobbyUpdateResponseData(new ResponseStatus(), this.fromVersion, this.toVersion, added, changed, removed);
+    }
+
+    //endregion
+}
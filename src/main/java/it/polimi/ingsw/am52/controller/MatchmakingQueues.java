@@ -0,0 +1,336 @@
+package it.polimi.ingsw.am52.controller;
+
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.response.JoinLobbyResponse;
+import it.polimi.ingsw.am52.json.response.JoinLobbyResponseData;
+import it.polimi.ingsw.am52.json.response.ResponseStatus;
+import it.polimi.ingsw.am52.model.game.GameLobby;
+import it.polimi.ingsw.am52.model.game.GameManager;
+import it.polimi.ingsw.am52.model.game.GamePhase;
+import it.polimi.ingsw.am52.network.server.BroadcastMetrics;
+import it.polimi.ingsw.am52.network.server.EncodedMessage;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * The quick match queues, one for each number of players. A player asks for a match instead of
+ * choosing a lobby: when a queue has enough players, they are removed from the queue at once and
+ * they join a new game, that starts immediately. The players never race for the same seats.
+ * The time each player waits for its match is recorded, see {@link #getTimeToMatch()}.
+ */
+public class MatchmakingQueues {
+
+    //region Ticket
+
+    /**
+     * A player waiting for a match.
+     * @param user The user of the player.
+     * @param numPlayers The number of players of the match.
+     * @param enqueuedNanos The time the player entered the queue, from {@link System#nanoTime()}.
+     * @param onMatched The action that links the client to its game, called before the game is notified.
+     */
+    private record Ticket(User user, int numPlayers, long enqueuedNanos, Consumer<GameController> onMatched) {
+    }
+
+    /**
+     * The queue of the players waiting for a match of the same number of players.
+     */
+    private static class SizeQueue {
+
+        /**
+         * The players, in order of arrival. Guarded by this.
+         */
+        private final Deque<Ticket> waiting = new ArrayDeque<>();
+
+        /**
+         * Add a player, then take the players of a match if the queue has enough players with
+         * different nicknames. The oldest players are matched first.
+         * @param ticket The new player.
+         * @return The players of the match, empty if the queue has not enough players.
+         */
+        synchronized List<Ticket> addAndPoll(Ticket ticket) {
+            this.waiting.addLast(ticket);
+            if (this.waiting.size() < ticket.numPlayers()) {
+                return List.of();
+            }
+
+            List<Ticket> match = new ArrayList<>(ticket.numPlayers());
+            Set<String> nicknames = new HashSet<>();
+            for (Ticket waitingTicket : this.waiting) {
+                if (nicknames.add(waitingTicket.user().getUsername())) {
+                    match.add(waitingTicket);
+                    if (match.size() == ticket.numPlayers()) {
+                        this.waiting.removeAll(match);
+                        return match;
+                    }
+                }
+            }
+            return List.of();
+        }
+
+        /**
+         * Remove a player.
+         * @param clientId The id of the client.
+         * @return True if the player was waiting in this queue.
+         */
+        synchronized boolean remove(int clientId) {
+            return this.waiting.removeIf(ticket -> ticket.user().getClientId() == clientId);
+        }
+
+        /**
+         *
+         * @return The number of players waiting.
+         */
+        synchronized int size() {
+            return this.waiting.size();
+        }
+    }
+
+    /**
+     * The percentiles of the time to match of the last players matched.
+     * @param count The number of players matched since the start.
+     * @param p50Nanos The median time to match, in nanoseconds.
+     * @param p90Nanos The 90th percentile, in nanoseconds.
+     * @param p99Nanos The 99th percentile, in nanoseconds.
+     * @param maxNanos The maximum time to match, in nanoseconds.
+     */
+    public record TimeToMatch(long count, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("[matched: %d; p50: %d ms; p90: %d ms; p99: %d ms; max: %d ms]",
+                    count, p50Nanos / 1_000_000, p90Nanos / 1_000_000, p99Nanos / 1_000_000, maxNanos / 1_000_000);
+        }
+    }
+
+    //endregion
+
+    //region Public Static Final Fields
+
+    /**
+     * The number of the last times to match used for the percentiles.
+     */
+    public static final int TIME_TO_MATCH_SAMPLES = 4096;
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * The registry where the games of the matches are opened.
+     */
+    private final GameRegistry games;
+
+    /**
+     * The queues, by number of players.
+     */
+    private final SizeQueue[] queues = new SizeQueue[GameManager.MAX_PLAYERS + 1];
+
+    /**
+     * The number of players of the queue of each waiting client, by clientId.
+     */
+    private final Map<Integer, Integer> queued = new ConcurrentHashMap<>();
+
+    /**
+     * The last times to match, in nanoseconds, as a ring. Guarded by itself.
+     */
+    private final long[] timesToMatch = new long[TIME_TO_MATCH_SAMPLES];
+
+    /**
+     * The number of times to match recorded since the start. Guarded by timesToMatch.
+     */
+    private long matchedCount;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Create the queues.
+     * @param games The registry where the games of the matches are opened.
+     */
+    public MatchmakingQueues(GameRegistry games) {
+        this.games = games;
+        for (int numPlayers = GameManager.MIN_PLAYERS; numPlayers <= GameManager.MAX_PLAYERS; numPlayers++) {
+            this.queues[numPlayers] = new SizeQueue();
+        }
+    }
+
+    //endregion
+
+    //region Public Methods
+
+    /**
+     * Add a player to the queue of the matches with the specified number of players. If the player
+     * completes a match, the game is opened and started, and the other players of the match
+     * receive the joinLobby response as a broadcast.
+     * @param user The user of the player.
+     * @param numPlayers The number of players of the match.
+     * @param onMatched The action that links the client to its game.
+     * @return The joinLobby response of the match if the player has been matched immediately,
+     * otherwise a response with lobbyId -1: the match is notified later.
+     */
+    public JoinLobbyResponseData enqueue(User user, int numPlayers, Consumer<GameController> onMatched) {
+        if (numPlayers < GameManager.MIN_PLAYERS || numPlayers > GameManager.MAX_PLAYERS) {
+            return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 400, "Lobby must have 2 to 4 Players"));
+        }
+        if (!GameLobby.isValidNickname(user.getUsername())) {
+            return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 400, "Nickname not available"));
+        }
+        if (this.queued.putIfAbsent(user.getClientId(), numPlayers) != null) {
+            return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 403, "Already waiting for a match"));
+        }
+
+        Ticket ticket = new Ticket(user, numPlayers, System.nanoTime(), onMatched);
+        List<Ticket> match = this.queues[numPlayers].addAndPoll(ticket);
+        if (match.isEmpty()) {
+            return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 0, ""), -1, List.of());
+        }
+
+        JoinLobbyResponseData response = this.startMatch(match, user.getClientId());
+        return match.contains(ticket) ?
+                response :
+                new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 0, ""), -1, List.of());
+    }
+
+    /**
+     * Remove a player from its queue.
+     * @param clientId The id of the client.
+     * @return True if the player was waiting, false if it was not in a queue or it has already been matched:
+     * if it is still queued, its match is starting.
+     */
+    public boolean cancel(int clientId) {
+        Integer numPlayers = this.queued.get(clientId);
+        if (numPlayers == null || !this.queues[numPlayers].remove(clientId)) {
+            return false;
+        }
+        this.queued.remove(clientId);
+        return true;
+    }
+
+    /**
+     *
+     * @param clientId The id of the client.
+     * @return True if the client is waiting for a match, or its match is starting.
+     */
+    public boolean isQueued(int clientId) {
+        return this.queued.containsKey(clientId);
+    }
+
+    /**
+     *
+     * @param numPlayers The number of players of the matches.
+     * @return The number of players waiting for a match with the specified number of players.
+     */
+    public int getQueueLength(int numPlayers) {
+        return this.queues[numPlayers].size();
+    }
+
+    /**
+     *
+     * @return The percentiles of the time to match of the last {@value #TIME_TO_MATCH_SAMPLES} players matched.
+     */
+    public TimeToMatch getTimeToMatch() {
+        long[] samples;
+        long count;
+        synchronized (this.timesToMatch) {
+            count = this.matchedCount;
+            samples = Arrays.copyOf(this.timesToMatch, (int) Math.min(count, TIME_TO_MATCH_SAMPLES));
+        }
+        if (samples.length == 0) {
+            return new TimeToMatch(0, 0, 0, 0, 0);
+        }
+
+        Arrays.sort(samples);
+        return new TimeToMatch(count, percentile(samples, 50), percentile(samples, 90), percentile(samples, 99),
+                samples[samples.length - 1]);
+    }
+
+    //endregion
+
+    //region Private Methods
+
+    /**
+     * Open the game of a match, and notify its players. If the game cannot be opened, the players
+     * are no longer waiting, and the other players of the match receive the error as a broadcast.
+     * @param match The players of the match, removed from their queue.
+     * @param requesterId The id of the client that completed the match, it receives the match in its response.
+     * @return The joinLobby response of the match.
+     */
+    private JoinLobbyResponseData startMatch(List<Ticket> match, int requesterId) {
+        long matchedNanos = System.nanoTime();
+        List<User> players = match.stream().map(Ticket::user).toList();
+        JoinLobbyResponseData response = this.games.createMatch(players);
+
+        if (response.getStatus().getErrorCode() != 0) {
+            System.out.println("Cannot start the match: " + response.getStatus().getErrorMessage());
+            for (Ticket ticket : match) {
+                this.queued.remove(ticket.user().getClientId());
+            }
+            this.notifyMatch(players, requesterId, response);
+            return response;
+        }
+
+        // Link the clients to the game before they receive the match. A client stays queued until it
+        // is linked: it cannot cancel, nor choose a lobby, while its match is starting
+        GameController gameController = this.games.get(response.getLobbyId()).orElseThrow();
+        for (Ticket ticket : match) {
+            ticket.onMatched().accept(gameController);
+            this.queued.remove(ticket.user().getClientId());
+            this.recordTimeToMatch(matchedNanos - ticket.enqueuedNanos());
+        }
+
+        this.notifyMatch(players, requesterId, response);
+        return response;
+    }
+
+    /**
+     * Send the joinLobby response of a match to its players, except the one that completed the match.
+     * @param players The players of the match.
+     * @param requesterId The id of the client that completed the match.
+     * @param response The joinLobby response of the match.
+     */
+    private void notifyMatch(List<User> players, int requesterId, JoinLobbyResponseData response) {
+        JsonMessage<BaseResponseData> broadcast = new JoinLobbyResponse(
+                new JoinLobbyResponseData(response.getStatus(), response.getLobbyId(), response.getNicknames()));
+        broadcast.getData().setIsBroadcast(true);
+
+        // Encode once, all the players share the same message
+        EncodedMessage message = new EncodedMessage(broadcast);
+        List<User> recipients = players.stream().filter(player -> player.getClientId() != requesterId).toList();
+        BroadcastMetrics.getInstance().onBroadcast(recipients.size());
+        for (User player : recipients) {
+            try {
+                player.getHandler().sendEncoded(message);
+            } catch (Exception e) {
+                System.out.println("Exception:" + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Add a time to match to the ring of the last times.
+     * @param nanos The time to match, in nanoseconds.
+     */
+    private void recordTimeToMatch(long nanos) {
+        synchronized (this.timesToMatch) {
+            this.timesToMatch[(int) (this.matchedCount % TIME_TO_MATCH_SAMPLES)] = nanos;
+            this.matchedCount++;
+        }
+    }
+
+    /**
+     * @param sorted The samples, sorted.
+     * @param percent The percentile, from 1 to 100.
+     * @return The sample of the percentile, with the nearest-rank method.
+     */
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    //endregion
+}
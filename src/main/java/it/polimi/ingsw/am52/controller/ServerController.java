@@ -2,18 +2,22 @@ package it.polimi.ingsw.am52.controller;
 
 import it.polimi.ingsw.am52.json.request.CreateLobbyData;
 import it.polimi.ingsw.am52.json.request.JoinLobbyData;
+import it.polimi.ingsw.am52.json.request.ListLobbyData;
+import it.polimi.ingsw.am52.json.request.QuickMatchData;
 import it.polimi.ingsw.am52.json.response.JoinLobbyResponseData;
 import it.polimi.ingsw.am52.json.response.ListLobbyResponseData;
-import it.polimi.ingsw.am52.model.game.GameLobby;
 import it.polimi.ingsw.am52.model.game.GamePhase;
 import it.polimi.ingsw.am52.network.server.ClientHandler;
 import it.polimi.ingsw.am52.json.response.ResponseStatus;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
- * Class to handle the Server actions, it is instantiated only once
+ * Class to handle the Server actions, it is instantiated only once.
+ * The clients and the games are indexed by id in concurrent maps: the lookups do not
+ * depend on the number of open games, and the registries are safe to change from any thread.
  */
 public class ServerController {
     /**
@@ -22,19 +26,24 @@ public class ServerController {
     private static ServerController INSTANCE;
 
     /**
-     * The max id, to generate id for lobby
+     * The handlers of the clients connected to the Server, by clientId.
      */
-    private static int maxId = 0;
+    private final Map<Integer, ClientHandler> clientHandlers = new ConcurrentHashMap<>();
 
     /**
-     * List of all User that have ever been registered to the Server.
+     * The open games, by lobbyId.
      */
-    private final List<ClientHandler> clientHandlers = new ArrayList<>();
+    private final GameRegistry games = new GameRegistry();
 
     /**
-     * List of all open games.
+     * The clients subscribed to the changes of the lobbies.
      */
-    private final List<GameController> gameControllerList = new ArrayList<>();
+    private final LobbySubscriptions lobbySubscriptions = new LobbySubscriptions(this.games.getDirectory());
+
+    /**
+     * The clients waiting for a quick match.
+     */
+    private final MatchmakingQueues matchmaking = new MatchmakingQueues(this.games);
 
     /**
      * Constructor can't be used outside the class
@@ -57,16 +66,48 @@ public class ServerController {
 
     /**
      * Method to get the list of lobbies
-     * @return The getLobbyList response
+     * @param listLobbyData the page and the filters of the lobbies, null for all the lobbies
+     * @return The getLobbyList response, empty if the client already knows the current version of the lobbies
      */
-    public ListLobbyResponseData getLobbyList() {
+    public ListLobbyResponseData getLobbyList(ListLobbyData listLobbyData) {
         try{
-            return new ListLobbyResponseData(new ResponseStatus(), this.getLobbies());
+            var directory = this.games.getDirectory();
+            if (listLobbyData != null && listLobbyData.getSinceVersion() == directory.getVersion()) {
+                return new ListLobbyResponseData(new ResponseStatus(), listLobbyData.getSinceVersion());
+            }
+
+            var page = directory.list(listLobbyData);
+            return new ListLobbyResponseData(new ResponseStatus(), page.lobbies(), page.version(), page.nextLobbyId());
         } catch (Exception e) {
             return new ListLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 503, "Error on createLobby: " + e.getMessage()));
         }
     }
 
+    /**
+     * Method to subscribe a client to the changes of the lobbies, or to unsubscribe it
+     * @param clientId the client who sent the request
+     * @param subscribe true to subscribe, false to unsubscribe
+     * @return The subscribeLobby response, with the lobbies if the client has subscribed
+     */
+    public ListLobbyResponseData subscribeLobbies(int clientId, boolean subscribe) {
+        try {
+            if (!subscribe) {
+                this.lobbySubscriptions.unsubscribe(clientId);
+                return new ListLobbyResponseData(new ResponseStatus());
+            }
+
+            var handler = this.getHandler(clientId);
+
+            if (handler.isEmpty()) {
+                return new ListLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 404, "Client not found"));
+            }
+
+            return this.lobbySubscriptions.subscribe(clientId, handler.get());
+        } catch (Exception e) {
+            return new ListLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 503, "Error on subscribeLobby: " + e.getMessage()));
+        }
+    }
+
     /**
      * Method to request to open a lobby
      * @param clientId the client who sent the request
@@ -81,11 +122,7 @@ public class ServerController {
                 return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 404, "Client not found"));
             }
 
-            var id = this.getUniqueId();
-
-            var gameController = new GameController(new GameLobby(id, createLobbyData.getNumPlayers()));
-
-            this.gameControllerList.add(gameController);
+            var gameController = this.games.create(createLobbyData.getNumPlayers());
 
             var user = new User(createLobbyData.getNickname(), handler.get());
 
@@ -125,6 +162,39 @@ public class ServerController {
         }
     }
 
+    /**
+     * Method to ask for a quick match: the client waits in the queue of the matches with the
+     * preferred number of players, and the game starts as soon as the queue has enough players.
+     * @param clientId the client who sent the request
+     * @param quickMatchData the data sent by the client
+     * @param onMatched the action that links the client to its game, when the match is found
+     * @return the JoinLobbyResponseData of the match, with lobbyId -1 if the client is waiting
+     */
+    public JoinLobbyResponseData quickMatch(int clientId, QuickMatchData quickMatchData, Consumer<GameController> onMatched) {
+        try {
+            var handler = this.getHandler(clientId);
+
+            if (handler.isEmpty()) {
+                return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 404, "Client not found"));
+            }
+
+            var user = new User(quickMatchData.getNickname(), handler.get());
+
+            return this.matchmaking.enqueue(user, quickMatchData.getPreferredPlayers(), onMatched);
+        } catch (Exception e) {
+            return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 503, "Error on quickMatch: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Method to leave the quick match queue
+     * @param clientId the client who sent the request
+     * @return true if the client was waiting for a match
+     */
+    public boolean cancelQuickMatch(int clientId) {
+        return this.matchmaking.cancel(clientId);
+    }
+
     // endregion
 
     // region Utilities
@@ -133,8 +203,8 @@ public class ServerController {
      * Method to register the client handler in the server
      * @param handler The handler
      */
-    public synchronized void addHandler(ClientHandler handler){
-        clientHandlers.add(handler);
+    public void addHandler(ClientHandler handler){
+        this.clientHandlers.put(handler.getClientId(), handler);
     }
 
     /**
@@ -142,7 +212,10 @@ public class ServerController {
      * @param handler The handler
      */
     public void disconnect(ClientHandler handler) {
-        clientHandlers.remove(handler);
+        if (this.clientHandlers.remove(handler.getClientId(), handler)) {
+            this.lobbySubscriptions.unsubscribe(handler.getClientId());
+            this.matchmaking.cancel(handler.getClientId());
+        }
     }
 
     /**
@@ -151,7 +224,7 @@ public class ServerController {
      * @return The Optional of a user
      */
     public Optional<ClientHandler> getHandler(int clientId) {
-        return this.clientHandlers.stream().filter(h -> Objects.equals(h.getClientId(), clientId)).findFirst();
+        return Optional.ofNullable(this.clientHandlers.get(clientId));
     }
 
     /**
@@ -160,7 +233,7 @@ public class ServerController {
      * @return The Optional of a user
      */
     public Optional<GameController> getGameController(int lobbyId) {
-        return this.gameControllerList.stream().filter(c -> c.getId() == lobbyId).findFirst();
+        return this.games.get(lobbyId);
     }
 
     /**
@@ -168,23 +241,39 @@ public class ServerController {
      * @param gameController the game controller to delete
      */
     public void deleteGame(GameController gameController) {
-        this.gameControllerList.remove(gameController);
+        this.games.remove(gameController);
     }
 
     /**
-     * Method to get an unique id
+     * Method to get the number of clients connected to the server
+     * @return the number of registered handlers
      */
-    private synchronized int getUniqueId() {
-        return ++maxId;
+    public int getHandlerCount() {
+        return this.clientHandlers.size();
     }
 
     /**
-     *
-     * @return The hashmap for ListLobbies response
+     * Method to get the subscriptions to the changes of the lobbies
+     * @return the subscriptions
+     */
+    public LobbySubscriptions getLobbySubscriptions() {
+        return this.lobbySubscriptions;
+    }
+
+    /**
+     * Method to get the quick match queues
+     * @return the queues
+     */
+    public MatchmakingQueues getMatchmaking() {
+        return this.matchmaking;
+    }
+
+    /**
+     * Method to get the number of open games
+     * @return the number of games
      */
-    protected synchronized Map<Integer,Integer> getLobbies() {
-        return this.gameControllerList.stream()
-                .collect(Collectors.toMap(GameController::getId, GameController::getFreeSpace));
+    public int getGameCount() {
+        return this.games.size();
     }
     // endregion
 }
@@ -4,7 +4,9 @@ import it.polimi.ingsw.am52.json.*;
 import it.polimi.ingsw.am52.json.request.*;
 import it.polimi.ingsw.am52.json.response.*;
 import it.polimi.ingsw.am52.model.game.GamePhase;
+import it.polimi.ingsw.am52.network.server.BroadcastMetrics;
 import it.polimi.ingsw.am52.network.server.ClientHandler;
+import it.polimi.ingsw.am52.network.server.EncodedMessage;
 import it.polimi.ingsw.am52.network.server.Sender;
 import it.polimi.ingsw.am52.network.server.ServerConnection;
 import it.polimi.ingsw.am52.network.server.rmi.ActionsRMI;
@@ -27,9 +29,9 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
     private final int clientId;
 
     /**
-     * The GameController related to the View
+     * The GameController related to the View, set by the matchmaking thread for a quick match
      */
-    private GameController gameController;
+    private volatile GameController gameController;
 
     /**
      * Constructor for the VirtualView, takes the same clientId as the related ClientHandler
@@ -54,12 +56,22 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
             return null;
         }
 
+        return this.execute(request);
+    }
+
+    /**
+     * Method used by the {@link ClientHandlerTCP} to dispatch the execution of a request already deserialized.
+     * The response carries the correlation id of the request, if any.
+     * @param request the request read from the socket
+     * @throws NoSuchMethodException when the request method do not exist
+     */
+    public JsonMessage<BaseResponseData> execute(JsonMessage<?> request) throws NoSuchMethodException {
         JsonMessage<BaseResponseData> res;
         try {
             res = switch (request.getMethod()) {
                 case JsonDeserializer.CREATE_LOBBY_METHOD -> new CreateLobbyResponse(this.createLobby((CreateLobbyData) request.getData()));
                 case JsonDeserializer.JOIN_LOBBY_METHOD -> new JoinLobbyResponse(this.joinLobby((JoinLobbyData) request.getData()));
-                case JsonDeserializer.LIST_LOBBY_METHOD -> new ListLobbyResponse(this.listLobby());
+                case JsonDeserializer.LIST_LOBBY_METHOD -> new ListLobbyResponse(this.listLobby((ListLobbyData) request.getData()));
                 case JsonDeserializer.LEAVE_GAME_METHOD -> new LeaveGameResponse(this.leaveGame());
                 case JsonDeserializer.INIT_GAME_METHOD -> new InitGameResponse(this.initGame());
                 case JsonDeserializer.SELECT_OBJECTIVE_METHOD -> new SelectObjectiveResponse(this.selectObjective((SelectObjectiveData) request.getData()));
@@ -69,6 +81,9 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
                 case JsonDeserializer.DRAW_CARD_METHOD -> new DrawCardResponse(this.drawCard((DrawCardData) request.getData()));
                 case JsonDeserializer.END_GAME_METHOD -> new EndGameResponse(this.endGame());
                 case JsonDeserializer.CHAT_METHOD -> new ChatResponse(this.chat((ChatData) request.getData()));
+                case JsonDeserializer.SUBSCRIBE_LOBBY_METHOD -> new SubscribeLobbyResponse(this.subscribeLobby((SubscribeLobbyData) request.getData()));
+                case JsonDeserializer.QUICK_MATCH_METHOD -> new QuickMatchResponse(this.quickMatch((QuickMatchData) request.getData()));
+                case JsonDeserializer.HINTS_METHOD -> new HintsResponse(this.hints((HintsData) request.getData()));
                 default -> throw new NoSuchMethodException("no method " + request.getMethod());
             };
         } catch (RemoteException e) {
@@ -77,6 +92,59 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
             return null;
         }
 
+        res.setId(request.getId());
+        return res;
+    }
+
+    /**
+     * Method used by the {@link ClientHandlerTCP} to answer a request rejected because the client has too many
+     * requests waiting to be executed. The request is not executed.
+     * @param jsonMsg the json message read from the socket
+     * @return the error response, null if the message cannot be deserialized
+     */
+    public JsonMessage<BaseResponseData> reject(String jsonMsg) {
+        JsonMessage request;
+        try {
+            request = JsonDeserializer.deserializeRequest(jsonMsg);
+        } catch (Exception e) {
+            // if the message cannot be deserialized there is nobody waiting for the response
+            return null;
+        }
+
+        return this.reject(request);
+    }
+
+    /**
+     * Method used by the {@link ClientHandlerTCP} to answer a request, already deserialized, rejected because
+     * the client has too many requests waiting to be executed. The request is not executed: the response
+     * has the method and the correlation id of the request, and the status 429, so the client does not wait for it.
+     * @param request the request read from the socket
+     * @return the error response, null if the request method do not exist
+     */
+    public JsonMessage<BaseResponseData> reject(JsonMessage<?> request) {
+        var status = new ResponseStatus(GamePhase.NULL, 429, "Too many requests");
+        JsonMessage<BaseResponseData> res = switch (request.getMethod()) {
+            case JsonDeserializer.CREATE_LOBBY_METHOD -> new CreateLobbyResponse(new JoinLobbyResponseData(status));
+            case JsonDeserializer.JOIN_LOBBY_METHOD -> new JoinLobbyResponse(new JoinLobbyResponseData(status));
+            case JsonDeserializer.LIST_LOBBY_METHOD -> new ListLobbyResponse(new ListLobbyResponseData(status));
+            case JsonDeserializer.LEAVE_GAME_METHOD -> new LeaveGameResponse(new LeaveGameResponseData(status));
+            case JsonDeserializer.INIT_GAME_METHOD -> new InitGameResponse(new InitGameResponseData(status));
+            case JsonDeserializer.SELECT_OBJECTIVE_METHOD -> new SelectObjectiveResponse(new SelectObjectiveResponseData(status));
+            case JsonDeserializer.PLACE_STARTER_CARD_METHOD -> new PlaceStarterCardResponse(new PlaceStarterCardResponseData(status));
+            case JsonDeserializer.PLACE_CARD_METHOD -> new PlaceCardResponse(new PlaceCardResponseData(status));
+            case JsonDeserializer.TAKE_CARD_METHOD -> new TakeCardResponse(new TakeCardResponseData(status));
+            case JsonDeserializer.DRAW_CARD_METHOD -> new DrawCardResponse(new DrawCardResponseData(status));
+            case JsonDeserializer.END_GAME_METHOD -> new EndGameResponse(new EndGameResponseData(status));
+            case JsonDeserializer.CHAT_METHOD -> new ChatResponse(new ChatResponseData(status));
+            case JsonDeserializer.SUBSCRIBE_LOBBY_METHOD -> new SubscribeLobbyResponse(new ListLobbyResponseData(status));
+            case JsonDeserializer.QUICK_MATCH_METHOD -> new QuickMatchResponse(new JoinLobbyResponseData(status));
+            case JsonDeserializer.HINTS_METHOD -> new HintsResponse(new HintsResponseData(status));
+            default -> null;
+        };
+
+        if (res != null) {
+            res.setId(request.getId());
+        }
         return res;
     }
 
@@ -96,6 +164,23 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
         }
     }
 
+    /**
+     * Method to leave the quick match queue before choosing a lobby. A ticket taken by a match
+     * stays queued until the client is linked to the game, so the match cannot be missed
+     * @return the error response if the client cannot choose a lobby, null otherwise
+     */
+    private JoinLobbyResponseData leaveQuickMatch() {
+        var server = ServerController.getInstance();
+        if (!server.cancelQuickMatch(this.clientId) && server.getMatchmaking().isQueued(this.clientId)) {
+            return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 403, "Match in progress"));
+        }
+        if (this.gameController != null) {
+            // the match has started in the meantime
+            return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 404, "Already in lobby"));
+        }
+        return null;
+    }
+
     // region Actions
 
     /**
@@ -106,6 +191,11 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
         JoinLobbyResponseData response;
 
         if (this.gameController == null) {
+            // a client chooses its lobby or waits for a quick match, not both
+            var matching = this.leaveQuickMatch();
+            if (matching != null) {
+                return matching;
+            }
             response = ServerController.getInstance().createLobby(this.clientId, data);
         } else {
             return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 404, "Already in lobby"));
@@ -114,6 +204,8 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
         // the client has joined a lobby, set the GameController, in this way we remove the bottleneck on ServerController by using directly the related GameController
         //The LobbyId is in the response of the controller
         if (response.getStatus().getErrorCode() == 0) {
+            // the client has left the menu, it does not need the changes of the lobbies anymore
+            ServerController.getInstance().subscribeLobbies(this.clientId, false);
             try{
                 this.gameController = ServerController.getInstance().getGameController(response.getLobbyId()).get();
             } catch (Exception e){
@@ -133,6 +225,11 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
         JoinLobbyResponseData response;
 
         if (this.gameController == null) {
+            // a client chooses its lobby or waits for a quick match, not both
+            var matching = this.leaveQuickMatch();
+            if (matching != null) {
+                return matching;
+            }
             response = ServerController.getInstance().joinLobby(this.clientId, data);
         } else {
             return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 404, "Already in lobby"));
@@ -140,6 +237,8 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
 
         // the client has joined a lobby, set the GameController, in this way we remove the bottleneck on ServerController by using directly the related GameController
         if (response.getStatus().getErrorCode() == 0) {
+            // the client has left the menu, it does not need the changes of the lobbies anymore
+            ServerController.getInstance().subscribeLobbies(this.clientId, false);
             try{
                 this.gameController = ServerController.getInstance().getGameController(response.getLobbyId()).get();
             } catch (Exception e){
@@ -154,14 +253,46 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
 
     /**
      * Method to perform the listLobby Request
+     * @param data the request, null to list all the lobbies
      */
     @Override
-    public ListLobbyResponseData listLobby() throws RemoteException {
+    public ListLobbyResponseData listLobby(ListLobbyData data) throws RemoteException {
         if (this.gameController != null){
             return new ListLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 403, "Already in lobby"));
         }
 
-        return ServerController.getInstance().getLobbyList();
+        return ServerController.getInstance().getLobbyList(data);
+    }
+
+    /**
+     * Method to perform the subscribeLobby Request
+     * @param data the request, null to subscribe
+     */
+    @Override
+    public ListLobbyResponseData subscribeLobby(SubscribeLobbyData data) throws RemoteException {
+        boolean subscribe = data == null || data.getSubscribe();
+        if (subscribe && this.gameController != null){
+            return new ListLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 403, "Already in lobby"));
+        }
+
+        return ServerController.getInstance().subscribeLobbies(this.clientId, subscribe);
+    }
+
+    /**
+     * Method to perform the quickMatch Request
+     * @param data the request
+     */
+    @Override
+    public JoinLobbyResponseData quickMatch(QuickMatchData data) throws RemoteException {
+        if (this.gameController != null) {
+            return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 403, "Already in lobby"));
+        }
+
+        // the match can be found by another client's request: the GameController is set before the client is notified
+        return ServerController.getInstance().quickMatch(this.clientId, data, gameController -> {
+            ServerController.getInstance().subscribeLobbies(this.clientId, false);
+            this.gameController = gameController;
+        });
     }
 
     /**
@@ -169,10 +300,17 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
      */
     @Override
     public LeaveGameResponseData leaveGame() throws RemoteException {
+        if (this.gameController == null) {
+            // the client is waiting for a quick match, it leaves the queue
+            return ServerController.getInstance().cancelQuickMatch(this.clientId) ?
+                    new LeaveGameResponseData(new ResponseStatus()) :
+                    new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY, 404, "Not in lobby"));
+        }
+
         // The request here is useless, the only thing needed is the clientId, the body is empty
         var response = this.gameController.leaveLobby(this.clientId);
 
-        this.broadcast(new LeaveGameResponse(new LeaveGameResponseData(response.getStatus(), response.getUsername(), response.getLobbies())));
+        this.broadcast(new LeaveGameResponse(new LeaveGameResponseData(response.getStatus(), response.getUsername())));
 
         // Particular case, when you leave then you have to set the reference to null
         if (response.getStatus().getErrorCode() == 0) {
@@ -313,6 +451,21 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
         }
     }
 
+    /**
+     * Method to perform the hints request, the response is not broadcast
+     * @param data the request data
+     * @return the response data
+     * @throws RemoteException if exemptions happens in RMI
+     */
+    @Override
+    public HintsResponseData hints(HintsData data) throws RemoteException {
+        if (this.gameController == null) {
+            return new HintsResponseData(new ResponseStatus(GamePhase.NULL, 403, "Player not in a lobby"));
+        }
+
+        return this.gameController.hints(this.clientId);
+    }
+
     //endregion
 
     /**
@@ -329,9 +482,13 @@ public class VirtualView extends UnicastRemoteObject implements ActionsRMI {
             // Mark the response as a broadcast
             response.getData().setIsBroadcast(true);
 
+            // Encode once, all the recipients share the same message
+            EncodedMessage message = new EncodedMessage(response);
+            BroadcastMetrics.getInstance().onBroadcast(handlers.size());
+
             for (var handler : handlers) {
                 try {
-                    handler.sendMessage(response);
+                    handler.sendEncoded(message);
                 } catch (Exception e) {
                     System.out.println("Exception:" + e.getMessage());
                 }
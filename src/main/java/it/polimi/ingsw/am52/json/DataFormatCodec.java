@@ -0,0 +1,116 @@
+package it.polimi.ingsw.am52.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * A codec of a data format supported by jackson (json, smile, ...). The messages are read
+ * in a single streaming pass, as the json text, by readers and writers created once from
+ * the object mapper of the data format.
+ * @author Livio B.
+ */
+public class DataFormatCodec implements MessageCodec {
+
+    //region Private Final Fields
+
+    /**
+     * The name of the codec.
+     */
+    private final String name;
+
+    /**
+     * The object mapper of the data format, it is never reconfigured after the creation of the codec.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The binding of the data of each request, by method.
+     */
+    private final Map<String, JsonCodec.Binding<?>> requests;
+
+    /**
+     * The binding of the data of each response, by method.
+     */
+    private final Map<String, JsonCodec.Binding<?>> responses;
+
+    /**
+     * The writer of each message class, created at the first use.
+     */
+    private final ClassValue<ObjectWriter> writers = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return mapper.writerFor(type);
+        }
+    };
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Create the codec of a data format.
+     * @param name The name of the codec, used in the handshake of the connections.
+     * @param mapper The object mapper of the data format.
+     */
+    public DataFormatCodec(String name, ObjectMapper mapper) {
+        this.name = name;
+        this.mapper = mapper;
+        this.requests = JsonCodec.newRequestBindings(mapper);
+        this.responses = JsonCodec.newResponseBindings(mapper);
+    }
+
+    //endregion
+
+    //region MessageCodec Methods
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public byte[] encode(JsonMessage<?> message) throws IOException {
+        return this.writers.get(message.getClass()).writeValueAsBytes(message);
+    }
+
+    @Override
+    public JsonMessage<?> decodeRequest(ByteBuffer bytes) throws IOException {
+        return JsonDeserializer.deserialize(createParser(bytes), this.requests::get);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonMessage<BaseResponseData> decodeResponse(ByteBuffer bytes) throws IOException {
+        return (JsonMessage<BaseResponseData>) JsonDeserializer.deserialize(createParser(bytes), this.responses::get);
+    }
+
+    //endregion
+
+    //region Private Methods
+
+    /**
+     * Create the parser of the encoded bytes, reading the array directly if the buffer has one.
+     * @param bytes The encoded message, from the position to the limit.
+     * @return The parser.
+     * @throws IOException If the parser cannot be created.
+     */
+    private JsonParser createParser(ByteBuffer bytes) throws IOException {
+        if (bytes.hasArray()) {
+            return this.mapper.getFactory().createParser(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+        }
+        return this.mapper.getFactory().createParser(new ByteBufferBackedInputStream(bytes));
+    }
+
+    //endregion
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,194 @@
+package it.polimi.ingsw.am52.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import it.polimi.ingsw.am52.json.request.*;
+import it.polimi.ingsw.am52.json.response.*;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The shared json codec. The ObjectMapper is created once, and the readers of the data of
+ * each method and the writers of each message class are created once and reused:
+ * they are immutable and thread-safe, so all the clients share them.
+ * @author Livio B.
+ */
+public final class JsonCodec {
+
+    //region Private Static Final Fields
+
+    /**
+     * The shared object mapper, it is never reconfigured after its creation.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * The binding of the data of each request, by method.
+     */
+    private static final Map<String, Binding<?>> REQUESTS = newRequestBindings(MAPPER);
+
+    /**
+     * The binding of the data of each response, by method.
+     */
+    private static final Map<String, Binding<?>> RESPONSES = newResponseBindings(MAPPER);
+
+    /**
+     * The writer of each message class, created at the first use.
+     */
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return MAPPER.writerFor(type);
+        }
+    };
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Utility class, it cannot be instantiated.
+     */
+    private JsonCodec() {
+    }
+
+    //endregion
+
+    //region Public Static Methods
+
+    /**
+     *
+     * @return The shared object mapper of the json text.
+     */
+    static ObjectMapper getMapper() {
+        return MAPPER;
+    }
+
+    /**
+     *
+     * @return The json factory used to create the streaming parsers.
+     */
+    public static JsonFactory getFactory() {
+        return MAPPER.getFactory();
+    }
+
+    /**
+     *
+     * @param method The method of the request.
+     * @return The binding of the data of the request, or null if the method is unknown.
+     */
+    public static Binding<?> getRequestBinding(String method) {
+        return REQUESTS.get(method);
+    }
+
+    /**
+     *
+     * @param method The method of the response.
+     * @return The binding of the data of the response, or null if the method is unknown.
+     */
+    public static Binding<?> getResponseBinding(String method) {
+        return RESPONSES.get(method);
+    }
+
+    /**
+     *
+     * @param type The class of the message.
+     * @return The writer of the messages of the specified class.
+     */
+    public static ObjectWriter writerFor(Class<?> type) {
+        return WRITERS.get(type);
+    }
+
+    //endregion
+
+    //region Binding
+
+    /**
+     * The reader of the data of a method, and the constructor of its message.
+     * @param reader The reader of the data, its deserializer is fetched when created.
+     * @param factory The constructor of the message, from its data.
+     * @param <TData> The type of the data.
+     */
+    public record Binding<TData>(ObjectReader reader, Function<TData, ? extends JsonMessage<?>> factory) {
+
+        /**
+         * Create the message with the specified data.
+         * @param data The data read by the reader of this binding.
+         * @return The message.
+         */
+        @SuppressWarnings("unchecked")
+        public JsonMessage<?> newMessage(Object data) {
+            return this.factory.apply((TData) data);
+        }
+    }
+
+    /**
+     * Create the bindings of the data of each request, by method.
+     * @param mapper The object mapper of the data format.
+     * @return The bindings of the requests.
+     */
+    static Map<String, Binding<?>> newRequestBindings(ObjectMapper mapper) {
+        return Map.ofEntries(
+                binding(mapper, JsonDeserializer.JOIN_LOBBY_METHOD, JoinLobbyData.class, JoinLobbyRequest::new),
+                binding(mapper, JsonDeserializer.LIST_LOBBY_METHOD, ListLobbyData.class, ListLobbyRequest::new),
+                binding(mapper, JsonDeserializer.CREATE_LOBBY_METHOD, CreateLobbyData.class, CreateLobbyRequest::new),
+                binding(mapper, JsonDeserializer.INIT_GAME_METHOD, InitGameData.class, InitGameRequest::new),
+                binding(mapper, JsonDeserializer.LEAVE_GAME_METHOD, LeaveGameData.class, LeaveGameRequest::new),
+                binding(mapper, JsonDeserializer.SELECT_OBJECTIVE_METHOD, SelectObjectiveData.class, SelectObjectiveRequest::new),
+                binding(mapper, JsonDeserializer.PLACE_STARTER_CARD_METHOD, PlaceStarterCardData.class, PlaceStarterCardRequest::new),
+                binding(mapper, JsonDeserializer.PLACE_CARD_METHOD, PlaceCardData.class, PlaceCardRequest::new),
+                binding(mapper, JsonDeserializer.DRAW_CARD_METHOD, DrawCardData.class, DrawCardRequest::new),
+                binding(mapper, JsonDeserializer.TAKE_CARD_METHOD, TakeCardData.class, TakeCardRequest::new),
+                binding(mapper, JsonDeserializer.END_GAME_METHOD, EndGameData.class, EndGameRequest::new),
+                binding(mapper, JsonDeserializer.CHAT_METHOD, ChatData.class, ChatRequest::new),
+                binding(mapper, JsonDeserializer.SUBSCRIBE_LOBBY_METHOD, SubscribeLobbyData.class, SubscribeLobbyRequest::new),
+                binding(mapper, JsonDeserializer.QUICK_MATCH_METHOD, QuickMatchData.class, QuickMatchRequest::new),
+                binding(mapper, JsonDeserializer.HINTS_METHOD, HintsData.class, HintsRequest::new)
+        );
+    }
+
+    /**
+     * Create the bindings of the data of each response, by method.
+     * @param mapper The object mapper of the data format.
+     * @return The bindings of the responses.
+     */
+    static Map<String, Binding<?>> newResponseBindings(ObjectMapper mapper) {
+        return Map.ofEntries(
+                binding(mapper, JsonDeserializer.JOIN_LOBBY_METHOD, JoinLobbyResponseData.class, JoinLobbyResponse::new),
+                binding(mapper, JsonDeserializer.CREATE_LOBBY_METHOD, JoinLobbyResponseData.class, CreateLobbyResponse::new),
+                binding(mapper, JsonDeserializer.LIST_LOBBY_METHOD, ListLobbyResponseData.class, ListLobbyResponse::new),
+                binding(mapper, JsonDeserializer.INIT_GAME_METHOD, InitGameResponseData.class, InitGameResponse::new),
+                binding(mapper, JsonDeserializer.LEAVE_GAME_METHOD, LeaveGameResponseData.class, LeaveGameResponse::new),
+                binding(mapper, JsonDeserializer.SELECT_OBJECTIVE_METHOD, SelectObjectiveResponseData.class, SelectObjectiveResponse::new),
+                binding(mapper, JsonDeserializer.PLACE_STARTER_CARD_METHOD, PlaceStarterCardResponseData.class, PlaceStarterCardResponse::new),
+                binding(mapper, JsonDeserializer.PLACE_CARD_METHOD, PlaceCardResponseData.class, PlaceCardResponse::new),
+                binding(mapper, JsonDeserializer.DRAW_CARD_METHOD, DrawCardResponseData.class, DrawCardResponse::new),
+                binding(mapper, JsonDeserializer.TAKE_CARD_METHOD, TakeCardResponseData.class, TakeCardResponse::new),
+                binding(mapper, JsonDeserializer.END_GAME_METHOD, EndGameResponseData.class, EndGameResponse::new),
+                binding(mapper, JsonDeserializer.CHAT_METHOD, ChatResponseData.class, ChatResponse::new),
+                binding(mapper, JsonDeserializer.SUBSCRIBE_LOBBY_METHOD, ListLobbyResponseData.class, SubscribeLobbyResponse::new),
+                binding(mapper, JsonDeserializer.LOBBY_UPDATE_METHOD, LobbyUpdateResponseData.class, LobbyUpdateResponse::new),
+                binding(mapper, JsonDeserializer.QUICK_MATCH_METHOD, JoinLobbyResponseData.class, QuickMatchResponse::new),
+                binding(mapper, JsonDeserializer.HINTS_METHOD, HintsResponseData.class, HintsResponse::new)
+        );
+    }
+
+    /**
+     * Create the map entry of a binding.
+     * @param mapper The object mapper of the data format.
+     * @param method The method.
+     * @param type The class of the data.
+     * @param factory The constructor of the message.
+     * @return The map entry of the binding.
+     * @param <TData> The type of the data.
+     */
+    private static <TData> Map.Entry<String, Binding<?>> binding(ObjectMapper mapper, String method, Class<TData> type,
+                                                                 Function<TData, ? extends JsonMessage<?>> factory) {
+        return Map.entry(method, new Binding<>(mapper.readerFor(type), factory));
+    }
+
+    //endregion
+}
@@ -1,12 +1,12 @@
 package it.polimi.ingsw.am52.json;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import it.polimi.ingsw.am52.json.request.*;
-import it.polimi.ingsw.am52.json.response.*;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
-import java.util.Iterator;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
 
 /**
  * Utility class with static methods for deserialization
@@ -27,6 +27,11 @@ public class JsonDeserializer {
      */
     public static final String DATA_FIELD = "data";
 
+    /**
+     * The name of the field used to specify the correlation id of the request / response.
+     */
+    public static final String ID_FIELD = "id";
+
     /**
      * The label of the login method.
      */
@@ -75,6 +80,22 @@ public class JsonDeserializer {
      * The label of the chat method
      */
     public static final String CHAT_METHOD = "chat";
+    /**
+     * The label of the subscribeLobby method
+     */
+    public static final String SUBSCRIBE_LOBBY_METHOD = "subscribeLobby";
+    /**
+     * The label of the lobbyUpdate method, pushed to the clients subscribed to the lobbies
+     */
+    public static final String LOBBY_UPDATE_METHOD = "lobbyUpdate";
+    /**
+     * The label of the quickMatch method
+     */
+    public static final String QUICK_MATCH_METHOD = "quickMatch";
+    /**
+     * The label of the hints method
+     */
+    public static final String HINTS_METHOD = "hints";
 
     //endregion
 
@@ -89,181 +110,121 @@ public class JsonDeserializer {
      * @author Livio B.
      */
     public static JsonMessage deserializeRequest(String jsonText) throws IOException {
-        // Create the object mapper.
-        ObjectMapper objectMapper = new ObjectMapper();
-        // Deserialize into a json node object.
-        JsonNode jsonNode = objectMapper.readTree(jsonText);
-
-        // Get the iterator to iterate over all field names.
-        Iterator<String> iter = jsonNode.fieldNames();
-        // Iterate over all names.
-        while (iter.hasNext()) {
-            // Check for field "method".
-            if (iter.next().equals(METHOD_FIELD)) {
-                // Deserialize based on the method.
-                return deserializeRequest(jsonNode, jsonNode.get(METHOD_FIELD).asText());
-            }
-        }
-        // Field "method" not found in json.
-        throw new IOException(String.format("Field \"{%s\" not found in json object.", METHOD_FIELD));
+        return deserialize(JsonCodec.getFactory().createParser(jsonText), JsonCodec::getRequestBinding);
     }
 
+    /**
+     * Parse the utf-8 json bytes representing a request from the client and return the appropriate
+     * java object, without decoding the bytes to a string.
+     * @param jsonBytes The utf-8 json bytes of the request, from the position to the limit.
+     * @return The java object of the request.
+     * @throws IOException If an error occur in the deserialization process.
+     */
+    public static JsonMessage deserializeRequest(ByteBuffer jsonBytes) throws IOException {
+        return MessageCodecs.JSON.decodeRequest(jsonBytes);
+    }
 
+    /**
+     * Parse a json text representing a response from the server and return the appropriate
+     * java object.
+     * @param jsonResponse The json text of the response.
+     * @return The java object of the response.
+     * @throws IOException If an error occur in the deserialization process.
+     */
+    @SuppressWarnings("unchecked")
     public static JsonMessage<BaseResponseData> deserializeResponse(String jsonResponse) throws IOException {
-        // Create the object mapper.
-        ObjectMapper objectMapper = new ObjectMapper();
-        // Deserialize into a json node object.
-        JsonNode jsonNode = objectMapper.readTree(jsonResponse);
+        return (JsonMessage<BaseResponseData>) deserialize(JsonCodec.getFactory().createParser(jsonResponse), JsonCodec::getResponseBinding);
+    }
 
-        // Get the iterator to iterate over all field names.
-        Iterator<String> iter = jsonNode.fieldNames();
-        // Iterate over all names.
-        while (iter.hasNext()) {
-            // Check for field "method".
-            if (iter.next().equals(METHOD_FIELD)) {
-                // Deserialize based on the method.
-                return deserializeResponse(jsonNode, jsonNode.get(METHOD_FIELD).asText());
-            }
-        }
-        // Field "method" not found in json.
-        throw new IOException(String.format("Field \"{%s\" not found in json object.", METHOD_FIELD));
+    /**
+     * Parse the utf-8 json bytes representing a response from the server and return the appropriate
+     * java object, without decoding the bytes to a string.
+     * @param jsonBytes The utf-8 json bytes of the response, from the position to the limit.
+     * @return The java object of the response.
+     * @throws IOException If an error occur in the deserialization process.
+     */
+    public static JsonMessage<BaseResponseData> deserializeResponse(ByteBuffer jsonBytes) throws IOException {
+        return MessageCodecs.JSON.decodeResponse(jsonBytes);
     }
 
     //endregion
 
-    //region Private Static Methods
+    //region Package-Private Static Methods
 
     /**
-     * Deserialize the jsonNode into the appropriate java request object.
-     * @param jsonNode The json node to deserialize.
-     * @param method The method of the request.
-     * @return The java object of the request.
+     * Deserialize the message in a single streaming pass, in the data format of the parser:
+     * the "method" field selects the reader of the data, then the "data" field is bound directly to the data class.
+     * If the data precedes the method, its tokens are buffered until the method is known.
+     * The optional "id" field is the correlation id of the message.
+     * @param jsonParser The parser of the message, it is closed at the end.
+     * @param bindings The binding of the data of each method.
+     * @return The java object of the message.
      * @throws IOException If an error occurs in the deserialization process.
      */
-    private static JsonMessage deserializeRequest(JsonNode jsonNode, String method) throws IOException {
-        // Get an ObjectMapper for deserialization.
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        // Switch on method (to select the type of the request data).
-        return switch (method) {
-            case JOIN_LOBBY_METHOD -> {
-                JoinLobbyData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), JoinLobbyData.class);
-                yield new JoinLobbyRequest(data);
-            }
-            case LIST_LOBBY_METHOD -> {
-                ListLobbyData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), ListLobbyData.class);
-                yield new ListLobbyRequest(data);
-            }
-            case CREATE_LOBBY_METHOD -> {
-                CreateLobbyData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), CreateLobbyData.class);
-                yield new CreateLobbyRequest(data);
-            }
-            case INIT_GAME_METHOD -> {
-                InitGameData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), InitGameData.class);
-                yield new InitGameRequest(data);
-            }
-            case LEAVE_GAME_METHOD -> {
-                LeaveGameData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), LeaveGameData.class);
-                yield new LeaveGameRequest(data);
-            }
-            case SELECT_OBJECTIVE_METHOD -> {
-                SelectObjectiveData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), SelectObjectiveData.class);
-                yield new SelectObjectiveRequest(data);
-            }
-            case PLACE_STARTER_CARD_METHOD -> {
-                PlaceStarterCardData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), PlaceStarterCardData.class);
-                yield new PlaceStarterCardRequest(data);
-            }
-            case PLACE_CARD_METHOD -> {
-                PlaceCardData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), PlaceCardData.class);
-                yield new PlaceCardRequest(data);
-            }
-            case DRAW_CARD_METHOD -> {
-                DrawCardData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), DrawCardData.class);
-                yield new DrawCardRequest(data);
-            }
-            case TAKE_CARD_METHOD -> {
-                TakeCardData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), TakeCardData.class);
-                yield new TakeCardRequest(data);
-            }
-            case END_GAME_METHOD -> {
-                EndGameData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), EndGameData.class);
-                yield new EndGameRequest(data);
-            }
-            case CHAT_METHOD -> {
-                ChatData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), ChatData.class);
-                yield new ChatRequest(data);
-            }
-            // Unknown method.
-            default -> throw new IOException(String.format("Unknown method \"%s\".", method));
-        };
+    static JsonMessage<?> deserialize(JsonParser jsonParser, Function<String, JsonCodec.Binding<?>> bindings) throws IOException {
+        try (JsonParser parser = jsonParser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Json object expected.");
+            }
+
+            JsonCodec.Binding<?> binding = null;
+            TokenBuffer bufferedData = null;
+            Object data = null;
+            Integer id = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case METHOD_FIELD -> binding = getBinding(bindings, parser.getValueAsString());
+                    case DATA_FIELD -> {
+                        if (binding != null) {
+                            data = binding.reader().readValue(parser);
+                        } else {
+                            bufferedData = TokenBuffer.asCopyOfValue(parser);
+                        }
+                    }
+                    case ID_FIELD -> id = parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (binding == null) {
+                // Field "method" not found in json.
+                throw new IOException(String.format("Field \"{%s\" not found in json object.", METHOD_FIELD));
+            }
+
+            if (bufferedData != null) {
+                try (JsonParser dataParser = bufferedData.asParser()) {
+                    dataParser.nextToken();
+                    data = binding.reader().readValue(dataParser);
+                }
+            }
+
+            JsonMessage<?> message = binding.newMessage(data);
+            message.setId(id);
+            return message;
+        }
     }
 
-    /**
-     * Deserialize the jsonNode into the appropriate java response object.
-     * @param jsonNode The json node to deserialize.
-     * @param method The method of the request.
-     * @return The java object of the request.
-     * @throws IOException If an error occurs in the deserialization process.
-     */
-    private static JsonMessage<BaseResponseData> deserializeResponse(JsonNode jsonNode, String method) throws IOException {
-        // Get an ObjectMapper for deserialization.
-        ObjectMapper objectMapper = new ObjectMapper();
+    //endregion
 
-        // Switch on method (to select the type of the request data).
-        return switch (method) {
-            case JOIN_LOBBY_METHOD -> {
-                JoinLobbyResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), JoinLobbyResponseData.class);
-                yield new JoinLobbyResponse(data);
-            }
-            case CREATE_LOBBY_METHOD -> {
-                JoinLobbyResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), JoinLobbyResponseData.class);
-                yield new CreateLobbyResponse(data);
-            }
-            case LIST_LOBBY_METHOD -> {
-                ListLobbyResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), ListLobbyResponseData.class);
-                yield new ListLobbyResponse(data);
-            }
-            case INIT_GAME_METHOD -> {
-                InitGameResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), InitGameResponseData.class);
-                yield new InitGameResponse(data);
-            }
-            case LEAVE_GAME_METHOD -> {
-                LeaveGameResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), LeaveGameResponseData.class);
-                yield new LeaveGameResponse(data);
-            }
-            case SELECT_OBJECTIVE_METHOD -> {
-                SelectObjectiveResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), SelectObjectiveResponseData.class);
-                yield new SelectObjectiveResponse(data);
-            }
-            case PLACE_STARTER_CARD_METHOD -> {
-                PlaceStarterCardResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), PlaceStarterCardResponseData.class);
-                yield new PlaceStarterCardResponse(data);
-            }
-            case PLACE_CARD_METHOD -> {
-                PlaceCardResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), PlaceCardResponseData.class);
-                yield new PlaceCardResponse(data);
-            }
-            case DRAW_CARD_METHOD -> {
-                DrawCardResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), DrawCardResponseData.class);
-                yield new DrawCardResponse(data);
-            }
-            case TAKE_CARD_METHOD -> {
-                TakeCardResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), TakeCardResponseData.class);
-                yield new TakeCardResponse(data);
-            }
-            case END_GAME_METHOD -> {
-                EndGameResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), EndGameResponseData.class);
-                yield new EndGameResponse(data);
-            }
-            case CHAT_METHOD -> {
-                ChatResponseData data = objectMapper.readValue(jsonNode.get(DATA_FIELD).toString(), ChatResponseData.class);
-                yield new ChatResponse(data);
-            }
+    //region Private Static Methods
 
+    /**
+     * Get the binding of the specified method.
+     * @param bindings The binding of the data of each method.
+     * @param method The method of the message.
+     * @return The binding of the method.
+     * @throws IOException If the method is unknown.
+     */
+    private static JsonCodec.Binding<?> getBinding(Function<String, JsonCodec.Binding<?>> bindings, String method) throws IOException {
+        JsonCodec.Binding<?> binding = method == null ? null : bindings.apply(method);
+        if (binding == null) {
             // Unknown method.
-            default -> throw new IOException(String.format("Unknown method \"%s\".", method));
-        };
+            throw new IOException(String.format("Unknown method \"%s\".", method));
+        }
+        return binding;
     }
 
     //endregion
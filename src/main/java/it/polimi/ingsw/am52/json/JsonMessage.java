@@ -1,15 +1,22 @@
 package it.polimi.ingsw.am52.json;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * The base class of all json messages. All json requests
  * have a "method" and "data" properties. All requests have a method able to
  * convert the object in a json text string representing the state of the
  * object itself.
+ * The method is written before the data, so that the data can be bound
+ * directly to its class while reading.
+ * A request can carry a correlation "id", echoed by the server in its response, so
+ * that the client can match the responses with the requests in flight. The messages
+ * without id (the broadcasts, and the ones of older peers) do not write the field.
  * @author Livio B.
  */
+@JsonPropertyOrder({ JsonDeserializer.METHOD_FIELD, JsonDeserializer.ID_FIELD, JsonDeserializer.DATA_FIELD })
 public abstract class JsonMessage<TData> {
 
     // region Private Fields
@@ -19,6 +26,11 @@ public abstract class JsonMessage<TData> {
      */
     protected final TData data;
 
+    /**
+     * The correlation id of this message, null if the message is not correlated to a request.
+     */
+    private Integer id;
+
     // endregion
 
     //region Constructor
@@ -42,6 +54,27 @@ public abstract class JsonMessage<TData> {
      */
     public abstract TData getData();
 
+    /**
+     *
+     * @return The correlation id of this message, null if the message is not correlated to a request.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Integer getId() {
+        return this.id;
+    }
+
+    //endregion
+
+    //region Setters
+
+    /**
+     * Set the correlation id of this message.
+     * @param id The correlation id, null to remove it.
+     */
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
     //endregion
 
     //region Public Methods
@@ -59,8 +92,17 @@ public abstract class JsonMessage<TData> {
      * @throws JsonProcessingException If a json processing error occurs.
      */
     public String toJson() throws JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return JsonCodec.writerFor(getClass()).writeValueAsString(this);
+    }
+
+    /**
+     * Convert this message in the utf-8 bytes of the json text representing
+     * the state of the message itself.
+     * @return The utf-8 json bytes representing this message.
+     * @throws JsonProcessingException If a json processing error occurs.
+     */
+    public byte[] toJsonBytes() throws JsonProcessingException {
+        return JsonCodec.writerFor(getClass()).writeValueAsBytes(this);
     }
 
     //endregion
@@ -0,0 +1,45 @@
+package it.polimi.ingsw.am52.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The encoding of the messages on a framed socket connection. The messages and their data are
+ * the same for all the codecs, only the bytes on the wire change: the codec is chosen by the
+ * client during the handshake of the connection, the default one is {@link MessageCodecs#JSON}.
+ * New codecs are made available to the connections with {@link MessageCodecs#register(MessageCodec)}.
+ * The implementations must be thread-safe, a single instance serves all the connections.
+ * @author Livio B.
+ */
+public interface MessageCodec {
+
+    /**
+     *
+     * @return The name of the codec, used in the handshake of the connections.
+     */
+    String getName();
+
+    /**
+     * Encode a message.
+     * @param message The message to encode.
+     * @return The encoded message.
+     * @throws IOException If the message cannot be encoded.
+     */
+    byte[] encode(JsonMessage<?> message) throws IOException;
+
+    /**
+     * Decode a request received by the server.
+     * @param bytes The encoded request, from the position to the limit.
+     * @return The request.
+     * @throws IOException If the bytes are not a valid request.
+     */
+    JsonMessage<?> decodeRequest(ByteBuffer bytes) throws IOException;
+
+    /**
+     * Decode a response received by the client.
+     * @param bytes The encoded response, from the position to the limit.
+     * @return The response.
+     * @throws IOException If the bytes are not a valid response.
+     */
+    JsonMessage<BaseResponseData> decodeResponse(ByteBuffer bytes) throws IOException;
+}
@@ -0,0 +1,140 @@
+package it.polimi.ingsw.am52.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The codecs available to the socket connections, by name.
+ * @author Livio B.
+ */
+public final class MessageCodecs {
+
+    //region Public Static Final Fields
+
+    /**
+     * The json text codec, the default one and the only one of the line protocol.
+     */
+    public static final MessageCodec JSON = new DataFormatCodec("json", JsonCodec.getMapper());
+
+    /**
+     * The compact binary codec. The messages are encoded in smile (binary json), the data
+     * objects are written as arrays of their properties, sorted by name, instead of objects:
+     * the field names are not sent at all, and the repeated string values are back-references.
+     */
+    public static final MessageCodec COMPACT = new DataFormatCodec("compact", SmileMapper.builder(
+                    SmileFactory.builder()
+                            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                            .build())
+            .annotationIntrospector(new PositionalIntrospector())
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .disable(MapperFeature.SORT_CREATOR_PROPERTIES_FIRST)
+            .build());
+
+    //endregion
+
+    //region Private Static Final Fields
+
+    /**
+     * The registered codecs, by name.
+     */
+    private static final Map<String, MessageCodec> CODECS = new ConcurrentHashMap<>();
+
+    static {
+        register(JSON);
+        register(COMPACT);
+    }
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Utility class, it cannot be instantiated.
+     */
+    private MessageCodecs() {
+    }
+
+    //endregion
+
+    //region Public Static Methods
+
+    /**
+     * Make a codec available to the connections. A codec with the same name is replaced.
+     * @param codec The codec to register.
+     */
+    public static void register(MessageCodec codec) {
+        CODECS.put(codec.getName().toLowerCase(), codec);
+    }
+
+    /**
+     *
+     * @param name The name of the codec (case-insensitive).
+     * @return The codec with the specified name, or null if it is not registered.
+     */
+    public static MessageCodec get(String name) {
+        return name == null ? null : CODECS.get(name.toLowerCase());
+    }
+
+    /**
+     *
+     * @param name The name of the codec (case-insensitive).
+     * @return The codec with the specified name, or the json codec if it is not registered.
+     */
+    public static MessageCodec getOrDefault(String name) {
+        MessageCodec codec = get(name);
+        return codec != null ? codec : JSON;
+    }
+
+    /**
+     *
+     * @return The names of the registered codecs, sorted.
+     */
+    public static Set<String> getNames() {
+        return new TreeSet<>(CODECS.keySet());
+    }
+
+    //endregion
+
+    //region PositionalIntrospector
+
+    /**
+     * Write the data objects of the application as arrays. The messages keep the object shape,
+     * so the method is still read before the data; the enums keep their names.
+     */
+    private static class PositionalIntrospector extends JacksonAnnotationIntrospector {
+
+        @Override
+        public JsonFormat.Value findFormat(Annotated annotated) {
+            JsonFormat.Value format = super.findFormat(annotated);
+            if (annotated instanceof AnnotatedClass type && isDataClass(type.getRawType())
+                    && (format == null || format.getShape() == JsonFormat.Shape.ANY)) {
+                return JsonFormat.Value.forShape(JsonFormat.Shape.ARRAY);
+            }
+            return format;
+        }
+
+        /**
+         *
+         * @param type The class to check.
+         * @return True if the class is a data class of the application.
+         */
+        private static boolean isDataClass(Class<?> type) {
+            return type.getName().startsWith("it.polimi.ingsw.am52.")
+                    && !JsonMessage.class.isAssignableFrom(type)
+                    && !type.isEnum();
+        }
+    }
+
+    //endregion
+}
@@ -10,16 +10,15 @@ import java.util.List;
 
 public class BoardSlotSerializer extends JsonSerializer<List<BoardSlot>> {
     /**
-     * Custom method to serialize correctly a list of BoardSlot
+     * Custom method to serialize correctly a list of BoardSlot, each slot is written as a
+     * BoardSlotInfo, in the shape chosen by the object mapper.
      */
     @Override
     public void serialize(List<BoardSlot> value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        JsonSerializer<Object> slotSerializer = serializers.findPrimaryPropertySerializer(BoardSlotInfo.class, null);
         gen.writeStartArray();
         for (BoardSlot slot : value) {
-            gen.writeStartObject();
-            gen.writeObjectField("h", slot.getHoriz());
-            gen.writeObjectField("v", slot.getVert());
-            gen.writeEndObject();
+            slotSerializer.serialize(slot, gen, serializers);
         }
         gen.writeEndArray();
     }
@@ -0,0 +1,19 @@
+package it.polimi.ingsw.am52.json.request;
+
+import java.io.Serializable;
+
+/**
+ * The Hints call does not need any data: the hints are about the hand and the playing board of the client
+ */
+public class HintsData implements Serializable {
+
+    //region Constructor
+
+    /**
+     * Default constructor for deserialization purpose
+     */
+    public HintsData() {
+    }
+
+    //endregion
+}
@@ -0,0 +1,42 @@
+package it.polimi.ingsw.am52.json.request;
+
+import it.polimi.ingsw.am52.json.JsonMessage;
+
+/**
+ * The Hints request object. The method associated to this request is "hints" and the data is a HintsData object.
+ * The request is optional, the clients can place their cards without asking the hints.
+ */
+public class HintsRequest extends JsonMessage<HintsData> {
+
+    //region Constructor
+
+    /**
+     * Create the request with the specified data
+     * @param data  The data of the request
+     */
+    public HintsRequest(HintsData data) {
+        super(data);
+    }
+
+    //endregion
+
+    //region Overrides
+
+    /**
+     * @return The data associated to this message
+     */
+    @Override
+    public HintsData getData() {
+        return super.data;
+    }
+
+    /**
+     * @return The "hints" method
+     */
+    @Override
+    public String getMethod() {
+        return "hints";
+    }
+
+    //endregion
+}
@@ -1,14 +1,122 @@
 package it.polimi.ingsw.am52.json.request;
 
 /**
- * Request data for listLobby request
+ * Request data for listLobby request.
+ * The lobbies are listed in order of id, one page at a time, optionally filtered by
+ * number of players and free seats. A client that already has the lobbies of a version
+ * of the directory can ask for them only if the directory has been modified since.
  */
 public class ListLobbyData implements java.io.Serializable {
 
+    //region Public Static Final Fields
+
+    /**
+     * The value of sinceVersion that always lists the lobbies.
+     */
+    public static final long ANY_VERSION = -1;
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * The version of the directory already known by the client.
+     */
+    private final long sinceVersion;
+
+    /**
+     * The page starts after the lobby with this id.
+     */
+    private final int afterLobbyId;
+
+    /**
+     * The max number of lobbies in the page, 0 for all the lobbies.
+     */
+    private final int limit;
+
+    /**
+     * The number of players of the lobbies to list, 0 for any number.
+     */
+    private final int numPlayers;
+
+    /**
+     * The min number of free seats of the lobbies to list.
+     */
+    private final int minFreeSeats;
+
+    //endregion
+
+    //region Constructors
+
     /**
      * Default constructor, for json deserialization purpose only.
+     * It lists all the lobbies.
      */
     public ListLobbyData() {
+        this(ANY_VERSION, 0, 0, 0, 0);
+    }
+
+    /**
+     * Create a listLobby data object.
+     * @param sinceVersion The version of the directory already known, the response is empty if it is still
+     *                     the current version. ANY_VERSION to always list the lobbies.
+     * @param afterLobbyId The page starts after the lobby with this id, 0 for the first page.
+     * @param limit The max number of lobbies in the page, 0 for all the lobbies.
+     * @param numPlayers The number of players of the lobbies to list, 0 for any number.
+     * @param minFreeSeats The min number of free seats of the lobbies to list.
+     */
+    public ListLobbyData(long sinceVersion, int afterLobbyId, int limit, int numPlayers, int minFreeSeats) {
+        // Assign private fields.
+        this.sinceVersion = sinceVersion;
+        this.afterLobbyId = afterLobbyId;
+        this.limit = limit;
+        this.numPlayers = numPlayers;
+        this.minFreeSeats = minFreeSeats;
+    }
+
+    //endregion
+
+    //region Getters
+
+    /**
+     *
+     * @return The version of the directory already known by the client.
+     */
+    public long getSinceVersion() {
+        return sinceVersion;
+    }
+
+    /**
+     *
+     * @return The id of the lobby after which the page starts.
+     */
+    public int getAfterLobbyId() {
+        return afterLobbyId;
+    }
+
+    /**
+     *
+     * @return The max number of lobbies in the page, 0 for all the lobbies.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     *
+     * @return The number of players of the lobbies to list, 0 for any number.
+     */
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    /**
+     *
+     * @return The min number of free seats of the lobbies to list.
+     */
+    public int getMinFreeSeats() {
+        return minFreeSeats;
     }
 
+    //endregion
 }
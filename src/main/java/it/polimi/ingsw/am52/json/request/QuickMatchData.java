@@ -0,0 +1,67 @@
+package it.polimi.ingsw.am52.json.request;
+
+import java.io.Serializable;
+
+/**
+ * The object representing the data for the quickMatch method.
+ * The quickMatch method needs the nickname of the player and
+ * the number of players of the match: the server chooses the lobby.
+ */
+public class QuickMatchData implements Serializable {
+
+    //region Private Fields
+
+    /**
+     * The nickname of the player asking for a match.
+     */
+    private final String nickname;
+
+    /**
+     * The number of players of the match.
+     */
+    private final int preferredPlayers;
+
+    //endregion
+
+    //region Constructors
+
+    /**
+     * Default constructor, for json deserialization purpose only.
+     */
+    protected QuickMatchData() {
+        this("", -1);
+    }
+
+    /**
+     * Create a quickMatch data object.
+     * @param nickname The nickname of the player.
+     * @param preferredPlayers The number of players of the match.
+     */
+    public QuickMatchData(String nickname, int preferredPlayers) {
+        // Assign private fields.
+        this.nickname = nickname;
+        this.preferredPlayers = preferredPlayers;
+    }
+
+    //endregion
+
+    //region Getters
+
+    /**
+     *
+     * @return The nickname of the player.
+     */
+    public String getNickname() {
+        return nickname;
+    }
+
+    /**
+     *
+     * @return The number of players of the match.
+     */
+    public int getPreferredPlayers() {
+        return preferredPlayers;
+    }
+
+    //endregion
+}
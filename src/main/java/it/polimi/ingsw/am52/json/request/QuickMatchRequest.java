@@ -0,0 +1,43 @@
+package it.polimi.ingsw.am52.json.request;
+
+import it.polimi.ingsw.am52.json.JsonMessage;
+
+/**
+ * The quick match request object. The method associated to this request
+ * is "quickMatch" and the data is a QuickMatchData object.
+ */
+public class QuickMatchRequest extends JsonMessage<QuickMatchData> {
+
+    //region Constructors
+
+    /**
+     * Create the request with the specified data.
+     * @param quickMatchData The data of the match.
+     */
+    public QuickMatchRequest(QuickMatchData quickMatchData) {
+        super(quickMatchData);
+    }
+
+    //endregion
+
+    //region Overrides
+
+    /**
+     * @return The data associated to this message.
+     */
+    @Override
+    public QuickMatchData getData() {
+        return super.data;
+    }
+
+    /**
+     *
+     * @return The "quickMatch" method.
+     */
+    @Override
+    public String getMethod() {
+        return "quickMatch";
+    }
+
+    //endregion
+}
@@ -0,0 +1,53 @@
+package it.polimi.ingsw.am52.json.request;
+
+import java.io.Serializable;
+
+/**
+ * The object representing the data for the subscribeLobby method.
+ * A client browsing the menu subscribes to the lobbies: the server answers with the list
+ * of the lobbies, then it pushes the changes of the lobbies to the client, until the client
+ * unsubscribes, joins a lobby or disconnects.
+ */
+public class SubscribeLobbyData implements Serializable {
+
+    //region Private Fields
+
+    /**
+     * True to subscribe to the changes of the lobbies, false to unsubscribe.
+     */
+    private final boolean subscribe;
+
+    //endregion
+
+    //region Constructors
+
+    /**
+     * Default constructor, for json deserialization purpose only.
+     */
+    protected SubscribeLobbyData() {
+        this(true);
+    }
+
+    /**
+     * Create a subscribeLobby data object.
+     * @param subscribe True to subscribe to the changes of the lobbies, false to unsubscribe.
+     */
+    public SubscribeLobbyData(boolean subscribe) {
+        // Assign private fields.
+        this.subscribe = subscribe;
+    }
+
+    //endregion
+
+    //region Getters
+
+    /**
+     *
+     * @return True to subscribe to the changes of the lobbies, false to unsubscribe.
+     */
+    public boolean getSubscribe() {
+        return subscribe;
+    }
+
+    //endregion
+}
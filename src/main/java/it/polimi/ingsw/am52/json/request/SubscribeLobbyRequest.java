@@ -0,0 +1,43 @@
+package it.polimi.ingsw.am52.json.request;
+
+import it.polimi.ingsw.am52.json.JsonMessage;
+
+/**
+ * The subscribe lobby request object. The method associated to this request
+ * is "subscribeLobby" and the data is a SubscribeLobbyData object.
+ */
+public class SubscribeLobbyRequest extends JsonMessage<SubscribeLobbyData> {
+
+    //region Constructors
+
+    /**
+     * Create the request with the specified data.
+     * @param subscribeLobbyData The data of the subscription.
+     */
+    public SubscribeLobbyRequest(SubscribeLobbyData subscribeLobbyData) {
+        super(subscribeLobbyData);
+    }
+
+    //endregion
+
+    //region Overrides
+
+    /**
+     * @return The data associated to this message.
+     */
+    @Override
+    public SubscribeLobbyData getData() {
+        return super.data;
+    }
+
+    /**
+     *
+     * @return The "subscribeLobby" method.
+     */
+    @Override
+    public String getMethod() {
+        return "subscribeLobby";
+    }
+
+    //endregion
+}
@@ -0,0 +1,42 @@
+package it.polimi.ingsw.am52.json.response;
+
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+
+/**
+ * The hints response object. The data associated to this object is a HintsResponseData
+ */
+public class HintsResponse extends JsonMessage<BaseResponseData> {
+
+    //region Constructor
+
+    /**
+     * Create a hints response
+     * @param data  The hints data
+     */
+    public HintsResponse(HintsResponseData data) {
+        super(data);
+    }
+
+    //endregion
+
+    //region Overrides
+
+    /**
+     * @return The "hints" method
+     */
+    @Override
+    public String getMethod() {
+        return "hints";
+    }
+
+    /**
+     * @return The data associated to this message
+     */
+    @Override
+    public HintsResponseData getData() {
+        return (HintsResponseData) super.data;
+    }
+
+    //endregion
+}
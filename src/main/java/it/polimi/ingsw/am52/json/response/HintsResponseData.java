@@ -0,0 +1,176 @@
+package it.polimi.ingsw.am52.json.response;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.dto.BoardSlotInfo;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The object representing the data for the hints response: the legal placements of the cards
+ * in the hand of the client, with their points
+ */
+public class HintsResponseData extends BaseResponseData implements Serializable {
+
+    //region Nested Classes
+
+    /**
+     * A legal placement of a card in the hand
+     */
+    public static class Hint implements Serializable {
+
+        /**
+         * The id of the card
+         */
+        private final int cardId;
+
+        /**
+         * The visible face of the card
+         */
+        private final int face;
+
+        /**
+         * The slot where the card can be placed
+         */
+        private BoardSlot placedSlot;
+
+        /**
+         * The points gained by placing the card
+         */
+        private final int points;
+
+        /**
+         * The objective points gained (or lost) by placing the card
+         */
+        private final int objectivePoints;
+
+        /**
+         * The empty constructor needed for Jackson library
+         */
+        public Hint() {
+            this(-1, -1, null, 0, 0);
+        }
+
+        /**
+         * Create a hint
+         * @param cardId            The ID of the card
+         * @param face              The face of the card
+         * @param placedSlot        The slot where the card can be placed
+         * @param points            The points gained by placing the card
+         * @param objectivePoints   The objective points gained (or lost) by placing the card
+         */
+        public Hint(int cardId, int face, BoardSlot placedSlot, int points, int objectivePoints) {
+            this.cardId = cardId;
+            this.face = face;
+            this.placedSlot = placedSlot;
+            this.points = points;
+            this.objectivePoints = objectivePoints;
+        }
+
+        /**
+         * @return The ID of the card
+         */
+        public int getCardId() {
+            return this.cardId;
+        }
+
+        /**
+         * @return The face of the card
+         */
+        public int getFace() {
+            return this.face;
+        }
+
+        /**
+         * @return The slot where the card can be placed
+         */
+        @JsonSerialize(as = BoardSlotInfo.class)
+        public BoardSlot getPlacedSlot() {
+            return this.placedSlot;
+        }
+
+        /**
+         * @return The points gained by placing the card
+         */
+        public int getPoints() {
+            return this.points;
+        }
+
+        /**
+         * @return The objective points gained (or lost) by placing the card
+         */
+        public int getObjectivePoints() {
+            return this.objectivePoints;
+        }
+
+        /**
+         * Setter for deserializing purpose
+         * @param placedSlot    The slot where the card can be placed
+         */
+        @JsonSetter("placedSlot")
+        public void setPlacedSlot(BoardSlot placedSlot) {
+            if (placedSlot != null) {
+                this.placedSlot = new BoardSlot(placedSlot.getHoriz(), placedSlot.getVert());
+            } else {
+                this.placedSlot = null;
+            }
+        }
+    }
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * The legal placements of the cards in the hand
+     */
+    private final List<Hint> hints;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * The empty constructor needed for Jackson library
+     */
+    public HintsResponseData() {
+        super();
+        this.hints = new ArrayList<>();
+    }
+
+    /**
+     * Create a hints data object
+     * @param status    The status of the response
+     * @param hints     The legal placements of the cards in the hand
+     */
+    public HintsResponseData(ResponseStatus status, List<Hint> hints) {
+        super(status);
+        this.hints = hints;
+    }
+
+    /**
+     * Create a hints data object, without hints
+     * @param status    The status of the response
+     */
+    public HintsResponseData(ResponseStatus status) {
+        super(status);
+        this.hints = new ArrayList<>();
+    }
+
+    //endregion
+
+    //region Getters
+
+    /**
+     * @return The legal placements of the cards in the hand
+     */
+    public List<Hint> getHints() {
+        return this.hints;
+    }
+
+    //endregion
+}
@@ -3,8 +3,6 @@ package it.polimi.ingsw.am52.json.response;
 import it.polimi.ingsw.am52.json.BaseResponseData;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * The object representing the data for the leaveGame response.
@@ -17,11 +15,6 @@ public class LeaveGameResponseData extends BaseResponseData implements Serializa
      * The name of the player who left.
      */
     private final String username;
-
-    /**
-     * The map with &lt;lobbyID, playersToStart&gt;
-     */
-    private final Map<Integer,Integer> lobbies;
     //endregion
 
     //region Constructor
@@ -32,20 +25,17 @@ public class LeaveGameResponseData extends BaseResponseData implements Serializa
     public LeaveGameResponseData() {
         super();
         this.username = "";
-        this.lobbies = new HashMap<>();
     }
 
     /**
      * Create a logout data object.
      * @param status    The status of the response
      * @param username  The nickname of the player.
-     * @param lobbies The updated status of lobbies.
      */
-    public LeaveGameResponseData(ResponseStatus status, String username, Map<Integer,Integer> lobbies) {
+    public LeaveGameResponseData(ResponseStatus status, String username) {
         // Assign private fields.
         super(status);
         this.username = username;
-        this.lobbies = lobbies;
     }
 
     /**
@@ -56,7 +46,6 @@ public class LeaveGameResponseData extends BaseResponseData implements Serializa
         // Assign private fields.
         super(status);
         this.username = "";
-        this.lobbies = new HashMap<>();
     }
 
     //endregion
@@ -70,13 +59,5 @@ public class LeaveGameResponseData extends BaseResponseData implements Serializa
     public String getUsername() {
         return username;
     }
-
-    /**
-     *
-     * @return The id of the lobby joined.
-     */
-    public Map<Integer,Integer> getLobbies() {
-        return this.lobbies;
-    }
     //endregion
 }
@@ -18,6 +18,21 @@ public class ListLobbyResponseData extends BaseResponseData implements Serializa
      */
     private final Map<Integer,Integer> lobbies;
 
+    /**
+     * The version of the lobby directory listed.
+     */
+    private final long version;
+
+    /**
+     * True if the directory has not been modified since the version known by the client, the lobbies are empty.
+     */
+    private final boolean notModified;
+
+    /**
+     * The id to start the next page after, -1 if this is the last page.
+     */
+    private final int nextLobbyId;
+
     //endregion
 
     //region Constructors
@@ -28,6 +43,9 @@ public class ListLobbyResponseData extends BaseResponseData implements Serializa
     public ListLobbyResponseData() {
         super();
         this.lobbies = new HashMap<>();
+        this.version = 0;
+        this.notModified = false;
+        this.nextLobbyId = -1;
     }
 
     /**
@@ -36,9 +54,37 @@ public class ListLobbyResponseData extends BaseResponseData implements Serializa
      * @param lobbies The lobbies.
      */
     public ListLobbyResponseData(ResponseStatus status, Map<Integer,Integer> lobbies) {
+        this(status, lobbies, 0, -1);
+    }
+
+    /**
+     * Create a listLobby data object, with a page of the lobby directory.
+     * @param status The status of the response
+     * @param lobbies The lobbies of the page.
+     * @param version The version of the lobby directory.
+     * @param nextLobbyId The id to start the next page after, -1 if this is the last page.
+     */
+    public ListLobbyResponseData(ResponseStatus status, Map<Integer,Integer> lobbies, long version, int nextLobbyId) {
         // Assign private fields.
         super(status);
         this.lobbies = lobbies;
+        this.version = version;
+        this.notModified = false;
+        this.nextLobbyId = nextLobbyId;
+    }
+
+    /**
+     * Create a listLobby data object, for a directory not modified since the version known by the client.
+     * @param status The status of the response
+     * @param version The version of the lobby directory.
+     */
+    public ListLobbyResponseData(ResponseStatus status, long version) {
+        // Assign private fields.
+        super(status);
+        this.lobbies = new HashMap<>();
+        this.version = version;
+        this.notModified = true;
+        this.nextLobbyId = -1;
     }
 
     /**
@@ -49,6 +95,9 @@ public class ListLobbyResponseData extends BaseResponseData implements Serializa
         // Assign private fields.
         super(status);
         this.lobbies = new HashMap<>();
+        this.version = 0;
+        this.notModified = false;
+        this.nextLobbyId = -1;
     }
 
     //endregion
@@ -63,5 +112,29 @@ public class ListLobbyResponseData extends BaseResponseData implements Serializa
         return this.lobbies;
     }
 
+    /**
+     *
+     * @return The version of the lobby directory listed.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     *
+     * @return True if the directory has not been modified since the version known by the client.
+     */
+    public boolean getNotModified() {
+        return this.notModified;
+    }
+
+    /**
+     *
+     * @return The id to start the next page after, -1 if this is the last page.
+     */
+    public int getNextLobbyId() {
+        return this.nextLobbyId;
+    }
+
     //endregion
 }
@@ -0,0 +1,44 @@
+package it.polimi.ingsw.am52.json.response;
+
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+
+/**
+ * The lobbyUpdate response object, pushed to the clients subscribed to the lobbies.
+ * The method of this response is "lobbyUpdate" and the data is a LobbyUpdateResponseData object.
+ */
+public class LobbyUpdateResponse extends JsonMessage<BaseResponseData> {
+
+    //region Constructors
+
+    /**
+     * Creates a lobbyUpdate response.
+     * @param lobbyUpdateData The changes of the lobbies.
+     */
+    public LobbyUpdateResponse(LobbyUpdateResponseData lobbyUpdateData) {
+        super(lobbyUpdateData);
+    }
+
+    //endregion
+
+    //region Overrides
+
+    /**
+     *
+     * @return The "lobbyUpdate" method.
+     */
+    @Override
+    public String getMethod() {
+        return "lobbyUpdate";
+    }
+
+    /**
+     *
+     * @return The data associated to this message.
+     */
+    @Override
+    public LobbyUpdateResponseData getData() {
+        return (LobbyUpdateResponseData) super.data;
+    }
+    //endregion
+}
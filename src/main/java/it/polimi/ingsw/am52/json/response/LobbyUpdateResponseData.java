@@ -0,0 +1,126 @@
+package it.polimi.ingsw.am52.json.response;
+
+import it.polimi.ingsw.am52.json.BaseResponseData;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The object representing the data for the lobbyUpdate response: the changes of the lobbies
+ * from a version of the lobby directory to a later one. A client that knows the lobbies at a version
+ * between the two applies the changes, otherwise it has missed some changes and lists the lobbies again.
+ */
+public class LobbyUpdateResponseData extends BaseResponseData implements Serializable {
+
+    //region Private Fields
+
+    /**
+     * The version of the lobby directory before the changes.
+     */
+    private final long fromVersion;
+
+    /**
+     * The version of the lobby directory after the changes.
+     */
+    private final long version;
+
+    /**
+     * The lobbies opened, with &lt;lobbyID, playersToStart&gt;
+     */
+    private final Map<Integer,Integer> added;
+
+    /**
+     * The lobbies whose players have changed, with &lt;lobbyID, playersToStart&gt;
+     */
+    private final Map<Integer,Integer> changed;
+
+    /**
+     * The ids of the lobbies closed.
+     */
+    private final List<Integer> removed;
+
+    //endregion
+
+    //region Constructors
+
+    /**
+     * The Empty constructor needed for Jackson library
+     */
+    public LobbyUpdateResponseData() {
+        super();
+        this.fromVersion = 0;
+        this.version = 0;
+        this.added = new HashMap<>();
+        this.changed = new HashMap<>();
+        this.removed = new ArrayList<>();
+    }
+
+    /**
+     * Create a lobbyUpdate data object.
+     * @param status The status of the response
+     * @param fromVersion The version of the lobby directory before the changes.
+     * @param version The version of the lobby directory after the changes.
+     * @param added The lobbies opened.
+     * @param changed The lobbies whose players have changed.
+     * @param removed The ids of the lobbies closed.
+     */
+    public LobbyUpdateResponseData(ResponseStatus status, long fromVersion, long version,
+                                   Map<Integer,Integer> added, Map<Integer,Integer> changed, List<Integer> removed) {
+        // Assign private fields.
+        super(status);
+        this.fromVersion = fromVersion;
+        this.version = version;
+        this.added = added;
+        this.changed = changed;
+        this.removed = removed;
+    }
+
+    //endregion
+
+    //region Getters
+
+    /**
+     *
+     * @return The version of the lobby directory before the changes.
+     */
+    public long getFromVersion() {
+        return this.fromVersion;
+    }
+
+    /**
+     *
+     * @return The version of the lobby directory after the changes.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     *
+     * @return The lobbies opened.
+     */
+    public Map<Integer,Integer> getAdded() {
+        return this.added;
+    }
+
+    /**
+     *
+     * @return The lobbies whose players have changed.
+     */
+    public Map<Integer,Integer> getChanged() {
+        return this.changed;
+    }
+
+    /**
+     *
+     * @return The ids of the lobbies closed.
+     */
+    public List<Integer> getRemoved() {
+        return this.removed;
+    }
+
+    //endregion
+}
@@ -0,0 +1,45 @@
+package it.polimi.ingsw.am52.json.response;
+
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+
+/**
+ * The quickMatch response object. The method of this response is "quickMatch" and the
+ * data is a JoinLobbyResponseData object: the lobby of the match, or lobbyId -1 if the
+ * player is waiting for the match.
+ */
+public class QuickMatchResponse extends JsonMessage<BaseResponseData> {
+
+    //region Constructors
+
+    /**
+     * Creates a quickMatch response.
+     * @param joinLobbyData The lobby of the match.
+     */
+    public QuickMatchResponse(JoinLobbyResponseData joinLobbyData) {
+        super(joinLobbyData);
+    }
+
+    //endregion
+
+    //region Overrides
+
+    /**
+     *
+     * @return The "quickMatch" method.
+     */
+    @Override
+    public String getMethod() {
+        return "quickMatch";
+    }
+
+    /**
+     *
+     * @return The data associated to this message.
+     */
+    @Override
+    public JoinLobbyResponseData getData() {
+        return (JoinLobbyResponseData) super.data;
+    }
+    //endregion
+}
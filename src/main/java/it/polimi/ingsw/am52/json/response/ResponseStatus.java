@@ -1,6 +1,7 @@
 package it.polimi.ingsw.am52.json.response;
 
 import it.polimi.ingsw.am52.model.game.GamePhase;
+import it.polimi.ingsw.am52.model.game.GameSnapshot;
 import it.polimi.ingsw.am52.model.game.Phase;
 
 import java.io.Serializable;
@@ -62,6 +63,27 @@ public class ResponseStatus implements Serializable {
         this.errorMessage = errorMessage;
     }
 
+    /**
+     * The constructor from a snapshot of the game for Success response
+     * @param snapshot the snapshot of the Game
+     */
+    public ResponseStatus(GameSnapshot snapshot) {
+        this(snapshot, 0, "");
+    }
+
+    /**
+     * The constructor from a snapshot of the game for Error response
+     * @param snapshot the snapshot of the Game
+     * @param errorCode the error code of the call
+     * @param errorMessage the error message
+     */
+    public ResponseStatus(GameSnapshot snapshot, int errorCode, String errorMessage) {
+        this.gamePhase = snapshot.phase();
+        this.currPlayer = snapshot.currentPlayer();
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
     /**
      * The constructor from Phase for Success response
      * @param phase the Phase class
@@ -0,0 +1,44 @@
+package it.polimi.ingsw.am52.json.response;
+
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+
+/**
+ * The subscribeLobby response object. The method of this response is "subscribeLobby" and the
+ * data is a ListLobbyResponseData object, with the lobbies at the time of the subscription.
+ */
+public class SubscribeLobbyResponse extends JsonMessage<BaseResponseData> {
+
+    //region Constructors
+
+    /**
+     * Creates a subscribeLobby response.
+     * @param listLobbyData The lobbies at the time of the subscription.
+     */
+    public SubscribeLobbyResponse(ListLobbyResponseData listLobbyData) {
+        super(listLobbyData);
+    }
+
+    //endregion
+
+    //region Overrides
+
+    /**
+     *
+     * @return The "subscribeLobby" method.
+     */
+    @Override
+    public String getMethod() {
+        return "subscribeLobby";
+    }
+
+    /**
+     *
+     * @return The data associated to this message.
+     */
+    @Override
+    public ListLobbyResponseData getData() {
+        return (ListLobbyResponseData) super.data;
+    }
+    //endregion
+}
@@ -15,6 +15,20 @@ public class BlankCorner extends CardCorner {
 
     //endregion
 
+    //region Private Fields
+
+    /**
+     * The resources of this card corner (none), created once.
+     */
+    private final ResourcesCounter resources = new ResourcesCounter();
+
+    /**
+     * The items of this card corner (none), created once.
+     */
+    private final ItemsCounter items = new ItemsCounter();
+
+    //endregion
+
     //region Constructor
 
     /**
@@ -30,7 +44,7 @@ public class BlankCorner extends CardCorner {
 
     @Override
     public ResourcesCounter getResources() {
-        return new ResourcesCounter();
+        return this.resources;
     }
 
     //endregion
@@ -39,7 +53,7 @@ public class BlankCorner extends CardCorner {
 
     @Override
     public ItemsCounter getItems() {
-        return new ItemsCounter();
+        return this.items;
     }
 
     //endregion
@@ -41,6 +41,10 @@ public class Card {
         this.cardId = cardId;
         this.frontFace = frontFace;
         this.backFace = backFace;
+
+        // Link the faces to the rows of the catalog.
+        frontFace.assignTo(cardId);
+        backFace.assignTo(cardId);
     }
 
     //endregion
@@ -86,4 +90,13 @@ public class Card {
         }
         return (c.getCardId() == this.getCardId());
     }
+
+    /**
+     * The hash code is consistent with equals(): equal cards have the same identifier.
+     * @return The hash code of this card.
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.cardId);
+    }
 }
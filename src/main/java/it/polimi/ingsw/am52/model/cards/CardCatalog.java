@@ -0,0 +1,524 @@
+package it.polimi.ingsw.am52.model.cards;
+
+import it.polimi.ingsw.am52.exceptions.CardException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The immutable catalog of the faces of all the playing cards (identifiers from 0 to 85), with
+ * the data used during the game precomputed in primitive arrays. The face with card identifier
+ * <i>id</i> and side <i>s</i> is the row 2*id+s of each array (front = 0, back = 1):<ul>
+ * <li>The presence bitmask of the corners, with a bit for each {@link CornerLocation} ordinal
+ * <li>The code of each corner: one of the CORNER_XXX constants
+ * <li>The kingdom, -1 for the starter cards
+ * <li>The required resources, packed as in {@link ResourcesCounter}
+ * <li>The rule and the value of the points gained by placing the face
+ * </ul>
+ * The catalog is also the registry of the cards, by identifier. It is built when the class is
+ * initialized (see {@link #load()}), from the card lists that the card classes build in turn
+ * when they are initialized: the class initialization runs once and publishes the arrays
+ * safely, thus the catalog can be read from any thread without synchronization.
+ * <P>
+ * The methods that take a card face read the row of the card that owns the face, and never
+ * call the card face itself.
+ */
+public final class CardCatalog {
+
+    //region Public Static Final Fields
+
+    /**
+     * The number of cards of the catalog.
+     */
+    public static final int CARDS = StarterCard.LAST_INDEX + 1;
+
+    /**
+     * The code of a corner that is not visible (hidden corner).
+     */
+    public static final int CORNER_HIDDEN = 0;
+
+    /**
+     * The code of a visible corner without resources nor items.
+     */
+    public static final int CORNER_BLANK = 1;
+
+    /**
+     * The codes of the corners with a resource.
+     */
+    public static final int CORNER_FUNGI = 2;
+    public static final int CORNER_PLANT = 3;
+    public static final int CORNER_ANIMAL = 4;
+    public static final int CORNER_INSECT = 5;
+
+    /**
+     * The codes of the corners with an item.
+     */
+    public static final int CORNER_FEATHER = 6;
+    public static final int CORNER_INK = 7;
+    public static final int CORNER_VELLUM = 8;
+
+    /**
+     * The number of kingdom codes, the codes of the kingdoms are between zero and this number (excluded).
+     */
+    public static final int KINGDOM_CODES_COUNT = 4;
+
+    //endregion
+
+    //region Private Static Final Fields
+
+    /**
+     * The rules of the gained points.
+     */
+    private static final byte POINTS_NONE = 0;
+    private static final byte POINTS_CONSTANT = 1;
+    private static final byte POINTS_CORNERS = 2;
+    private static final byte POINTS_FEATHERS = 3;
+    private static final byte POINTS_INKS = 4;
+    private static final byte POINTS_VELLUM = 5;
+
+    /**
+     * The corner locations, by ordinal.
+     */
+    private static final CornerLocation[] CORNERS = CornerLocation.values();
+
+    /**
+     * The kingdoms, by their code in the catalog.
+     */
+    private static final Kingdom[] KINGDOMS = {
+            Kingdom.FUNGI_KINGDOM, Kingdom.PLANT_KINGDOM, Kingdom.ANIMAL_KINGDOM, Kingdom.INSECT_KINGDOM
+    };
+
+    /**
+     * The resources and the items of the corners, by corner code.
+     */
+    private static final ResourcesCounter[] CORNER_RESOURCES = new ResourcesCounter[CORNER_VELLUM + 1];
+    private static final ItemsCounter[] CORNER_ITEMS = new ItemsCounter[CORNER_VELLUM + 1];
+
+    /**
+     * The cards, by identifier.
+     */
+    private static final Card[] CARDS_BY_ID = new Card[CARDS];
+
+    /**
+     * The faces, by row.
+     */
+    private static final CardFace[] FACES = new CardFace[2 * CARDS];
+
+    /**
+     * The presence bitmask of the corners of each face.
+     */
+    private static final byte[] CORNER_MASKS = new byte[2 * CARDS];
+
+    /**
+     * The codes of the corners of each face, four consecutive codes for each face.
+     */
+    private static final byte[] CORNER_CODES = new byte[2 * CARDS * CORNERS.length];
+
+    /**
+     * The kingdom code of each face, -1 for the starter cards.
+     */
+    private static final byte[] KINGDOM_CODES = new byte[2 * CARDS];
+
+    /**
+     * The packed required resources of each face.
+     */
+    private static final long[] REQUIRED_RESOURCES = new long[2 * CARDS];
+
+    /**
+     * The rule of the gained points of each face.
+     */
+    private static final byte[] POINTS_RULES = new byte[2 * CARDS];
+
+    /**
+     * The constant points, or the points for each corner or item, of each face.
+     */
+    private static final byte[] POINTS_VALUES = new byte[2 * CARDS];
+
+    /**
+     * The visible resources of each face, with the permanent ones.
+     */
+    private static final ResourcesCounter[] RESOURCES = new ResourcesCounter[2 * CARDS];
+
+    /**
+     * The permanent resources of each face.
+     */
+    private static final ResourcesCounter[] PERMANENT_RESOURCES = new ResourcesCounter[2 * CARDS];
+
+    /**
+     * The visible items of each face.
+     */
+    private static final ItemsCounter[] ITEMS = new ItemsCounter[2 * CARDS];
+
+    static {
+        CORNER_RESOURCES[CORNER_HIDDEN] = new ResourcesCounter();
+        CORNER_ITEMS[CORNER_HIDDEN] = new ItemsCounter();
+        for (int code = CORNER_BLANK; code <= CORNER_VELLUM; code++) {
+            CardCorner corner = cornerOf(code);
+            CORNER_RESOURCES[code] = corner.getResources();
+            CORNER_ITEMS[code] = corner.getItems();
+        }
+
+        List<Card> cards = new ArrayList<>(CARDS);
+        cards.addAll(ResourceCard.getCards().stream().toList());
+        cards.addAll(GoldCard.getCards().stream().toList());
+        cards.addAll(StarterCard.getCards().stream().toList());
+        for (Card card : cards) {
+            CARDS_BY_ID[card.getCardId()] = card;
+            addFace(card.getCardId(), CardSide.FRONT, card.getFrontFace());
+            addFace(card.getCardId(), CardSide.BACK, card.getBackFace());
+        }
+    }
+
+    //endregion
+
+    //region Constructor
+
+    private CardCatalog() {
+    }
+
+    //endregion
+
+    //region Public Static Methods
+
+    /**
+     * Build the catalog, with all the cards, if it is not built yet. The server calls this
+     * method at startup, so that no game pays for building the cards.
+     * @return The number of cards of the catalog.
+     */
+    public static int load() {
+        return CARDS_BY_ID.length;
+    }
+
+    /**
+     *
+     * @param cardId The card identifier.
+     * @return The card that has the specified identifier.
+     * @throws CardException If the card identifier is out of bounds.
+     */
+    public static Card getCard(int cardId) {
+        if (cardId < 0 || cardId >= CARDS) {
+            throw new CardException(String.format("Id of card out of bounds [%d,%d].", 0, CARDS - 1));
+        }
+        return CARDS_BY_ID[cardId];
+    }
+
+    /**
+     *
+     * @param cardId The card identifier.
+     * @param side The side of the face.
+     * @return The face of the card.
+     * @throws CardException If the card identifier is out of bounds.
+     */
+    public static CardFace getFace(int cardId, CardSide side) {
+        return FACES[row(cardId, side)];
+    }
+
+    /**
+     *
+     * @param cardId The card identifier.
+     * @param side The side of the face.
+     * @param corner The location of the corner.
+     * @return The code of the corner of the face.
+     * @throws CardException If the card identifier is out of bounds.
+     */
+    public static int getCornerCode(int cardId, CardSide side, CornerLocation corner) {
+        return CORNER_CODES[row(cardId, side) * CORNERS.length + corner.ordinal()];
+    }
+
+    /**
+     *
+     * @param code The code of a corner.
+     * @return The resources of the corner, zero for a hidden corner.
+     */
+    public static ResourcesCounter getCornerResources(int code) {
+        return CORNER_RESOURCES[code];
+    }
+
+    /**
+     *
+     * @param code The code of a corner.
+     * @return The items of the corner, zero for a hidden corner.
+     */
+    public static ItemsCounter getCornerItems(int code) {
+        return CORNER_ITEMS[code];
+    }
+
+    /**
+     *
+     * @param cardId The card identifier.
+     * @param side The side of the face.
+     * @return The resources required to place the face, zero if there are no requirements.
+     * @throws CardException If the card identifier is out of bounds.
+     */
+    public static ResourcesCounter getRequiredResources(int cardId, CardSide side) {
+        return new ResourcesCounter(REQUIRED_RESOURCES[row(cardId, side)]);
+    }
+
+    /**
+     *
+     * @param cardId The card identifier.
+     * @param side The side of the face.
+     * @return The permanent resources of the face.
+     * @throws CardException If the card identifier is out of bounds.
+     */
+    public static ResourcesCounter getPermanentResources(int cardId, CardSide side) {
+        return PERMANENT_RESOURCES[row(cardId, side)];
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @param corner The location of the corner.
+     * @return True if the corner of the face is visible.
+     * @throws CardException If the face does not belong to a card.
+     */
+    public static boolean hasCorner(CardFace face, CornerLocation corner) {
+        return (CORNER_MASKS[row(face)] & (1 << corner.ordinal())) != 0;
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @param corner The location of the corner.
+     * @return The resources of the corner of the face, zero if the corner is hidden.
+     * @throws CardException If the face does not belong to a card.
+     */
+    public static ResourcesCounter getCornerResources(CardFace face, CornerLocation corner) {
+        return CORNER_RESOURCES[CORNER_CODES[row(face) * CORNERS.length + corner.ordinal()]];
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @param corner The location of the corner.
+     * @return The items of the corner of the face, zero if the corner is hidden.
+     * @throws CardException If the face does not belong to a card.
+     */
+    public static ItemsCounter getCornerItems(CardFace face, CornerLocation corner) {
+        return CORNER_ITEMS[CORNER_CODES[row(face) * CORNERS.length + corner.ordinal()]];
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @return The visible resources of the face, with the permanent ones.
+     * @throws CardException If the face does not belong to a card.
+     */
+    public static ResourcesCounter getResources(CardFace face) {
+        return RESOURCES[row(face)];
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @return The visible items of the face.
+     * @throws CardException If the face does not belong to a card.
+     */
+    public static ItemsCounter getItems(CardFace face) {
+        return ITEMS[row(face)];
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @return The kingdom of the face, null for the faces of the starter cards.
+     * @throws CardException If the face does not belong to a card.
+     */
+    public static Kingdom getKingdom(CardFace face) {
+        int code = KINGDOM_CODES[row(face)];
+        return code < 0 ? null : KINGDOMS[code];
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @return The code of the kingdom of the face, -1 for the faces of the starter cards.
+     * @throws CardException If the face does not belong to a card.
+     */
+    public static int getKingdomCode(CardFace face) {
+        return KINGDOM_CODES[row(face)];
+    }
+
+    /**
+     *
+     * @param kingdom The kingdom.
+     * @return The code of the kingdom in the catalog.
+     * @throws CardException If the kingdom is not one of the four kingdoms of the game.
+     */
+    public static int getKingdomCode(Kingdom kingdom) {
+        for (int code = 0; code != KINGDOMS.length; code++) {
+            if (KINGDOMS[code].equals(kingdom)) {
+                return code;
+            }
+        }
+        throw new CardException(String.format("Unknown kingdom %s.", kingdom));
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @param availableResources The available resources (from the playing board).
+     * @return True if the available resources fulfill the resources required by the face.
+     * @throws CardException If the face does not belong to a card.
+     */
+    public static boolean canPlace(CardFace face, ResourcesCounter availableResources) {
+        return availableResources.covers(REQUIRED_RESOURCES[row(face)]);
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @param items The visible items on the playing board (after the card is placed).
+     * @param linkedCorners The corners linked to the placed card.
+     * @return The number of points gained by the player when the face is placed on the playing board.
+     * @throws CardException If the face does not belong to a card.
+     */
+    public static int gainedPoints(CardFace face, ItemsCounter items, int linkedCorners) {
+        int row = row(face);
+        int value = POINTS_VALUES[row];
+        return switch (POINTS_RULES[row]) {
+            case POINTS_CONSTANT -> value;
+            case POINTS_CORNERS -> value * linkedCorners;
+            case POINTS_FEATHERS -> value * items.getFeatherCount();
+            case POINTS_INKS -> value * items.getInkCount();
+            case POINTS_VELLUM -> value * items.getVellumCount();
+            default -> 0;
+        };
+    }
+
+    //endregion
+
+    //region Private Static Methods
+
+    /**
+     *
+     * @param cardId The card identifier.
+     * @param side The side of the face.
+     * @return The row of the face.
+     * @throws CardException If the card identifier is out of bounds.
+     */
+    private static int row(int cardId, CardSide side) {
+        if (cardId < 0 || cardId >= CARDS) {
+            throw new CardException(String.format("Id of card out of bounds [%d,%d].", 0, CARDS - 1));
+        }
+        return CardFace.catalogIndex(cardId, side);
+    }
+
+    /**
+     *
+     * @param face The card face.
+     * @return The row of the card that owns the face.
+     * @throws CardException If the face does not belong to a card.
+     */
+    private static int row(CardFace face) {
+        int row = face.getCatalogIndex();
+        if (row < 0) {
+            throw new CardException("The card face does not belong to a card of the catalog.");
+        }
+        return row;
+    }
+
+    /**
+     * Fill the row of a face.
+     * @param cardId The card identifier.
+     * @param side The side of the face.
+     * @param face The face.
+     */
+    private static void addFace(int cardId, CardSide side, CardFace face) {
+        int row = CardFace.catalogIndex(cardId, side);
+        FACES[row] = face;
+
+        for (CornerLocation location : CORNERS) {
+            Optional<CardCorner> corner = face.getCornerAt(location);
+            if (corner.isPresent()) {
+                CORNER_MASKS[row] |= (byte) (1 << location.ordinal());
+            }
+            CORNER_CODES[row * CORNERS.length + location.ordinal()] = (byte) codeOf(corner);
+        }
+
+        RESOURCES[row] = face.getResources();
+        PERMANENT_RESOURCES[row] = face.getPermanentResources();
+        KINGDOM_CODES[row] = -1;
+        REQUIRED_RESOURCES[row] = new ResourcesCounter().toPacked();
+        if (face instanceof KingdomCardFace kingdomFace) {
+            ITEMS[row] = kingdomFace.getItems();
+            KINGDOM_CODES[row] = (byte) getKingdomCode(kingdomFace.getKingdom());
+            if (kingdomFace instanceof GoldFrontFace goldFace) {
+                REQUIRED_RESOURCES[row] = goldFace.getRequiredResources().toPacked();
+            }
+            setPoints(row, kingdomFace.getCardPoints());
+        } else {
+            // The starter cards have only resources.
+            ITEMS[row] = new ItemsCounter();
+        }
+    }
+
+    /**
+     * Set the rule and the value of the points gained by a face.
+     * @param row The row of the face.
+     * @param points The (optional) points of the face.
+     */
+    private static void setPoints(int row, Optional<CardPoints> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        switch (points.get()) {
+            case ConstantPoints constant -> {
+                POINTS_RULES[row] = POINTS_CONSTANT;
+                POINTS_VALUES[row] = (byte) constant.getPoints();
+            }
+            case CornerPoints corner -> {
+                POINTS_RULES[row] = POINTS_CORNERS;
+                POINTS_VALUES[row] = (byte) corner.CORNER_BONUS;
+            }
+            case ItemPoints item -> {
+                POINTS_RULES[row] = switch (item.getItem()) {
+                    case FEATHER -> POINTS_FEATHERS;
+                    case INK -> POINTS_INKS;
+                    case VELLUM -> POINTS_VELLUM;
+                };
+                POINTS_VALUES[row] = ItemPoints.ITEM_BONUS;
+            }
+            default -> throw new CardException("Unknown points of a card face.");
+        }
+    }
+
+    /**
+     *
+     * @param corner The (optional) corner.
+     * @return The code of the corner.
+     */
+    private static int codeOf(Optional<CardCorner> corner) {
+        if (corner.isEmpty()) {
+            return CORNER_HIDDEN;
+        }
+        for (int code = CORNER_BLANK; code <= CORNER_VELLUM; code++) {
+            if (cornerOf(code) == corner.get()) {
+                return code;
+            }
+        }
+        throw new CardException("Unknown corner of a card face.");
+    }
+
+    /**
+     *
+     * @param code The code of a visible corner.
+     * @return The corner with the code.
+     */
+    private static CardCorner cornerOf(int code) {
+        return switch (code) {
+            case CORNER_BLANK -> BlankCorner.BLANK_CORNER;
+            case CORNER_FUNGI -> ResourceCorner.FUNGI_CORNER;
+            case CORNER_PLANT -> ResourceCorner.PLANT_CORNER;
+            case CORNER_ANIMAL -> ResourceCorner.ANIMAL_CORNER;
+            case CORNER_INSECT -> ResourceCorner.INSECT_CORNER;
+            case CORNER_FEATHER -> ItemCorner.FEATHER_CORNER;
+            case CORNER_INK -> ItemCorner.INK_CORNER;
+            case CORNER_VELLUM -> ItemCorner.VELLUM_CORNER;
+            default -> throw new IllegalArgumentException("Unknown corner code: " + code);
+        };
+    }
+
+    //endregion
+}
@@ -36,6 +36,26 @@ public abstract class CardFace implements Pluggable, ResourcesProvider {
      */
     private final Optional<CardCorner> topLeftCorner;
 
+    /**
+     * The index of this face in the {@link CardCatalog}, -1 until the face is
+     * assigned to a card. A face shared by many cards keeps the index of the first one.
+     */
+    private int catalogIndex = -1;
+
+    //endregion
+
+    //region Package-Private Static Methods
+
+    /**
+     *
+     * @param cardId The card identifier.
+     * @param side The side of the face.
+     * @return The index of the face in the catalog.
+     */
+    static int catalogIndex(int cardId, CardSide side) {
+        return 2 * cardId + side.toInteger();
+    }
+
     //endregion
 
     //region Constructor
@@ -86,6 +106,29 @@ public abstract class CardFace implements Pluggable, ResourcesProvider {
 
     //endregion
 
+    //region Package-Private Methods
+
+    /**
+     *
+     * @return The index of this face in the {@link CardCatalog}, -1 if the face does not
+     * belong to a card.
+     */
+    int getCatalogIndex() {
+        return this.catalogIndex;
+    }
+
+    /**
+     * Assign this face to a card, if it is not assigned yet.
+     * @param cardId The card identifier.
+     */
+    void assignTo(int cardId) {
+        if (this.catalogIndex < 0 && cardId >= 0 && cardId < CardCatalog.CARDS) {
+            this.catalogIndex = catalogIndex(cardId, this.getCardSide());
+        }
+    }
+
+    //endregion
+
     //region Pluggable Interface
 
     public Optional<CardCorner> getTopRightCorner() {
@@ -25,6 +25,14 @@ public class ConstantPoints extends CardPoints {
         this.points = points;
     }
 
+    /**
+     *
+     * @return The number of (constant) points.
+     */
+    int getPoints() {
+        return this.points;
+    }
+
     /**
      * The gained points are a fixed number for this card.
      */
@@ -27,7 +27,7 @@ public abstract class GoldCard extends KingdomCard {
     /**
      * The (single instance) collection with all 40 Gold cards.
      */
-    private static ImmutableList<GoldCard> cards;
+    private static final ImmutableList<GoldCard> cards = createCards();
 
     //endregion
 
@@ -40,13 +40,14 @@ public abstract class GoldCard extends KingdomCard {
      * @return The list of all 40 Gold cards.
      */
     public static ImmutableList<GoldCard> getCards() {
+        return GoldCard.cards;
+    }
 
-        // If the static field already exists, then return it.
-        if (GoldCard.cards != null) {
-            return GoldCard.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    /**
+     * Create the list of all the 40 Gold cards, when the class is initialized.
+     * @return The list of all the 40 Gold cards.
+     */
+    private static ImmutableList<GoldCard> createCards() {
 
         // Create a new empty List of card faces.
         List<GoldCard> cards = new ArrayList<>();
@@ -109,11 +110,8 @@ public abstract class GoldCard extends KingdomCard {
             );
         }
 
-        // Save the List in the static field, as an immutable List of cards.
-        GoldCard.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return GoldCard.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     /**
@@ -130,8 +128,8 @@ public abstract class GoldCard extends KingdomCard {
             );
         }
 
-        // Return the card with the specified identifier.
-        return GoldCard.getCards().get(cardId - START_INDEX);
+        // Return the card with the specified identifier, from the catalog.
+        return (GoldCard) CardCatalog.getCard(cardId);
     }
 
     //endregion
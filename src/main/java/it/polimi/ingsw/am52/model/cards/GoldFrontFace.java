@@ -33,7 +33,7 @@ public abstract class GoldFrontFace extends KingdomCardFace {
     /**
      * The (single instance) list of all cards.
      */
-    private static ImmutableList<GoldFrontFace> cards = null;
+    private static final ImmutableList<GoldFrontFace> cards = createCards();
 
     //endregion
 
@@ -45,32 +45,30 @@ public abstract class GoldFrontFace extends KingdomCardFace {
      * @return A list with all front faces of the Gold cards.
      */
     public static ImmutableList<GoldFrontFace> getCards() {
+        return GoldFrontFace.cards;
+    }
 
-        // If the static field already exists, then return it.
-        if (GoldFrontFace.cards != null) {
-            return GoldFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    /**
+     * Create the list of all the front faces of the Gold cards, when the class is initialized.
+     * @return The list of all the front faces of the Gold cards.
+     */
+    private static ImmutableList<GoldFrontFace> createCards() {
 
         // Create a new empty List of card faces.
         List<GoldFrontFace> cards = new ArrayList<>();
 
         // Populate the list with all card faces of all Kingdom.
         // 1) Fungi
-        FungiGoldFrontFace.getFungiCards().addTo(cards);
+        FungiGoldFrontFace.createFungiCards().addTo(cards);
         // 2) Plant
-        PlantGoldFrontFace.getPlantCards().addTo(cards);
+        PlantGoldFrontFace.createPlantCards().addTo(cards);
         // 3) Animal
-        AnimalGoldFrontFace.getAnimalCards().addTo(cards);
+        AnimalGoldFrontFace.createAnimalCards().addTo(cards);
         // 4) Insect
-        InsectGoldFrontFace.getInsectCards().addTo(cards);
-
-        // Save the reference into the static field, as an immutable list.
-        GoldFrontFace.cards = new ImmutableList<>(cards);
+        InsectGoldFrontFace.createInsectCards().addTo(cards);
 
-        // Return the static field.
-        return GoldFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
@@ -116,12 +114,8 @@ public abstract class GoldFrontFace extends KingdomCardFace {
 
     @Override
     public boolean canPlace(ResourcesProvider availableResources) {
-        ResourcesCounter available = availableResources.getResources();
-        ResourcesCounter required = getRequiredResources();
-        return (available.getPlantCount() >= required.getPlantCount() &&
-                available.getAnimalCount() >= required.getAnimalCount() &&
-                available.getFungiCount() >= required.getFungiCount() &&
-                available.getInsectCount() >= required.getInsectCount());
+        // Compare all the resources at once.
+        return availableResources.getResources().covers(getRequiredResources());
     }
 
     @Override
@@ -137,30 +131,14 @@ public abstract class GoldFrontFace extends KingdomCardFace {
  */
 class FungiGoldFrontFace extends GoldFrontFace {
 
-    //region Private Static Fields
-
-    /**
-     * The (single instance) collection of all card faces.
-     */
-    private static ImmutableList<GoldFrontFace> cards = null;
-
-    //endregion
-
     //region Public Static Methods
 
     /**
-     * Get the list of all front faces for the Gold cards of the
+     * Create the list of all front faces for the Gold cards of the
      * Insect Kingdom.
      * @return The card list.
      */
-    public static ImmutableList<GoldFrontFace> getFungiCards() {
-
-        // If the static field already exists, then return it.
-        if (FungiGoldFrontFace.cards != null) {
-            return FungiGoldFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    static ImmutableList<GoldFrontFace> createFungiCards() {
 
         // Create a new empty List of card faces.
         List<GoldFrontFace> cards = new ArrayList<>();
@@ -183,9 +161,8 @@ class FungiGoldFrontFace extends GoldFrontFace {
         /* 49 */cards.add(new FungiGoldFrontFace(VELLUM_CORNER, BLANK_CORNER, null, null, THREE_POINTS, 0, 0, 3, 0));
         /* 50 */cards.add(new FungiGoldFrontFace(null, null, BLANK_CORNER, BLANK_CORNER, FIVE_POINTS, 0, 0, 5, 0));
 
-        FungiGoldFrontFace.cards = new ImmutableList<>(cards);
-
-        return FungiGoldFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
@@ -228,30 +205,14 @@ class FungiGoldFrontFace extends GoldFrontFace {
  */
 class PlantGoldFrontFace extends GoldFrontFace {
 
-    //region Private Static Fields
-
-    /**
-     * The (single instance) collection of all card faces.
-     */
-    private static ImmutableList<GoldFrontFace> cards = null;
-
-    //endregion
-
     //region Public Static Methods
 
     /**
-     * Get the list of all front faces for the Gold cards of the
+     * Create the list of all front faces for the Gold cards of the
      * Insect Kingdom.
      * @return The card list.
      */
-    public static ImmutableList<GoldFrontFace> getPlantCards() {
-
-        // If the static field already exists, then return it.
-        if (PlantGoldFrontFace.cards != null) {
-            return PlantGoldFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    static ImmutableList<GoldFrontFace> createPlantCards() {
 
         // Create a new empty List of card faces.
         List<GoldFrontFace> cards = new ArrayList<>();
@@ -274,11 +235,8 @@ class PlantGoldFrontFace extends GoldFrontFace {
         /* 59 */cards.add(new PlantGoldFrontFace(INK_CORNER, BLANK_CORNER, null, null, THREE_POINTS, 3, 0, 0, 0));
         /* 60 */cards.add(new PlantGoldFrontFace(BLANK_CORNER, null, null, BLANK_CORNER, FIVE_POINTS, 5, 0, 0, 0));
 
-        // Save the List in the static field, as an immutable List of cards.
-        PlantGoldFrontFace.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return PlantGoldFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
@@ -321,30 +279,14 @@ class PlantGoldFrontFace extends GoldFrontFace {
  */
 class AnimalGoldFrontFace extends GoldFrontFace {
 
-    //region Private Static Fields
-
-    /**
-     * The (single instance) collection of all card faces.
-     */
-    private static ImmutableList<GoldFrontFace> cards = null;
-
-    //endregion
-
     //region Public Static Methods
 
     /**
-     * Get the list of all front faces for the Gold cards of the
+     * Create the list of all front faces for the Gold cards of the
      * Animal Kingdom.
      * @return The card list.
      */
-    public static ImmutableList<GoldFrontFace> getAnimalCards() {
-
-        // If the static field already exists, then return it.
-        if (AnimalGoldFrontFace.cards != null) {
-            return AnimalGoldFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    static ImmutableList<GoldFrontFace> createAnimalCards() {
 
         // Create a new empty List of card faces.
         List<GoldFrontFace> cards = new ArrayList<>();
@@ -367,11 +309,8 @@ class AnimalGoldFrontFace extends GoldFrontFace {
         /* 69 */cards.add(new AnimalGoldFrontFace(BLANK_CORNER, FEATHER_CORNER, null, null, THREE_POINTS, 0, 3, 0, 0));
         /* 70 */cards.add(new AnimalGoldFrontFace(BLANK_CORNER, BLANK_CORNER, null, null, FIVE_POINTS, 0, 5, 0, 0));
 
-        // Save the List in the static field, as an immutable List of cards.
-        AnimalGoldFrontFace.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return AnimalGoldFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
@@ -414,30 +353,14 @@ class AnimalGoldFrontFace extends GoldFrontFace {
  */
 class InsectGoldFrontFace extends GoldFrontFace {
 
-    //region Private Static Fields
-
-    /**
-     * The (single instance) collection of all card faces.
-     */
-    private static ImmutableList<GoldFrontFace> cards = null;
-
-    //endregion
-
     //region Public Static Methods
 
     /**
-     * Get the list of all front faces for the Gold cards of the
+     * Create the list of all front faces for the Gold cards of the
      * Insect Kingdom.
      * @return The card list.
      */
-    public static ImmutableList<GoldFrontFace> getInsectCards() {
-
-        // If the static field already exists, then return it.
-        if (InsectGoldFrontFace.cards != null) {
-            return InsectGoldFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    static ImmutableList<GoldFrontFace> createInsectCards() {
 
         // Create a new empty List of card faces.
         List<GoldFrontFace> cards = new ArrayList<>();
@@ -460,11 +383,8 @@ class InsectGoldFrontFace extends GoldFrontFace {
         /* 79 */cards.add(new InsectGoldFrontFace(null, BLANK_CORNER, FEATHER_CORNER, null, THREE_POINTS, 0, 0, 0, 3));
         /* 80 */cards.add(new InsectGoldFrontFace(BLANK_CORNER, null, null, BLANK_CORNER, FIVE_POINTS, 0, 0, 0, 5));
 
-        // Save the List in the static field, as an immutable List of cards.
-        InsectGoldFrontFace.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return InsectGoldFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
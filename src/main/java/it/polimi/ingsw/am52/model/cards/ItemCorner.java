@@ -14,6 +14,16 @@ public class ItemCorner extends CardCorner {
      */
     private final Item item;
 
+    /**
+     * The resources of this card corner (none), created once.
+     */
+    private final ResourcesCounter resources = new ResourcesCounter();
+
+    /**
+     * The items of this card corner, created once.
+     */
+    private final ItemsCounter items;
+
     //endregion
 
     //region Static final Fields
@@ -43,6 +53,7 @@ public class ItemCorner extends CardCorner {
      */
     private ItemCorner(Item item) {
         this.item = item;
+        this.items = new ItemsCounter(item);
     }
 
     //endregion
@@ -63,7 +74,7 @@ public class ItemCorner extends CardCorner {
 
     @Override
     public ResourcesCounter getResources() {
-        return new ResourcesCounter();
+        return this.resources;
     }
 
     //endregion
@@ -72,7 +83,7 @@ public class ItemCorner extends CardCorner {
 
     @Override
     public ItemsCounter getItems() {
-        return new ItemsCounter(getItem());
+        return this.items;
     }
 
     //endregion
@@ -44,6 +44,14 @@ public class ItemPoints extends CardPoints {
         this.item = item;
     }
 
+    /**
+     *
+     * @return The specific item for the point calculation.
+     */
+    Item getItem() {
+        return this.item;
+    }
+
     /**
      * The gained points depend on the number of visible items (associated to this card)
      * on the playing board.
@@ -2,23 +2,97 @@ package it.polimi.ingsw.am52.model.cards;
 
 /**
  * Immutable class that maintains the count of all available items.
+ * The three counts are packed in a single long, with 16 bits for each item
+ * (see {@link PackedLanes}): each count must be between -32768 and 32767.
  */
 public class ItemsCounter {
 
-    //region Private Fields
+    //region Accumulator
+
+    /**
+     * A mutable counter of items, that adds and subtracts the items in place.
+     * The immutable counter of its items is created only when it is requested.
+     */
+    public static final class Accumulator {
+
+        /**
+         * The packed counts of the items.
+         */
+        private long packed;
+
+        /**
+         * The immutable counter of the current items, null if not created yet.
+         */
+        private ItemsCounter counter;
+
+        /**
+         * Creates an accumulator with the specified initial items.
+         * @param initial The initial items.
+         */
+        public Accumulator(ItemsCounter initial) {
+            this.packed = initial.packed;
+            this.counter = initial;
+        }
+
+        /**
+         * Add the specified items.
+         * @param items The items to add.
+         */
+        public void add(ItemsCounter items) {
+            this.packed = PackedLanes.add(this.packed, items.packed, BIAS);
+            this.counter = null;
+        }
+
+        /**
+         * Subtract the specified items.
+         * @param items The items to subtract.
+         */
+        public void subtract(ItemsCounter items) {
+            this.packed = PackedLanes.subtract(this.packed, items.packed, BIAS);
+            this.counter = null;
+        }
+
+        /**
+         *
+         * @return The immutable counter of the current items.
+         */
+        public ItemsCounter toCounter() {
+            if (this.counter == null) {
+                this.counter = new ItemsCounter(this.packed);
+            }
+            return this.counter;
+        }
+    }
+
+    //endregion
+
+    //region Private Static Fields
+
+    /**
+     * The number of counted items.
+     */
+    private static final int LANES = 3;
 
     /**
-     * The count of feather items.
+     * The bias of the packed counts, i.e. the packed counts of no items.
      */
-    private final int featherCount;
+    private static final long BIAS = PackedLanes.bias(LANES);
+
     /**
-     * The count of ink items.
+     * The lanes of the items in the packed counts.
      */
-    private final int inkCount;
+    private static final int FEATHER = 0;
+    private static final int INK = 1;
+    private static final int VELLUM = 2;
+
+    //endregion
+
+    //region Private Fields
+
     /**
-     * The count of vellum items.
+     * The packed counts of the items.
      */
-    private final int vellumCount;
+    private final long packed;
 
     //endregion
 
@@ -32,11 +106,7 @@ public class ItemsCounter {
      * @return A new item counter with the sum of each item.
      */
     public static ItemsCounter add(ItemsCounter i1, ItemsCounter i2) {
-        return new ItemsCounter(
-                i1.getFeatherCount() + i2.getFeatherCount(),
-                i1.getInkCount() + i2.getInkCount(),
-                i1.getVellumCount() + i2.getVellumCount()
-        );
+        return new ItemsCounter(PackedLanes.add(i1.packed, i2.packed, BIAS));
     }
 
     /**
@@ -48,11 +118,7 @@ public class ItemsCounter {
      * counter from the first counter.
      */
     public static ItemsCounter subtract(ItemsCounter i1, ItemsCounter i2) {
-        return new ItemsCounter(
-                i1.getFeatherCount() - i2.getFeatherCount(),
-                i1.getInkCount() - i2.getInkCount(),
-                i1.getVellumCount() - i2.getVellumCount()
-        );
+        return new ItemsCounter(PackedLanes.subtract(i1.packed, i2.packed, BIAS));
     }
 
     //endregion
@@ -72,9 +138,11 @@ public class ItemsCounter {
      * @param item The item with its counter set to one (1).
      */
     public ItemsCounter(Item item) {
-        this.featherCount = item == Item.FEATHER ? 1 : 0;
-        this.inkCount = item == Item.INK ? 1 : 0;
-        this.vellumCount = item == Item.VELLUM ? 1 : 0;
+        this(PackedLanes.with(BIAS, switch (item) {
+            case FEATHER -> FEATHER;
+            case INK -> INK;
+            case VELLUM -> VELLUM;
+        }, 1));
     }
 
     /**
@@ -84,9 +152,19 @@ public class ItemsCounter {
      * @param vellum The count of vellum items.
      */
     public ItemsCounter(int feathers, int inks, int vellum) {
-        this.featherCount = feathers;
-        this.inkCount = inks;
-        this.vellumCount = vellum;
+        long packed = BIAS;
+        packed = PackedLanes.with(packed, FEATHER, feathers);
+        packed = PackedLanes.with(packed, INK, inks);
+        packed = PackedLanes.with(packed, VELLUM, vellum);
+        this.packed = packed;
+    }
+
+    /**
+     * Creates an item counter with the specified packed counts.
+     * @param packed The packed counts of the items.
+     */
+    private ItemsCounter(long packed) {
+        this.packed = packed;
     }
 
     //endregion
@@ -98,7 +176,7 @@ public class ItemsCounter {
      * @return The count of feather items.
      */
     public int getFeatherCount() {
-        return this.featherCount;
+        return PackedLanes.get(this.packed, FEATHER);
     }
 
     /**
@@ -106,7 +184,7 @@ public class ItemsCounter {
      * @return The count of ink items.
      */
     public int getInkCount() {
-        return this.inkCount;
+        return PackedLanes.get(this.packed, INK);
     }
 
     /**
@@ -114,13 +192,57 @@ public class ItemsCounter {
      * @return The count of vellum items.
      */
     public int getVellumCount() {
-        return this.vellumCount;
+        return PackedLanes.get(this.packed, VELLUM);
+    }
+
+    //endregion
+
+    //region Public Methods
+
+    /**
+     *
+     * @return True if the count of any item is negative.
+     */
+    public boolean hasNegative() {
+        return PackedLanes.hasNegative(this.packed, BIAS);
+    }
+
+    /**
+     * Compare all the items at once.
+     * @param required The required items.
+     * @return True if this counter has at least the required count of each item.
+     */
+    public boolean covers(ItemsCounter required) {
+        return PackedLanes.covers(this.packed, required.packed, BIAS);
+    }
+
+    /**
+     *
+     * @param required The items of a pattern, not negative.
+     * @return How many times the pattern can be taken from the items of this counter,
+     * that must not be negative. Zero if the pattern requires no items.
+     */
+    public int countMultiples(ItemsCounter required) {
+        return PackedLanes.countMultiples(this.packed, required.packed, LANES);
     }
 
     //endregion
 
     //region ToString
 
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof ItemsCounter i)) {
+            return false;
+        }
+        return i.packed == this.packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.packed);
+    }
+
     @Override
     public String toString() {
         return String.format("[Feathers: %d; Inks: %d; Vellum: %d]", 
@@ -27,10 +27,8 @@ public abstract class KingdomCard extends Card {
             );
         }
 
-        // Return Resource or Gold card, depending on the card identifier value.
-        return cardId <= ResourceCard.LAST_INDEX ?
-                ResourceCard.getCards().get(cardId - ResourceCard.START_INDEX) :
-                GoldCard.getCards().get(cardId - GoldCard.START_INDEX);
+        // Return Resource or Gold card, from the catalog.
+        return (KingdomCard) CardCatalog.getCard(cardId);
     }
 
     //endregion
@@ -65,6 +65,14 @@ public abstract class KingdomCardFace extends CardFace implements ItemsProvider
      */
     public abstract Kingdom getKingdom();
 
+    /**
+     *
+     * @return The (optional) instance used to calculate the points gained by the player.
+     */
+    Optional<CardPoints> getCardPoints() {
+        return this.points;
+    }
+
     //endregion
 
     //region Public Methods
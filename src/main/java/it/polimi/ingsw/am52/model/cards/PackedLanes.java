@@ -0,0 +1,133 @@
+package it.polimi.ingsw.am52.model.cards;
+
+/**
+ * The arithmetic of the counters packed in a long, with 16 bits for each counted
+ * resource or item (a lane). Each lane stores its count plus a bias of 2^15, so the
+ * counts between -32768 and 32767 are stored as numbers between 0 and 65535: when the
+ * results stay in that range the lanes never carry into each other, and adding or
+ * subtracting two packed counters is a single operation on longs, plus the bias.
+ * <P>
+ * The bias of a lane is also its highest bit, that is set only if the count is not
+ * negative: all the lanes are compared with one mask.
+ */
+final class PackedLanes {
+
+    //region Static Fields
+
+    /**
+     * The bits of each lane.
+     */
+    static final int LANE_BITS = 16;
+
+    /**
+     * The bias of each lane.
+     */
+    static final int LANE_BIAS = 1 << (LANE_BITS - 1);
+
+    /**
+     * The mask of the bits of a lane.
+     */
+    private static final long LANE_MASK = (1L << LANE_BITS) - 1;
+
+    //endregion
+
+    //region Constructor
+
+    private PackedLanes() {
+    }
+
+    //endregion
+
+    //region Static Methods
+
+    /**
+     * @param lanes The number of lanes.
+     * @return The bias of all the lanes, that is also the packed counter with all counts at zero.
+     */
+    static long bias(int lanes) {
+        long bias = 0;
+        for (int lane = 0; lane != lanes; lane++) {
+            bias |= (long) LANE_BIAS << (lane * LANE_BITS);
+        }
+        return bias;
+    }
+
+    /**
+     * @param packed The packed counter.
+     * @param lane The lane.
+     * @param count The count of the lane, between -32768 and 32767.
+     * @return The packed counter with the count stored in the lane, that must be zero.
+     */
+    static long with(long packed, int lane, int count) {
+        return packed + ((long) count << (lane * LANE_BITS));
+    }
+
+    /**
+     * @param packed The packed counter.
+     * @param lane The lane.
+     * @return The count of the lane.
+     */
+    static int get(long packed, int lane) {
+        return (int) ((packed >>> (lane * LANE_BITS)) & LANE_MASK) - LANE_BIAS;
+    }
+
+    /**
+     * @param first The first packed counter.
+     * @param second The second packed counter.
+     * @param bias The bias of the lanes.
+     * @return The packed sum of the counters.
+     */
+    static long add(long first, long second, long bias) {
+        return first + second - bias;
+    }
+
+    /**
+     * @param first The first packed counter.
+     * @param second The second packed counter.
+     * @param bias The bias of the lanes.
+     * @return The packed difference of the counters.
+     */
+    static long subtract(long first, long second, long bias) {
+        return first - second + bias;
+    }
+
+    /**
+     * @param packed The packed counter.
+     * @param bias The bias of the lanes.
+     * @return True if the count of any lane is negative.
+     */
+    static boolean hasNegative(long packed, long bias) {
+        return (packed & bias) != bias;
+    }
+
+    /**
+     * @param available The packed available counts.
+     * @param required The packed required counts.
+     * @param bias The bias of the lanes.
+     * @return True if every available count is greater than or equal to the required one.
+     */
+    static boolean covers(long available, long required, long bias) {
+        return !hasNegative(subtract(available, required, bias), bias);
+    }
+
+    /**
+     * @param available The packed available counts, not negative.
+     * @param required The packed required counts, not negative.
+     * @param lanes The number of lanes.
+     * @return How many times the required counts can be taken from the available ones: the
+     * minimum, among the required lanes, of the available count divided by the required one.
+     * Zero if nothing is required.
+     */
+    static int countMultiples(long available, long required, int lanes) {
+        int multiples = Integer.MAX_VALUE;
+        for (int lane = 0; lane != lanes; lane++) {
+            int requiredCount = get(required, lane);
+            if (requiredCount > 0) {
+                multiples = Math.min(multiples, get(available, lane) / requiredCount);
+            }
+        }
+        return multiples == Integer.MAX_VALUE ? 0 : multiples;
+    }
+
+    //endregion
+}
@@ -27,7 +27,7 @@ public abstract class ResourceCard extends KingdomCard {
     /**
      * The (single instance) collection with all 40 Resource cards.
      */
-    private static ImmutableList<ResourceCard> cards;
+    private static final ImmutableList<ResourceCard> cards = createCards();
 
     //endregion
 
@@ -40,13 +40,14 @@ public abstract class ResourceCard extends KingdomCard {
      * @return The list of all 40 Resource cards.
      */
     public static ImmutableList<ResourceCard> getCards() {
+        return ResourceCard.cards;
+    }
 
-        // If the static field already exists, then return it.
-        if (ResourceCard.cards != null) {
-            return ResourceCard.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    /**
+     * Create the list of all the 40 Resource cards, when the class is initialized.
+     * @return The list of all the 40 Resource cards.
+     */
+    private static ImmutableList<ResourceCard> createCards() {
 
         // Create a new empty List of card faces.
         List<ResourceCard> cards = new ArrayList<>();
@@ -109,11 +110,8 @@ public abstract class ResourceCard extends KingdomCard {
             );
         }
 
-        // Save the List in the static field, as an immutable List of cards.
-        ResourceCard.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return ResourceCard.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     /**
@@ -130,8 +128,8 @@ public abstract class ResourceCard extends KingdomCard {
             );
         }
 
-        // Return the card with the specified identifier.
-        return ResourceCard.getCards().get(cardId - START_INDEX);
+        // Return the card with the specified identifier, from the catalog.
+        return (ResourceCard) CardCatalog.getCard(cardId);
     }
 
     //endregion
@@ -14,6 +14,16 @@ public class ResourceCorner extends CardCorner {
      */
     private final Resource resource;
 
+    /**
+     * The resources of this card corner, created once.
+     */
+    private final ResourcesCounter resources;
+
+    /**
+     * The items of this card corner (none), created once.
+     */
+    private final ItemsCounter items = new ItemsCounter();
+
     //endregion
 
     //region Static final Fields
@@ -48,6 +58,7 @@ public class ResourceCorner extends CardCorner {
      */
     private ResourceCorner(Resource resource) {
         this.resource = resource;
+        this.resources = new ResourcesCounter(resource);
     }
 
     //endregion
@@ -68,7 +79,7 @@ public class ResourceCorner extends CardCorner {
 
     @Override
     public ResourcesCounter getResources() {
-        return new ResourcesCounter(getResource());
+        return this.resources;
     }
 
     //endregion
@@ -77,7 +88,7 @@ public class ResourceCorner extends CardCorner {
 
     @Override
     public ItemsCounter getItems() {
-        return new ItemsCounter();
+        return this.items;
     }
 
     //endregion
@@ -26,7 +26,7 @@ public abstract class ResourceFrontFace extends KingdomCardFace {
     /**
      * The (single instance) list of all cards.
      */
-    private static ImmutableList<ResourceFrontFace> cards = null;
+    private static final ImmutableList<ResourceFrontFace> cards = createCards();
 
     //endregion
 
@@ -38,32 +38,30 @@ public abstract class ResourceFrontFace extends KingdomCardFace {
      * @return A list with all front faces of the Resource cards.
      */
     public static ImmutableList<ResourceFrontFace> getCards() {
+        return ResourceFrontFace.cards;
+    }
 
-        // If the static field already exists, then return it.
-        if (ResourceFrontFace.cards != null) {
-            return ResourceFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    /**
+     * Create the list of all the front faces of the Resource cards, when the class is initialized.
+     * @return The list of all the front faces of the Resource cards.
+     */
+    private static ImmutableList<ResourceFrontFace> createCards() {
 
         // Create a new empty List of card faces.
         List<ResourceFrontFace> cards = new ArrayList<>();
 
         // Populate the list with all card faces of all Kingdom.
         // 1) Fungi
-        FungiResourceFrontFace.getFungiCards().addTo(cards);
+        FungiResourceFrontFace.createFungiCards().addTo(cards);
         // 2) Plant
-        PlantResourceFrontFace.getPlantCards().addTo(cards);
+        PlantResourceFrontFace.createPlantCards().addTo(cards);
         // 3) Animal
-        AnimalResourceFrontFace.getAnimalCards().addTo(cards);
+        AnimalResourceFrontFace.createAnimalCards().addTo(cards);
         // 4) Insect
-        InsectResourceFrontFace.getInsectCards().addTo(cards);
-
-        // Save the reference into the static field, as an immutable list.
-        ResourceFrontFace.cards = new ImmutableList<>(cards);
+        InsectResourceFrontFace.createInsectCards().addTo(cards);
 
-        // Return the static field.
-        return ResourceFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
@@ -115,30 +113,14 @@ public abstract class ResourceFrontFace extends KingdomCardFace {
  */
 class FungiResourceFrontFace extends ResourceFrontFace {
 
-    //region Privete Static Fields
-
-    /**
-     * The (single instance) collection of all card faces.
-     */
-    private static ImmutableList<ResourceFrontFace> cards = null;
-
-    //endregion
-
     //region Public Static Methods
 
     /**
-     * Get the list of all front faces for the Resource cards of the
+     * Create the list of all front faces for the Resource cards of the
      * Fungi Kingdom.
      * @return The card list.
      */
-    public static ImmutableList<ResourceFrontFace> getFungiCards() {
-
-        // If the static field already exists, then return it.
-        if (FungiResourceFrontFace.cards != null) {
-            return FungiResourceFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    static ImmutableList<ResourceFrontFace> createFungiCards() {
 
         // Create a new empty List of card faces.
         List<ResourceFrontFace> cards = new ArrayList<>();
@@ -161,11 +143,8 @@ class FungiResourceFrontFace extends ResourceFrontFace {
         /* 09 */cards.add(new FungiResourceFrontFace(null, BLANK_CORNER, BLANK_CORNER, FUNGI_CORNER, ONE_POINTS));
         /* 10 */cards.add(new FungiResourceFrontFace(BLANK_CORNER, BLANK_CORNER, FUNGI_CORNER, null, ONE_POINTS));
 
-        // Save the List in the static field, as an immutable List of cards.
-        FungiResourceFrontFace.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return FungiResourceFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
@@ -216,30 +195,14 @@ class FungiResourceFrontFace extends ResourceFrontFace {
  */
 class PlantResourceFrontFace extends ResourceFrontFace {
 
-    //region Private Static Fields
-
-    /**
-     * The (single instance) collection of all card faces.
-     */
-    private static ImmutableList<ResourceFrontFace> cards = null;
-
-    //endregion
-
     //region Public Static Methods
 
     /**
-     * Get the list of all front faces for the Resource cards of the
+     * Create the list of all front faces for the Resource cards of the
      * Plant Kingdom.
      * @return The card list.
      */
-    public static ImmutableList<ResourceFrontFace> getPlantCards() {
-
-        // If the static field already exists, then return it.
-        if (PlantResourceFrontFace.cards != null) {
-            return PlantResourceFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    static ImmutableList<ResourceFrontFace> createPlantCards() {
 
         // Create a new empty List of card faces.
         List<ResourceFrontFace> cards = new ArrayList<>();
@@ -262,11 +225,8 @@ class PlantResourceFrontFace extends ResourceFrontFace {
         /* 19 */cards.add(new PlantResourceFrontFace(BLANK_CORNER, PLANT_CORNER, null, BLANK_CORNER, ONE_POINTS));
         /* 20 */cards.add(new PlantResourceFrontFace(PLANT_CORNER, BLANK_CORNER, BLANK_CORNER, null, ONE_POINTS));
 
-        // Save the List in the static field, as an immutable List of cards.
-        PlantResourceFrontFace.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return PlantResourceFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
@@ -317,30 +277,14 @@ class PlantResourceFrontFace extends ResourceFrontFace {
  */
 class AnimalResourceFrontFace extends ResourceFrontFace {
 
-    //region Private Static Fields
-
-    /**
-     * The (single instance) collection of all card faces.
-     */
-    private static ImmutableList<ResourceFrontFace> cards = null;
-
-    //endregion
-
     //region Public Static Methods
 
     /**
-     * Get the list of all front faces for the Resource cards of the
+     * Create the list of all front faces for the Resource cards of the
      * Animal Kingdom.
      * @return The card list.
      */
-    public static ImmutableList<ResourceFrontFace> getAnimalCards() {
-
-        // If the static field already exists, then return it.
-        if (AnimalResourceFrontFace.cards != null) {
-            return AnimalResourceFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    static ImmutableList<ResourceFrontFace> createAnimalCards() {
 
         // Create a new empty List of card faces.
         List<ResourceFrontFace> cards = new ArrayList<>();
@@ -363,11 +307,8 @@ class AnimalResourceFrontFace extends ResourceFrontFace {
         /* 29 */cards.add(new AnimalResourceFrontFace(null, ANIMAL_CORNER, BLANK_CORNER, BLANK_CORNER, ONE_POINTS));
         /* 30 */cards.add(new AnimalResourceFrontFace(ANIMAL_CORNER, null, BLANK_CORNER, BLANK_CORNER, ONE_POINTS));
 
-        // Save the List in the static field, as an immutable List of cards.
-        AnimalResourceFrontFace.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return AnimalResourceFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
@@ -418,30 +359,14 @@ class AnimalResourceFrontFace extends ResourceFrontFace {
  */
 class InsectResourceFrontFace extends ResourceFrontFace {
 
-    //region Private Static Fields
-
-    /**
-     * The (single instance) collection of all card faces.
-     */
-    private static ImmutableList<ResourceFrontFace> cards = null;
-
-    //endregion
-
     //region Public Static Methods
 
     /**
-     * Get the list of all front faces for the Resource cards of the
+     * Create the list of all front faces for the Resource cards of the
      * Insect Kingdom.
      * @return The card list.
      */
-    public static ImmutableList<ResourceFrontFace> getInsectCards() {
-
-        // If the static field already exists, then return it.
-        if (InsectResourceFrontFace.cards != null) {
-            return InsectResourceFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    static ImmutableList<ResourceFrontFace> createInsectCards() {
 
         // Create a new empty List of card faces.
         List<ResourceFrontFace> cards = new ArrayList<>();
@@ -464,11 +389,8 @@ class InsectResourceFrontFace extends ResourceFrontFace {
         /* 39 */cards.add(new InsectResourceFrontFace(BLANK_CORNER, INSECT_CORNER, null, BLANK_CORNER, ONE_POINTS));
         /* 40 */cards.add(new InsectResourceFrontFace(INSECT_CORNER, BLANK_CORNER, BLANK_CORNER, null, ONE_POINTS));
 
-        // Save the List in the static field, as an immutable List of cards.
-        InsectResourceFrontFace.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return InsectResourceFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
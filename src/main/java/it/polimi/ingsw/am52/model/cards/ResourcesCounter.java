@@ -2,27 +2,98 @@ package it.polimi.ingsw.am52.model.cards;
 
 /**
  * Immutable class that maintains the count of all available resources.
+ * The four counts are packed in a single long, with 16 bits for each resource
+ * (see {@link PackedLanes}): each count must be between -32768 and 32767.
  */
 public class ResourcesCounter {
 
-    //region Private Fields
+    //region Accumulator
 
     /**
-     * The count of plant resources.
+     * A mutable counter of resources, that adds and subtracts the resources in place.
+     * The immutable counter of its resources is created only when it is requested.
      */
-    private final int plantCount;
+    public static final class Accumulator {
+
+        /**
+         * The packed counts of the resources.
+         */
+        private long packed;
+
+        /**
+         * The immutable counter of the current resources, null if not created yet.
+         */
+        private ResourcesCounter counter;
+
+        /**
+         * Creates an accumulator with the specified initial resources.
+         * @param initial The initial resources.
+         */
+        public Accumulator(ResourcesCounter initial) {
+            this.packed = initial.packed;
+            this.counter = initial;
+        }
+
+        /**
+         * Add the specified resources.
+         * @param resources The resources to add.
+         */
+        public void add(ResourcesCounter resources) {
+            this.packed = PackedLanes.add(this.packed, resources.packed, BIAS);
+            this.counter = null;
+        }
+
+        /**
+         * Subtract the specified resources.
+         * @param resources The resources to subtract.
+         */
+        public void subtract(ResourcesCounter resources) {
+            this.packed = PackedLanes.subtract(this.packed, resources.packed, BIAS);
+            this.counter = null;
+        }
+
+        /**
+         *
+         * @return The immutable counter of the current resources.
+         */
+        public ResourcesCounter toCounter() {
+            if (this.counter == null) {
+                this.counter = new ResourcesCounter(this.packed);
+            }
+            return this.counter;
+        }
+    }
+
+    //endregion
+
+    //region Private Static Fields
+
     /**
-     * The count of animal resources.
+     * The number of counted resources.
      */
-    private final int animalCount;
+    private static final int LANES = 4;
+
     /**
-     * The count of fungi resources.
+     * The bias of the packed counts, i.e. the packed counts of no resources.
      */
-    private final int fungiCount;
+    private static final long BIAS = PackedLanes.bias(LANES);
+
     /**
-     * The count of insect resources.
+     * The lanes of the resources in the packed counts.
      */
-    private final int insectCount;
+    private static final int FUNGI = 0;
+    private static final int PLANT = 1;
+    private static final int ANIMAL = 2;
+    private static final int INSECT = 3;
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * The packed counts of the resources.
+     */
+    private final long packed;
 
     //endregion
 
@@ -36,10 +107,7 @@ public class ResourcesCounter {
      * @return A new resource counter with the sum of each resource.
      */
     public static ResourcesCounter add(ResourcesCounter r1, ResourcesCounter r2) {
-        return new ResourcesCounter(
-                r1.getFungiCount() + r2.getFungiCount(), r1.getPlantCount() + r2.getPlantCount(),
-                r1.getAnimalCount() + r2.getAnimalCount(),
-                r1.getInsectCount() + r2.getInsectCount());
+        return new ResourcesCounter(PackedLanes.add(r1.packed, r2.packed, BIAS));
     }
 
     /**
@@ -51,10 +119,7 @@ public class ResourcesCounter {
      * counter from the first counter.
      */
     public static ResourcesCounter subtract(ResourcesCounter r1, ResourcesCounter r2) {
-        return new ResourcesCounter(
-                r1.getFungiCount() - r2.getFungiCount(), r1.getPlantCount() - r2.getPlantCount(),
-                r1.getAnimalCount() - r2.getAnimalCount(),
-                r1.getInsectCount() - r2.getInsectCount());
+        return new ResourcesCounter(PackedLanes.subtract(r1.packed, r2.packed, BIAS));
     }
 
     //endregion
@@ -74,10 +139,12 @@ public class ResourcesCounter {
      * @param resource The resource with its counter set to one (1).
      */
     public ResourcesCounter(Resource resource) {
-        this.plantCount = resource == Resource.PLANT ? 1 : 0;
-        this.animalCount = resource == Resource.ANIMAL ? 1 : 0;
-        this.fungiCount = resource == Resource.FUNGI ? 1 : 0;
-        this.insectCount = resource == Resource.INSECT ? 1 : 0;
+        this(PackedLanes.with(BIAS, switch (resource) {
+            case FUNGI -> FUNGI;
+            case PLANT -> PLANT;
+            case ANIMAL -> ANIMAL;
+            case INSECT -> INSECT;
+        }, 1));
     }
 
     /**
@@ -89,10 +156,20 @@ public class ResourcesCounter {
      * @param insects The count of insect resources.
      */
     public ResourcesCounter(int fungi, int plants, int animals, int insects) {
-        this.plantCount = plants;
-        this.animalCount = animals;
-        this.fungiCount = fungi;
-        this.insectCount = insects;
+        long packed = BIAS;
+        packed = PackedLanes.with(packed, FUNGI, fungi);
+        packed = PackedLanes.with(packed, PLANT, plants);
+        packed = PackedLanes.with(packed, ANIMAL, animals);
+        packed = PackedLanes.with(packed, INSECT, insects);
+        this.packed = packed;
+    }
+
+    /**
+     * Creates a resource counter with the specified packed counts.
+     * @param packed The packed counts of the resources.
+     */
+    ResourcesCounter(long packed) {
+        this.packed = packed;
     }
 
     //endregion
@@ -104,7 +181,7 @@ public class ResourcesCounter {
      * @return The count of plant resources.
      */
     public int getPlantCount() {
-        return this.plantCount;
+        return PackedLanes.get(this.packed, PLANT);
     }
 
     /**
@@ -112,7 +189,7 @@ public class ResourcesCounter {
      * @return The count of animal resources.
      */
     public int getAnimalCount() {
-        return this.animalCount;
+        return PackedLanes.get(this.packed, ANIMAL);
     }
 
     /**
@@ -120,7 +197,7 @@ public class ResourcesCounter {
      * @return The count of fungi resources.
      */
     public int getFungiCount() {
-        return this.fungiCount;
+        return PackedLanes.get(this.packed, FUNGI);
     }
 
     /**
@@ -128,7 +205,59 @@ public class ResourcesCounter {
      * @return The count of insect resources.
      */
     public int getInsectCount() {
-        return this.insectCount;
+        return PackedLanes.get(this.packed, INSECT);
+    }
+
+    //endregion
+
+    //region Public Methods
+
+    /**
+     *
+     * @return True if the count of any resource is negative.
+     */
+    public boolean hasNegative() {
+        return PackedLanes.hasNegative(this.packed, BIAS);
+    }
+
+    /**
+     * Compare all the resources at once.
+     * @param required The required resources.
+     * @return True if this counter has at least the required count of each resource.
+     */
+    public boolean covers(ResourcesCounter required) {
+        return PackedLanes.covers(this.packed, required.packed, BIAS);
+    }
+
+    /**
+     *
+     * @param required The resources of a pattern, not negative.
+     * @return How many times the pattern can be taken from the resources of this counter,
+     * that must not be negative. Zero if the pattern requires no resources.
+     */
+    public int countMultiples(ResourcesCounter required) {
+        return PackedLanes.countMultiples(this.packed, required.packed, LANES);
+    }
+
+    //endregion
+
+    //region Package-Private Methods
+
+    /**
+     *
+     * @return The packed counts of the resources.
+     */
+    long toPacked() {
+        return this.packed;
+    }
+
+    /**
+     * Compare all the resources at once.
+     * @param required The packed required resources.
+     * @return True if this counter has at least the required count of each resource.
+     */
+    boolean covers(long required) {
+        return PackedLanes.covers(this.packed, required, BIAS);
     }
 
     //endregion
@@ -141,11 +270,12 @@ public class ResourcesCounter {
         if (!(other instanceof ResourcesCounter r)) {
             return false;
         }
-        return (r.getAnimalCount() == this.getAnimalCount() &&
-                r.getPlantCount() == this.getPlantCount() &&
-                r.getInsectCount() == this.getInsectCount() &&
-                r.getFungiCount() == this.getFungiCount()
-        );
+        return r.packed == this.packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.packed);
     }
 
     @Override
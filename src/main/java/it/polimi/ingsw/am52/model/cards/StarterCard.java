@@ -30,7 +30,7 @@ public abstract class StarterCard extends Card {
     /**
      * The (single instance) collection with all six starter cards.
      */
-    private static ImmutableList<StarterCard> cards;
+    private static final ImmutableList<StarterCard> cards = createCards();
 
     //endregion
 
@@ -43,13 +43,14 @@ public abstract class StarterCard extends Card {
      * @return The list of all six starter cards.
      */
     public static ImmutableList<StarterCard> getCards() {
+        return StarterCard.cards;
+    }
 
-        // If the static field already exists, then return it.
-        if (StarterCard.cards != null) {
-            return StarterCard.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    /**
+     * Create the list of all the six starter cards, when the class is initialized.
+     * @return The list of all the six starter cards.
+     */
+    private static ImmutableList<StarterCard> createCards() {
 
         // Create a new empty List of card faces.
         List<StarterCard> cards = new ArrayList<>();
@@ -70,11 +71,8 @@ public abstract class StarterCard extends Card {
             );
         }
 
-        // Save the List in the static field, as an immutable List of cards.
-        StarterCard.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return StarterCard.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     /**
@@ -91,8 +89,8 @@ public abstract class StarterCard extends Card {
             );
         }
 
-        // Return the card with the specified identifier.
-        return StarterCard.getCards().get(cardId - START_INDEX);
+        // Return the card with the specified identifier, from the catalog.
+        return (StarterCard) CardCatalog.getCard(cardId);
     }
 
     //endregion
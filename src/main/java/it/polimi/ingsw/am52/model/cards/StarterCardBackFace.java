@@ -14,7 +14,7 @@ public abstract class StarterCardBackFace extends StarterCardFace {
     /**
      * The (single instance) list of all starter card back faces.
      */
-    private static ImmutableList<StarterCardBackFace> cards = null;
+    private static final ImmutableList<StarterCardBackFace> cards = createCards();
 
     //endregion
 
@@ -26,13 +26,14 @@ public abstract class StarterCardBackFace extends StarterCardFace {
      * @return A list with all back faces of the Starter cards.
      */
     public static ImmutableList<StarterCardBackFace> getCards() {
+        return StarterCardBackFace.cards;
+    }
 
-        // If the static field already exists, then return it.
-        if (StarterCardBackFace.cards != null) {
-            return StarterCardBackFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    /**
+     * Create the list of all the back faces of the starter cards, when the class is initialized.
+     * @return The list of all the back faces of the starter cards.
+     */
+    private static ImmutableList<StarterCardBackFace> createCards() {
 
         // Create a new empty List of card faces.
         List<StarterCardBackFace> cards = new ArrayList<>();
@@ -51,11 +52,8 @@ public abstract class StarterCardBackFace extends StarterCardFace {
         /* 85 */cards.add(new StarterCardBackFace(FUNGI_CORNER, ANIMAL_CORNER, PLANT_CORNER, INSECT_CORNER) { });
         /* 86 */cards.add(new StarterCardBackFace(ANIMAL_CORNER, INSECT_CORNER, PLANT_CORNER, FUNGI_CORNER) { });
 
-        // Save the List in the static field, as an immutable List of cards.
-        StarterCardBackFace.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return StarterCardBackFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
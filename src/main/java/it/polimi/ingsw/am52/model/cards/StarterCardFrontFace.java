@@ -31,7 +31,7 @@ public abstract class StarterCardFrontFace extends StarterCardFace {
     /**
      * The (single instance) list of all starter card font faces.
      */
-    private static ImmutableList<StarterCardFrontFace> cards = null;
+    private static final ImmutableList<StarterCardFrontFace> cards = createCards();
 
     //endregion
 
@@ -43,13 +43,14 @@ public abstract class StarterCardFrontFace extends StarterCardFace {
      * @return A list with all front faces of the Starter cards.
      */
     public static ImmutableList<StarterCardFrontFace> getCards() {
+        return StarterCardFrontFace.cards;
+    }
 
-        // If the static field already exists, then return it.
-        if (StarterCardFrontFace.cards != null) {
-            return StarterCardFrontFace.cards;
-        }
-
-        // The static field does not exist, so I have to create it.
+    /**
+     * Create the list of all the front faces of the starter cards, when the class is initialized.
+     * @return The list of all the front faces of the starter cards.
+     */
+    private static ImmutableList<StarterCardFrontFace> createCards() {
 
         // Create a new empty List of card faces.
         List<StarterCardFrontFace> cards = new ArrayList<>();
@@ -68,11 +69,8 @@ public abstract class StarterCardFrontFace extends StarterCardFace {
         /* 85 */cards.add(new StarterCardFrontFace(BLANK_CORNER, null, null, BLANK_CORNER, Resource.ANIMAL, Resource.INSECT, Resource.PLANT) { });
         /* 86 */cards.add(new StarterCardFrontFace(BLANK_CORNER, null, null, BLANK_CORNER, Resource.PLANT, Resource.ANIMAL, Resource.FUNGI) { });
         
-        // Save the List in the static field, as an immutable List of cards.
-        StarterCardFrontFace.cards = new ImmutableList<>(cards);
-
-        // Return the reference to the static field.
-        return StarterCardFrontFace.cards;
+        // Return the list, as an immutable list.
+        return new ImmutableList<>(cards);
     }
 
     //endregion
@@ -28,7 +28,7 @@ public class DrawingPhase extends Phase {
      * In this case, the normal next phase is PLACING, so the next phase is PlacingPhase
      */
     @Override
-    public synchronized void next(GameManager manager) {
+    public void next(GameManager manager) {
         //Update the current player
         var tmpPlayer = manager.getNextPlayer(this.currPlayer);
 
@@ -41,7 +41,7 @@ public class DrawingPhase extends Phase {
                     manager.setPhase(new EndingPhase(this));
                     return;
                 } else {
-                    this.isLastTurn = (manager.getScoreBoard().containsValue(20) || (manager.getResourceDeckCount() == 0 && manager.getGoldDeckCount() == 0));
+                    this.isLastTurn = (manager.getCurrentScoreBoard().containsValue(20) || (manager.getResourceDeckCount() == 0 && manager.getGoldDeckCount() == 0));
                     turn++;
                 }
             }
@@ -54,7 +54,7 @@ public class DrawingPhase extends Phase {
      * {@inheritDoc}
      */
     @Override
-    synchronized public void drawResourceCard(GameManager manager, PlayerDrawing player, ResourceCard card) {
+    public void drawResourceCard(GameManager manager, PlayerDrawing player, ResourceCard card) {
         player.drawCard(card);
         //Update the phase
         this.next(manager);
@@ -64,7 +64,7 @@ public class DrawingPhase extends Phase {
      * {@inheritDoc}
      */
     @Override
-    synchronized public void drawGoldCard(GameManager manager, PlayerDrawing player, GoldCard card) {
+    public void drawGoldCard(GameManager manager, PlayerDrawing player, GoldCard card) {
         player.drawCard(card);
         //Update the phase
         this.next(manager);
@@ -74,7 +74,7 @@ public class DrawingPhase extends Phase {
      * {@inheritDoc}
      */
     @Override
-    synchronized public void takeResourceCard(GameManager manager, PlayerDrawing player, ResourceCard drawnCard, List<ResourceCard> visibleCards) {
+    public void takeResourceCard(GameManager manager, PlayerDrawing player, ResourceCard drawnCard, List<ResourceCard> visibleCards) {
         //IMPORTANT: At this point, we are sure that the given card is in the list of the visible cards
         //Remove the card from the List of the visible cards
         visibleCards.remove(drawnCard);
@@ -87,7 +87,7 @@ public class DrawingPhase extends Phase {
      * {@inheritDoc}
      */
     @Override
-    synchronized public void takeGoldCard(GameManager manager, PlayerDrawing player, GoldCard drawnCard, List<GoldCard> visibleCards) {
+    public void takeGoldCard(GameManager manager, PlayerDrawing player, GoldCard drawnCard, List<GoldCard> visibleCards) {
         //IMPORTANT: At this point, we are sure that the given card is in the list of the visible cards
         //Remove the card from the List of the visible cards
         visibleCards.remove(drawnCard);
@@ -1,6 +1,5 @@
 package it.polimi.ingsw.am52.model.game;
 
-import it.polimi.ingsw.am52.model.objectives.Objective;
 import it.polimi.ingsw.am52.model.player.PlayerInfo;
 
 import java.util.*;
@@ -27,18 +26,11 @@ public class EndingPhase extends Phase {
      * {@inheritDoc}
      */
     @Override
-    synchronized public List<String> getWinners(GameManager manager, List<PlayerInfo> players, List<Objective> commonObjectives) {
+    public List<String> getWinners(GameManager manager, List<PlayerInfo> players) {
         // calculate new score for every player based on objectives
         for (PlayerInfo player : players) {
-            int objectivePoints = 0;
-
-            // -- get common objectives points
-            for (Objective objective : commonObjectives) {
-                objectivePoints += objective.calculatePoints(player.getPlayingBoard());
-            }
-
-            // -- add personal objective points
-            objectivePoints += player.getObjective().calculatePoints(player.getPlayingBoard());
+            // -- common objectives and personal objective, tracked on the board after each placement
+            int objectivePoints = player.getObjectivePoints();
 
             // -- update player score
             player.setObjScore(objectivePoints);
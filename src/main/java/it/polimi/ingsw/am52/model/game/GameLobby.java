@@ -4,9 +4,9 @@ import it.polimi.ingsw.am52.controller.User;
 import it.polimi.ingsw.am52.exceptions.GameException;
 import it.polimi.ingsw.am52.network.server.Sender;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  *
@@ -28,7 +28,8 @@ public class GameLobby {
     private final int maxPlayers;
 
     /**
-     * The list of nickname of players
+     * The list of nickname of players. Copied on write: the handlers and the free seats are read
+     * by the threads of the clients while the mailbox of the game changes the players
      */
     private final List<User> players;
 
@@ -44,7 +45,7 @@ public class GameLobby {
         }
 
         this.maxPlayers = maxPlayers;
-        this.players = new ArrayList<>();
+        this.players = new CopyOnWriteArrayList<>();
     }
 
 
@@ -55,13 +56,29 @@ public class GameLobby {
         return id;
     }
 
+    /**
+     * @return the max number of players in this lobby
+     */
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
     /**
      * Method to validate a nickname in the current lobby
      * @param nickName The nickname of the new player
      * @return A bool indicating whether the nickname is valid
      */
     private boolean validateNickName(String nickName) {
-        return nickName != null && !nickName.isBlank() && nickName.length() <= MAX_NAME_LENGTH && !this.getPlayersNickname().contains(nickName);
+        return isValidNickname(nickName) && !this.getPlayersNickname().contains(nickName);
+    }
+
+    /**
+     * Method to validate the format of a nickname, in any lobby
+     * @param nickName The nickname of the player
+     * @return A bool indicating whether the nickname has a valid format
+     */
+    public static boolean isValidNickname(String nickName) {
+        return nickName != null && !nickName.isBlank() && nickName.length() <= MAX_NAME_LENGTH;
     }
 
     /**
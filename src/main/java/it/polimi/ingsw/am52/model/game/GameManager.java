@@ -66,9 +66,18 @@ public class GameManager {
      */
     private final Deck<GoldCard> goldCardDeck;
     /**
-     * The Scoreboard of the game; it contains the players' score the map is nickname:score
+     * The Scoreboard of the game; it contains the players' score the map is nickname:score.
+     * It is changed only by the commands, the readers use the scoreboard of the snapshot.
      */
     private final Map<String, Integer> scoreBoard;
+    /**
+     * The number of snapshots published
+     */
+    private long version;
+    /**
+     * The last snapshot of the game, published after every command
+     */
+    private volatile GameSnapshot snapshot;
 
     //endregion
 
@@ -115,7 +124,7 @@ public class GameManager {
         }
 
         //Instantiate the scoreBoard
-        this.scoreBoard = new Hashtable<>();
+        this.scoreBoard = new LinkedHashMap<>();
         //Create the objects Player for every string passed to this constructor
         this.players = new ArrayList<>();
         //Shuffle the list of the players, so that the order is random. Needed another list because the list passed is unmodifiable
@@ -139,12 +148,56 @@ public class GameManager {
 
         //Define the turn phase
         this.phase = new InitPhase(this.players.getFirst().getNickname());
+
+        this.publishSnapshot();
     }
 
     //endregion
 
     //region Private Methods
 
+    /**
+     * Publish a new snapshot of the game. Called at the end of every command, so the
+     * readers never see a command half applied.
+     */
+    private void publishSnapshot() {
+        Map<String, GameSnapshot.PlayerSnapshot> playerSnapshots = new LinkedHashMap<>();
+        for (Player player : this.players) {
+            playerSnapshots.put(player.getNickname(), new GameSnapshot.PlayerSnapshot(
+                    player.getHand().stream().map(Card::getCardId).toList(),
+                    player.getObjectiveOptions().stream().map(Objective::getObjectiveId).toList(),
+                    player.getStarterCard().getCardId(),
+                    player.getScore(),
+                    player.getScore() + player.getObjectivePoints()
+            ));
+        }
+
+        this.version++;
+        this.snapshot = new GameSnapshot(
+                this.version,
+                this.phase.getPhase(),
+                this.phase.getCurrPlayer(),
+                this.phase.getTurn(),
+                this.commonObjectives.stream().map(Objective::getObjectiveId).toList(),
+                this.visibleResourceCards.stream().map(Card::getCardId).toList(),
+                this.visibleGoldCards.stream().map(Card::getCardId).toList(),
+                this.resourceCardDeck.cardsCount() == 0 ? -1 : this.resourceCardDeck.peekCard().getCardId(),
+                this.goldCardDeck.cardsCount() == 0 ? -1 : this.goldCardDeck.peekCard().getCardId(),
+                this.resourceCardDeck.cardsCount(),
+                this.goldCardDeck.cardsCount(),
+                Collections.unmodifiableMap(new LinkedHashMap<>(this.scoreBoard)),
+                Collections.unmodifiableMap(playerSnapshots)
+        );
+    }
+
+    /**
+     * The scoreboard being changed by the current command, used by the phases.
+     * @return The scoreboard of the game
+     */
+    protected Map<String, Integer> getCurrentScoreBoard() {
+        return this.scoreBoard;
+    }
+
     /**
      * After each move, updates the values in the scoreboard
      */
@@ -231,6 +284,16 @@ public class GameManager {
         this.phase = newPhase;
     }
 
+    /**
+     * Track the common objectives and the secret objective on the playing board of each
+     * player, when the setup of the game is finished.
+     */
+    protected void trackObjectives() {
+        for (Player player : this.players) {
+            player.trackObjectives(this.commonObjectives);
+        }
+    }
+
     //endregion
 
     //region Getters
@@ -287,42 +350,21 @@ public class GameManager {
      * @return The list of IDs the visible resource cards
      */
     public List<Integer> getVisibleResourceCards() {
-        //Create a new List of integers
-        List<Integer> visibleCards = new ArrayList<>();
-        //For the 2 cards on the common board
-        for (int i = 0; i < 2; i++) {
-            //Add the ID of the visible cards to the list
-            visibleCards.add(this.visibleResourceCards.get(i).getCardId());
-        }
-        return visibleCards;
+        return this.snapshot.visibleResourceCards();
     }
 
     /**
      * @return The list of IDs the visible gold cards
      */
     public List<Integer> getVisibleGoldCards() {
-        //Create a new List of integers
-        List<Integer> visibleCards = new ArrayList<>();
-        //For the 2 cards on the common board
-        for (int i = 0; i < 2; i++) {
-            //Add the ID of the visible cards to the list
-            visibleCards.add(this.visibleGoldCards.get(i).getCardId());
-        }
-        return visibleCards;
+        return this.snapshot.visibleGoldCards();
     }
 
     /**
      * @return The list of IDs the common objective cards
      */
     public List<Integer> getCommonObjectives() {
-        //Create a new List of integers
-        List<Integer> visibleCards = new ArrayList<>();
-        //For the 2 cards on the common board
-        for (int i = 0; i < 2; i++) {
-            //Add the ID of the visible cards to the list
-            visibleCards.add(this.commonObjectives.get(i).getObjectiveId());
-        }
-        return visibleCards;
+        return this.snapshot.commonObjectives();
     }
 
     /**
@@ -339,18 +381,28 @@ public class GameManager {
     public List<String> getWinners() {
         try {
             List<PlayerInfo> playersScore = new ArrayList<>(this.players);
-            return this.phase.getWinners(this, playersScore, this.commonObjectives);
+            return this.phase.getWinners(this, playersScore);
         } catch (PhaseException e) {
             // Phase is incorrect, this implementation is to get the winners if a game crashes
             return new ArrayList<>();
+        } finally {
+            // the objective points are added to the scoreboard
+            this.publishSnapshot();
         }
     }
 
     /**
-     * @return The scoreboard of the game
+     * @return The scoreboard of the game, after the last command
      */
     public Map<String, Integer> getScoreBoard() {
-        return this.scoreBoard;
+        return this.snapshot.scoreBoard();
+    }
+
+    /**
+     * @return The last snapshot of the game, it can be read from any thread
+     */
+    public GameSnapshot getSnapshot() {
+        return this.snapshot;
     }
 
     /**
@@ -375,6 +427,8 @@ public class GameManager {
             this.phase.setPlayerChosenObject(this, this.getPlayerSetup(nickname), objectiveId);
         } catch (PhaseException e) {
             throw new GameException(e.getMessage());
+        } finally {
+            this.publishSnapshot();
         }
     }
 
@@ -401,6 +455,8 @@ public class GameManager {
             );
         } catch (PhaseException e) {
             throw new GameException(e.getMessage());
+        } finally {
+            this.publishSnapshot();
         }
     }
 
@@ -428,6 +484,8 @@ public class GameManager {
             );
         } catch (PhaseException e) {
             throw new GameException(e.getMessage());
+        } finally {
+            this.publishSnapshot();
         }
     }
 
@@ -447,6 +505,8 @@ public class GameManager {
             );
         } catch (PlayerException e) {
             throw new GameException(e.getMessage());
+        } finally {
+            this.publishSnapshot();
         }
     }
 
@@ -466,6 +526,8 @@ public class GameManager {
             );
         } catch (PhaseException e) {
             throw new GameException(e.getMessage());
+        } finally {
+            this.publishSnapshot();
         }
     }
 
@@ -474,26 +536,30 @@ public class GameManager {
      * @param cardId    The ID of the visible card
      */
     public int takeResourceCard(int cardId) {
-        //If the List of the visible resource cards doesn't contain the card, throw an exception
-        if (!this.visibleResourceCards.contains(ResourceCard.getCardWithId(cardId))) {
-            throw new GameException("The card selected is not a visible card");
-        }
-        else {
-            try {
-                this.phase.takeResourceCard(
-                        this,
-                        this.getPlayerDrawing(this.phase.getCurrPlayer()),
-                        ResourceCard.getCardWithId(cardId),
-                        this.visibleResourceCards
-                );
-            } catch (PhaseException e) {
-                throw new GameException(e.getMessage());
+        try {
+            //If the List of the visible resource cards doesn't contain the card, throw an exception
+            if (!this.visibleResourceCards.contains(ResourceCard.getCardWithId(cardId))) {
+                throw new GameException("The card selected is not a visible card");
             }
+            else {
+                try {
+                    this.phase.takeResourceCard(
+                            this,
+                            this.getPlayerDrawing(this.phase.getCurrPlayer()),
+                            ResourceCard.getCardWithId(cardId),
+                            this.visibleResourceCards
+                    );
+                } catch (PhaseException e) {
+                    throw new GameException(e.getMessage());
+                }
 
-            var newCard = this.resourceCardDeck.draw();
-            this.visibleResourceCards.add(newCard);
+                var newCard = this.resourceCardDeck.draw();
+                this.visibleResourceCards.add(newCard);
 
-            return newCard.getCardId();
+                return newCard.getCardId();
+            }
+        } finally {
+            this.publishSnapshot();
         }
     }
 
@@ -502,26 +568,30 @@ public class GameManager {
      * @param cardId    The ID of the visible card
      */
     public int takeGoldCard(int cardId) {
-        //If the List of the visible resource cards doesn't contain the card, throw an exception
-        if (!this.visibleGoldCards.contains(GoldCard.getCardWithId(cardId))) {
-            throw new GameException("The card selected is not a visible card");
-        }
-        else {
-            try {
-                this.phase.takeGoldCard(
-                        this,
-                        this.getPlayerDrawing(this.phase.getCurrPlayer()),
-                        GoldCard.getCardWithId(cardId),
-                        this.visibleGoldCards
-                );
-            } catch (PhaseException e) {
-                throw new GameException(e.getMessage());
+        try {
+            //If the List of the visible resource cards doesn't contain the card, throw an exception
+            if (!this.visibleGoldCards.contains(GoldCard.getCardWithId(cardId))) {
+                throw new GameException("The card selected is not a visible card");
             }
+            else {
+                try {
+                    this.phase.takeGoldCard(
+                            this,
+                            this.getPlayerDrawing(this.phase.getCurrPlayer()),
+                            GoldCard.getCardWithId(cardId),
+                            this.visibleGoldCards
+                    );
+                } catch (PhaseException e) {
+                    throw new GameException(e.getMessage());
+                }
 
-            var newCard = this.goldCardDeck.draw();
-            this.visibleGoldCards.add(newCard);
+                var newCard = this.goldCardDeck.draw();
+                this.visibleGoldCards.add(newCard);
 
-            return newCard.getCardId();
+                return newCard.getCardId();
+            }
+        } finally {
+            this.publishSnapshot();
         }
     }
 
@@ -530,39 +600,36 @@ public class GameManager {
      * @param nickname  The ID of the disconnected player
      */
     public void leaveGame(String nickname) {
-        /*
-         * Put the player in the disconnected list players and remove it from the playing players.
-         * It could be useful for a system which is resilient to disconnection, because it doesn't block the game,
-         * preventing the deletion of the data connected to the player who left.
-         */
-        //If the player isn't in the lobby, throws an exception
-        var player = this.players.stream().filter(p -> p.getNickname().equals(nickname)).findFirst();
-        if (player.isEmpty()) {
-            throw new GameException("The selected player is not in the game");
+        try {
+            /*
+             * Put the player in the disconnected list players and remove it from the playing players.
+             * It could be useful for a system which is resilient to disconnection, because it doesn't block the game,
+             * preventing the deletion of the data connected to the player who left.
+             */
+            //If the player isn't in the lobby, throws an exception
+            var player = this.players.stream().filter(p -> p.getNickname().equals(nickname)).findFirst();
+            if (player.isEmpty()) {
+                throw new GameException("The selected player is not in the game");
+            }
+            this.disconnectedPlayers.add(player.get());
+            this.players.remove(player.get());
+            this.scoreBoard.remove(nickname);
+        } finally {
+            this.publishSnapshot();
         }
-        this.disconnectedPlayers.add(player.get());
-        this.players.remove(player.get());
-        this.scoreBoard.remove(nickname);
     }
 
+    /**
+     * @param drawType The deck
+     * @return The ID of the card on top of the deck after the last command, -1 if the deck is empty
+     */
     public int peekNextCard(DrawType drawType) {
-        switch (drawType) {
-            case DrawType.RESOURCE -> {
-                if (this.getResourceDeckCount() == 0) {
-                    return -1;
-                }
-                return this.resourceCardDeck.peekCard().getCardId();
-            }
-            case DrawType.GOLD -> {
-                if (this.getGoldDeckCount() == 0) {
-                    return -1;
-                }
-                return this.goldCardDeck.peekCard().getCardId();
-            }
-            case null -> {
-                return -1;
-            }
-        }
+        GameSnapshot current = this.snapshot;
+        return switch (drawType) {
+            case DrawType.RESOURCE -> current.nextResourceCard();
+            case DrawType.GOLD -> current.nextGoldCard();
+            case null -> -1;
+        };
     }
 
     //endregion
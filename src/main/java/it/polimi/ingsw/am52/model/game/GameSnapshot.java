@@ -0,0 +1,59 @@
+package it.polimi.ingsw.am52.model.game;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable view of a game, published by the {@link GameManager} after every command.
+ * The readers of a snapshot see the game between two commands, never in the middle of a turn,
+ * and they do not need any lock: a new command publishes a new snapshot, the old one never changes.
+ * @param version The number of the snapshot, incremented by every command.
+ * @param phase The phase of the game.
+ * @param currentPlayer The nickname of the current player.
+ * @param turn The turn of the game.
+ * @param commonObjectives The IDs of the common objectives.
+ * @param visibleResourceCards The IDs of the visible resource cards.
+ * @param visibleGoldCards The IDs of the visible gold cards.
+ * @param nextResourceCard The ID of the card on top of the resource deck, -1 if the deck is empty.
+ * @param nextGoldCard The ID of the card on top of the gold deck, -1 if the deck is empty.
+ * @param resourceDeckCount The cards left in the resource deck.
+ * @param goldDeckCount The cards left in the gold deck.
+ * @param scoreBoard The score of the players, by nickname.
+ * @param players The state of the players, by nickname, in the order of the game.
+ */
+public record GameSnapshot(long version, GamePhase phase, String currentPlayer, int turn,
+                           List<Integer> commonObjectives,
+                           List<Integer> visibleResourceCards, List<Integer> visibleGoldCards,
+                           int nextResourceCard, int nextGoldCard,
+                           int resourceDeckCount, int goldDeckCount,
+                           Map<String, Integer> scoreBoard, Map<String, PlayerSnapshot> players) {
+
+    /**
+     * The state of a player in a snapshot.
+     * @param hand The IDs of the cards in the hand of the player.
+     * @param objectiveOptions The IDs of the secret objectives the player can choose.
+     * @param starterCardId The ID of the starter card of the player.
+     * @param score The score of the player.
+     * @param projectedScore The score of the player if the game ended now, with the points of the objectives.
+     */
+    public record PlayerSnapshot(List<Integer> hand, List<Integer> objectiveOptions, int starterCardId, int score,
+                                 int projectedScore) {
+    }
+
+    /**
+     *
+     * @return The nicknames of the players, in the order of the game.
+     */
+    public List<String> getNicknames() {
+        return List.copyOf(this.players.keySet());
+    }
+
+    /**
+     *
+     * @param nickname The nickname of the player.
+     * @return The state of the player, null if the player is not in the game.
+     */
+    public PlayerSnapshot getPlayer(String nickname) {
+        return this.players.get(nickname);
+    }
+}
@@ -32,7 +32,9 @@ public class InitPhase extends Phase {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void next(GameManager manager) {
+    public void next(GameManager manager) {
+        // From now on, the objectives are scored after each placement.
+        manager.trackObjectives();
         manager.setPhase(new PlacingPhase(this));
     }
 
@@ -40,7 +42,7 @@ public class InitPhase extends Phase {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void setPlayerChosenObject(GameManager manager, PlayerSetup player, int objectiveId) {
+    public void setPlayerChosenObject(GameManager manager, PlayerSetup player, int objectiveId) {
         //We call the method of the Interface PlayerSetup to choose the objective card of the player
         player.setSecretObjective(Objective.getObjectiveWithId(objectiveId));
 
@@ -54,7 +56,7 @@ public class InitPhase extends Phase {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void placeStarterCard(GameManager manager, PlayerBoardSetup player, StarterCard card, CardSide side) {
+    public void placeStarterCard(GameManager manager, PlayerBoardSetup player, StarterCard card, CardSide side) {
         player.placeStarterCardFace(card, side);
 
         //Check if all the players chose a secret objective and placed the starter card
@@ -63,7 +65,7 @@ public class InitPhase extends Phase {
         }
     }
 
-    private synchronized boolean isSetupFinished(GameManager manager) {
+    private boolean isSetupFinished(GameManager manager) {
         try {
             return manager.getPlayerInfos().stream().allMatch(pInfo -> pInfo.getObjective() != null) && manager.getPlayerInfos().stream().allMatch(pInfo -> pInfo.getPlayingBoard() != null);
         } catch (PlayingBoardException e) {
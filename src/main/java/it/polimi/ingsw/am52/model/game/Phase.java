@@ -2,7 +2,6 @@ package it.polimi.ingsw.am52.model.game;
 
 import it.polimi.ingsw.am52.exceptions.PhaseException;
 import it.polimi.ingsw.am52.model.cards.*;
-import it.polimi.ingsw.am52.model.objectives.Objective;
 import it.polimi.ingsw.am52.model.player.*;
 import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
 
@@ -76,7 +75,7 @@ public abstract class Phase {
     /**
      * Used to update the current phase
      */
-    synchronized public void next(GameManager manager) {
+    public void next(GameManager manager) {
         throw new PhaseException("Incorrect phase");
     }
 
@@ -123,7 +122,7 @@ public abstract class Phase {
      * @param player        The player who chose
      * @param objectiveId   The ID of the card
      */
-    public synchronized void setPlayerChosenObject(GameManager manager, PlayerSetup player, int objectiveId) {
+    public void setPlayerChosenObject(GameManager manager, PlayerSetup player, int objectiveId) {
         throw new PhaseException("Incorrect phase");
     }
 
@@ -134,7 +133,7 @@ public abstract class Phase {
      * @param card      The card to place
      * @param side      The face of the card
      */
-    public synchronized void placeStarterCard(GameManager manager, PlayerBoardSetup player, StarterCard card, CardSide side) {
+    public void placeStarterCard(GameManager manager, PlayerBoardSetup player, StarterCard card, CardSide side) {
         throw new PhaseException("Incorrect phase");
     }
 
@@ -149,7 +148,7 @@ public abstract class Phase {
      * @param card      The card to be placed
      * @param side      The side of the card
      */
-    public synchronized void placeCard(GameManager manager, PlayerDrawing player, BoardSlot slot, KingdomCard card, CardSide side) {
+    public void placeCard(GameManager manager, PlayerDrawing player, BoardSlot slot, KingdomCard card, CardSide side) {
         throw new PhaseException("Incorrect phase");
     }
 
@@ -163,7 +162,7 @@ public abstract class Phase {
      * @param player    The player who draws the card
      * @param card      The card drawn
      */
-    public synchronized void drawResourceCard(GameManager manager, PlayerDrawing player, ResourceCard card) {
+    public void drawResourceCard(GameManager manager, PlayerDrawing player, ResourceCard card) {
         throw new PhaseException("Incorrect phase");
     }
 
@@ -173,7 +172,7 @@ public abstract class Phase {
      * @param player    The player who draws the card
      * @param card      The card drawn
      */
-    public synchronized void drawGoldCard(GameManager manager, PlayerDrawing player, GoldCard card) {
+    public void drawGoldCard(GameManager manager, PlayerDrawing player, GoldCard card) {
         throw new PhaseException("Incorrect phase");
     }
 
@@ -184,7 +183,7 @@ public abstract class Phase {
      * @param drawnCard     The taken card
      * @param visibleCards  The List of the visible cards
      */
-    public synchronized void takeResourceCard(GameManager manager, PlayerDrawing player, ResourceCard drawnCard, List<ResourceCard> visibleCards) {
+    public void takeResourceCard(GameManager manager, PlayerDrawing player, ResourceCard drawnCard, List<ResourceCard> visibleCards) {
         throw new PhaseException("Incorrect phase");
     }
 
@@ -195,7 +194,7 @@ public abstract class Phase {
      * @param drawnCard     The taken card
      * @param visibleCards  The List of the visible cards
      */
-    public synchronized void takeGoldCard(GameManager manager, PlayerDrawing player, GoldCard drawnCard, List<GoldCard> visibleCards) {
+    public void takeGoldCard(GameManager manager, PlayerDrawing player, GoldCard drawnCard, List<GoldCard> visibleCards) {
         throw new PhaseException("Incorrect phase");
     }
 
@@ -206,10 +205,9 @@ public abstract class Phase {
     /**
      * This method can only be executed during the InitPhase; in the other phases, this will throw a new exception.
      * @param players          The list of the players in the lobby
-     * @param commonObjectives The common objective of the game
      * @return The list with one or more winners, in case of a tie.
      */
-    public synchronized List<String> getWinners(GameManager manager, List<PlayerInfo> players, List<Objective> commonObjectives) {
+    public List<String> getWinners(GameManager manager, List<PlayerInfo> players) {
         throw new PhaseException("Incorrect phase");
     }
 
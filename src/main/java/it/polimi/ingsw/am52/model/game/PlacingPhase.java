@@ -30,7 +30,7 @@ public class PlacingPhase extends Phase {
      *  {@inheritDoc}
      */
     @Override
-    synchronized public void next(GameManager manager) {
+    public void next(GameManager manager) {
         manager.setPhase(new DrawingPhase(this));
     }
 
@@ -38,7 +38,7 @@ public class PlacingPhase extends Phase {
      * {@inheritDoc}
      */
     @Override
-    synchronized public void placeCard(GameManager manager, PlayerDrawing player, BoardSlot slot, KingdomCard card, CardSide side) {
+    public void placeCard(GameManager manager, PlayerDrawing player, BoardSlot slot, KingdomCard card, CardSide side) {
         player.placeCard(slot, card, side);
 
         //Update the value in the ScoreBoard
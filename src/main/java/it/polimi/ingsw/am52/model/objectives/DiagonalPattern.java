@@ -1,14 +1,12 @@
 package it.polimi.ingsw.am52.model.objectives;
 
+import it.polimi.ingsw.am52.model.cards.CardCatalog;
 import it.polimi.ingsw.am52.model.cards.Kingdom;
 import it.polimi.ingsw.am52.model.playingBoards.BoardInfo;
 import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
 import it.polimi.ingsw.am52.model.playingBoards.RelativeLocation;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Find the occurrences of the diagonal pattern on the
@@ -90,7 +88,7 @@ public class DiagonalPattern extends PatternFinder {
         // Get the list of all slots of the playing board, that have a card
         // placed on them. Get only slots that have a card with the specific 
         // kingdom of this pattern.
-        List<BoardSlot> slots = board.getCoveredSlots().stream().filter(slot -> board.getCardAt(slot).getKingdom().equals(this.kingdom)).toList();
+        List<BoardSlot> slots = board.getCoveredSlots().stream().filter(slot -> CardCatalog.getKingdom(board.getCardAt(slot)) == this.kingdom).toList();
 
         // The direction of aligned elements.
         RelativeLocation direction = switch(this.hand) {
@@ -98,74 +96,9 @@ public class DiagonalPattern extends PatternFinder {
             case LEFT -> RelativeLocation.TOP_LEFT;
         };
 
-        // Iterate until there are no more elements in the list.
-        // At each iteration, check if there are aligned slots, along the 
-        // direction of the diagonal, and then remove the aligned slots from
-        // the list.
-        while (!slots.isEmpty()) {
-
-            /*
-            // // The slot can be in the middle of the pattern. If so,
-            // // move back step-by-step to the beginning (in this way, we can find two
-            // // distinct patterns if there are two diagonals one next to the other).
-            
-            // BoardSlot start = slots.get(0); // The candidate slot where the pattern starts.
-            // while (true) {
-            //     // Move back, depending on the hand of the diagonal.
-            //     BoardSlot prevSlot = switch (this.hand) {
-            //             case RIGHT -> start.getSlotAt(RelativeLocation.BOTTOM_LEFT);
-            //             case LEFT -> start.getSlotAt(RelativeLocation.BOTTOM_RIGHT);
-            //     };
-                
-            //     // There is not a previous slot.
-            //     if (!slots.contains(prevSlot)) {
-            //         break;
-            //     }
-            
-            //     // Move the starting point to the previous slot.
-            //     start = prevSlot;
-            // }
-            
-            // // Create a list with all checked slot.
-            // List<BoardSlot> checked = new ArrayList<>();
-            // // Add the starting slot.
-            // checked.add(start);
-            
-            // BoardSlot slot = start;
-            // // From the candidate starting slot, check if there is the full pattern,
-            // // i.e. there are two more cards on the diagonal.
-            // for (int i = 0; i != 2; i++) {
-            //     BoardSlot nextSlot = switch (this.hand) {
-            //             case RIGHT -> slot.getSlotAt(RelativeLocation.TOP_RIGHT);
-            //             case LEFT -> slot.getSlotAt(RelativeLocation.TOP_LEFT);
-            //     };
-                
-            //     // There is not a next slot.
-            //     if (!slots.contains(nextSlot)) {
-            //         break;
-            //     }
-            
-            //     // Add the slot to the checked list.
-            //     checked.add(nextSlot);
-            //     slot = nextSlot;
-            
-            //     // If I reached the last iteration, I have found a pattern.
-            //     if (i == 1) {
-            //         patterns++;
-            //     }
-            // } // End of for loop
-            */
-            
-            // Find slots aligned along the diagonal.
-            List<BoardSlot> aligned = PatternFinder.findAlignedSlots(slots, direction);
-            
-            // Increment the counter: every three slots aligned.
+        // Walk each diagonal line once: every three slots aligned form a pattern.
+        for (List<BoardSlot> aligned : PatternFinder.findLines(slots, direction)) {
             patterns += (aligned.size() / DIAG_LENGTH);
-            
-            // Remove all checked slots from the collection of slots available.
-            Set<BoardSlot> remaining = new HashSet<>(slots);
-            aligned.forEach(remaining::remove);
-            slots = new ArrayList<>(remaining);
         }
 
         // Return the counter of found patterns.
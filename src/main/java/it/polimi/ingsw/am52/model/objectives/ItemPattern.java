@@ -50,7 +50,7 @@ public class ItemPattern extends PatternFinder {
      * based on the required visible items on the playing board.
      * @param requiredItems The required items for each pattern.
      */
-    private ItemPattern(ItemsCounter requiredItems) {
+    ItemPattern(ItemsCounter requiredItems) {
         // Initialize the private final field.
         this.requiredItems = requiredItems;
     }
@@ -66,51 +66,15 @@ public class ItemPattern extends PatternFinder {
     public int findPatterns(BoardInfo board) throws ObjectivesException {
 
         // Check if the resource counter is ok.
-        if (hasNegativeItems(board.getItems())) {
+        if (board.getItems().hasNegative()) {
             throw new ObjectivesException(
                     String.format("The playing board has negative items: %s", board.getItems()));
         }
 
-        // Initialize the counter of patterns to zero.
-        int patternCount = 0;
-
-        // Get available items from the playing board.
-        ItemsCounter availableItems = board.getItems();
-
-        // Each time I subtract the required items from the available
-        // items, and the available remain not-negative, I found a pattern.
-        while (true) {
-
-            // Subtract required items from the available items.
-            availableItems = ItemsCounter.subtract(availableItems, this.requiredItems);
-
-            // Check if available items become negative.
-            if (hasNegativeItems(availableItems)) {
-                break;
-            }
-
-            // Not negative -> A new pattern is found!
-            patternCount++;
-        }
-
-        // Return the counter of found patterns.
-        return patternCount;
-    }
-
-    //endregion
-
-    //region Private Static Methods
-
-    /**
-     * Check if the counter of any item is negative.
-     * @param items The items counter.
-     * @return True if there is a negative item counter.
-     */
-    private static boolean hasNegativeItems(ItemsCounter items) {
-
-        return /* feathers */(items.getFeatherCount()) < 0 ||
-               /* inks */    (items.getInkCount()) < 0 ||
-               /* vellum */  (items.getVellumCount()) < 0;
+        // The patterns are counted at once: each pattern takes the required items, so
+        // the number of patterns is the minimum of the available count divided by the
+        // required count, among the required items.
+        return board.getItems().countMultiples(this.requiredItems);
     }
 
     //endregion
@@ -0,0 +1,168 @@
+package it.polimi.ingsw.am52.model.objectives;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import it.polimi.ingsw.am52.model.cards.CardCatalog;
+import it.polimi.ingsw.am52.model.playingBoards.BoardExtent;
+import it.polimi.ingsw.am52.model.playingBoards.BoardInfo;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+
+/**
+ * A bitboard view of the cards placed on a playing board: one plane for each
+ * kingdom, with the columns of the board extent as words. The slot (h,v) is the
+ * bit (h+v)/2 of the column h, so that the slot on the top of a card is the next bit
+ * of the same column, the slot on its top-right corner is the next bit of the next
+ * column and the slot on its top-left corner is the same bit of the previous column.
+ * <P>
+ * The shapes of cards are then found with a few shifts and ANDs for each column.
+ */
+public final class KingdomPlanes {
+
+    //region Private Static Final Fields
+
+    /**
+     * The number of bits of a column.
+     */
+    private static final int COLUMN_BITS = Long.SIZE;
+
+    /**
+     * The empty columns added at each side of the planes, so that the
+     * neighbor columns of any column are always in the planes.
+     */
+    private static final int PADDING = 2;
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * The columns of each plane, by kingdom code.
+     */
+    private final long[][] planes;
+
+    /**
+     * The horizontal coordinate of the first column.
+     */
+    private final int minHoriz;
+
+    /**
+     * The (h+v)/2 value of the slots at the lowest bit of the columns.
+     */
+    private final int minBit;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates the empty planes of a board.
+     * @param columns The number of columns of the board extent.
+     * @param minHoriz The horizontal coordinate of the first column.
+     * @param minBit The (h+v)/2 value of the slots at the lowest bit of the columns.
+     */
+    private KingdomPlanes(int columns, int minHoriz, int minBit) {
+        this.planes = new long[CardCatalog.KINGDOM_CODES_COUNT][columns + 2 * PADDING];
+        this.minHoriz = minHoriz;
+        this.minBit = minBit;
+    }
+
+    //endregion
+
+    //region Public Static Methods
+
+    /**
+     * Build the planes of the cards placed on a playing board. The planes are
+     * available only if the placed cards span at most 64 bits in each column, that
+     * is always the case for the cards placed in a game.
+     * @param board The playing board info.
+     * @return The (optional) planes of the board, empty if the cards span too many bits.
+     */
+    public static Optional<KingdomPlanes> of(BoardInfo board) {
+        BoardExtent extent = board.getExtent();
+
+        // The lowest and highest bits of the placed cards.
+        int minBit = Integer.MAX_VALUE;
+        int maxBit = Integer.MIN_VALUE;
+        for (BoardSlot slot : board.getCoveredSlots()) {
+            minBit = Math.min(minBit, bitOf(slot));
+            maxBit = Math.max(maxBit, bitOf(slot));
+        }
+        if (maxBit >= minBit && maxBit - minBit >= COLUMN_BITS) {
+            return Optional.empty();
+        }
+
+        KingdomPlanes planes = new KingdomPlanes(extent.getWidth(), extent.minHoriz(), minBit);
+        for (BoardSlot slot : board.getCoveredSlots()) {
+            int code = CardCatalog.getKingdomCode(board.getCardAt(slot));
+            if (code >= 0) {
+                planes.planes[code][slot.getHoriz() - planes.minHoriz + PADDING] |= 1L << (bitOf(slot) - minBit);
+            }
+        }
+        return Optional.of(planes);
+    }
+
+    //endregion
+
+    //region Package-Private Methods
+
+    /**
+     * Find the slots where a shape of cards is placed on the board: the cards
+     * at the offsets of the shape, from the slot, have the kingdoms of the shape.
+     * Each column of candidates is the AND of the shifted columns of the cells.
+     * @param horizOffsets The horizontal offsets of the cells of the shape.
+     * @param vertOffsets The vertical offsets of the cells of the shape.
+     * @param kingdomCodes The kingdom codes of the cells of the shape.
+     * @return The slots of the shape, column by column.
+     */
+    List<BoardSlot> findShapes(int[] horizOffsets, int[] vertOffsets, int[] kingdomCodes) {
+        List<BoardSlot> slots = new ArrayList<>();
+        for (int c = 0; c < this.planes[0].length - 2 * PADDING; c++) {
+            long candidates = -1L;
+            for (int cell = 0; cell != kingdomCodes.length && candidates != 0; cell++) {
+                long column = this.getColumn(kingdomCodes[cell], c + horizOffsets[cell]);
+                int shift = (horizOffsets[cell] + vertOffsets[cell]) / 2;
+                candidates &= shift >= COLUMN_BITS || shift <= -COLUMN_BITS ? 0 :
+                        shift >= 0 ? column >>> shift : column << -shift;
+            }
+            while (candidates != 0) {
+                int bit = Long.numberOfTrailingZeros(candidates);
+                candidates &= candidates - 1;
+                int horiz = this.minHoriz + c;
+                slots.add(new BoardSlot(horiz, 2 * (this.minBit + bit) - horiz));
+            }
+        }
+        return slots;
+    }
+
+    //endregion
+
+    //region Private Methods
+
+    /**
+     *
+     * @param kingdomCode The kingdom code of the plane.
+     * @param column The column, from the first column of the board extent.
+     * @return The column of the plane, empty if it is outside the planes.
+     */
+    private long getColumn(int kingdomCode, int column) {
+        long[] columns = this.planes[kingdomCode];
+        return column + PADDING < 0 || column + PADDING >= columns.length ? 0 : columns[column + PADDING];
+    }
+
+    //endregion
+
+    //region Private Static Methods
+
+    /**
+     *
+     * @param slot The slot.
+     * @return The bit of the slot in its column, before recentering.
+     */
+    private static int bitOf(BoardSlot slot) {
+        return (slot.getHoriz() + slot.getVert()) / 2;
+    }
+
+    //endregion
+}
@@ -1,8 +1,18 @@
 package it.polimi.ingsw.am52.model.objectives;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import it.polimi.ingsw.am52.model.cards.ItemsCounter;
+import it.polimi.ingsw.am52.model.cards.Kingdom;
+import it.polimi.ingsw.am52.model.cards.ResourcesCounter;
 import it.polimi.ingsw.am52.util.ImmutableList;
 import it.polimi.ingsw.am52.model.decks.RandomDealer;
 import it.polimi.ingsw.am52.exceptions.ObjectivesException;
@@ -33,10 +43,15 @@ public class Objective {
      */
     private static final int LAST_INDEX = 15;
 
+    /**
+     * The resource that describes the objectives.
+     */
+    private static final String OBJECTIVES_RESOURCE = "objectives.json";
+
     /**
      * The list of all available objectives.
      */
-    private static ImmutableList<Objective> objectives = null;
+    private static final ImmutableList<Objective> objectives = createObjectives();
 
     //endregion
 
@@ -86,55 +101,112 @@ public class Objective {
      * @return The list of all 16 objectives available in the game.
      */
     public static ImmutableList<Objective> getObjectives() {
+        return Objective.objectives;
+    }
+
+    /**
+     * Create the list of all the 16 objectives, when the class is initialized. The
+     * objectives are described in the json resource of this package.
+     * @return The list of all the 16 objectives.
+     * @throws ObjectivesException If the resource is missing, or it does not describe
+     * the 16 objectives sorted by identifier.
+     */
+    private static ImmutableList<Objective> createObjectives() throws ObjectivesException {
+
+        // Read and parse the description of the objectives.
+        ImmutableList<Objective> objectives;
+        try (InputStream stream = Objective.class.getResourceAsStream(OBJECTIVES_RESOURCE)) {
+            if (stream == null) {
+                throw new ObjectivesException(String.format("Missing resource %s.", OBJECTIVES_RESOURCE));
+            }
+            objectives = parseFromJson(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new ObjectivesException(String.format("Invalid resource %s.", OBJECTIVES_RESOURCE), e);
+        }
 
-        // If the static field already exists, then return it.
-        if (Objective.objectives != null) {
-            return Objective.objectives;
+        // The objectives are looked up by their position in the list.
+        if (objectives.size() != LAST_INDEX - START_INDEX + 1) {
+            throw new ObjectivesException(
+                    String.format("The resource %s has %d objectives.", OBJECTIVES_RESOURCE, objectives.size()));
+        }
+        for (int index = 0; index != objectives.size(); index++) {
+            if (objectives.get(index).getObjectiveId() != START_INDEX + index) {
+                throw new ObjectivesException(
+                        String.format("The objectives of the resource %s are not sorted by identifier.", OBJECTIVES_RESOURCE));
+            }
         }
 
-        // The static field does not exist, so I have to create it.
+        return objectives;
+    }
 
-        // Create a new empty List of card faces.
-        List<Objective> objectives = new ArrayList<>();
+    /**
+     * Parse a json text and return the objectives it describes. The json text is an
+     * array of objects, each with the following fields (case-sensitive):
+     * <ul>
+     *     <li>"id": integer, the numerical identifier of the objective.</li>
+     *     <li>"bonus": integer, the bonus points for each pattern found on the playing board.</li>
+     *     <li>"shape": array, the cells of a shape of cards, each with the "horiz" and "vert"
+     *     offsets from the first cell and the "kingdom" of its card ("fungi", "plant", "animal",
+     *     "insect"); the first cell is at offset (0,0).</li>
+     *     <li>"resources": object, the count of each resource required by a pattern
+     *     ("fungi", "plant", "animal", "insect").</li>
+     *     <li>"items": object, the count of each item required by a pattern ("feather", "ink", "vellum").</li>
+     * </ul>
+     * Each objective has exactly one of the "shape", "resources" and "items" fields. Other
+     * fields (e.g. the "page" of the card in the ref. manual) are ignored.
+     * @param json The json text with the objectives.
+     * @return The list of the objectives, in the same order of the json array.
+     * @throws JsonProcessingException If the text is not a valid json-formatted text.
+     * @throws ObjectivesException If the json text does not describe valid objectives.
+     */
+    public static ImmutableList<Objective> parseFromJson(String json) throws JsonProcessingException, ObjectivesException {
 
-        // Populate the list with all objectives.
-
-        /*
-         * The comment at the beginning of each row is the page number of 
-         * the corresponding Objective card in the ref. manual
-         * (CODEX_cards_gold_front.pdf).
-         */
-
-        // 1) Four diagonal patterns, each with 2 bonus points.
-        /*  87 */objectives.add(new Objective(0, 2, DiagonalPattern.FUNGI_DIAGONAL));
-        /*  88 */objectives.add(new Objective(1, 2, DiagonalPattern.PLANT_DIAGONAL));
-        /*  89 */objectives.add(new Objective(2, 2, DiagonalPattern.ANIMAL_DIAGONAL));
-        /*  90 */objectives.add(new Objective(3, 2, DiagonalPattern.INSECT_DIAGONAL));
-
-        // 2) Four tower patterns, each with 3 bonus points.
-        /*  91 */objectives.add(new Objective(4, 3, TowerPattern.FUNGI_TOWER));
-        /*  92 */objectives.add(new Objective(5, 3, TowerPattern.PLANT_TOWER));
-        /*  93 */objectives.add(new Objective(6, 3, TowerPattern.ANIMAL_TOWER));
-        /*  94 */objectives.add(new Objective(7, 3, TowerPattern.INSECT_TOWER));
-
-        // 3) Four resource objectives, each with 2 bonus points.
-        /*  95 */objectives.add(new Objective(8, 2, ResourcePattern.FUNGI_RESOURCES));
-        /*  96 */objectives.add(new Objective(9, 2, ResourcePattern.PLANT_RESOURCES));
-        /*  97 */objectives.add(new Objective(10, 2, ResourcePattern.ANIMAL_RESOURCES));
-        /*  98 */objectives.add(new Objective(11, 2, ResourcePattern.INSECT_RESOURCES));
-
-        // 4) Four item objectives.
-        /*  99 */objectives.add(new Objective(12, 3, ItemPattern.ALL_ITEMS));
-        /* 100 */objectives.add(new Objective(13, 2, ItemPattern.FEATHER_ITEMS));
-        /* 100 */objectives.add(new Objective(14, 2, ItemPattern.INK_ITEMS));
-        /* 100 */objectives.add(new Objective(15, 2, ItemPattern.VELLUM_ITEMS));
-
-        // Save the reference into the static field, as an immutable list.
-        Objective.objectives = new ImmutableList<>(objectives);
-
-        // Return the static field.
-        return Objective.objectives;
+        // Create the object mapper and get the json array.
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode jsonNode = objectMapper.readTree(json);
+        if (!jsonNode.isArray()) {
+            throw new ObjectivesException("The objectives must be a json array.");
+        }
+
+        List<Objective> objectives = new ArrayList<>();
+        for (JsonNode objectiveNode : jsonNode) {
+            if (!objectiveNode.path("id").canConvertToInt() || !objectiveNode.path("bonus").canConvertToInt()) {
+                throw new ObjectivesException("Each objective must have an integer id and bonus.");
+            }
+
+            // Exactly one pattern: a typo in the description must not change the objective.
+            int patterns = (objectiveNode.has("shape") ? 1 : 0) + (objectiveNode.has("resources") ? 1 : 0) +
+                    (objectiveNode.has("items") ? 1 : 0);
+            if (patterns != 1) {
+                throw new ObjectivesException(String.format(
+                        "The objective %d must have exactly one pattern.", objectiveNode.get("id").asInt()));
+            }
+
+            // The finder of the pattern, compiled from its description.
+            PatternFinder finder;
+            if (objectiveNode.has("shape")) {
+                List<ShapePattern.ShapeCell> cells = new ArrayList<>();
+                for (JsonNode cellNode : objectiveNode.get("shape")) {
+                    cells.add(new ShapePattern.ShapeCell(cellNode.path("horiz").asInt(), cellNode.path("vert").asInt(),
+                            parseKingdom(cellNode.path("kingdom").asText())));
+                }
+                finder = new ShapePattern(cells);
+            } else if (objectiveNode.has("resources")) {
+                JsonNode counts = objectiveNode.get("resources");
+                checkCountNames(counts, "fungi", "plant", "animal", "insect");
+                finder = new ResourcePattern(new ResourcesCounter(counts.path("fungi").asInt(), counts.path("plant").asInt(),
+                        counts.path("animal").asInt(), counts.path("insect").asInt()));
+            } else {
+                JsonNode counts = objectiveNode.get("items");
+                checkCountNames(counts, "feather", "ink", "vellum");
+                finder = new ItemPattern(new ItemsCounter(counts.path("feather").asInt(), counts.path("ink").asInt(),
+                        counts.path("vellum").asInt()));
+            }
+
+            objectives.add(new Objective(objectiveNode.get("id").asInt(), objectiveNode.get("bonus").asInt(), finder));
+        }
 
+        return new ImmutableList<>(objectives);
     }
 
     /**
@@ -160,6 +232,42 @@ public class Objective {
 
     //endregion
 
+    //region Private Static Methods
+
+    /**
+     *
+     * @param name The name of a kingdom in the json text.
+     * @return The kingdom.
+     * @throws ObjectivesException If the name is not the name of a kingdom.
+     */
+    private static Kingdom parseKingdom(String name) throws ObjectivesException {
+        return switch (name) {
+            case "fungi" -> Kingdom.FUNGI_KINGDOM;
+            case "plant" -> Kingdom.PLANT_KINGDOM;
+            case "animal" -> Kingdom.ANIMAL_KINGDOM;
+            case "insect" -> Kingdom.INSECT_KINGDOM;
+            default -> throw new ObjectivesException(String.format("Unknown kingdom \"%s\".", name));
+        };
+    }
+
+    /**
+     * Check that the counts of a pattern have only known names.
+     * @param counts The json object with the counts.
+     * @param names The known names.
+     * @throws ObjectivesException If a count has an unknown name.
+     */
+    private static void checkCountNames(JsonNode counts, String... names) throws ObjectivesException {
+        Iterator<String> iter = counts.fieldNames();
+        while (iter.hasNext()) {
+            String field = iter.next();
+            if (!List.of(names).contains(field)) {
+                throw new ObjectivesException(String.format("Unknown count \"%s\".", field));
+            }
+        }
+    }
+
+    //endregion
+
     //region Constructors
 
     /**
@@ -204,6 +312,14 @@ public class Objective {
         return this.bonusPoints;
     }
 
+    /**
+     *
+     * @return The object able to find the pattern on the playing board.
+     */
+    PatternFinder getFinder() {
+        return this.finder;
+    }
+
     //endregion
 
     public boolean equals(Objective obj) {
@@ -0,0 +1,114 @@
+package it.polimi.ingsw.am52.model.objectives;
+
+import java.util.List;
+import java.util.Optional;
+
+import it.polimi.ingsw.am52.exceptions.ObjectivesException;
+import it.polimi.ingsw.am52.model.playingBoards.BoardInfo;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import it.polimi.ingsw.am52.util.ImmutableList;
+
+/**
+ * The running state of some objectives on a playing board: the number of patterns
+ * of each objective, found once when the tracker is created and then updated after
+ * each placement. The points of the objectives are a read of the running state.
+ */
+public final class ObjectivesTracker {
+
+    //region Private Fields
+
+    /**
+     * The tracked objectives.
+     */
+    private final ImmutableList<Objective> objectives;
+
+    /**
+     * The number of patterns of each objective found on the playing board.
+     */
+    private final int[] patterns;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a tracker of some objectives, and finds their patterns on the playing board.
+     * @param objectives The objectives to track.
+     * @param board The playing board info.
+     * @throws ObjectivesException If the passed board info are not valid (e.g. the
+     * board has negative resource's or item's counter).
+     */
+    public ObjectivesTracker(List<Objective> objectives, BoardInfo board) throws ObjectivesException {
+        this.objectives = new ImmutableList<>(objectives);
+        this.patterns = new int[objectives.size()];
+
+        // The planes of the board are shared by the objectives.
+        Optional<KingdomPlanes> planes = KingdomPlanes.of(board);
+        for (int index = 0; index != this.patterns.length; index++) {
+            PatternFinder finder = objectives.get(index).getFinder();
+            this.patterns[index] = planes.isPresent() ? finder.findPatterns(board, planes.get()) : finder.findPatterns(board);
+        }
+    }
+
+    //endregion
+
+    //region Public Methods
+
+    /**
+     * Update the patterns of the objectives after a card is placed on the playing board.
+     * @param board The playing board info, with the card already placed.
+     * @param placed The slot of the placed card.
+     * @throws ObjectivesException If the passed board info are not valid (e.g. the
+     * board has negative resource's or item's counter).
+     */
+    public void update(BoardInfo board, BoardSlot placed) throws ObjectivesException {
+        for (int index = 0; index != this.patterns.length; index++) {
+            this.patterns[index] = this.objectives.get(index).getFinder().updatePatterns(board, placed, this.patterns[index]);
+        }
+    }
+
+    /**
+     * Calculate the points of the objectives as if a card were placed on the playing board,
+     * without changing the running state: the patterns are updated as in {@link #update},
+     * on a board info that has the card.
+     * @param board The playing board info, with the card placed.
+     * @param placed The slot of the card.
+     * @return The points given by the tracked objectives after the placement.
+     * @throws ObjectivesException If the passed board info are not valid (e.g. the
+     * board has negative resource's or item's counter).
+     */
+    public int previewPoints(BoardInfo board, BoardSlot placed) throws ObjectivesException {
+        int points = 0;
+        for (int index = 0; index != this.patterns.length; index++) {
+            Objective objective = this.objectives.get(index);
+            points += objective.getFinder().updatePatterns(board, placed, this.patterns[index]) * objective.getBonusPoints();
+        }
+        return points;
+    }
+
+    //endregion
+
+    //region Getters
+
+    /**
+     *
+     * @return The tracked objectives.
+     */
+    public ImmutableList<Objective> getObjectives() {
+        return this.objectives;
+    }
+
+    /**
+     *
+     * @return The points given by the tracked objectives on the playing board.
+     */
+    public int getPoints() {
+        int points = 0;
+        for (int index = 0; index != this.patterns.length; index++) {
+            points += this.patterns[index] * this.objectives.get(index).getBonusPoints();
+        }
+        return points;
+    }
+
+    //endregion
+}
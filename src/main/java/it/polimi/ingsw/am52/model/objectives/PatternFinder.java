@@ -1,7 +1,10 @@
 package it.polimi.ingsw.am52.model.objectives;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import it.polimi.ingsw.am52.exceptions.ObjectivesException;
 import it.polimi.ingsw.am52.model.playingBoards.BoardInfo;
@@ -31,6 +34,9 @@ public abstract class PatternFinder {
             return new ArrayList<>();
         }
 
+        // Index the slots once, each step checks the index instead of the list.
+        Set<BoardSlot> slotSet = new HashSet<>(slots);
+
         for (int index = 0; index != slots.size(); index++) {
 
             // The list of aligned elements.
@@ -57,7 +63,7 @@ public abstract class PatternFinder {
                 };
 
                 // There is not a previous slot, break from while loop.
-                if (!slots.contains(prevSlot)) {
+                if (!slotSet.contains(prevSlot)) {
                     break;
                 }
 
@@ -76,7 +82,7 @@ public abstract class PatternFinder {
                 BoardSlot nextSlot = start.getSlotAt(direction);
 
                 // There is not a contiguous slot aligned, break from loop.
-                if (!slots.contains(nextSlot)) {
+                if (!slotSet.contains(nextSlot)) {
                     break;
                 }
 
@@ -102,6 +108,69 @@ public abstract class PatternFinder {
         return res;
     }
 
+    /**
+     * Finds all the sequences of aligned slot positions, along the specified direction. Each
+     * sequence is as long as possible, and each slot belongs to exactly one sequence (that
+     * may contain only that slot). The slots are sorted once by their line and by their
+     * position along the line, then each line is walked once.
+     * @param slots The list of slot positions to investigate.
+     * @param direction The relative direction of aligned slots.
+     * @return The sequences of aligned slots, each one sorted along the specified direction.
+     */
+    public static List<List<BoardSlot>> findLines(List<BoardSlot> slots, RelativeLocation direction) {
+
+        // The step between two aligned slots.
+        int step = BoardSlot.packedNeighbor(BoardSlot.PACKED_ROOT, direction);
+        int stepHoriz = BoardSlot.unpackHoriz(step);
+        int stepVert = BoardSlot.unpackVert(step);
+
+        // The key of each slot: its line (the cross product with the step, the same for
+        // all aligned slots) in the high bits, and its position along the line (the dot
+        // product with the step) in the low bits. Two aligned slots are contiguous if
+        // their keys differ by the squared length of the step.
+        long stride = (long) stepHoriz * stepHoriz + (long) stepVert * stepVert;
+        long[] keys = new long[slots.size()];
+        for (int i = 0; i != keys.length; i++) {
+            int horiz = slots.get(i).getHoriz();
+            int vert = slots.get(i).getVert();
+            keys[i] = lineKey(stepVert * horiz - stepHoriz * vert, stepHoriz * horiz + stepVert * vert);
+        }
+        Arrays.sort(keys);
+
+        // Split the sorted keys in sequences of contiguous slots.
+        List<List<BoardSlot>> lines = new ArrayList<>();
+        List<BoardSlot> line = null;
+        for (int i = 0; i != keys.length; i++) {
+            if (line == null || keys[i] != keys[i - 1] + stride) {
+                line = new ArrayList<>();
+                lines.add(line);
+            }
+
+            // Back from the line and the position to the coordinates.
+            int lineIndex = (int) (keys[i] >> 32);
+            int position = (int) ((keys[i] & 0xFFFF_FFFFL) - (1L << 31));
+            line.add(new BoardSlot(
+                    (int) ((stepHoriz * position + stepVert * lineIndex) / stride),
+                    (int) ((stepVert * position - stepHoriz * lineIndex) / stride)));
+        }
+
+        return lines;
+    }
+
+    //endregion
+
+    //region Private Static Methods
+
+    /**
+     *
+     * @param line The line of a slot.
+     * @param position The position of the slot along the line.
+     * @return The key of the slot, sorted by line and then by position.
+     */
+    private static long lineKey(int line, int position) {
+        return ((long) line << 32) + position + (1L << 31);
+    }
+
     //endregion
     
     //region Public Methods
@@ -115,6 +184,33 @@ public abstract class PatternFinder {
      */
     public abstract int findPatterns(BoardInfo board) throws ObjectivesException;
 
+    /**
+     * Find the card pattern in the cards placed on the playing board, using the
+     * kingdom planes of the board when the pattern is made of placed cards.
+     * @param board The playing board info.
+     * @param planes The kingdom planes of the same playing board.
+     * @return The number of times the pattern is present on the playing board.
+     * @throws ObjectivesException If the passed board info are not valid (e.g. the
+     * board has negative resource's or item's counter).
+     */
+    public int findPatterns(BoardInfo board, KingdomPlanes planes) throws ObjectivesException {
+        return this.findPatterns(board);
+    }
+
+    /**
+     * Update the number of patterns on the playing board after a card is placed.
+     * The finders that do not keep track of the patterns find them again on the board.
+     * @param board The playing board info, with the card already placed.
+     * @param placed The slot of the placed card.
+     * @param patterns The number of patterns found before the card was placed.
+     * @return The number of times the pattern is present on the playing board.
+     * @throws ObjectivesException If the passed board info are not valid (e.g. the
+     * board has negative resource's or item's counter).
+     */
+    public int updatePatterns(BoardInfo board, BoardSlot placed, int patterns) throws ObjectivesException {
+        return this.findPatterns(board);
+    }
+
     //endregion
 
 }
@@ -50,7 +50,7 @@ public class ResourcePattern extends PatternFinder {
      * based on the required visible resources on the playing board.
      * @param requiredResources The required resources for each pattern.
      */
-    private ResourcePattern(ResourcesCounter requiredResources) {
+    ResourcePattern(ResourcesCounter requiredResources) {
         // Initialize the private final field.
         this.requiredResources = requiredResources;
     }
@@ -66,52 +66,15 @@ public class ResourcePattern extends PatternFinder {
     public int findPatterns(BoardInfo board) throws ObjectivesException {
 
         // Check if the resource counter is ok.
-        if (hasNegativeItems(board.getResources())) {
+        if (board.getResources().hasNegative()) {
             throw new ObjectivesException(
                     String.format("The playing board has negative resources: %s", board.getResources()));
         }
 
-        // Initialize the counter of patterns to zero.
-        int patternCount = 0;
-
-        // Get available resources from the playing board.
-        ResourcesCounter availableResources = board.getResources();
-
-        // Each time I subtract the required resources from the available
-        // resources, and the available remain not-negative, I found a pattern.
-        while (true) {
-
-            // Subtract required resources from the available resources.
-            availableResources = ResourcesCounter.subtract(availableResources, this.requiredResources);
-
-            // Check if available resources become negative.
-            if (hasNegativeItems(availableResources)) {
-                break;
-            }
-
-            // Not negative -> A new pattern is found!
-            patternCount++;
-        }
-
-        // Return the counter of found patterns.
-        return patternCount;
-    }
-
-    //endregion
-
-    //region Private Static Methods
-
-    /**
-     * Check if the counter of any resource is negative.
-     * @param items The items counter.
-     * @return True if there is a negative item counter.
-     */
-    private static boolean hasNegativeItems(ResourcesCounter items) {
-
-        return /* fungi */  (items.getFungiCount()) < 0 ||
-               /* plants */ (items.getPlantCount()) < 0 ||
-               /* animal */ (items.getAnimalCount()) < 0 ||
-               /* insects */(items.getInsectCount()) < 0;
+        // The patterns are counted at once: each pattern takes the required resources, so
+        // the number of patterns is the minimum of the available count divided by the
+        // required count, among the required resources.
+        return board.getResources().countMultiples(this.requiredResources);
     }
 
     //endregion
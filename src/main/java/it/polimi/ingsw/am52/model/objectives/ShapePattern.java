@@ -0,0 +1,366 @@
+package it.polimi.ingsw.am52.model.objectives;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import it.polimi.ingsw.am52.exceptions.ObjectivesException;
+import it.polimi.ingsw.am52.model.cards.CardCatalog;
+import it.polimi.ingsw.am52.model.cards.Kingdom;
+import it.polimi.ingsw.am52.model.playingBoards.BoardInfo;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import it.polimi.ingsw.am52.model.playingBoards.RelativeLocation;
+
+/**
+ * Find the occurrences of a shape of cards on the playing board. The shape is a
+ * list of cells, each with the offset of its slot from the first cell and the kingdom
+ * of the card placed on it; the first cell is at offset (0,0).
+ * <P>
+ * The shapes found are counted without sharing cards: the candidate shapes are
+ * walked along the lines of the scan direction, that is the direction from the first
+ * cell to the second one, and a shape is counted only if none of its cards belongs to
+ * a shape already counted. The diagonal and tower patterns of the game are shapes
+ * of three cells, counted as {@link DiagonalPattern} and {@link TowerPattern} do.
+ */
+public class ShapePattern extends PatternFinder {
+
+    //region Private Static Final Fields
+
+    /**
+     * The packed slot that excludes no slot, zero is never a packed slot.
+     */
+    private static final int NO_SLOT = 0;
+
+    //endregion
+
+    //region Inner Records
+
+    /**
+     * A cell of a shape.
+     * @param horiz The horizontal offset of the cell from the first cell.
+     * @param vert The vertical offset of the cell from the first cell.
+     * @param kingdom The kingdom of the card placed on the cell.
+     */
+    public record ShapeCell(int horiz, int vert, Kingdom kingdom) {
+    }
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * The horizontal offsets of the cells.
+     */
+    private final int[] horizOffsets;
+
+    /**
+     * The vertical offsets of the cells.
+     */
+    private final int[] vertOffsets;
+
+    /**
+     * The kingdom codes of the cells.
+     */
+    private final int[] kingdomCodes;
+
+    /**
+     * The direction of the lines walked to count the shapes.
+     */
+    private final RelativeLocation direction;
+
+    /**
+     * The horizontal and vertical step along the direction.
+     */
+    private final int stepHoriz;
+    private final int stepVert;
+
+    /**
+     * The largest distance, in steps along the direction, between two shapes that can
+     * share a card, or -1 if two shapes on different lines can share a card.
+     */
+    private final int conflictSteps;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates an object that is able to find a shape of cards.
+     * @param cells The cells of the shape, the first one at offset (0,0).
+     * @throws ObjectivesException If the shape has no cells, the first cell is not at
+     * offset (0,0), a cell is not at a valid slot offset or two cells have the same offset.
+     */
+    public ShapePattern(List<ShapeCell> cells) throws ObjectivesException {
+        if (cells.isEmpty() || cells.get(0).horiz() != 0 || cells.get(0).vert() != 0) {
+            throw new ObjectivesException("The first cell of a shape must be at offset (0,0).");
+        }
+
+        this.horizOffsets = new int[cells.size()];
+        this.vertOffsets = new int[cells.size()];
+        this.kingdomCodes = new int[cells.size()];
+        Set<Integer> offsets = new HashSet<>();
+        for (int cell = 0; cell != cells.size(); cell++) {
+            ShapeCell shapeCell = cells.get(cell);
+            if (!BoardSlot.validateCoords(shapeCell.horiz(), shapeCell.vert()) ||
+                    !offsets.add(BoardSlot.pack(shapeCell.horiz(), shapeCell.vert()))) {
+                throw new ObjectivesException(
+                        String.format("Invalid offset (%d,%d) of a shape cell.", shapeCell.horiz(), shapeCell.vert()));
+            }
+            this.horizOffsets[cell] = shapeCell.horiz();
+            this.vertOffsets[cell] = shapeCell.vert();
+            this.kingdomCodes[cell] = CardCatalog.getKingdomCode(shapeCell.kingdom());
+        }
+
+        this.direction = cells.size() == 1 ? RelativeLocation.TOP : scanDirection(cells.get(1).horiz(), cells.get(1).vert());
+        int step = BoardSlot.packedNeighbor(BoardSlot.PACKED_ROOT, this.direction);
+        this.stepHoriz = BoardSlot.unpackHoriz(step);
+        this.stepVert = BoardSlot.unpackVert(step);
+
+        // Two shapes share a card if a cell of one is on a cell of the other with the same
+        // kingdom: the distance of the shapes is the difference of the offsets of the cells.
+        int steps = 0;
+        for (int i = 0; i != cells.size() && steps >= 0; i++) {
+            for (int j = 0; j != cells.size(); j++) {
+                int horiz = this.horizOffsets[i] - this.horizOffsets[j];
+                int vert = this.vertOffsets[i] - this.vertOffsets[j];
+                if (i == j || this.kingdomCodes[i] != this.kingdomCodes[j]) {
+                    continue;
+                }
+                if (this.stepHoriz * vert != this.stepVert * horiz) {
+                    // Not along the direction.
+                    steps = -1;
+                    break;
+                }
+                steps = Math.max(steps, Math.abs(this.stepHoriz != 0 ? horiz / this.stepHoriz : vert / this.stepVert));
+            }
+        }
+        this.conflictSteps = steps;
+    }
+
+    //endregion
+
+    //region Private Static Methods
+
+    /**
+     *
+     * @param horiz The horizontal offset of the second cell.
+     * @param vert The vertical offset of the second cell.
+     * @return The relative location with the same direction of the offset, or TOP if there is none.
+     */
+    private static RelativeLocation scanDirection(int horiz, int vert) {
+        for (RelativeLocation location : RelativeLocation.values()) {
+            int step = BoardSlot.packedNeighbor(BoardSlot.PACKED_ROOT, location);
+            int stepHoriz = BoardSlot.unpackHoriz(step);
+            int stepVert = BoardSlot.unpackVert(step);
+            // Parallel and in the same verse.
+            if (stepHoriz * vert == stepVert * horiz && stepHoriz * horiz + stepVert * vert > 0) {
+                return location;
+            }
+        }
+        return RelativeLocation.TOP;
+    }
+
+    /**
+     *
+     * @param board The playing board info.
+     * @param horiz The horizontal coordinate of a slot.
+     * @param vert The vertical coordinate of a slot.
+     * @return The kingdom code of the card placed on the slot, -1 if there is no card.
+     */
+    private static int kingdomAt(BoardInfo board, int horiz, int vert) {
+        // The card on the top of the slot below.
+        return board.getNeighborCard(new BoardSlot(horiz, vert - 2), RelativeLocation.TOP)
+                .map(CardCatalog::getKingdomCode).orElse(-1);
+    }
+
+    //endregion
+
+    //region Private Methods
+
+    /**
+     *
+     * @param board The playing board info.
+     * @param horiz The horizontal coordinate of the first cell.
+     * @param vert The vertical coordinate of the first cell.
+     * @param excluded The packed slot considered empty.
+     * @return True if the shape is placed on the board from the slot, without the excluded slot.
+     */
+    private boolean isShape(BoardInfo board, int horiz, int vert, int excluded) {
+        for (int cell = 0; cell != this.kingdomCodes.length; cell++) {
+            int cellHoriz = horiz + this.horizOffsets[cell];
+            int cellVert = vert + this.vertOffsets[cell];
+            if (BoardSlot.pack(cellHoriz, cellVert) == excluded || kingdomAt(board, cellHoriz, cellVert) != this.kingdomCodes[cell]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Count the shapes of a piece of line, without sharing cards.
+     * @param board The playing board info.
+     * @param horiz The horizontal coordinate of the first slot of the piece of line.
+     * @param vert The vertical coordinate of the first slot of the piece of line.
+     * @param length The number of slots of the piece of line.
+     * @param excluded The packed slot considered empty.
+     * @return The number of shapes counted.
+     */
+    private int countLine(BoardInfo board, int horiz, int vert, int length, int excluded) {
+        int patterns = 0;
+        Set<Integer> used = new HashSet<>();
+        for (int position = 0; position != length; position++) {
+            int slotHoriz = horiz + position * this.stepHoriz;
+            int slotVert = vert + position * this.stepVert;
+            if (!this.isShape(board, slotHoriz, slotVert, excluded)) {
+                continue;
+            }
+            int[] cards = new int[this.kingdomCodes.length];
+            boolean free = true;
+            for (int cell = 0; cell != cards.length && free; cell++) {
+                cards[cell] = BoardSlot.pack(slotHoriz + this.horizOffsets[cell], slotVert + this.vertOffsets[cell]);
+                free = !used.contains(cards[cell]);
+            }
+            if (free) {
+                patterns++;
+                for (int card : cards) {
+                    used.add(card);
+                }
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Find the slots where the shape is placed on the board, by looking up
+     * the cards of the cells of each covered slot.
+     * @param board The playing board info.
+     * @return The slots of the first cell of the shapes found.
+     */
+    private List<BoardSlot> findShapes(BoardInfo board) {
+        // Index the kingdom codes of the placed cards.
+        Map<Integer, Integer> kingdoms = new HashMap<>();
+        for (BoardSlot slot : board.getCoveredSlots()) {
+            kingdoms.put(slot.toPacked(), CardCatalog.getKingdomCode(board.getCardAt(slot)));
+        }
+
+        return board.getCoveredSlots().stream().filter(slot -> {
+            for (int cell = 0; cell != this.kingdomCodes.length; cell++) {
+                Integer code = kingdoms.get(BoardSlot.pack(slot.getHoriz() + this.horizOffsets[cell],
+                        slot.getVert() + this.vertOffsets[cell]));
+                if (code == null || code != this.kingdomCodes[cell]) {
+                    return false;
+                }
+            }
+            return true;
+        }).toList();
+    }
+
+    /**
+     * Count the shapes found, without sharing cards among the counted shapes.
+     * @param found The slots of the first cell of the shapes found.
+     * @return The number of shapes counted.
+     */
+    private int countShapes(List<BoardSlot> found) {
+        int patterns = 0;
+
+        // The cards of the counted shapes.
+        Set<Integer> used = new HashSet<>();
+
+        for (List<BoardSlot> line : PatternFinder.findLines(found, this.direction)) {
+            for (BoardSlot slot : line) {
+                int[] cards = new int[this.kingdomCodes.length];
+                boolean free = true;
+                for (int cell = 0; cell != cards.length && free; cell++) {
+                    cards[cell] = BoardSlot.pack(slot.getHoriz() + this.horizOffsets[cell], slot.getVert() + this.vertOffsets[cell]);
+                    free = !used.contains(cards[cell]);
+                }
+                if (free) {
+                    patterns++;
+                    for (int card : cards) {
+                        used.add(card);
+                    }
+                }
+            }
+        }
+
+        return patterns;
+    }
+
+    //endregion
+
+    //region Overrides
+
+    @Override
+    public int findPatterns(BoardInfo board) {
+        // Use the planes of the board if available, the cards of the board otherwise.
+        Optional<KingdomPlanes> planes = KingdomPlanes.of(board);
+        if (planes.isPresent()) {
+            return this.findPatterns(board, planes.get());
+        }
+        return this.countShapes(this.findShapes(board));
+    }
+
+    @Override
+    public int findPatterns(BoardInfo board, KingdomPlanes planes) {
+        return this.countShapes(planes.findShapes(this.horizOffsets, this.vertOffsets, this.kingdomCodes));
+    }
+
+    @Override
+    public int updatePatterns(BoardInfo board, BoardSlot placed, int patterns) {
+        // If shapes on different lines can share a card, a new shape can change the
+        // count anywhere: find the shapes again.
+        if (this.conflictSteps < 0) {
+            return this.findPatterns(board);
+        }
+
+        int excluded = placed.toPacked();
+        int code = kingdomAt(board, placed.getHoriz(), placed.getVert());
+
+        // The first slots of the pieces of line already counted again.
+        Set<Integer> counted = new HashSet<>();
+
+        for (int cell = 0; cell != this.kingdomCodes.length; cell++) {
+            // The shape that has this cell on the placed card.
+            int horiz = placed.getHoriz() - this.horizOffsets[cell];
+            int vert = placed.getVert() - this.vertOffsets[cell];
+            if (this.kingdomCodes[cell] != code || !this.isShape(board, horiz, vert, NO_SLOT)) {
+                continue;
+            }
+
+            // The shapes that can share cards with it, directly or through other shapes, are
+            // on the same line and at most conflictSteps apart: only their count can change.
+            int before = 0;
+            for (int gap = 0; gap != this.conflictSteps; ) {
+                gap++;
+                if (this.isShape(board, horiz - (before + gap) * this.stepHoriz, vert - (before + gap) * this.stepVert, NO_SLOT)) {
+                    before += gap;
+                    gap = 0;
+                }
+            }
+            int after = 0;
+            for (int gap = 0; gap != this.conflictSteps; ) {
+                gap++;
+                if (this.isShape(board, horiz + (after + gap) * this.stepHoriz, vert + (after + gap) * this.stepVert, NO_SLOT)) {
+                    after += gap;
+                    gap = 0;
+                }
+            }
+
+            int startHoriz = horiz - before * this.stepHoriz;
+            int startVert = vert - before * this.stepVert;
+            if (counted.add(BoardSlot.pack(startHoriz, startVert))) {
+                // Count the piece of line with and without the placed card.
+                patterns += this.countLine(board, startHoriz, startVert, before + after + 1, NO_SLOT) -
+                        this.countLine(board, startHoriz, startVert, before + after + 1, excluded);
+            }
+        }
+
+        return patterns;
+    }
+
+    //endregion
+
+}
@@ -1,11 +1,9 @@
 package it.polimi.ingsw.am52.model.objectives;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
+import it.polimi.ingsw.am52.model.cards.CardCatalog;
 import it.polimi.ingsw.am52.model.cards.CornerLocation;
 import it.polimi.ingsw.am52.model.cards.Kingdom;
 import it.polimi.ingsw.am52.model.cards.KingdomCardFace;
@@ -116,7 +114,7 @@ public class TowerPattern extends PatternFinder {
 
             //Check if there is the card at the base location, and if it
             // is of the required kingdom.
-            if (baseCard.isPresent() && baseCard.get().getKingdom().equals(baseKingdom)) {
+            if (baseCard.isPresent() && CardCatalog.getKingdom(baseCard.get()) == baseKingdom) {
 
                 // There is a tower pattern, thus increment the counter.
                 patterns++;
@@ -165,7 +163,7 @@ public class TowerPattern extends PatternFinder {
         // Get the list of all slots of the playing board, that have a card
         // placed on them. Get only slots that have a card with the specific 
         // kingdom of the tower of this pattern.
-        List<BoardSlot> slots = board.getCoveredSlots().stream().filter(slot -> board.getCardAt(slot).getKingdom().equals(this.towerKingdom)).toList();
+        List<BoardSlot> slots = board.getCoveredSlots().stream().filter(slot -> CardCatalog.getKingdom(board.getCardAt(slot)) == this.towerKingdom).toList();
 
         // The direction of aligned elements (direction of the tower).
         RelativeLocation direction = switch(this.baseLocation) {
@@ -173,22 +171,9 @@ public class TowerPattern extends PatternFinder {
             case TOP_RIGHT, TOP_LEFT -> RelativeLocation.BOTTOM;
         };
 
-        // Iterate until there are no more elements in the list.
-        // At each iteration, check if there are aligned slots, along the 
-        // direction of the tower, and then remove the aligned slots from
-        // the list.
-        while (!slots.isEmpty()) {
-            
-            // Find slots aligned along the diagonal.
-            List<BoardSlot> aligned = PatternFinder.findAlignedSlots(slots, direction);
-            
-            // Increment the counter: every three slots aligned.
+        // Walk each vertical line once, and check the bases of its towers.
+        for (List<BoardSlot> aligned : PatternFinder.findLines(slots, direction)) {
             patterns += findMatchingBase(board, aligned, baseLocation, baseKingdom);
-            
-            // Remove all checked slots from the collection of slots available.
-            Set<BoardSlot> remaining = new HashSet<>(slots);
-            aligned.forEach(remaining::remove);
-            slots = new ArrayList<>(remaining);
         }
 
         // Return the counter of found patterns.
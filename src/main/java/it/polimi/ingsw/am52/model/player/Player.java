@@ -8,12 +8,14 @@ import it.polimi.ingsw.am52.util.ImmutableList;
 import it.polimi.ingsw.am52.model.cards.KingdomCard;
 import it.polimi.ingsw.am52.model.cards.StarterCardFace;
 import it.polimi.ingsw.am52.model.playingBoards.BoardInfo;
+import it.polimi.ingsw.am52.model.playingBoards.MoveGenerator;
 import it.polimi.ingsw.am52.model.playingBoards.PlayingBoard;
 import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -168,6 +170,18 @@ public class Player implements PlayerSetup, PlayerBoardSetup, PlayerInfo, Player
         return this.playingBoard.getInfo();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MoveGenerator.Move> getMoves() throws PlayingBoardException {
+        if (this.playingBoard == null){
+            throw new PlayingBoardException("The PlayingBoard for the player is not instantiated");
+        }
+
+        return new MoveGenerator(this.playingBoard).getMoves(this.getHand().toList());
+    }
+
     /**
      * @return The total score of the Player
      */
@@ -183,6 +197,30 @@ public class Player implements PlayerSetup, PlayerBoardSetup, PlayerInfo, Player
         return this.score.getObjectiveScore();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getObjectivePoints() {
+        return this.playingBoard == null ? 0 : this.playingBoard.getObjectivePoints();
+    }
+
+    /**
+     * Track the common objectives and the secret objective on the playing board of the player,
+     * so that their points are updated after each placement. Nothing is tracked if the secret
+     * objective is not chosen or the playing board is not instantiated yet.
+     * @param commonObjectives The common objectives of the game.
+     */
+    public void trackObjectives(List<Objective> commonObjectives) {
+        if (this.secretObjective == null || this.playingBoard == null) {
+            return;
+        }
+
+        List<Objective> objectives = new ArrayList<>(commonObjectives);
+        objectives.add(this.secretObjective);
+        this.playingBoard.trackObjectives(objectives);
+    }
+
     /**
      * Add the objective points to the score of the player
      *
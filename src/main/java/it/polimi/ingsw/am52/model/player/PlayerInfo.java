@@ -8,6 +8,9 @@ import it.polimi.ingsw.am52.model.cards.KingdomCard;
 import it.polimi.ingsw.am52.model.cards.StarterCard;
 import it.polimi.ingsw.am52.model.cards.StarterCardFace;
 import it.polimi.ingsw.am52.model.playingBoards.BoardInfo;
+import it.polimi.ingsw.am52.model.playingBoards.MoveGenerator;
+
+import java.util.List;
 
 /**
  * Provides information about a Player
@@ -50,6 +53,13 @@ public interface PlayerInfo {
      */
     BoardInfo getPlayingBoard() throws PlayingBoardException;
 
+    /**
+     *
+     * @return The legal moves of the cards in the hand on the PlayingBoard, with the points
+     * of the card and the change of the objective points of each move
+     */
+    List<MoveGenerator.Move> getMoves() throws PlayingBoardException;
+
     /**
      *
      * @return The total score of the Player
@@ -61,6 +71,13 @@ public interface PlayerInfo {
      */
     int getObjScore();
 
+    /**
+     *
+     * @return The points of the common objectives and the secret objective on the PlayingBoard,
+     * if the game ended now (zero before the objectives are tracked)
+     */
+    int getObjectivePoints();
+
     /**
      * The object Score to add
      */
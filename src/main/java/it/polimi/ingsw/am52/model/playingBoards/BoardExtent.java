@@ -0,0 +1,110 @@
+package it.polimi.ingsw.am52.model.playingBoards;
+
+import java.util.Collection;
+
+/**
+ * The smallest rectangle of the playing board that contains a set of slots, with
+ * the minimum and maximum coordinates included. An extent is immutable: including
+ * a new slot returns a new extent.
+ * @param minHoriz The minimum horizontal coordinate.
+ * @param maxHoriz The maximum horizontal coordinate.
+ * @param minVert The minimum vertical coordinate.
+ * @param maxVert The maximum vertical coordinate.
+ */
+public record BoardExtent(int minHoriz, int maxHoriz, int minVert, int maxVert) {
+
+    //region Public Static Final Fields
+
+    /**
+     * The extent of an empty set of slots, it contains no slot.
+     */
+    public static final BoardExtent EMPTY = new BoardExtent(Integer.MAX_VALUE, Integer.MIN_VALUE,
+            Integer.MAX_VALUE, Integer.MIN_VALUE);
+
+    //endregion
+
+    //region Public Static Methods
+
+    /**
+     *
+     * @param slots The slots.
+     * @return The extent of the slots, {@link #EMPTY} if there are no slots.
+     */
+    public static BoardExtent of(Collection<BoardSlot> slots) {
+        BoardExtent extent = EMPTY;
+        for (BoardSlot slot : slots) {
+            extent = extent.include(slot.getHoriz(), slot.getVert());
+        }
+        return extent;
+    }
+
+    //endregion
+
+    //region Public Methods
+
+    /**
+     *
+     * @return True if the extent contains no slot.
+     */
+    public boolean isEmpty() {
+        return this.minHoriz > this.maxHoriz;
+    }
+
+    /**
+     *
+     * @return The number of columns of the extent, zero if it is empty.
+     */
+    public int getWidth() {
+        return this.isEmpty() ? 0 : this.maxHoriz - this.minHoriz + 1;
+    }
+
+    /**
+     *
+     * @return The number of rows of the extent, zero if it is empty.
+     */
+    public int getHeight() {
+        return this.isEmpty() ? 0 : this.maxVert - this.minVert + 1;
+    }
+
+    /**
+     *
+     * @param slot The slot.
+     * @return True if the slot is inside the extent.
+     */
+    public boolean contains(BoardSlot slot) {
+        return slot.getHoriz() >= this.minHoriz && slot.getHoriz() <= this.maxHoriz &&
+                slot.getVert() >= this.minVert && slot.getVert() <= this.maxVert;
+    }
+
+    /**
+     *
+     * @param horiz The horizontal coordinate of a slot.
+     * @param vert The vertical coordinate of a slot.
+     * @return The extent that contains this extent and the slot, this extent if it already contains the slot.
+     */
+    public BoardExtent include(int horiz, int vert) {
+        if (horiz >= this.minHoriz && horiz <= this.maxHoriz && vert >= this.minVert && vert <= this.maxVert) {
+            return this;
+        }
+        return new BoardExtent(Math.min(this.minHoriz, horiz), Math.max(this.maxHoriz, horiz),
+                Math.min(this.minVert, vert), Math.max(this.maxVert, vert));
+    }
+
+    /**
+     *
+     * @param other The other extent.
+     * @return The extent that contains this extent and the other one.
+     */
+    public BoardExtent union(BoardExtent other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return other;
+        }
+        return new BoardExtent(Math.min(this.minHoriz, other.minHoriz), Math.max(this.maxHoriz, other.maxHoriz),
+                Math.min(this.minVert, other.minVert), Math.max(this.maxVert, other.maxVert));
+    }
+
+    //endregion
+}
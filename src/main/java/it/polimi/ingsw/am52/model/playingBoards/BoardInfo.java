@@ -26,6 +26,13 @@ public interface BoardInfo extends ResourcesProvider, ItemsProvider {
      */
     ImmutableList<BoardSlot> getAvailableSlots();
 
+    /**
+     * 
+     * @return The smallest rectangle of the playing board that contains the placed
+     * cards and the available slots.
+     */
+    BoardExtent getExtent();
+
     /**
      * Check if there is a card placed on the neighbor slot and return that
      * card. If there isn't a card, return an Optional.empty().
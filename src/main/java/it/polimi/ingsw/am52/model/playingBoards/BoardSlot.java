@@ -32,6 +32,46 @@ public class BoardSlot implements Serializable, BoardSlotInfo {
 
     //endregion
 
+    //region Private Static Fields
+
+    /**
+     * The bias added to the coordinates of a packed slot, so that both coordinates
+     * are stored as non-negative 16-bit numbers.
+     */
+    private static final int PACK_BIAS = 1 << 15;
+
+    /**
+     * The difference between the packed slot at each relative location and the packed
+     * reference slot, by ordinal of the relative location.
+     */
+    private static final int[] PACKED_OFFSETS = new int[RelativeLocation.values().length];
+
+    static {
+        for (RelativeLocation location : RelativeLocation.values()) {
+            PACKED_OFFSETS[location.ordinal()] = switch (location) {
+                case TOP -> packedOffset(0, 2);
+                case BOTTOM -> packedOffset(0, -2);
+                case RIGHT -> packedOffset(2, 0);
+                case LEFT -> packedOffset(-2, 0);
+                case TOP_RIGHT -> packedOffset(1, 1);
+                case BOTTOM_RIGHT -> packedOffset(1, -1);
+                case BOTTOM_LEFT -> packedOffset(-1, -1);
+                case TOP_LEFT -> packedOffset(-1, 1);
+            };
+        }
+    }
+
+    //endregion
+
+    //region Public Static Final Fields
+
+    /**
+     * The packed coordinates of the root slot.
+     */
+    public static final int PACKED_ROOT = pack(0, 0);
+
+    //endregion
+
     //region Public Static Methods
 
     /**
@@ -47,10 +87,75 @@ public class BoardSlot implements Serializable, BoardSlotInfo {
      * coordinate pair for a slot of the playing board.
      */
     public static boolean validateCoords(int horiz, int vert) {
-        // Return true if both coordinates are even or both are odd.
-        return /* Both even*/ ((horiz % 2 == 0) && (vert % 2 == 0)) ||
-        /* Both odds */ ((horiz % 2 != 0) && (vert % 2 != 0));
+        // Return true if both coordinates are even or both are odd,
+        // i.e. if their lowest bits are the same.
+        return ((horiz ^ vert) & 1) == 0;
+    }
+
+    /**
+     * Pack the coordinates of a slot in a single int: the horizontal coordinate
+     * in the high 16 bits, the vertical one in the low 16 bits. The packed slots
+     * let the playing board find its cards without creating BoardSlot objects, and
+     * the neighbor slots are found by adding an offset, see {@link #packedNeighbor(int, RelativeLocation)}.
+     * Zero is never a packed slot.
+     * @param horiz The horizontal coordinate of the slot, between -32767 and 32767.
+     * @param vert The vertical coordinate of the slot, between -32767 and 32767.
+     * @return The packed coordinates of the slot.
+     */
+    public static int pack(int horiz, int vert) {
+        return ((horiz + PACK_BIAS) << 16) | (vert + PACK_BIAS);
+    }
+
+    /**
+     *
+     * @param packed The packed coordinates of a slot.
+     * @return The horizontal coordinate of the slot.
+     */
+    public static int unpackHoriz(int packed) {
+        return (packed >>> 16) - PACK_BIAS;
+    }
+
+    /**
+     *
+     * @param packed The packed coordinates of a slot.
+     * @return The vertical coordinate of the slot.
+     */
+    public static int unpackVert(int packed) {
+        return (packed & 0xFFFF) - PACK_BIAS;
+    }
+
+    /**
+     *
+     * @param packed The packed coordinates of a slot.
+     * @return The slot with the packed coordinates.
+     */
+    public static BoardSlot fromPacked(int packed) {
+        return new BoardSlot(unpackHoriz(packed), unpackVert(packed));
+    }
+
+    /**
+     *
+     * @param packed The packed coordinates of the reference slot.
+     * @param location The location of the slot to find, relative to the reference slot.
+     * @return The packed coordinates of the slot at the specified location.
+     */
+    public static int packedNeighbor(int packed, RelativeLocation location) {
+        return packed + PACKED_OFFSETS[location.ordinal()];
+    }
 
+    /**
+     *
+     * @param packed The packed coordinates of the reference slot.
+     * @param corner The corner location of the reference slot.
+     * @return The packed coordinates of the slot located at the specified corner.
+     */
+    public static int packedNeighbor(int packed, CornerLocation corner) {
+        return switch (corner) {
+            case TOP_RIGHT -> packedNeighbor(packed, RelativeLocation.TOP_RIGHT);
+            case BOTTOM_RIGHT -> packedNeighbor(packed, RelativeLocation.BOTTOM_RIGHT);
+            case BOTTOM_LEFT -> packedNeighbor(packed, RelativeLocation.BOTTOM_LEFT);
+            case TOP_LEFT -> packedNeighbor(packed, RelativeLocation.TOP_LEFT);
+        };
     }
     
     /**
@@ -129,6 +234,15 @@ public class BoardSlot implements Serializable, BoardSlotInfo {
         return new BoardSlot(refSlot.getHoriz() - 1, refSlot.getVert() + 1);
     }
 
+    /**
+     * @param horiz The horizontal distance between two slots.
+     * @param vert The vertical distance between two slots.
+     * @return The difference between the packed coordinates of the two slots.
+     */
+    private static int packedOffset(int horiz, int vert) {
+        return (horiz << 16) + vert;
+    }
+
     //endregion
 
     //region Constructor
@@ -193,6 +307,14 @@ public class BoardSlot implements Serializable, BoardSlotInfo {
         return getHoriz() == 0 && getVert() == 0;
     }
 
+    /**
+     *
+     * @return The coordinates of this slot packed in a single int, see {@link #pack(int, int)}.
+     */
+    public int toPacked() {
+        return pack(this.h, this.v);
+    }
+
     /**
      * 
      * @param location The location of the slot to find, relative to this slot.
@@ -301,11 +423,8 @@ public class BoardSlot implements Serializable, BoardSlotInfo {
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + h;
-        result = prime * result + v;
-        return result;
+        // The packed coordinates are different for every slot.
+        return toPacked();
     }
     
     @Override
@@ -0,0 +1,312 @@
+package it.polimi.ingsw.am52.model.playingBoards;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import it.polimi.ingsw.am52.model.cards.*;
+import it.polimi.ingsw.am52.model.objectives.ObjectivesTracker;
+import it.polimi.ingsw.am52.util.ImmutableList;
+
+/**
+ * The legal moves of a player on its playing board: each card of the hand, with each side
+ * that can be placed, on each available slot. A move comes with the points gained by placing
+ * the card, and with the change of the points of the objectives tracked by the board.
+ * <P>
+ * The generator reads the playing board when it is created, and it must be created again after
+ * each placement. The hidden corners of each slot, with the resources and items they cover, are
+ * found once; the objectives of each move are scored on a single view of the board with the card
+ * of the move, updating the patterns as the board does after a placement.
+ */
+public final class MoveGenerator {
+
+    //region Nested Types
+
+    /**
+     * A legal move, with its points.
+     * @param card The card of the hand.
+     * @param side The visible side of the card.
+     * @param slot The available slot where the card is placed.
+     * @param points The points gained by the player when the card is placed.
+     * @param objectivePoints The points of the tracked objectives gained (or lost) with the card.
+     */
+    public record Move(KingdomCard card, CardSide side, BoardSlot slot, int points, int objectivePoints) { }
+
+    /**
+     * The receiver of the moves, for the callers that do not need to keep them.
+     */
+    @FunctionalInterface
+    public interface MoveVisitor {
+
+        /**
+         * Receive a legal move.
+         * @param card The card of the hand.
+         * @param side The visible side of the card.
+         * @param slot The available slot where the card is placed.
+         * @param points The points gained by the player when the card is placed.
+         * @param objectivePoints The points of the tracked objectives gained (or lost) with the card.
+         */
+        void visit(KingdomCard card, CardSide side, BoardSlot slot, int points, int objectivePoints);
+    }
+
+    //endregion
+
+    //region Private Static Final Fields
+
+    /**
+     * The corners of a slot.
+     */
+    private static final CornerLocation[] CORNERS = CornerLocation.values();
+
+    /**
+     * The sides of a card, in the order the moves are generated.
+     */
+    private static final CardSide[] SIDES = CardSide.values();
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * The visible resources on the playing board, that decide which sides can be placed.
+     */
+    private final ResourcesCounter resources;
+
+    /**
+     * The available slots of the playing board.
+     */
+    private final ImmutableList<BoardSlot> slots;
+
+    /**
+     * The number of corners hidden by a card placed on each slot.
+     */
+    private final int[] hiddenCorners;
+
+    /**
+     * The visible resources of the board once the corners hidden at each slot are covered,
+     * without the resources of the placed card.
+     */
+    private final ResourcesCounter[] uncoveredResources;
+
+    /**
+     * The visible items of the board once the corners hidden at each slot are covered,
+     * without the items of the placed card.
+     */
+    private final ItemsCounter[] uncoveredItems;
+
+    /**
+     * The objectives tracked by the playing board, null if they are not tracked.
+     */
+    private final ObjectivesTracker tracker;
+
+    /**
+     * The points of the tracked objectives before the move.
+     */
+    private final int objectivePoints;
+
+    /**
+     * The view of the board with the card of the move, reused by all the moves.
+     */
+    private final Preview preview;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Create the generator of the moves on a playing board.
+     * @param board The playing board.
+     */
+    public MoveGenerator(PlayingBoard board) {
+        this.resources = board.getResources();
+        this.slots = board.getAvailableSlots();
+        this.hiddenCorners = new int[this.slots.size()];
+        this.uncoveredResources = new ResourcesCounter[this.slots.size()];
+        this.uncoveredItems = new ItemsCounter[this.slots.size()];
+        this.tracker = board.getObjectivesTracker();
+        this.objectivePoints = board.getObjectivePoints();
+        this.preview = new Preview(board);
+
+        for (int index = 0; index != this.slots.size(); index++) {
+            BoardSlot slot = this.slots.get(index);
+            ResourcesCounter visibleResources = this.resources;
+            ItemsCounter visibleItems = board.getItems();
+
+            // The neighbors at the corners of the slot: a card placed on the slot hides their
+            // opposite corner, and the starter card is the neighbor on the root slot.
+            for (CornerLocation corner : CORNERS) {
+                CardFace neighbor = BoardSlot.packedNeighbor(slot.toPacked(), corner) == BoardSlot.PACKED_ROOT ?
+                        board.getStarerCard() : board.getNeighborCard(slot, corner).orElse(null);
+                if (neighbor != null) {
+                    CornerLocation hiddenCorner = PlayingBoard.opposite(corner);
+                    visibleResources = ResourcesCounter.subtract(visibleResources, CardCatalog.getCornerResources(neighbor, hiddenCorner));
+                    visibleItems = ItemsCounter.subtract(visibleItems, CardCatalog.getCornerItems(neighbor, hiddenCorner));
+                    this.hiddenCorners[index]++;
+                }
+            }
+
+            this.uncoveredResources[index] = visibleResources;
+            this.uncoveredItems[index] = visibleItems;
+        }
+    }
+
+    //endregion
+
+    //region Public Methods
+
+    /**
+     * Generate the legal moves of a hand: for each card, the front side (if its required
+     * resources are visible on the board) and the back side, on each available slot.
+     * @param hand The cards in the hand of the player.
+     * @param visitor The receiver of the moves.
+     */
+    public void visitMoves(List<KingdomCard> hand, MoveVisitor visitor) {
+        for (KingdomCard card : hand) {
+            for (CardSide side : SIDES) {
+                KingdomCardFace face = side == CardSide.FRONT ? card.getFrontFace() : card.getBackFace();
+                if (!CardCatalog.canPlace(face, this.resources)) {
+                    continue;
+                }
+
+                for (int index = 0; index != this.slots.size(); index++) {
+                    BoardSlot slot = this.slots.get(index);
+                    ItemsCounter items = ItemsCounter.add(this.uncoveredItems[index], CardCatalog.getItems(face));
+                    int points = CardCatalog.gainedPoints(face, items, this.hiddenCorners[index]);
+
+                    int objectivePoints = 0;
+                    if (this.tracker != null) {
+                        this.preview.place(slot, face,
+                                ResourcesCounter.add(this.uncoveredResources[index], CardCatalog.getResources(face)), items);
+                        objectivePoints = this.tracker.previewPoints(this.preview, slot) - this.objectivePoints;
+                    }
+
+                    visitor.visit(card, side, slot, points, objectivePoints);
+                }
+            }
+        }
+    }
+
+    /**
+     * Generate the legal moves of a hand, see {@link #visitMoves(List, MoveVisitor)}.
+     * @param hand The cards in the hand of the player.
+     * @return The legal moves, by card, side and slot.
+     */
+    public List<Move> getMoves(List<KingdomCard> hand) {
+        List<Move> moves = new ArrayList<>();
+        this.visitMoves(hand, (card, side, slot, points, objectivePoints) ->
+                moves.add(new Move(card, side, slot, points, objectivePoints)));
+        return moves;
+    }
+
+    //endregion
+
+    //region Nested Classes
+
+    /**
+     * The playing board with one more card, as the objectives see it: the placed cards, the
+     * resources and the items are the ones after the placement, while the available slots are
+     * the ones of the board without the slot of the card.
+     */
+    private static final class Preview implements BoardInfo {
+
+        /**
+         * The playing board.
+         */
+        private final PlayingBoard board;
+
+        /**
+         * The slot of the card.
+         */
+        private BoardSlot slot;
+
+        /**
+         * The packed slot of the card.
+         */
+        private int packedSlot;
+
+        /**
+         * The card.
+         */
+        private KingdomCardFace card;
+
+        /**
+         * The visible resources after the placement.
+         */
+        private ResourcesCounter resources;
+
+        /**
+         * The visible items after the placement.
+         */
+        private ItemsCounter items;
+
+        /**
+         * Create the view of a playing board.
+         * @param board The playing board.
+         */
+        private Preview(PlayingBoard board) {
+            this.board = board;
+        }
+
+        /**
+         * Place the card of a move on the view.
+         * @param slot The slot of the card.
+         * @param card The card.
+         * @param resources The visible resources after the placement.
+         * @param items The visible items after the placement.
+         */
+        private void place(BoardSlot slot, KingdomCardFace card, ResourcesCounter resources, ItemsCounter items) {
+            this.slot = slot;
+            this.packedSlot = slot.toPacked();
+            this.card = card;
+            this.resources = resources;
+            this.items = items;
+        }
+
+        @Override
+        public ResourcesCounter getResources() {
+            return this.resources;
+        }
+
+        @Override
+        public ItemsCounter getItems() {
+            return this.items;
+        }
+
+        @Override
+        public ImmutableList<BoardSlot> getCoveredSlots() {
+            List<BoardSlot> covered = new ArrayList<>(this.board.getCoveredSlots().toList());
+            covered.add(this.slot);
+            return new ImmutableList<>(covered);
+        }
+
+        @Override
+        public ImmutableList<BoardSlot> getAvailableSlots() {
+            return new ImmutableList<>(this.board.getAvailableSlots().stream().filter(s -> !s.equals(this.slot)).toList());
+        }
+
+        @Override
+        public BoardExtent getExtent() {
+            // The slot of the card is available, so it is already inside the extent.
+            return this.board.getExtent();
+        }
+
+        @Override
+        public KingdomCardFace getCardAt(BoardSlot location) throws IllegalArgumentException {
+            return location.toPacked() == this.packedSlot ? this.card : this.board.getCardAt(location);
+        }
+
+        @Override
+        public Optional<KingdomCardFace> getNeighborCard(BoardSlot refSlot, RelativeLocation location) {
+            return BoardSlot.packedNeighbor(refSlot.toPacked(), location) == this.packedSlot ?
+                    Optional.of(this.card) : this.board.getNeighborCard(refSlot, location);
+        }
+
+        @Override
+        public Optional<KingdomCardFace> getNeighborCard(BoardSlot refSlot, CornerLocation location) {
+            return BoardSlot.packedNeighbor(refSlot.toPacked(), location) == this.packedSlot ?
+                    Optional.of(this.card) : this.board.getNeighborCard(refSlot, location);
+        }
+    }
+
+    //endregion
+}
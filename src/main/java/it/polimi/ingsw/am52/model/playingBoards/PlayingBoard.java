@@ -1,16 +1,15 @@
 package it.polimi.ingsw.am52.model.playingBoards;
 
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
 
 import it.polimi.ingsw.am52.util.ImmutableList;
 import it.polimi.ingsw.am52.model.cards.*;
+import it.polimi.ingsw.am52.model.objectives.Objective;
+import it.polimi.ingsw.am52.model.objectives.ObjectivesTracker;
 import it.polimi.ingsw.am52.exceptions.PlayingBoardException;
 
 /**
@@ -22,6 +21,15 @@ import it.polimi.ingsw.am52.exceptions.PlayingBoardException;
  */
 public class PlayingBoard implements BoardInfo {
 
+    //region Private Static Fields
+
+    /**
+     * The corners of a slot, in the order they are checked.
+     */
+    private static final CornerLocation[] CORNERS = CornerLocation.values();
+
+    //endregion
+
     //region Private Fields
 
     /**
@@ -30,87 +38,133 @@ public class PlayingBoard implements BoardInfo {
     private final StarterCardFace starterCard;
 
     /**
-     * The hash map that keep track of all placed cards. Each time a card is placed
-     * on the playing bord, the card must be added to this map together with its
-     * location (BoardSlot).
+     * The log that keep track of all placed cards. Each time a card is placed
+     * on the playing bord, the card is appended to the log together with its
+     * location (BoardSlot). The cards are never removed, so the log of an older
+     * version of the board is a prefix of the current log, and it is shared.
      * <P>
      * This collection does not contain the starter card.
      */
-    private final Map<BoardSlot, KingdomCardFace> placedCards = new HashMap<>();
+    private Placements placedCards = new Placements();
     
     /**
-     * The set of available locations, where a new card can be placed. Every time
+     * The list of available locations, where a new card can be placed. Every time
      * a new card is placed on the playing board, this collection must be updated
      * to remove the occupied slot and add any additional slots.
      */
-    private final Set<BoardSlot> availableSlots = new HashSet<>();
+    private final List<BoardSlot> availableSlots = new ArrayList<>();
+
+    /**
+     * The position of each available location in the list of the available slots,
+     * by packed slot (see {@link BoardSlot#pack(int, int)}).
+     */
+    private final SlotIndex availableIndex = new SlotIndex(16);
+
+    /**
+     * The number of available slots in each column, by packed slot of the column
+     * on the horizontal axis (see {@link BoardSlot#pack(int, int)}).
+     */
+    private final SlotIndex availableColumns = new SlotIndex(16);
+
+    /**
+     * The number of available slots in each row, by packed slot of the row
+     * on the vertical axis (see {@link BoardSlot#pack(int, int)}).
+     */
+    private final SlotIndex availableRows = new SlotIndex(16);
+
+    /**
+     * The extent of the placed cards, with the starter card. The cards are never
+     * removed, so it only grows.
+     */
+    private BoardExtent coveredExtent = new BoardExtent(0, 0, 0, 0);
+
+    /**
+     * The extent of the available slots. It is updated when a slot is added or removed,
+     * with the counters of the columns and the rows.
+     */
+    private BoardExtent availableExtent = BoardExtent.EMPTY;
+
+    /**
+     * The extent of the placed cards and the available slots.
+     */
+    private BoardExtent extent;
+
+    /**
+     * The immutable list of the available slots, built once for each version of the
+     * board and shared by all the infos of that version. Null if not built yet.
+     */
+    private ImmutableList<BoardSlot> availableSlotsView;
 
     /**
      * The available (visible) resources on the playing board. Every time a new card is
      * placed on the playing board, this counter must be updated subtracting the 
      * resource that the new card hides and adding the new resources visible on the
-     * new card.
+     * new card. The counter is updated in place, the immutable counter is created
+     * only when it is read.
      */
-    private ResourcesCounter resources;
+    private final ResourcesCounter.Accumulator resources;
 
     /**
      * The available (visible) items on the playing board. Every time a new card is
      * placed on the playing board, this counter must be updated subtracting the 
      * item that the new card hides and adding the new items visible on the
-     * new card.
+     * new card. The counter is updated in place, the immutable counter is created
+     * only when it is read.
+     */
+    private final ItemsCounter.Accumulator items;
+
+    /**
+     * The running state of the objectives scored on this playing board, updated after
+     * each placement. It is null until the objectives are tracked.
      */
-    private ItemsCounter items;
+    private ObjectivesTracker objectivesTracker;
 
     //endregion
 
     //region Private Static Methods
 
     /**
-     * This method takes a Map of placed cards and their positions, and return the (optional)
+     * This method takes the placed cards and their positions, and return the (optional)
      * card placed at the specified neighbor position relative to the specified reference
      * board slot. If there isn't any card at the neighbor slot position, the method returns
      * an Optional.empty() instance.
      * <P>
      * This method is static because it is used also by the nexted class PlayingBoardInfo.
-     * @param cards A Map of placed cards and their slot position.
+     * @param cards The placed cards and their slot position.
      * @param refSlot The reference slot position.
      * @param location The location of the card to get, relative to the reference slot.
      * @return The card placed at the specified location. If there is non cord at the specified
      * location, the method returns an Optional.Empty().
      */
-    private static Optional<KingdomCardFace> getNeighborCard(Map<BoardSlot, KingdomCardFace> cards, BoardSlot refSlot, RelativeLocation location) {
+    private static Optional<KingdomCardFace> getNeighborCard(Placements cards, BoardSlot refSlot, RelativeLocation location) {
         
-        // Get the candidate slot position.
-        BoardSlot candidate = refSlot.getSlotAt(location);
+        // Get the candidate slot position, on the packed coordinates.
+        int candidate = BoardSlot.packedNeighbor(refSlot.toPacked(), location);
 
         // Return the card placed on the slot (if any), or an empty optional.
-        return /* Is there a card? */   cards.containsKey(candidate) ?
-               /* Yes, return it */     Optional.of(cards.get(candidate)) :
-               /* No, return empty() */ Optional.empty();
+        return Optional.ofNullable(cards.get(candidate));
     }
 
     /**
-     * This method takes a Map of placed cards and their positions, and return the (optional)
+     * This method takes the placed cards and their positions, and return the (optional)
      * card placed at the specified neighbor position at the corner relative to the specified reference
      * board slot. If there isn't any card at the neighbor slot position, the method returns
      * an Optional.empty() instance.
      * <P>
      * This method is static because it is used also by the nexted class PlayingBoardInfo.
-     * @param cards A Map of placed cards and their slot position.
+     * @param cards The placed cards and their slot position.
      * @param refSlot The reference slot position.
      * @param location The corner location of the card to get, relative to the reference slot.
      * @return The card placed at the specified location. If there is non cord at the specified
      * location, the method returns an Optional.Empty().
      */
-    private static Optional<KingdomCardFace> getNeighborCard(Map<BoardSlot, KingdomCardFace> cards, BoardSlot refSlot, CornerLocation location) {
+    private static Optional<KingdomCardFace> getNeighborCard(Placements cards, BoardSlot refSlot, CornerLocation location) {
         
-        // Get the candidate slot position.
-        BoardSlot candidate = refSlot.getSlotAt(location);
+        // Get the candidate slot position, on the packed coordinates.
+        int candidate = BoardSlot.packedNeighbor(refSlot.toPacked(), location);
 
         // Return the card placed on the slot (if any), or an empty optional.
-        return /* Is there a card? */   cards.containsKey(candidate) ?
-               /* Yes, return it */     Optional.of(cards.get(candidate)) :
-               /* No, return empty() */ Optional.empty();
+        return Optional.ofNullable(cards.get(candidate));
     }
 
     //endregion
@@ -129,29 +183,19 @@ public class PlayingBoard implements BoardInfo {
 
         // Initialize the resource counter with the resources visible
         // on the starter card.
-        this.resources = starterCard.getResources();
+        this.resources = new ResourcesCounter.Accumulator(starterCard.getResources());
 
         // The starter card does not have items, so initialize the items counter
         // to zero (use default constructor).
-        this.items = new ItemsCounter();
+        this.items = new ItemsCounter.Accumulator(new ItemsCounter());
 
-        // Add the new available positions.
-        // Top-Right corner.
-        if (starterCard.getTopRightCorner().isPresent()) {
-            this.availableSlots.add(new BoardSlot(1, 1));
-        }
-        // Bottom-Right corner.
-        if (starterCard.getBottomRightCorner().isPresent()) {
-            this.availableSlots.add(new BoardSlot(1, -1));
-        }
-        // Bottom-Left corner.
-        if (starterCard.getBottomLeftCorner().isPresent()) {
-            this.availableSlots.add(new BoardSlot(-1, -1));
-        }
-        // Top-Left corner.
-        if (starterCard.getTopLeftCorner().isPresent()) {
-            this.availableSlots.add(new BoardSlot(-1, 1));
+        // Add the new available positions, at each visible corner.
+        for (CornerLocation corner : CORNERS) {
+            if (CardCatalog.hasCorner(starterCard, corner)) {
+                this.addAvailableSlot(BoardSlot.packedNeighbor(BoardSlot.PACKED_ROOT, corner));
+            }
         }
+        this.extent = this.coveredExtent.union(this.availableExtent);
     }
 
     //endregion
@@ -168,10 +212,21 @@ public class PlayingBoard implements BoardInfo {
 
     /**
      * 
-     * @return An immutable object containing the info of this playing board.
+     * @return An immutable object containing the info of this playing board. It shares
+     * the placed cards and the available slots with the board, nothing is copied.
      */
     public BoardInfo getInfo() {
-        return new PlayingBoardInfo(this.placedCards, this.availableSlots, this.resources, this.items);
+        return new PlayingBoardInfo(this.placedCards, this.getAvailableSlots(), this.extent,
+                this.resources.toCounter(), this.items.toCounter());
+    }
+
+    /**
+     *
+     * @return The running state of the objectives scored on this playing board, null if
+     * the objectives are not tracked.
+     */
+    ObjectivesTracker getObjectivesTracker() {
+        return this.objectivesTracker;
     }
 
     //endregion
@@ -197,17 +252,20 @@ public class PlayingBoard implements BoardInfo {
      */
     public int placeCard(BoardSlot location, KingdomCardFace card) throws PlayingBoardException {
 
+        // The board works on the packed coordinates of the slots.
+        int slot = location.toPacked();
+
         /*
          * Preliminary checks.
          */
         // Check if the location is available, otherwise throw an exception.
-        if (!this.availableSlots.contains(location)) {
+        if (!this.availableIndex.containsKey(slot)) {
             throw new PlayingBoardException("The specified location is not available on the playing board.");
         }
 
         // Check if the card can be placed (its required resources are fulfilled by
         // the available resources of the playing board).
-        if (!card.canPlace(this)) {
+        if (!CardCatalog.canPlace(card, this.resources.toCounter())) {
             throw new PlayingBoardException("The specified card cannot be placed on the playing board.");
         }
 
@@ -215,157 +273,215 @@ public class PlayingBoard implements BoardInfo {
          * 1) Update the collection of placed cards.
          */
         // Add the card in the collection of the placed cards.
-        this.placedCards.put(location, card);
+        this.placedCards = this.placedCards.append(slot, location, card);
         
         /*
          * 2) Update the collection of available cards.
          */
         // Remove the location from the collection of the available slots.
-        this.availableSlots.remove(location);
+        this.removeAvailableSlot(slot);
         
-        // Get the list of new available slots.
-        List<BoardSlot> newAvailableSlots = findNewAvailableSlots(location);
-        this.availableSlots.addAll(newAvailableSlots);
+        // Add the new available slots.
+        this.addNewAvailableSlots(slot);
 
         // When a new card is placed on the playing board, it may have a
         // hidden corner that makes an already available location not available
         // after this card is placed.
-        this.removeInvalidatedSlots(location);
+        this.removeInvalidatedSlots(slot);
+
+        // The available slots have changed, the list of the previous version is kept
+        // by the infos that use it.
+        this.availableSlotsView = null;
+
+        // Update the extent of the board: the new card is inside the extent of the
+        // available slots of the previous version.
+        this.coveredExtent = this.coveredExtent.include(location.getHoriz(), location.getVert());
+        this.extent = this.coveredExtent.union(this.availableExtent);
         
         /*
          * 3) Update resources and items
          */
-        // Get the list of corners hidden by the placed card.
-        List<CardCorner> hiddenCorners = findHiddenCorners(location);
-        
-        // Update resources and items counter, subtracting hidden resources/items.
-        for (CardCorner hidden : hiddenCorners) {
-            this.resources = ResourcesCounter.subtract(resources, hidden.getResources());
-            this.items = ItemsCounter.subtract(items, hidden.getItems());
+        // Update resources and items counter, subtracting the resources/items
+        // of the corners hidden by the placed card.
+        int hiddenCorners = 0;
+        for (CornerLocation cornerLocation : CORNERS) {
+            CardFace hidden = getHidingNeighbor(slot, cornerLocation);
+            if (hidden != null) {
+                CornerLocation hiddenCorner = opposite(cornerLocation);
+                this.resources.subtract(CardCatalog.getCornerResources(hidden, hiddenCorner));
+                this.items.subtract(CardCatalog.getCornerItems(hidden, hiddenCorner));
+                hiddenCorners++;
+            }
         }
         
         // Update resources and items counter, adding the visible resources/items
         // of the placed card.
-        this.resources = ResourcesCounter.add(resources, card.getResources());
-        this.items = ItemsCounter.add(items, card.getItems());
+        this.resources.add(CardCatalog.getResources(card));
+        this.items.add(CardCatalog.getItems(card));
+
+        /*
+         * 4) Update the patterns of the tracked objectives
+         */
+        if (this.objectivesTracker != null) {
+            this.objectivesTracker.update(this, location);
+        }
         
         // Return the points gained by the player by placing the card on
         // the playing board.
-        return card.gainedPoints(this, hiddenCorners.size());
-        }
+        return CardCatalog.gainedPoints(card, this.items.toCounter(), hiddenCorners);
+    }
+
+    /**
+     * Track the patterns of some objectives on this playing board: the patterns are found
+     * once, and then updated after each placement. The objectives tracked before are replaced.
+     * @param objectives The objectives scored on this playing board.
+     */
+    public void trackObjectives(List<Objective> objectives) {
+        this.objectivesTracker = new ObjectivesTracker(objectives, this);
+    }
+
+    /**
+     *
+     * @return The points given by the tracked objectives if the game ended now, zero
+     * if this playing board does not track any objective.
+     */
+    public int getObjectivePoints() {
+        return this.objectivesTracker == null ? 0 : this.objectivesTracker.getPoints();
+    }
 
     //endregion
     
     //region Private Methods
     
     /**
-    * When a card is placed on a slot in the playing board, it hides at least
-    * one corner of another card previously placed on the playing board. But,
-    * in particular circumstances, the placed card can hide more corners.
-    * This method check all slots at positioned at the corners of the placed
-    * card, and return a list with all hidden corners.
-    * @param slot The slot where the new card is placed.
-    * @return A list of corners hidden by placing the new card on the playing board,
-    * on the specified slot.
-    */
-    private List<CardCorner> findHiddenCorners(BoardSlot slot) {
+     * Add a slot to the available slots, if it is not available yet.
+     * @param slot The packed slot.
+     */
+    private void addAvailableSlot(int slot) {
+        if (!this.availableIndex.containsKey(slot)) {
+            // The slot objects are created only for the available slots, which are
+            // returned to the callers.
+            this.availableIndex.put(slot, this.availableSlots.size());
+            this.availableSlots.add(BoardSlot.fromPacked(slot));
+
+            // Update the extent of the available slots.
+            int horiz = BoardSlot.unpackHoriz(slot);
+            int vert = BoardSlot.unpackVert(slot);
+            increment(this.availableColumns, BoardSlot.pack(horiz, 0));
+            increment(this.availableRows, BoardSlot.pack(0, vert));
+            this.availableExtent = this.availableExtent.include(horiz, vert);
+        }
+    }
 
-        /*
-            * Important note:
-            * If a card covers a corner, that corner is visible, so it means
-            * that the method getXXXCorner() returns a Optional that is NOT empty!
-            */
-
-        // Initialize an empty list of corners, that will be populated with
-        // all corners covered by placing a card on the specified slot.
-        List<CardCorner> hiddenCorners = new ArrayList<>();
-
-        // The list of corners to check.
-        CornerLocation[] locations = new CornerLocation[] {
-                CornerLocation.TOP_RIGHT,
-                CornerLocation.BOTTOM_RIGHT,
-                CornerLocation.BOTTOM_LEFT,
-                CornerLocation.TOP_LEFT,
-        };
+    /**
+     * Remove a slot from the available slots, if it is available. The last available
+     * slot takes its position in the list.
+     * @param slot The packed slot.
+     */
+    private void removeAvailableSlot(int slot) {
+        int position = this.availableIndex.remove(slot);
+        if (position == SlotIndex.MISSING) {
+            return;
+        }
 
-        // Check all corners.
-        for (CornerLocation cornerLocation : locations) {
-            Optional<CardCorner> hidden = getHiddenCorner(slot, cornerLocation);
-            // If there is a hidden corner, add it to the collection.
-            hidden.ifPresent(hiddenCorners::add);
+        BoardSlot last = this.availableSlots.removeLast();
+        if (position != this.availableSlots.size()) {
+            this.availableSlots.set(position, last);
+            this.availableIndex.put(last.toPacked(), position);
         }
 
-        // Return the collection with hidden corners.
-        return hiddenCorners;
+        // Update the extent of the available slots: it shrinks only if the slot was
+        // the last one of a column or a row on its border.
+        boolean columnEmptied = decrement(this.availableColumns, BoardSlot.pack(BoardSlot.unpackHoriz(slot), 0));
+        boolean rowEmptied = decrement(this.availableRows, BoardSlot.pack(0, BoardSlot.unpackVert(slot)));
+        if (this.availableSlots.isEmpty()) {
+            this.availableExtent = BoardExtent.EMPTY;
+        } else if (columnEmptied || rowEmptied) {
+            int minHoriz = this.availableExtent.minHoriz();
+            int maxHoriz = this.availableExtent.maxHoriz();
+            int minVert = this.availableExtent.minVert();
+            int maxVert = this.availableExtent.maxVert();
+            // Move each border inwards, to the first column or row with an available slot.
+            while (!this.availableColumns.containsKey(BoardSlot.pack(minHoriz, 0))) {
+                minHoriz++;
+            }
+            while (!this.availableColumns.containsKey(BoardSlot.pack(maxHoriz, 0))) {
+                maxHoriz--;
+            }
+            while (!this.availableRows.containsKey(BoardSlot.pack(0, minVert))) {
+                minVert++;
+            }
+            while (!this.availableRows.containsKey(BoardSlot.pack(0, maxVert))) {
+                maxVert--;
+            }
+            this.availableExtent = new BoardExtent(minHoriz, maxHoriz, minVert, maxVert);
+        }
     }
 
     /**
-     * Get a list of available slots at the corner positions of the specified
-     * board location. If the specified board location does not have a card placed
-     * on it, the method return an empty list.
-     * @param location The location to check.
-     * @return The list of available location, linkable to this location.
+     * Increment a counter of the available slots.
+     * @param counters The counters.
+     * @param key The key of the counter.
      */
-    private List<BoardSlot> findNewAvailableSlots(BoardSlot location) {
-
-        // The list hat will contain new available slots.
-        final List<BoardSlot> availableSlots = new ArrayList<>();
+    private static void increment(SlotIndex counters, int key) {
+        int count = counters.get(key);
+        counters.put(key, count == SlotIndex.MISSING ? 1 : count + 1);
+    }
 
-        // Check if the specified location has a card placed on it. Otherwise,
-        // return the empty list.
-        if (!this.placedCards.containsKey(location)) {
-            return availableSlots;
+    /**
+     * Decrement a counter of the available slots, the counters at zero are removed.
+     * @param counters The counters.
+     * @param key The key of the counter.
+     * @return True if the counter has reached zero.
+     */
+    private static boolean decrement(SlotIndex counters, int key) {
+        int count = counters.get(key) - 1;
+        if (count == 0) {
+            counters.remove(key);
+            return true;
         }
+        counters.put(key, count);
+        return false;
+    }
 
-        // The list of candidates available locations, linkable to the specified location.
-        List<BoardSlot> candidates = new ArrayList<>();
-
-        // The corner locations to check.
-        CornerLocation[] corners = new CornerLocation[] {
-                CornerLocation.TOP_RIGHT,
-                CornerLocation.BOTTOM_RIGHT,
-                CornerLocation.BOTTOM_LEFT,
-                CornerLocation.TOP_LEFT,
-        };
+    /**
+     * Add the available slots at the corner positions of the specified
+     * board location. If the specified board location does not have a card placed
+     * on it, no slot is added.
+     * @param location The packed location to check.
+     */
+    private void addNewAvailableSlots(int location) {
 
-        // Get the card on the reference location.
-        Pluggable refCard = this.placedCards.get(location);
+        // Get the card on the reference location, if any.
+        CardFace refCard = this.placedCards.get(location);
+        if (refCard == null) {
+            return;
+        }
 
         // Iterate over each corner and check if the corresponding
-        // neighbor location is a candidate.
-        for (CornerLocation cornerLocation : corners) {
-            
-            // get the corner of the reference card.
-            Optional<CardCorner> corner = refCard.getCornerAt(cornerLocation);
+        // neighbor location is available.
+        for (CornerLocation cornerLocation : CORNERS) {
 
-            // If the corner is empty, there isn't a candidate available
-            // location linkable to that corner, so continue to the next corner.
-            if (corner.isEmpty()) {
+            // If the corner is empty, there isn't an available location
+            // linkable to that corner, so continue to the next corner.
+            if (!CardCatalog.hasCorner(refCard, cornerLocation)) {
                 continue;
             }
 
             // Get the neighbor location at this corner.
-            BoardSlot neighbor = location.getSlotAt(cornerLocation);
+            int neighbor = BoardSlot.packedNeighbor(location, cornerLocation);
 
             // If the location already has a card placed on it, it isn't a candidate
             // so continue to the next corner.
-            if (neighbor.isRootSlot() || this.placedCards.containsKey(neighbor)) {
+            if (neighbor == BoardSlot.PACKED_ROOT || this.placedCards.contains(neighbor)) {
                 continue;
             }
 
-            // Add the neighbor location to the list of candidate available slots.
-            candidates.add(neighbor);
-
-            // Check each candidate.
-            for (BoardSlot card : candidates) {
-                if (isLinkable(card)) {
-                    availableSlots.add(card);
-                }
+            // Add the neighbor location if all its corners are linkable.
+            if (isLinkable(neighbor)) {
+                this.addAvailableSlot(neighbor);
             }
         }
-
-        // Return the list of linkable slots.
-        return availableSlots;
     }
     
     /**
@@ -377,36 +493,27 @@ public class PlayingBoard implements BoardInfo {
      * <li>The neighbor location at corner have a card, but with a visible
      * linkable corner.
      * </ul>
-     * @param location The location to check.
+     * @param location The packed location to check.
      * @param cornerLocation The location of the corner to check.
      * @return True if the location is linkable.
      */
-    private boolean isLinkable(BoardSlot location, CornerLocation cornerLocation) {
+    private boolean isLinkable(int location, CornerLocation cornerLocation) {
 
         // The root location is not linkable by definition (it can only
         // contain the starter card).
-        if (location.isRootSlot()) {
+        if (location == BoardSlot.PACKED_ROOT) {
             return false;
         }
 
-        // Get the neighbor location at the specified corner.
-        BoardSlot neighbor = location.getSlotAt(cornerLocation);
+        // Get the neighbor location at the specified corner, and the card on it
+        // (can be the starter card or a kingdom card).
+        int neighbor = BoardSlot.packedNeighbor(location, cornerLocation);
+        CardFace card = neighbor == BoardSlot.PACKED_ROOT ? this.starterCard : this.placedCards.get(neighbor);
 
         // Check if the neighbor location has a card on it.
-        if (neighbor.isRootSlot() || this.placedCards.containsKey(neighbor)) {
-            // There is a card on the neighbor location, so get it (can be the
-            // starter card or a kingdom card).
-            Pluggable card = neighbor.isRootSlot() ? this.starterCard : this.placedCards.get(neighbor);
-            // Get the appropriate corner.
-            Optional<CardCorner> corner = switch (cornerLocation) {
-                case TOP_RIGHT -> card.getCornerAt(CornerLocation.BOTTOM_LEFT);
-                case BOTTOM_RIGHT -> card.getCornerAt(CornerLocation.TOP_LEFT);
-                case BOTTOM_LEFT -> card.getCornerAt(CornerLocation.TOP_RIGHT);
-                case TOP_LEFT -> card.getCornerAt(CornerLocation.BOTTOM_RIGHT);
-            };
-
-            // Return true if the corner is visible.
-            return corner.isPresent();
+        if (card != null) {
+            // Return true if the opposite corner is visible.
+            return CardCatalog.hasCorner(card, opposite(cornerLocation));
         } else {
             return true;
         }
@@ -422,29 +529,21 @@ public class PlayingBoard implements BoardInfo {
      * because it does NOT if there is at least one card placed at the corner of the location,
      * in order to link the placed card to that card. For this method, an empty
      * location that does not have any card placed around it is linkable.
-     * @param location The board location to check.
+     * @param location The packed board location to check.
      * @return True if it is possible to place a card on the specified location,
      * false otherwise.
      */
-    private boolean isLinkable(BoardSlot location) {
+    private boolean isLinkable(int location) {
 
         // The root location is not linkable by definition (it can only
         // contain the starter card).
-        if (location.isRootSlot()) {
+        if (location == BoardSlot.PACKED_ROOT) {
             return false;
         }
 
-        // The four corner locations to check (all corners).
-        CornerLocation[] corners = new CornerLocation[] {
-                CornerLocation.TOP_RIGHT,
-                CornerLocation.BOTTOM_RIGHT,
-                CornerLocation.BOTTOM_LEFT,
-                CornerLocation.TOP_LEFT,
-        };
-
         // Iterate over all corners. The specified location is linkable
         // only if ALL its corners are linkable.
-        for (CornerLocation cornerLocation : corners) {
+        for (CornerLocation cornerLocation : CORNERS) {
             // If at least one corner is not linkable, return false.
             if (!isLinkable(location, cornerLocation)) {
                 return false;
@@ -458,99 +557,66 @@ public class PlayingBoard implements BoardInfo {
     /**
      * Check if the card placed on the specified slot has a hidden corner
      * that invalidate an available location.
-     * @param location The location where is placed the card that can invalidate
+     * @param location The packed location where is placed the card that can invalidate
      *                 neighbor available location.
      */
-    private void removeInvalidatedSlots(BoardSlot location) {
+    private void removeInvalidatedSlots(int location) {
+
+        // Get the card placed at the specified location. Get a pluggable
+        // reference, because I need only corners information.
+        CardFace card = this.placedCards.get(location);
+
         // If there isn't a card placed on the specified location,
         // return immediately.
-        if (!this.placedCards.containsKey(location)) {
+        if (card == null) {
             return;
         }
 
-        // Get the card placed at the specified location. Get a pluggable
-        // reference, because I need only corners information.
-        Pluggable card = this.placedCards.get(location);
-
-        // The list of corner locations to check.
-        CornerLocation[] corners = new CornerLocation[]{
-                CornerLocation.TOP_RIGHT,
-                CornerLocation.BOTTOM_RIGHT,
-                CornerLocation.BOTTOM_LEFT,
-                CornerLocation.TOP_LEFT
-        };
-
         // Check each corner location.
-        for (CornerLocation cornerLocation : corners) {
-            // Get the corner object.
-            Optional<CardCorner> corner = switch (cornerLocation) {
-                case TOP_RIGHT -> card.getTopRightCorner();
-                case BOTTOM_RIGHT -> card.getBottomRightCorner();
-                case BOTTOM_LEFT -> card.getBottomLeftCorner();
-                case TOP_LEFT -> card.getTopLeftCorner();
-            };
-
+        for (CornerLocation cornerLocation : CORNERS) {
             // Check if it is a hidden corner.
-            if (corner.isEmpty()) {
-                // Get the board location linked to this corner.
-                BoardSlot linkedSlot = location.getSlotAt(cornerLocation);
-                // If that linkable location is an available location,
-                // remove from the list (this hidden corner invalidates the
+            if (!CardCatalog.hasCorner(card, cornerLocation)) {
+                // If the location linked to this corner is an available location,
+                // remove it from the list (this hidden corner invalidates the
                 // linkable location).
-                this.availableSlots.remove(linkedSlot);
+                this.removeAvailableSlot(BoardSlot.packedNeighbor(location, cornerLocation));
             }
         }
 
     }
 
     /**
-     * Check if the card positioned on the specified slot hides the corner
-     * of another card at the specified corner. If there isn't a card on
-     * the slot linked to the specified corner, the method returns an
-     * Optional.empty() value.
+     * Get the card whose corner is hidden by the card positioned on the specified slot,
+     * at the specified corner. If there isn't a card on the slot linked to the specified
+     * corner, the method returns null.
      * <P>
-     * If there is a card on the linked slot, its corner is visible
-     * due to the rules of card placement. Thus, the getXxxCorner() method
-     * on the card instance return a non-empty value.
-     * @param refSlot The slot where the card is placed.
+     * If there is a card on the linked slot, its opposite corner is visible
+     * due to the rules of card placement.
+     * @param refSlot The packed slot where the card is placed.
      * @param location The corner location to check.
-     * @return The (optional) corner hidden by the card.
+     * @return The card with the hidden corner, null if there is no card.
      */
-    private Optional<CardCorner> getHiddenCorner(BoardSlot refSlot, CornerLocation location) {
+    private CardFace getHidingNeighbor(int refSlot, CornerLocation location) {
 
         // Get the slot that is a candidate to have its corner hidden.
-        BoardSlot candidate = refSlot.getSlotAt(location);
-
-        CardFace card;
+        int candidate = BoardSlot.packedNeighbor(refSlot, location);
 
-        // Check if the candidate is the root slot.
-        if (candidate.isRootSlot()) {
-
-            // Get the card on the candidate slot.
-            card = this.starterCard;
-        } else {
-
-            // Check if the candidate slot has a card placed on it.
-            if (!this.placedCards.containsKey(candidate)) {
-
-                // The candidate does not have a card placed on it, so there is
-                // no covered corners.
-                return Optional.empty();
-            }
-
-            // Get the card on the candidate slot.
-            card = this.placedCards.get(candidate);
-        }
+        // Get the card on the candidate slot: the starter card on the root slot.
+        return candidate == BoardSlot.PACKED_ROOT ? this.starterCard : this.placedCards.get(candidate);
+    }
 
-        // Return the covered corner, depending on the relative location
-        // of the candidate slot.
+    /**
+     *
+     * @param location The corner location of a card.
+     * @return The corner location of the neighbor card at that corner, that touches the corner.
+     */
+    static CornerLocation opposite(CornerLocation location) {
         return switch (location) {
-            case TOP_RIGHT -> card.getBottomLeftCorner();
-            case BOTTOM_RIGHT -> card.getTopLeftCorner();
-            case BOTTOM_LEFT -> card.getTopRightCorner();
-            case TOP_LEFT -> card.getBottomRightCorner();
+            case TOP_RIGHT -> CornerLocation.BOTTOM_LEFT;
+            case BOTTOM_RIGHT -> CornerLocation.TOP_LEFT;
+            case BOTTOM_LEFT -> CornerLocation.TOP_RIGHT;
+            case TOP_LEFT -> CornerLocation.BOTTOM_RIGHT;
         };
-
     }
 
     //endregion
@@ -563,7 +629,7 @@ public class PlayingBoard implements BoardInfo {
      */
     @Override
     public ResourcesCounter getResources() {
-        return this.resources;
+        return this.resources.toCounter();
     }
 
     /**
@@ -572,7 +638,7 @@ public class PlayingBoard implements BoardInfo {
      */
     @Override
     public ItemsCounter getItems() {
-        return this.items;
+        return this.items.toCounter();
     }
 
     /**
@@ -581,7 +647,7 @@ public class PlayingBoard implements BoardInfo {
      */
     @Override
     public ImmutableList<BoardSlot> getCoveredSlots() {
-        return new ImmutableList<>(new ArrayList<>(this.placedCards.keySet()));
+        return this.placedCards.getSlots();
     }
 
     /**
@@ -591,7 +657,20 @@ public class PlayingBoard implements BoardInfo {
      */
     @Override
     public ImmutableList<BoardSlot> getAvailableSlots() {
-        return new ImmutableList<>(new ArrayList<>(this.availableSlots));
+        if (this.availableSlotsView == null) {
+            this.availableSlotsView = ImmutableList.view(List.copyOf(this.availableSlots));
+        }
+        return this.availableSlotsView;
+    }
+
+    /**
+     *
+     * @return The smallest rectangle that contains the placed cards, the starter card
+     * and the available slots.
+     */
+    @Override
+    public BoardExtent getExtent() {
+        return this.extent;
     }
 
     /**
@@ -604,12 +683,13 @@ public class PlayingBoard implements BoardInfo {
     public KingdomCardFace getCardAt(BoardSlot location) throws IllegalArgumentException {
 
         // Check if the specified slot contains a card.
-        if (!this.placedCards.containsKey(location)) {
+        KingdomCardFace card = this.placedCards.get(location.toPacked());
+        if (card == null) {
             throw new PlayingBoardException(String.format("The specified slot (%s) does not contains a card.", location));
         }
 
         // Return the card placed on the specified slot.
-        return this.placedCards.get(location);
+        return card;
     }
 
     @Override
@@ -626,25 +706,200 @@ public class PlayingBoard implements BoardInfo {
 
     //region Nested Types
 
+    /**
+     * The placed cards of a version of the playing board: an append-only log of slots and cards,
+     * with an index of the position of each slot in the log. A new version shares the arrays and
+     * the index with the older versions, which only see the entries before their count.
+     */
+    private static final class Placements {
+
+        /**
+         * The initial capacity of the log.
+         */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * The slots of the placed cards, in order of placement.
+         */
+        private final BoardSlot[] slots;
+
+        /**
+         * The packed slots of the placed cards, in order of placement.
+         */
+        private final int[] packedSlots;
+
+        /**
+         * The placed cards, in order of placement.
+         */
+        private final KingdomCardFace[] cards;
+
+        /**
+         * The position in the log of each packed slot, shared by all the versions.
+         */
+        private final PositionTable index;
+
+        /**
+         * The number of cards of this version.
+         */
+        private final int count;
+
+        /**
+         * Create an empty log.
+         */
+        private Placements() {
+            this(new BoardSlot[INITIAL_CAPACITY], new int[INITIAL_CAPACITY], new KingdomCardFace[INITIAL_CAPACITY],
+                    new PositionTable(), 0);
+        }
+
+        private Placements(BoardSlot[] slots, int[] packedSlots, KingdomCardFace[] cards, PositionTable index, int count) {
+            this.slots = slots;
+            this.packedSlots = packedSlots;
+            this.cards = cards;
+            this.index = index;
+            this.count = count;
+        }
+
+        /**
+         * Add a card to the log. Only the last version can be extended.
+         * @param packedSlot The packed slot of the card.
+         * @param slot The slot of the card.
+         * @param card The placed card.
+         * @return The new version, with the card.
+         */
+        private Placements append(int packedSlot, BoardSlot slot, KingdomCardFace card) {
+            BoardSlot[] newSlots = this.slots;
+            int[] newPackedSlots = this.packedSlots;
+            KingdomCardFace[] newCards = this.cards;
+            if (this.count == this.slots.length) {
+                // The older versions keep the old arrays.
+                newSlots = Arrays.copyOf(this.slots, 2 * this.count);
+                newPackedSlots = Arrays.copyOf(this.packedSlots, 2 * this.count);
+                newCards = Arrays.copyOf(this.cards, 2 * this.count);
+            }
+            newSlots[this.count] = slot;
+            newPackedSlots[this.count] = packedSlot;
+            newCards[this.count] = card;
+            this.index.put(newPackedSlots, this.count);
+            return new Placements(newSlots, newPackedSlots, newCards, this.index, this.count + 1);
+        }
+
+        /**
+         * @param packedSlot The packed slot.
+         * @return The card placed on the slot in this version, null if the slot is empty.
+         */
+        private KingdomCardFace get(int packedSlot) {
+            int position = this.index.find(this.packedSlots, this.count, packedSlot);
+            return position != SlotIndex.MISSING ? this.cards[position] : null;
+        }
+
+        /**
+         * @param packedSlot The packed slot.
+         * @return True if a card is placed on the slot in this version.
+         */
+        private boolean contains(int packedSlot) {
+            return this.get(packedSlot) != null;
+        }
+
+        /**
+         *
+         * @return The slots of the placed cards, in order of placement. The list is a view of the log.
+         */
+        private ImmutableList<BoardSlot> getSlots() {
+            return ImmutableList.view(Arrays.asList(this.slots).subList(0, this.count));
+        }
+    }
+
+    /**
+     * The open addressing table of the positions of the placed cards in the log, by packed slot.
+     * Each entry is the position plus one, zero for the empty entries: the slot of an entry is read
+     * from the log of the reader, so a reader skips the entries written after its version, and a
+     * single int write never shows a half written entry. The table is replaced when it grows, the
+     * readers of other threads keep using the old table, which has all the entries of their version.
+     */
+    private static final class PositionTable {
+
+        /**
+         * The positions plus one, by hash of the packed slot. The length is a power of two.
+         */
+        private volatile int[] table = new int[2 * Placements.INITIAL_CAPACITY];
+
+        /**
+         * The number of entries. Only used by the writer.
+         */
+        private int size;
+
+        /**
+         * Add the last card of the log.
+         * @param packedSlots The log of the packed slots.
+         * @param position The position of the last card in the log.
+         */
+        private void put(int[] packedSlots, int position) {
+            if (2 * (this.size + 1) > this.table.length) {
+                // Build the new table before publishing it.
+                int[] grown = new int[2 * this.table.length];
+                for (int i = 0; i != position; i++) {
+                    insert(grown, packedSlots[i], i);
+                }
+                this.table = grown;
+            }
+            insert(this.table, packedSlots[position], position);
+            this.size++;
+        }
+
+        /**
+         * @param packedSlots The log of the packed slots of the reader.
+         * @param count The number of cards of the reader.
+         * @param packedSlot The packed slot to find.
+         * @return The position of the slot in the log, {@link SlotIndex#MISSING} if the slot is
+         * not among the first count cards.
+         */
+        private int find(int[] packedSlots, int count, int packedSlot) {
+            int[] positions = this.table;
+            int mask = positions.length - 1;
+            for (int i = SlotIndex.hash(packedSlot) & mask; positions[i] != 0; i = (i + 1) & mask) {
+                int position = positions[i] - 1;
+                if (position < count && packedSlots[position] == packedSlot) {
+                    return position;
+                }
+            }
+            return SlotIndex.MISSING;
+        }
+
+        /**
+         * @param positions The table.
+         * @param packedSlot The packed slot of the card.
+         * @param position The position of the card in the log.
+         */
+        private static void insert(int[] positions, int packedSlot, int position) {
+            int mask = positions.length - 1;
+            int i = SlotIndex.hash(packedSlot) & mask;
+            while (positions[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            positions[i] = position + 1;
+        }
+    }
+
     protected class PlayingBoardInfo implements BoardInfo {
 
         private final ResourcesCounter resources;
         private final ItemsCounter items;
         private final ImmutableList<BoardSlot> availableSlots;
-        private final Map<BoardSlot, KingdomCardFace> placedCards;
+        private final BoardExtent extent;
+        private final Placements placedCards;
 
-        protected PlayingBoardInfo(Map<BoardSlot, KingdomCardFace> placedCards, Set<BoardSlot> availableSlots, ResourcesCounter resources,
-                ItemsCounter items) {
+        protected PlayingBoardInfo(Placements placedCards, ImmutableList<BoardSlot> availableSlots, BoardExtent extent,
+                ResourcesCounter resources, ItemsCounter items) {
             // Initialize resources.
             this.resources = resources;
             // Initialize items.
             this.items = items;
-            // initialize available slots with an immutable copy of the parameter list.
-            this.availableSlots = new ImmutableList<>(new ArrayList<>(availableSlots));
-            // Create a new map for placed cards.
-            this.placedCards = new HashMap<>();
-            // Copy all entries form the input map.
-            this.placedCards.putAll(placedCards);
+            // The available slots of this version, never changed.
+            this.availableSlots = availableSlots;
+            // The extent of this version, immutable.
+            this.extent = extent;
+            // The placed cards of this version, never changed.
+            this.placedCards = placedCards;
         }
 
         @Override
@@ -659,7 +914,7 @@ public class PlayingBoard implements BoardInfo {
 
         @Override
         public ImmutableList<BoardSlot> getCoveredSlots() {
-            return new ImmutableList<>(new ArrayList<>(this.placedCards.keySet()));
+            return this.placedCards.getSlots();
         }
 
         @Override
@@ -667,15 +922,21 @@ public class PlayingBoard implements BoardInfo {
             return this.availableSlots;
         }
 
+        @Override
+        public BoardExtent getExtent() {
+            return this.extent;
+        }
+
         @Override
         public KingdomCardFace getCardAt(BoardSlot location) throws IllegalArgumentException {
 
-            if (!this.placedCards.containsKey(location)) {
+            KingdomCardFace card = this.placedCards.get(location.toPacked());
+            if (card == null) {
                 throw new PlayingBoardException(
                         String.format("The specified slot (%s) does not contains a card.", location));
             }
             
-            return this.placedCards.get(location);
+            return card;
 
         }
 
@@ -692,4 +953,4 @@ public class PlayingBoard implements BoardInfo {
 
     }
     
-}
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package it.polimi.ingsw.am52.model.playingBoards;
+
+/**
+ * A map from the packed coordinates of the slots (see {@link BoardSlot#pack(int, int)}) to
+ * non-negative ints. The keys and the values are stored in two primitive arrays, with open
+ * addressing and linear probing: the map never boxes its keys nor its values, and it allocates
+ * only when it grows.
+ * <P>
+ * This class is not thread-safe.
+ */
+final class SlotIndex {
+
+    //region Static Fields
+
+    /**
+     * The key of the empty entries: zero is never a packed slot.
+     */
+    private static final int EMPTY = 0;
+
+    /**
+     * The value returned for the missing keys.
+     */
+    static final int MISSING = -1;
+
+    //endregion
+
+    //region Private Fields
+
+    /**
+     * The packed slots, EMPTY for the empty entries. The length is a power of two.
+     */
+    private int[] keys;
+
+    /**
+     * The values of the entries.
+     */
+    private int[] values;
+
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    //endregion
+
+    //region Static Methods
+
+    /**
+     * Spread the bits of a packed slot, the neighbor slots differ only in a few low bits
+     * of each coordinate.
+     * @param slot The packed slot.
+     * @return The hash of the packed slot.
+     */
+    static int hash(int slot) {
+        int hash = slot * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Create an empty index.
+     * @param expectedSize The number of entries the index holds without growing.
+     */
+    SlotIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+    }
+
+    //endregion
+
+    //region Methods
+
+    /**
+     *
+     * @return The number of entries.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     *
+     * @param slot The packed slot.
+     * @return The value of the slot, {@link #MISSING} if the slot is not in the index.
+     */
+    int get(int slot) {
+        int mask = this.keys.length - 1;
+        for (int i = hash(slot) & mask; this.keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (this.keys[i] == slot) {
+                return this.values[i];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     *
+     * @param slot The packed slot.
+     * @return True if the slot is in the index.
+     */
+    boolean containsKey(int slot) {
+        return this.get(slot) != MISSING;
+    }
+
+    /**
+     * Add a slot to the index, or change its value.
+     * @param slot The packed slot.
+     * @param value The value of the slot, not negative.
+     */
+    void put(int slot, int value) {
+        int mask = this.keys.length - 1;
+        int i = hash(slot) & mask;
+        while (this.keys[i] != EMPTY) {
+            if (this.keys[i] == slot) {
+                this.values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        this.keys[i] = slot;
+        this.values[i] = value;
+        this.size++;
+        // Keep the table at most half full, the probe sequences stay short.
+        if (2 * this.size > this.keys.length) {
+            this.grow();
+        }
+    }
+
+    /**
+     * Remove a slot from the index. The following entries of its probe sequence are shifted back,
+     * the index never keeps tombstones.
+     * @param slot The packed slot.
+     * @return The value of the removed slot, {@link #MISSING} if the slot was not in the index.
+     */
+    int remove(int slot) {
+        int mask = this.keys.length - 1;
+        int i = hash(slot) & mask;
+        while (this.keys[i] != slot) {
+            if (this.keys[i] == EMPTY) {
+                return MISSING;
+            }
+            i = (i + 1) & mask;
+        }
+        int removed = this.values[i];
+
+        // Move back the entries that cannot be found anymore after the hole.
+        int hole = i;
+        for (int j = (hole + 1) & mask; this.keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = hash(this.keys[j]) & mask;
+            // The entry can fill the hole only if its home is not between the hole and the entry.
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                this.keys[hole] = this.keys[j];
+                this.values[hole] = this.values[j];
+                hole = j;
+            }
+        }
+        this.keys[hole] = EMPTY;
+        this.size--;
+        return removed;
+    }
+
+    //endregion
+
+    //region Private Methods
+
+    /**
+     * Double the capacity of the table.
+     */
+    private void grow() {
+        int[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        this.keys = new int[2 * oldKeys.length];
+        this.values = new int[2 * oldValues.length];
+        this.size = 0;
+        for (int i = 0; i != oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                this.put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    //endregion
+}
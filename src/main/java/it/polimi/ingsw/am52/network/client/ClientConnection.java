@@ -1,5 +1,6 @@
 package it.polimi.ingsw.am52.network.client;
 
+import it.polimi.ingsw.am52.json.MessageCodecs;
 import it.polimi.ingsw.am52.json.dto.DrawType;
 import it.polimi.ingsw.am52.json.request.*;
 import it.polimi.ingsw.am52.json.response.*;
@@ -32,13 +33,38 @@ public class ClientConnection {
      * @throws IOException      The connection has already been instantiated
      */
     public static void setConnection(String serverIp, int port, NetworkMode type) throws IOException {
+        setConnection(serverIp, port, type, false);
+    }
+
+    /**
+     * Set the connection to the server
+     * @param serverIp          The IP address of the server
+     * @param port              The port to communicate
+     * @param type              The type of Network protocol
+     * @param framed            Whether the socket connection asks for the framed protocol
+     * @throws IOException      The connection has already been instantiated
+     */
+    public static void setConnection(String serverIp, int port, NetworkMode type, boolean framed) throws IOException {
+        setConnection(serverIp, port, type, framed, MessageCodecs.JSON.getName());
+    }
+
+    /**
+     * Set the connection to the server
+     * @param serverIp          The IP address of the server
+     * @param port              The port to communicate
+     * @param type              The type of Network protocol
+     * @param framed            Whether the socket connection asks for the framed protocol
+     * @param codec             The codec asked for the framed protocol
+     * @throws IOException      The connection has already been instantiated
+     */
+    public static void setConnection(String serverIp, int port, NetworkMode type, boolean framed, String codec) throws IOException {
         if (INSTANCE != null) {
             throw new IllegalArgumentException ("The connection has already been initialized");
         }
 
         INSTANCE = switch (type) {
             case RMI -> new ConnectionRMI(serverIp, port);
-            case SOCKET -> new ConnectionTCP(serverIp, port);
+            case SOCKET -> new ConnectionTCP(serverIp, port, framed, codec);
         };
 
         // If the connection is of type TCP, start listening on a new thread.
@@ -54,7 +80,30 @@ public class ClientConnection {
      */
     public static ResponseStatus getLobbyList() {
         try {
-            var result = INSTANCE.listLobby();
+            // Ask for the lobbies only if they have changed since the last list
+            var sinceVersion = ViewModelState.getInstance().getLobbiesVersion();
+            var result = INSTANCE.listLobby(new ListLobbyData(sinceVersion, 0, 0, 0, 0));
+            if (result.getStatus().getErrorCode() == 0) {
+                ViewModelState.getInstance().updateLobbyList(result);
+            }
+
+            //if the call is not correct the viewModelState is not edited and the caller will handle the bad response
+            return result.getStatus();
+        } catch (Exception e) {
+            System.out.println("Error: " + e);
+            System.exit(0);
+            return null;
+        }
+    }
+
+    /**
+     * Subscribe to the lobbies: the existing lobbies are listed, then the server pushes their changes
+     * until the client joins a lobby
+     * @return  The response from the server
+     */
+    public static ResponseStatus subscribeLobbies() {
+        try {
+            var result = INSTANCE.subscribeLobby(new SubscribeLobbyData(true));
             if (result.getStatus().getErrorCode() == 0) {
                 ViewModelState.getInstance().updateLobbyList(result);
             }
@@ -114,6 +163,32 @@ public class ClientConnection {
         }
     }
 
+    /**
+     * Method to wait for a match, the server chooses the lobby
+     * @param nickname  The nickname of the player
+     * @param players   The number of players of the match
+     * @return          The response from the server
+     */
+    public static ResponseStatus quickMatch(String nickname, int players) {
+        try {
+            // the match can be notified by a broadcast before this response arrives
+            ViewModelState.getInstance().setClientNickname(nickname);
+            var result = INSTANCE.quickMatch(new QuickMatchData(nickname, players));
+            if (result.getStatus().getErrorCode() != 0) {
+                ViewModelState.getInstance().setClientNickname("");
+            } else if (result.getLobbyId() != -1) {
+                ViewModelState.getInstance().updateJoinLobby(result);
+            }
+
+            //if the call is not correct the viewModelState is not edited and the caller will handle the bad response
+            return result.getStatus();
+        } catch (Exception e) {
+            System.out.println("Error: " + e);
+            System.exit(0);
+            return null;
+        }
+    }
+
     /**
      * Method to leave a lobby
      * @return      The response from the server
@@ -123,6 +198,8 @@ public class ClientConnection {
             var result = INSTANCE.leaveGame();
             if (result.getStatus().getErrorCode() == 0) {
                 ViewModelState.getInstance().updateLeaveGame(result);
+                // back to the menu, follow the changes of the lobbies again
+                subscribeLobbies();
             }
 
             //if the call is not correct the viewModelState is not edited and the caller will handle the bad response
@@ -304,5 +381,25 @@ public class ClientConnection {
             return null;
         }
     }
+
+    /**
+     * Method to ask the legal placements of the cards in the hand, with their points
+     * @return                  The response from the server
+     */
+    public static ResponseStatus hints() {
+        try {
+            var result = INSTANCE.hints(null);
+            if (result.getStatus().getErrorCode() == 0) {
+                ViewModelState.getInstance().updateHints(result);
+            }
+
+            //if the call is not correct the viewModelState is not edited and the caller will handle the bad response
+            return result.getStatus();
+        } catch (Exception e) {
+            System.out.println("Error: " + e);
+            System.exit(0);
+            return null;
+        }
+    }
     // endregion
 }
@@ -137,11 +137,41 @@ public class ConnectionRMI extends UnicastRemoteObject implements RemoteConnecti
 
     /**
      * Method to perform the listLobby Request
+     *
+     * @param data the request, null to list all the lobbies
+     */
+    @Override
+    public ListLobbyResponseData listLobby(ListLobbyData data) throws RemoteException {
+        try {
+            return this.view.listLobby(data);
+        } catch (RemoteException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to perform the subscribeLobby Request
+     *
+     * @param data the request, null to subscribe
+     */
+    @Override
+    public ListLobbyResponseData subscribeLobby(SubscribeLobbyData data) throws RemoteException {
+        try {
+            return this.view.subscribeLobby(data);
+        } catch (RemoteException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to perform the quickMatch Request
+     *
+     * @param data the request
      */
     @Override
-    public ListLobbyResponseData listLobby() throws RemoteException {
+    public JoinLobbyResponseData quickMatch(QuickMatchData data) throws RemoteException {
         try {
-            return this.view.listLobby();
+            return this.view.quickMatch(data);
         } catch (RemoteException e) {
             return null;
         }
@@ -263,5 +293,20 @@ public class ConnectionRMI extends UnicastRemoteObject implements RemoteConnecti
             return null;
         }
     }
+
+    /**
+     * Method to perform the hints request
+     * @param data the request data
+     * @return the response data
+     * @throws RemoteException if exemptions happens in RMI
+     */
+    @Override
+    public HintsResponseData hints(HintsData data) throws RemoteException {
+        try {
+            return this.view.hints(data);
+        } catch (RemoteException e) {
+            return null;
+        }
+    }
     //end region
 }
@@ -5,13 +5,18 @@ import it.polimi.ingsw.am52.json.request.*;
 import it.polimi.ingsw.am52.json.response.*;
 import it.polimi.ingsw.am52.view.viewModel.ViewModelState;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import it.polimi.ingsw.am52.network.server.tcp.FrameReader;
+import it.polimi.ingsw.am52.network.server.tcp.Framing;
+import it.polimi.ingsw.am52.settings.ServerSettings;
+
+import java.io.*;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.rmi.RemoteException;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ConnectionTCP implements Connection, Runnable{
 
@@ -24,34 +29,175 @@ public class ConnectionTCP implements Connection, Runnable{
     /**
      * The socket out stream
      */
-    private final PrintWriter out;
+    private final OutputStream out;
 
     /**
      * The socket in stream
      */
-    private final BufferedReader in;
+    private final InputStream in;
+
+    /**
+     * The maximum frame size negotiated with the server, 0 if the connection uses the line protocol
+     */
+    private final int frameSize;
+
+    /**
+     * The codec of the frames, negotiated with the server
+     */
+    private final MessageCodec codec;
 
     private final ExecutorService broadcastThread = Executors.newSingleThreadExecutor();
 
     private final LinkedBlockingQueue<BaseResponseData> broadcastQueue = new LinkedBlockingQueue<>();
 
     /**
-     * The object needed to pass the response between two threads
-     * @see <a href="https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/SynchronousQueue.html">SynchronousQueue API</a>
-     * Although the SynchronousQueue has an interface of a queue, we should think about it as an exchange point for a single element between two threads,
-     * in which one thread is handing off an element, and another thread is taking that element.
+     * The default time a request waits for its response
+     */
+    public static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 60_000;
+
+    /**
+     * The requests waiting for their response, by correlation id. Several requests can be in flight
+     * at the same time, and the responses can arrive in any order: each one completes the request
+     * with its id. The ids are taken in the order the requests are written.
+     */
+    private final ConcurrentSkipListMap<Integer, CompletableFuture<JsonMessage<BaseResponseData>>> pendingRequests = new ConcurrentSkipListMap<>();
+
+    /**
+     * The correlation id of the next request, guarded by out: the requests are written in order of id
+     */
+    private final AtomicInteger nextRequestId = new AtomicInteger(1);
+
+    /**
+     * True once the server has echoed a correlation id. Until then, the server may answer without ids,
+     * in order: the requests are sent one at a time, see {@link #inOrder}
+     */
+    private volatile boolean echoesIds;
+
+    /**
+     * The lock of the requests sent to a server that has never echoed a correlation id
      */
-    private final SynchronousQueue<JsonMessage<BaseResponseData>> responseQueue;
+    private final Object inOrder = new Object();
+
+    /**
+     * The responses without id still to come for requests that are timed out, they are discarded.
+     * Guarded by pendingRequests
+     */
+    private int lateResponses;
+
+    /**
+     * The time a request waits for its response, in milliseconds
+     */
+    private volatile long requestTimeoutMillis = DEFAULT_REQUEST_TIMEOUT_MILLIS;
 
     public ConnectionTCP(String serverIp, int tcpPort) throws IOException {
+        this(serverIp, tcpPort, false);
+    }
+
+    /**
+     * Connect to the server
+     * @param serverIp the address of the server
+     * @param tcpPort the port of the server
+     * @param framed true to ask the server for the framed protocol, the connection falls back
+     *               to the line protocol if the server does not support it
+     * @throws IOException if the connection fails
+     */
+    public ConnectionTCP(String serverIp, int tcpPort, boolean framed) throws IOException {
+        this(serverIp, tcpPort, framed, MessageCodecs.JSON.getName());
+    }
+
+    /**
+     * Connect to the server
+     * @param serverIp the address of the server
+     * @param tcpPort the port of the server
+     * @param framed true to ask the server for the framed protocol, the connection falls back
+     *               to the line protocol if the server does not support it
+     * @param codec the codec asked for the frames, a codec other than json implies the framed protocol.
+     *              The server answers with json if it does not know the codec
+     * @throws IOException if the connection fails
+     */
+    public ConnectionTCP(String serverIp, int tcpPort, boolean framed, String codec) throws IOException {
         System.out.printf("Client started with host %s and port %d %n", serverIp,tcpPort);
         // establish connection to server
         this.socket = new Socket(serverIp,tcpPort);
 
-        this.out = new PrintWriter(this.socket.getOutputStream(), true);
-        this.in = new BufferedReader(new InputStreamReader(this.socket.getInputStream()));
+        this.out = new BufferedOutputStream(this.socket.getOutputStream());
+        this.in = new BufferedInputStream(this.socket.getInputStream());
+        MessageCodec requestedCodec = MessageCodecs.getOrDefault(codec);
+        if (framed || requestedCodec != MessageCodecs.JSON) {
+            String answer = this.negotiateFrames(requestedCodec);
+            this.frameSize = Math.max(Framing.parseHandshake(answer), 0);
+            this.codec = this.frameSize > 0 ? Framing.parseCodec(answer) : MessageCodecs.JSON;
+            System.out.println(this.frameSize > 0 ?
+                    "Framed protocol, max frame size: " + this.frameSize + ", codec: " + this.codec.getName() :
+                    "Line protocol");
+        } else {
+            this.frameSize = 0;
+            this.codec = MessageCodecs.JSON;
+        }
+    }
 
-        this.responseQueue = new SynchronousQueue<>();
+    /**
+     * Send the handshake of the framed protocol and wait for the answer of the server
+     * @param codec the codec asked for the frames
+     * @return the answer of the server, null if the server did not answer
+     * @throws IOException if the connection fails
+     */
+    private String negotiateFrames(MessageCodec codec) throws IOException {
+        Framing.writeLine(this.out, Framing.handshake(ServerSettings.DEF_MAX_FRAME_SIZE, codec.getName()));
+        this.socket.setSoTimeout(Framing.HANDSHAKE_TIMEOUT_MILLIS);
+        try {
+            String answer = Framing.readLine(this.in, Framing.MAX_HANDSHAKE_LENGTH);
+            if (answer == null) {
+                throw new EOFException("Connection closed during the handshake.");
+            }
+            return answer;
+        } catch (SocketTimeoutException e) {
+            // an older server ignores the handshake
+            System.out.println("No answer to the handshake");
+            return null;
+        } finally {
+            this.socket.setSoTimeout(0);
+        }
+    }
+
+    /**
+     * Check if the connection uses the framed protocol
+     * @return true if the server accepted the framed protocol
+     */
+    public boolean isFramed() {
+        return this.frameSize > 0;
+    }
+
+    /**
+     *
+     * @return the codec of the frames, json for the line protocol
+     */
+    public MessageCodec getCodec() {
+        return this.codec;
+    }
+
+    /**
+     *
+     * @return the time a request waits for its response, in milliseconds
+     */
+    public long getRequestTimeoutMillis() {
+        return this.requestTimeoutMillis;
+    }
+
+    /**
+     * Set the time a request waits for its response
+     * @param requestTimeoutMillis the timeout, in milliseconds
+     */
+    public void setRequestTimeoutMillis(long requestTimeoutMillis) {
+        this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    /**
+     *
+     * @return the number of requests waiting for their response
+     */
+    public int getPendingRequests() {
+        return this.pendingRequests.size();
     }
 
     /**
@@ -63,28 +209,11 @@ public class ConnectionTCP implements Connection, Runnable{
 
         // Start thread to send broadcast messages
         this.broadcastThread.execute(this::executeBroadcastAsync);
-        // Initialize Listening thread
-        String jsonResponse;
-
         try {
-            while((jsonResponse = in.readLine()) != null){
-                /*System.out.println("received: " + jsonResponse);*/
-
-                try {
-                    var res = JsonDeserializer.deserializeResponse(jsonResponse);
-
-                    if (res.getData().getIsBroadcast()) {
-                        this.broadcastQueue.put(res.getData());
-                    } else {
-                        // If the response is not a broadcast then one of the ActionRMI method is waiting for the response to be added in the queue
-                        // the offer methods inserts the element in the queue only if a thread is waiting for it, timeout handled
-                        if (!responseQueue.offer(res)){
-                            System.out.println("Request thread timed out");
-                        }
-                    }
-                } catch (Exception e) {
-                    System.out.println("Deserialize throw exception:" + e.getMessage());
-                }
+            if (this.frameSize > 0) {
+                this.readFrames();
+            } else {
+                this.readLines();
             }
         } catch (IOException e) {
             // break the loop and finally call the disconnection
@@ -94,26 +223,170 @@ public class ConnectionTCP implements Connection, Runnable{
             } catch (IOException e) {
                 System.out.println("Exception closing socket: exception: " + e.getMessage());
             }
+            // no response will arrive anymore, release the requests in flight
+            this.pendingRequests.values().forEach(request -> request.cancel(false));
+            this.pendingRequests.clear();
+        }
+    }
+
+    /**
+     * Read the responses of the line protocol, until the connection is closed
+     * @throws IOException if the read fails
+     */
+    private void readLines() throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(this.in, StandardCharsets.UTF_8));
+        String jsonResponse;
+
+        while((jsonResponse = reader.readLine()) != null){
+            /*System.out.println("received: " + jsonResponse);*/
+
+            try {
+                this.handleResponse(JsonDeserializer.deserializeResponse(jsonResponse));
+            } catch (Exception e) {
+                System.out.println("Deserialize throw exception:" + e.getMessage());
+            }
         }
     }
 
     /**
-     * Synchronized method to be sure that the response is correct
-     * Method used to send the message to the server
+     * Read the responses of the framed protocol, until the connection is closed
+     * @throws IOException if the read fails, or a frame is too large
+     */
+    private void readFrames() throws IOException {
+        FrameReader frames = new FrameReader(this.in, this.frameSize);
+        ByteBuffer payload;
+
+        while ((payload = frames.next()) != null) {
+            try {
+                this.handleResponse(this.codec.decodeResponse(payload));
+            } catch (Exception e) {
+                System.out.println("Deserialize throw exception:" + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Forward a response to the broadcast thread, or to the request waiting for it
+     * @param res the response received
+     * @throws InterruptedException if the thread is interrupted while forwarding the response
+     */
+    private void handleResponse(JsonMessage<BaseResponseData> res) throws InterruptedException {
+        if (res.getData().getIsBroadcast()) {
+            this.broadcastQueue.put(res.getData());
+            return;
+        }
+
+        CompletableFuture<JsonMessage<BaseResponseData>> request;
+        if (res.getId() != null) {
+            this.echoesIds = true;
+            request = this.pendingRequests.remove(res.getId());
+        } else {
+            request = this.pollInOrderRequest();
+        }
+        if (request == null) {
+            System.out.println("Response without request, it may be timed out: " + res.getMethod());
+            return;
+        }
+        request.complete(res);
+    }
+
+    /**
+     * Remove the request of a response without id. A server without correlation ids answers in order,
+     * and the requests are sent one at a time: the response is for the only request in flight, unless
+     * it is the late response of a request that is timed out.
+     * @return the request, null if the response cannot be matched to a request
+     */
+    private CompletableFuture<JsonMessage<BaseResponseData>> pollInOrderRequest() {
+        synchronized (this.pendingRequests) {
+            if (this.lateResponses > 0) {
+                this.lateResponses--;
+                return null;
+            }
+            if (this.pendingRequests.size() != 1) {
+                return null;
+            }
+            return this.pendingRequests.pollFirstEntry().getValue();
+        }
+    }
+
+    /**
+     * Remove a request that is no longer waiting for its response
+     * @param id the correlation id of the request
+     * @param sent true if the request has been written to the server
+     */
+    private void releaseRequest(int id, boolean sent) {
+        synchronized (this.pendingRequests) {
+            if (this.pendingRequests.remove(id) != null && sent && !this.echoesIds) {
+                // the response may still come without id, it must not complete the next request
+                this.lateResponses++;
+            }
+        }
+    }
+
+    /**
+     * Method used to send the message to the server, it waits for the response with the default timeout
      *
      * @param message the message to send
-     * @return the BaseResponseData
+     * @return the BaseResponseData, null if the request failed or timed out
      */
-    private synchronized BaseResponseData send(JsonMessage message) {
-        try {
-            this.out.println(message.toJson());
+    private BaseResponseData send(JsonMessage<?> message) {
+        return this.send(message, this.requestTimeoutMillis);
+    }
 
-            // Wait the response to be received, 1 minute timeout
-            return this.responseQueue.poll(1, TimeUnit.MINUTES).getData();
-        } catch (NullPointerException e){
-            System.out.println("Request Timeout");
+    /**
+     * Method used to send the message to the server. The message gets a new correlation id, and it waits
+     * for the response with the same id: other threads can send their requests in the meantime, once
+     * the server has echoed an id. Until then, the requests are sent one at a time.
+     *
+     * @param message the message to send
+     * @param timeoutMillis the time to wait for the response, in milliseconds
+     * @return the BaseResponseData, null if the request failed or timed out
+     */
+    private BaseResponseData send(JsonMessage<?> message, long timeoutMillis) {
+        if (this.echoesIds) {
+            return this.sendAndWait(message, timeoutMillis);
+        }
+        synchronized (this.inOrder) {
+            return this.sendAndWait(message, timeoutMillis);
+        }
+    }
+
+    /**
+     * Write the message with a new correlation id, and wait for its response
+     *
+     * @param message the message to send
+     * @param timeoutMillis the time to wait for the response, in milliseconds
+     * @return the BaseResponseData, null if the request failed or timed out
+     */
+    private BaseResponseData sendAndWait(JsonMessage<?> message, long timeoutMillis) {
+        CompletableFuture<JsonMessage<BaseResponseData>> response = new CompletableFuture<>();
+        int id = 0;
+        boolean sent = false;
+        try {
+            synchronized (this.out) {
+                // the id and the request are registered in the order of the writes
+                id = this.nextRequestId.getAndIncrement();
+                message.setId(id);
+                this.pendingRequests.put(id, response);
+                if (this.frameSize > 0) {
+                    Framing.writeFrame(this.out, this.codec.encode(message));
+                } else {
+                    Framing.writeLine(this.out, message.toJson());
+                }
+            }
+            sent = true;
+
+            return response.get(timeoutMillis, TimeUnit.MILLISECONDS).getData();
+        } catch (TimeoutException e) {
+            System.out.println("Request Timeout: " + message.getMethod());
+        } catch (CancellationException e) {
+            System.out.println("Connection closed before the response: " + message.getMethod());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             System.out.println("Exception on sending request to server; exception: " + e.getMessage());
+        } finally {
+            this.releaseRequest(id, sent);
         }
         return null;
     }
@@ -136,7 +409,7 @@ public class ConnectionTCP implements Connection, Runnable{
      * @param data the request
      */
     @Override
-    public synchronized JoinLobbyResponseData createLobby(CreateLobbyData data) throws RemoteException {
+    public JoinLobbyResponseData createLobby(CreateLobbyData data) throws RemoteException {
         return (JoinLobbyResponseData)this.send(new CreateLobbyRequest(data));
     }
 
@@ -146,23 +419,45 @@ public class ConnectionTCP implements Connection, Runnable{
      * @param data the request
      */
     @Override
-    public synchronized JoinLobbyResponseData joinLobby(JoinLobbyData data) throws RemoteException {
+    public JoinLobbyResponseData joinLobby(JoinLobbyData data) throws RemoteException {
         return (JoinLobbyResponseData)this.send(new JoinLobbyRequest(data));
     }
 
     /**
      * Method to perform the listLobby Request
+     *
+     * @param data the request, null to list all the lobbies
+     */
+    @Override
+    public ListLobbyResponseData listLobby(ListLobbyData data) throws RemoteException {
+        return (ListLobbyResponseData) this.send(new ListLobbyRequest(data));
+    }
+
+    /**
+     * Method to perform the subscribeLobby Request
+     *
+     * @param data the request, null to subscribe
+     */
+    @Override
+    public ListLobbyResponseData subscribeLobby(SubscribeLobbyData data) throws RemoteException {
+        return (ListLobbyResponseData) this.send(new SubscribeLobbyRequest(data));
+    }
+
+    /**
+     * Method to perform the quickMatch Request
+     *
+     * @param data the request
      */
     @Override
-    public ListLobbyResponseData listLobby() throws RemoteException {
-        return (ListLobbyResponseData) this.send(new ListLobbyRequest(null));
+    public JoinLobbyResponseData quickMatch(QuickMatchData data) throws RemoteException {
+        return (JoinLobbyResponseData) this.send(new QuickMatchRequest(data));
     }
 
     /**
      * Method to perform the leaveGame Request
      */
     @Override
-    public synchronized LeaveGameResponseData leaveGame() throws RemoteException {
+    public LeaveGameResponseData leaveGame() throws RemoteException {
         return (LeaveGameResponseData)this.send(new LeaveGameRequest(null));
     }
 
@@ -170,7 +465,7 @@ public class ConnectionTCP implements Connection, Runnable{
      * Method to fetch all information needed on game initialization
      */
     @Override
-    public synchronized InitGameResponseData initGame() throws RemoteException {
+    public InitGameResponseData initGame() throws RemoteException {
         return (InitGameResponseData)this.send(new InitGameRequest(null));
     }
 
@@ -180,7 +475,7 @@ public class ConnectionTCP implements Connection, Runnable{
      * @param data The request
      */
     @Override
-    public synchronized SelectObjectiveResponseData selectObjective(SelectObjectiveData data) throws RemoteException {
+    public SelectObjectiveResponseData selectObjective(SelectObjectiveData data) throws RemoteException {
         return (SelectObjectiveResponseData)this.send(new SelectObjectiveRequest(data));
     }
 
@@ -189,7 +484,7 @@ public class ConnectionTCP implements Connection, Runnable{
      * @param data  The request
      */
     @Override
-    public synchronized PlaceStarterCardResponseData placeStarterCard(PlaceStarterCardData data) throws RemoteException {
+    public PlaceStarterCardResponseData placeStarterCard(PlaceStarterCardData data) throws RemoteException {
         return (PlaceStarterCardResponseData) this.send(new PlaceStarterCardRequest(data));
     }
 
@@ -198,7 +493,7 @@ public class ConnectionTCP implements Connection, Runnable{
      * @param data  The request
      */
     @Override
-    public synchronized PlaceCardResponseData placeCard(PlaceCardData data) throws RemoteException {
+    public PlaceCardResponseData placeCard(PlaceCardData data) throws RemoteException {
         return (PlaceCardResponseData) this.send(new PlaceCardRequest(data));
     }
 
@@ -207,7 +502,7 @@ public class ConnectionTCP implements Connection, Runnable{
      * @param data  The request
      */
     @Override
-    public synchronized DrawCardResponseData drawCard(DrawCardData data) throws RemoteException {
+    public DrawCardResponseData drawCard(DrawCardData data) throws RemoteException {
         return (DrawCardResponseData) this.send(new DrawCardRequest(data));
     }
 
@@ -225,7 +520,7 @@ public class ConnectionTCP implements Connection, Runnable{
      * Method to perform the endGame request
      */
     @Override
-    public synchronized EndGameResponseData endGame() throws RemoteException {
+    public EndGameResponseData endGame() throws RemoteException {
         return (EndGameResponseData) this.send(new EndGameRequest(null));
     }
 
@@ -238,4 +533,15 @@ public class ConnectionTCP implements Connection, Runnable{
     public ChatResponseData chat(ChatData data) throws RemoteException {
         return (ChatResponseData) this.send(new ChatRequest(data));
     }
+
+    /**
+     * Method to perform the hints request
+     * @param data the request data
+     * @return the response data
+     * @throws RemoteException if exemptions happens in RMI
+     */
+    @Override
+    public HintsResponseData hints(HintsData data) throws RemoteException {
+        return (HintsResponseData) this.send(new HintsRequest(data));
+    }
 }
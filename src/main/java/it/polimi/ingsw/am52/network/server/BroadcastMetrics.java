@@ -0,0 +1,143 @@
+package it.polimi.ingsw.am52.network.server;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the broadcast messages, shared by all the games. It is instantiated only once.
+ */
+public class BroadcastMetrics {
+
+    /**
+     * The instance of the metrics.
+     */
+    private static final BroadcastMetrics INSTANCE = new BroadcastMetrics();
+
+    /**
+     * The number of broadcasts.
+     */
+    private final LongAdder broadcasts = new LongAdder();
+
+    /**
+     * The number of recipients of all the broadcasts.
+     */
+    private final LongAdder recipients = new LongAdder();
+
+    /**
+     * The number of encodings of broadcast messages.
+     */
+    private final LongAdder encodings = new LongAdder();
+
+    /**
+     * The bytes produced by the encodings.
+     */
+    private final LongAdder encodedBytes = new LongAdder();
+
+    /**
+     * The bytes written to the socket recipients.
+     */
+    private final LongAdder sentBytes = new LongAdder();
+
+    /**
+     * Constructor can't be used outside the class
+     */
+    private BroadcastMetrics() {
+    }
+
+    /**
+     * The method used to retrieve the metrics
+     * @return BroadcastMetrics instance
+     */
+    public static BroadcastMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Update the counters when a message is broadcast.
+     * @param nRecipients The number of recipients.
+     */
+    public void onBroadcast(int nRecipients) {
+        this.broadcasts.increment();
+        this.recipients.add(nRecipients);
+    }
+
+    /**
+     * Update the counters when a broadcast message is encoded.
+     * @param nBytes The size of the encoded message.
+     */
+    void onEncoding(int nBytes) {
+        this.encodings.increment();
+        this.encodedBytes.add(nBytes);
+    }
+
+    /**
+     * Update the counters when a broadcast message is sent to a socket recipient.
+     * @param nBytes The size of the message.
+     */
+    void onSent(int nBytes) {
+        this.sentBytes.add(nBytes);
+    }
+
+    /**
+     *
+     * @return The number of broadcasts.
+     */
+    public long getBroadcasts() {
+        return this.broadcasts.sum();
+    }
+
+    /**
+     *
+     * @return The number of recipients of all the broadcasts.
+     */
+    public long getRecipients() {
+        return this.recipients.sum();
+    }
+
+    /**
+     *
+     * @return The number of encodings of broadcast messages.
+     */
+    public long getEncodings() {
+        return this.encodings.sum();
+    }
+
+    /**
+     *
+     * @return The bytes produced by the encodings.
+     */
+    public long getEncodedBytes() {
+        return this.encodedBytes.sum();
+    }
+
+    /**
+     *
+     * @return The bytes written to the socket recipients.
+     */
+    public long getSentBytes() {
+        return this.sentBytes.sum();
+    }
+
+    /**
+     *
+     * @return The mean number of encodings for each broadcast.
+     */
+    public double getEncodingsPerBroadcast() {
+        long count = getBroadcasts();
+        return count == 0 ? 0 : (double) getEncodings() / count;
+    }
+
+    /**
+     *
+     * @return The mean number of bytes written for each broadcast.
+     */
+    public double getBytesPerBroadcast() {
+        long count = getBroadcasts();
+        return count == 0 ? 0 : (double) getSentBytes() / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[broadcasts: %d; recipients: %d; encodings/broadcast: %.2f; bytes/broadcast: %.1f]",
+                getBroadcasts(), getRecipients(), getEncodingsPerBroadcast(), getBytesPerBroadcast());
+    }
+}
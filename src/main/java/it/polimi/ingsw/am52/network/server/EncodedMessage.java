@@ -0,0 +1,137 @@
+package it.polimi.ingsw.am52.network.server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.MessageCodec;
+import it.polimi.ingsw.am52.json.MessageCodecs;
+import it.polimi.ingsw.am52.network.server.tcp.Framing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A message sent to many clients. The message is encoded at most once, the first time
+ * a socket recipient needs it, and all the socket recipients write the same bytes.
+ * The RMI recipients receive the same response object.
+ */
+public class EncodedMessage {
+
+    /**
+     * The message to send.
+     */
+    private final JsonMessage<BaseResponseData> message;
+
+    /**
+     * The json line (terminated by new line) of the message, null until the first encoding.
+     */
+    private volatile byte[] line;
+
+    /**
+     * The frames of the message, for the framed protocol, by codec name. Each frame is built
+     * the first time a recipient with that codec needs it.
+     */
+    private final Map<String, byte[]> frames = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the message to send to many clients, with the same content for all the recipients.
+     * The messages with fields that depend on the recipient are sent to each client on its own.
+     * @param message The message to send.
+     */
+    public EncodedMessage(JsonMessage<BaseResponseData> message) {
+        this.message = message;
+    }
+
+    /**
+     *
+     * @return The message to send.
+     */
+    public JsonMessage<BaseResponseData> getMessage() {
+        return this.message;
+    }
+
+    /**
+     *
+     * @return A read-only buffer with the json line of the message. The buffers returned
+     * share the same bytes, each one has its own position.
+     * @throws JsonProcessingException If the message cannot be encoded.
+     */
+    public ByteBuffer newBuffer() throws JsonProcessingException {
+        byte[] bytes = getLine();
+        BroadcastMetrics.getInstance().onSent(bytes.length);
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     *
+     * @return The json line of the message, shared by all the recipients: it must not be modified.
+     * @throws JsonProcessingException If the message cannot be encoded.
+     */
+    public byte[] toLine() throws JsonProcessingException {
+        byte[] bytes = getLine();
+        BroadcastMetrics.getInstance().onSent(bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Get the message as a frame of the framed protocol. The frame is built once for each codec,
+     * the json frame from the same encoding of the json line.
+     * @param codec The codec negotiated by the recipient.
+     * @return The frame, shared by all the recipients: it must not be modified.
+     * @throws IOException If the message cannot be encoded.
+     */
+    public byte[] toFrame(MessageCodec codec) throws IOException {
+        byte[] bytes = this.frames.get(codec.getName());
+        if (bytes == null) {
+            synchronized (this) {
+                bytes = this.frames.get(codec.getName());
+                if (bytes == null) {
+                    bytes = newFrame(codec);
+                    this.frames.put(codec.getName(), bytes);
+                }
+            }
+        }
+        BroadcastMetrics.getInstance().onSent(bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Build the frame of the message.
+     * @param codec The codec of the frame.
+     * @return The frame.
+     * @throws IOException If the message cannot be encoded.
+     */
+    private byte[] newFrame(MessageCodec codec) throws IOException {
+        if (codec == MessageCodecs.JSON) {
+            byte[] jsonLine = getLine();
+            // The payload is the json text, without the line terminator.
+            return Framing.newFrame(jsonLine, jsonLine.length - 1);
+        }
+        byte[] payload = codec.encode(this.message);
+        BroadcastMetrics.getInstance().onEncoding(payload.length);
+        return Framing.newFrame(payload, payload.length);
+    }
+
+    /**
+     * Encode the message, if not already encoded.
+     * @return The json line of the message.
+     * @throws JsonProcessingException If the message cannot be encoded.
+     */
+    private byte[] getLine() throws JsonProcessingException {
+        byte[] bytes = this.line;
+        if (bytes == null) {
+            synchronized (this) {
+                bytes = this.line;
+                if (bytes == null) {
+                    bytes = (this.message.toJson() + "\n").getBytes(StandardCharsets.UTF_8);
+                    BroadcastMetrics.getInstance().onEncoding(bytes.length);
+                    this.line = bytes;
+                }
+            }
+        }
+        return bytes;
+    }
+}
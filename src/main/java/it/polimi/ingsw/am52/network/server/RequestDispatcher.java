@@ -0,0 +1,190 @@
+package it.polimi.ingsw.am52.network.server;
+
+import it.polimi.ingsw.am52.settings.RejectionPolicy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The stage that executes the requests received by the clients. The requests of each client
+ * are collected by a {@link RequestQueue} and executed in order, one at a time, on a shared
+ * pool of worker threads. The number of requests waiting in each queue is limited, the
+ * requests over the limit are rejected according to the {@link RejectionPolicy}.
+ */
+public class RequestDispatcher {
+
+    /**
+     * The worker threads shared by all the clients.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * The maximum number of requests waiting in the queue of a single client.
+     */
+    private final int maxQueuedRequests;
+
+    /**
+     * What to do with the requests exceeding the queue limit.
+     */
+    private final RejectionPolicy rejectionPolicy;
+
+    /**
+     * The number of requests waiting to be executed, in all the queues.
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * The number of requests being executed.
+     */
+    private final AtomicInteger running = new AtomicInteger();
+
+    /**
+     * The total number of rejected requests.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * The total number of executed requests.
+     */
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * Creates a dispatcher with a fixed pool of worker threads.
+     * @param nThreads The number of worker threads.
+     * @param maxQueuedRequests The maximum number of requests waiting in the queue of a single client.
+     * @param rejectionPolicy What to do with the requests exceeding the queue limit.
+     */
+    public RequestDispatcher(int nThreads, int maxQueuedRequests, RejectionPolicy rejectionPolicy) {
+        this(Executors.newFixedThreadPool(nThreads, Thread.ofPlatform().name("request-worker-", 0).factory()),
+                maxQueuedRequests, rejectionPolicy);
+    }
+
+    /**
+     * Creates a dispatcher that runs the requests on the specified workers.
+     * @param workers The worker threads shared by all the clients.
+     * @param maxQueuedRequests The maximum number of requests waiting in the queue of a single client.
+     * @param rejectionPolicy What to do with the requests exceeding the queue limit.
+     */
+    public RequestDispatcher(ExecutorService workers, int maxQueuedRequests, RejectionPolicy rejectionPolicy) {
+        this.workers = workers;
+        this.maxQueuedRequests = Math.max(1, maxQueuedRequests);
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    /**
+     * Creates the queue of a new client.
+     * @return The queue of the requests of the client.
+     */
+    public RequestQueue newQueue() {
+        return new RequestQueue(this);
+    }
+
+    /**
+     *
+     * @return What to do with the requests exceeding the queue limit.
+     */
+    public RejectionPolicy getRejectionPolicy() {
+        return this.rejectionPolicy;
+    }
+
+    /**
+     *
+     * @return The maximum number of requests waiting in the queue of a single client.
+     */
+    public int getMaxQueuedRequests() {
+        return this.maxQueuedRequests;
+    }
+
+    /**
+     *
+     * @return The number of requests waiting to be executed.
+     */
+    public int getQueuedCount() {
+        return this.queued.get();
+    }
+
+    /**
+     *
+     * @return The number of requests being executed.
+     */
+    public int getRunningCount() {
+        return this.running.get();
+    }
+
+    /**
+     *
+     * @return The total number of rejected requests.
+     */
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    /**
+     *
+     * @return The total number of executed requests.
+     */
+    public long getCompletedCount() {
+        return this.completed.sum();
+    }
+
+    /**
+     * Stop the worker threads, waiting for the running requests.
+     * @param timeoutMillis The maximum time to wait, in milliseconds.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public void shutdown(long timeoutMillis) throws InterruptedException {
+        this.workers.shutdown();
+        this.workers.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[queued: %d; running: %d; rejected: %d; completed: %d]",
+                getQueuedCount(), getRunningCount(), getRejectedCount(), getCompletedCount());
+    }
+
+    //region Package-private methods used by RequestQueue
+
+    /**
+     * Submit the drain task of a queue to the workers.
+     * @param queue The queue with requests to execute.
+     */
+    void schedule(RequestQueue queue) {
+        this.workers.execute(queue);
+    }
+
+    /**
+     * Update the counters when a request is added to a queue.
+     */
+    void onQueued() {
+        this.queued.incrementAndGet();
+    }
+
+    /**
+     * Update the counters when a request is rejected.
+     */
+    void onRejected() {
+        this.rejected.increment();
+    }
+
+    /**
+     * Update the counters when a request is taken from a queue.
+     */
+    void onStarted() {
+        this.queued.decrementAndGet();
+        this.running.incrementAndGet();
+    }
+
+    /**
+     * Update the counters when a request has been executed.
+     */
+    void onCompleted() {
+        this.running.decrementAndGet();
+        this.completed.increment();
+    }
+
+    //endregion
+}
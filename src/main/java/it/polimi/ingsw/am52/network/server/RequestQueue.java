@@ -0,0 +1,111 @@
+package it.polimi.ingsw.am52.network.server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The queue of the requests of a single client. The requests are executed in the
+ * order they have been submitted, one at a time, on the workers of the {@link RequestDispatcher}:
+ * a placeCard followed by a drawCard of the same client never run concurrently.
+ */
+public class RequestQueue implements Runnable {
+
+    /**
+     * The dispatcher that owns this queue.
+     */
+    private final RequestDispatcher dispatcher;
+
+    /**
+     * The tasks waiting to be executed.
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of tasks waiting, it may be greater than the limit only for the final task.
+     */
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Whether the queue is already submitted to the workers.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * Creates the queue of a client.
+     * @param dispatcher The dispatcher that owns this queue.
+     */
+    RequestQueue(RequestDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Add a request to the queue, if the queue limit has not been reached.
+     * @param task The execution of the request.
+     * @return True if the request has been queued, false if it has been rejected.
+     */
+    public boolean submit(Runnable task) {
+        // Reserve a slot, release it if the queue is full.
+        if (this.size.incrementAndGet() > this.dispatcher.getMaxQueuedRequests()) {
+            this.size.decrementAndGet();
+            this.dispatcher.onRejected();
+            return false;
+        }
+        enqueue(task);
+        return true;
+    }
+
+    /**
+     * Add a task to the queue, ignoring the queue limit. Used for the task that must run
+     * after all the requests of the client (e.g. the disconnection).
+     * @param task The task to execute.
+     */
+    public void submitLast(Runnable task) {
+        this.size.incrementAndGet();
+        enqueue(task);
+    }
+
+    /**
+     *
+     * @return The number of tasks waiting in this queue.
+     */
+    public int size() {
+        return this.size.get();
+    }
+
+    /**
+     * Execute all the tasks in the queue. Only one worker at a time runs this method.
+     */
+    @Override
+    public void run() {
+        do {
+            Runnable task;
+            while ((task = this.tasks.poll()) != null) {
+                this.size.decrementAndGet();
+                this.dispatcher.onStarted();
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    System.out.println("Request execution exception: " + e.getMessage());
+                } finally {
+                    this.dispatcher.onCompleted();
+                }
+            }
+            this.scheduled.set(false);
+            // new tasks may have arrived after the last poll, take them if no other worker did.
+        } while (!this.tasks.isEmpty() && this.scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Add the task and submit the queue to the workers, if not already submitted.
+     * @param task The task to execute.
+     */
+    private void enqueue(Runnable task) {
+        this.tasks.add(task);
+        this.dispatcher.onQueued();
+        if (this.scheduled.compareAndSet(false, true)) {
+            this.dispatcher.schedule(this);
+        }
+    }
+}
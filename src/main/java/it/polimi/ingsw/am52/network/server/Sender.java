@@ -14,4 +14,13 @@ public interface Sender {
      * @param response the message to send
      */
     void sendMessage(JsonMessage<BaseResponseData> response);
+
+    /**
+     * Method to send a message shared by many recipients. The default implementation sends
+     * the response object, the socket handlers write the shared encoding instead.
+     * @param message the message to send
+     */
+    default void sendEncoded(EncodedMessage message) {
+        sendMessage(message.getMessage());
+    }
 }
@@ -2,25 +2,33 @@ package it.polimi.ingsw.am52.network.server;
 
 import it.polimi.ingsw.am52.controller.ServerController;
 import it.polimi.ingsw.am52.controller.VirtualView;
+import it.polimi.ingsw.am52.model.cards.CardCatalog;
+import it.polimi.ingsw.am52.model.objectives.Objective;
 import it.polimi.ingsw.am52.network.server.logging.Log;
 import it.polimi.ingsw.am52.network.server.logging.LogMessage;
 import it.polimi.ingsw.am52.network.server.rmi.Accepter;
 import it.polimi.ingsw.am52.network.server.rmi.ClientHandlerRMI;
 import it.polimi.ingsw.am52.network.client.RemoteConnection;
+import it.polimi.ingsw.am52.network.server.tcp.ClientHandlerNIO;
 import it.polimi.ingsw.am52.network.server.tcp.ClientHandlerTCP;
+import it.polimi.ingsw.am52.network.server.tcp.SelectorLoopGroup;
 import it.polimi.ingsw.am52.settings.PortMode;
 import it.polimi.ingsw.am52.settings.ServerSettings;
+import it.polimi.ingsw.am52.settings.TcpMode;
 import it.polimi.ingsw.am52.settings.VerbosityLevel;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The ServerConnection class, it handles all the connection establishing in the Server.
@@ -41,7 +49,7 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
     /**
      * The unique ID counter
      */
-    private int clientId = 0;
+    private final AtomicInteger clientId = new AtomicInteger(0);
 
     /**
      * The serverSocket
@@ -56,6 +64,31 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
      */
     private final int rmiPort;
 
+    /**
+     * The transport used to serve the TCP connections.
+     */
+    private final TcpMode tcpMode;
+
+    /**
+     * The maximum frame size accepted from the TCP clients using the framed protocol.
+     */
+    private final int maxFrameSize;
+
+    /**
+     * The maximum number of bytes waiting to be written to a single TCP client.
+     */
+    private final int maxPendingWrites;
+
+    /**
+     * The selector loops serving the TCP clients, only in NIO mode.
+     */
+    private final SelectorLoopGroup selectorLoops;
+
+    /**
+     * The dispatcher executing the requests received by the TCP clients.
+     */
+    private final RequestDispatcher dispatcher;
+
     /**
      * The registry in which the RMI objects are exposed
      */
@@ -66,6 +99,11 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
      */
     private final ExecutorService clientConnections;
 
+    /**
+     * The factory of the executors, platform or virtual threads.
+     */
+    private final ServerThreads threads;
+
     /**
      * The log instance of the server.
      */
@@ -87,8 +125,14 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
             // Log the server settings.
             displayStartupSettings(settings);
 
+            // Build the cards and the objectives before any game is created.
+            loadCardRegistry();
+
             // Create the socket for the TCP connection
-            this.serverSocket = openTcpServerSocket(settings.getSocketPort(), settings.getPortMode());
+            this.tcpMode = settings.getTcpMode();
+            this.maxFrameSize = settings.getMaxFrameSize();
+            this.maxPendingWrites = settings.getMaxPendingWrites();
+            this.serverSocket = openTcpServerSocket(settings.getSocketPort(), settings.getPortMode(), this.tcpMode);
 
             // Store the tcp port number (it may be automatically allocated).
             this.tcpPort = this.serverSocket.getLocalPort();
@@ -102,7 +146,22 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
             this.registry.rebind(STUB_NAME, this);
 
             //not hardcoded, taken from config. Every thread is a client
-            this.clientConnections = Executors.newFixedThreadPool(settings.getMaxLobbies());
+            this.threads = new ServerThreads(settings.getThreadMode());
+            this.clientConnections = this.threads.newClientExecutor(settings.getMaxLobbies());
+
+            // In NIO mode, a few selector threads serve all the TCP clients.
+            if (this.tcpMode == TcpMode.NIO) {
+                this.selectorLoops = new SelectorLoopGroup(SelectorLoopGroup.DEF_LOOPS);
+            } else {
+                this.selectorLoops = null;
+            }
+
+            // The requests of all the TCP clients run on a shared, bounded, pool of workers.
+            this.dispatcher = new RequestDispatcher(
+                    this.threads.newRequestExecutor(settings.getDispatchThreads()),
+                    settings.getMaxQueuedRequests(),
+                    settings.getRejectionPolicy()
+            );
 
             // Display TCP port number (this is not a log message, but an application output).
             System.out.println(
@@ -124,18 +183,38 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
         printInfoMessage(String.format("(settings) Socket port = %d", settings.getSocketPort()));
         printInfoMessage(String.format("(settings) Rmi port = %d", settings.getRmiPort()));
         printInfoMessage(String.format("(settings) Socket port mode = %s", settings.getPortMode()));
+        printInfoMessage(String.format("(settings) TCP mode = %s", settings.getTcpMode()));
+        printInfoMessage(String.format("(settings) Dispatch threads = %d", settings.getDispatchThreads()));
+        printInfoMessage(String.format("(settings) Max queued requests = %d", settings.getMaxQueuedRequests()));
+        printInfoMessage(String.format("(settings) Rejection policy = %s", settings.getRejectionPolicy()));
+        printInfoMessage(String.format("(settings) Thread mode = %s", settings.getThreadMode()));
+        printInfoMessage(String.format("(settings) Max frame size = %d", settings.getMaxFrameSize()));
+        printInfoMessage(String.format("(settings) Max pending writes = %d", settings.getMaxPendingWrites()));
         printInfoMessage(String.format("(settings) Log verbosity = %s", settings.getVerbosity()));
     }
 
+    /**
+     * Build the registry of the cards and the objectives, and log the time it takes.
+     */
+    private void loadCardRegistry() {
+        long start = System.nanoTime();
+        int cards = CardCatalog.load();
+        int objectives = Objective.getObjectives().size();
+        long micros = (System.nanoTime() - start) / 1000;
+        printInfoMessage(String.format("(startup) Loaded %d cards and %d objectives in %d.%03d ms",
+                cards, objectives, micros / 1000, micros % 1000));
+    }
+
     /**
      * Create a socket for the TCP connection.
      * @param socketPort The port number the socket shall be bound to
      * @param portMode The method for selecting the port number (fixed or auto)
+     * @param tcpMode The transport of the TCP connections, in NIO mode the socket has a channel
      * @return The server socket instance
      * @throws IOException If the socket creation failed
      * @throws IllegalArgumentException If the specified port number is invalid.
      */
-    private ServerSocket openTcpServerSocket(int socketPort, PortMode portMode) throws IOException {
+    private ServerSocket openTcpServerSocket(int socketPort, PortMode portMode, TcpMode tcpMode) throws IOException {
 
         ServerSocket socket = null;
         try {
@@ -143,7 +222,7 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
             printVerboseMessage(String.format("Opening TCP socket on specified port %d", socketPort));
 
             // First, attempt to open connection on specified port number.
-            socket = new ServerSocket(socketPort);
+            socket = bindServerSocket(socketPort, tcpMode);
         }
         catch (IllegalArgumentException argEx) {
             String errMessage = String.format("Invalid TCP socket port %d.", socketPort);
@@ -167,7 +246,7 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
 
                     printVerboseMessage("Opening TCP socket on automatically allocated port");
 
-                    socket = new ServerSocket(0);
+                    socket = bindServerSocket(0, tcpMode);
                 }
                 catch (IOException ex) {
 
@@ -185,6 +264,29 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
         return socket;
     }
 
+    /**
+     * Create a server socket bound to the specified port. In NIO mode the socket is
+     * created from a {@link ServerSocketChannel}, so that accepted clients have a channel.
+     * @param socketPort The port number, zero for an automatically allocated port
+     * @param tcpMode The transport of the TCP connections
+     * @return The bound server socket
+     * @throws IOException If the socket cannot be bound
+     */
+    private static ServerSocket bindServerSocket(int socketPort, TcpMode tcpMode) throws IOException {
+        if (tcpMode != TcpMode.NIO) {
+            return new ServerSocket(socketPort);
+        }
+
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        try {
+            channel.bind(new InetSocketAddress(socketPort));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return channel.socket();
+    }
+
     /**
      * Endless loop method, listening to client to connect to the ServerSocket.
      * When a client tries to connect to the server a new unique ID is generated and a new ClientHandlerTCP is created.
@@ -192,12 +294,18 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
      */
     @Override
     public void run() {
+        if (this.tcpMode == TcpMode.NIO) {
+            runNio();
+            return;
+        }
+
         while (true) {
             try {
                 Socket socket = serverSocket.accept();
                 try {
                     int newId = this.getUniqueClientId();
-                    ClientHandler clientHandler = new ClientHandlerTCP(newId, socket, new VirtualView(newId));
+                    ClientHandler clientHandler = new ClientHandlerTCP(newId, socket, new VirtualView(newId), this.dispatcher, this.maxFrameSize,
+                            this.maxPendingWrites, this.threads.newSingleThreadExecutor());
 
                     // add Handler to the Server, if fails close connection
                     ServerController.getInstance().addHandler(clientHandler);
@@ -218,6 +326,39 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
         }
     }
 
+    /**
+     * Endless loop method, accepting the clients in NIO mode. The accepted channel is handed to
+     * a {@link ClientHandlerNIO}, that is registered to one of the selector loops: no thread
+     * is allocated for the new client.
+     */
+    private void runNio() {
+        ServerSocketChannel serverChannel = this.serverSocket.getChannel();
+        while (true) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                try {
+                    int newId = this.getUniqueClientId();
+                    ClientHandlerNIO clientHandler = new ClientHandlerNIO(newId, channel, new VirtualView(newId), this.dispatcher, this.maxPendingWrites);
+
+                    // add Handler to the Server, if fails close connection
+                    ServerController.getInstance().addHandler(clientHandler);
+                    this.selectorLoops.register(clientHandler);
+
+                    // Log Info message
+                    printInfoMessage(String.format("Client %d connected via TCP (NIO)", newId));
+                }
+                catch (Exception e) {
+                    channel.close();
+                    throw e;
+                }
+            } catch (Exception ex) {
+                String errMessage = String.format("Error creating new Client Handler. Exception: %s, Exception msg: %s",
+                        ex.getClass().getName(), ex.getMessage());
+                printErrorMessage(errMessage);
+            }
+        }
+    }
+
     /**
      * Method exposed to the network by the Server and called by the client.
      * It generates a new ID, creates the ClientHandleRMI to handle the RMI client.
@@ -232,7 +373,7 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
 
         VirtualView virtualView = new VirtualView(newId);
 
-        ClientHandler clientHandler = new ClientHandlerRMI(newId, client, virtualView);
+        ClientHandler clientHandler = new ClientHandlerRMI(newId, client, virtualView, this.threads.newSingleThreadExecutor());
 
         // Export the VirtualView to the client, it will call the Virtual view directly
         this.registry.rebind(REGISTRY_ROOT+newId, virtualView);
@@ -245,6 +386,14 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
         return newId;
     }
 
+    /**
+     *
+     * @return The dispatcher executing the requests of the TCP clients.
+     */
+    public RequestDispatcher getDispatcher() {
+        return this.dispatcher;
+    }
+
     /**
      *
      * @return The TCP port number of this server.
@@ -264,8 +413,8 @@ public class ServerConnection extends UnicastRemoteObject implements Accepter, R
     /**
      * Method to get unique client ids
      */
-    private synchronized int getUniqueClientId() {
-        return ++clientId;
+    private int getUniqueClientId() {
+        return this.clientId.incrementAndGet();
     }
 
     /**
@@ -0,0 +1,73 @@
+package it.polimi.ingsw.am52.network.server;
+
+import it.polimi.ingsw.am52.settings.ThreadMode;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory of the executors used by the server. In platform mode the executors are
+ * pools of platform threads, in virtual mode every task runs on its own virtual thread,
+ * so that idle clients (blocked on a read or sleeping between two heartbeats) do not
+ * pin an operating system thread.
+ */
+public class ServerThreads {
+
+    /**
+     * The kind of threads created by this factory.
+     */
+    private final ThreadMode mode;
+
+    /**
+     * Creates a factory for the specified kind of threads.
+     * @param mode The kind of threads.
+     */
+    public ServerThreads(ThreadMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     *
+     * @return The kind of threads created by this factory.
+     */
+    public ThreadMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Creates the executor running the client handlers (blocking TCP readers and RMI heartbeats).
+     * @param poolSize The size of the pool in platform mode.
+     * @return The executor of the client handlers.
+     */
+    public ExecutorService newClientExecutor(int poolSize) {
+        return switch (this.mode) {
+            case PLATFORM -> Executors.newFixedThreadPool(poolSize, Thread.ofPlatform().name("client-", 0).factory());
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("client-", 0).factory());
+        };
+    }
+
+    /**
+     * Creates the executor running the client requests.
+     * @param poolSize The size of the pool in platform mode.
+     * @return The executor of the requests.
+     */
+    public ExecutorService newRequestExecutor(int poolSize) {
+        return switch (this.mode) {
+            case PLATFORM -> Executors.newFixedThreadPool(poolSize, Thread.ofPlatform().name("request-worker-", 0).factory());
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("request-worker-", 0).factory());
+        };
+    }
+
+    /**
+     * Creates a single-thread executor, e.g. the send queue of an RMI client.
+     * @return The single-thread executor.
+     */
+    public ExecutorService newSingleThreadExecutor() {
+        ThreadFactory factory = switch (this.mode) {
+            case PLATFORM -> Thread.ofPlatform().factory();
+            case VIRTUAL -> Thread.ofVirtual().factory();
+        };
+        return Executors.newSingleThreadExecutor(factory);
+    }
+}
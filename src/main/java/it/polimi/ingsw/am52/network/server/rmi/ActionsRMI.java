@@ -34,10 +34,29 @@ public interface ActionsRMI extends Remote {
     /**
      * Method to perform the listLobby Request
      *
+     * @param data the request, null to list all the lobbies
      * @return the response data
      * @throws RemoteException if exemptions happens in RMI
      */
-    ListLobbyResponseData listLobby() throws RemoteException;
+    ListLobbyResponseData listLobby(ListLobbyData data) throws RemoteException;
+
+    /**
+     * Method to perform the subscribeLobby Request: the client receives the lobbies, then their changes
+     *
+     * @param data the request, null to subscribe
+     * @return the response data, with the lobbies if the client has subscribed
+     * @throws RemoteException if exemptions happens in RMI
+     */
+    ListLobbyResponseData subscribeLobby(SubscribeLobbyData data) throws RemoteException;
+
+    /**
+     * Method to perform the quickMatch Request: the server puts the player in a lobby with other players
+     *
+     * @param data the request
+     * @return the response data, with lobbyId -1 if the player is waiting for the match
+     * @throws RemoteException if exemptions happens in RMI
+     */
+    JoinLobbyResponseData quickMatch(QuickMatchData data) throws RemoteException;
 
     /**
      * Method to perform the leaveGame Request
@@ -109,4 +128,13 @@ public interface ActionsRMI extends Remote {
      * @throws RemoteException if exemptions happens in RMI
      */
     ChatResponseData chat(ChatData data) throws RemoteException;
+
+    /**
+     * Method to perform the optional hints request: the legal placements of the cards in the hand,
+     * with the points of each placement
+     * @param data the request data, it can be null
+     * @return the response data
+     * @throws RemoteException if exemptions happens in RMI
+     */
+    HintsResponseData hints(HintsData data) throws RemoteException;
 }
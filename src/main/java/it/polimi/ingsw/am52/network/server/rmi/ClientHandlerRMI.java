@@ -28,8 +28,19 @@ public class ClientHandlerRMI implements ClientHandler,Runnable {
      */
     private final VirtualView view;
 
-    private final ExecutorService sendingThread = Executors.newSingleThreadExecutor();
+    /**
+     * The interval between two heartbeats, in milliseconds
+     */
+    public static final long HEARTBEAT_MILLIS = 10000;
+
+    /**
+     * The thread that forwards the queued responses to the client
+     */
+    private final ExecutorService sendingThread;
 
+    /**
+     * The responses waiting to be sent to the client
+     */
     private final LinkedBlockingQueue<BaseResponseData> responseQueue = new LinkedBlockingQueue<>();
 
     /**
@@ -39,9 +50,21 @@ public class ClientHandlerRMI implements ClientHandler,Runnable {
      * @param virtualView the virtual view instantiated by the server
      */
     public ClientHandlerRMI(int clientId, RemoteConnection client, VirtualView virtualView) {
+        this(clientId, client, virtualView, Executors.newSingleThreadExecutor());
+    }
+
+    /**
+     * Class constructor
+     * @param clientId the unique clientId generated by the server
+     * @param client the client instance received through the network
+     * @param virtualView the virtual view instantiated by the server
+     * @param sendingThread the single-thread executor that forwards the responses to the client
+     */
+    public ClientHandlerRMI(int clientId, RemoteConnection client, VirtualView virtualView, ExecutorService sendingThread) {
         this.clientId = clientId;
         this.client = client;
         this.view = virtualView;
+        this.sendingThread = sendingThread;
     }
 
     /**
@@ -64,7 +87,7 @@ public class ClientHandlerRMI implements ClientHandler,Runnable {
         while (true) {
             try {
                 this.client.heartBeat();
-                Thread.sleep(10000);
+                Thread.sleep(HEARTBEAT_MILLIS);
             } catch (RemoteException | InterruptedException e) {
                 System.out.println("Client disconnected: " + this.clientId);
                 break;
@@ -72,7 +95,8 @@ public class ClientHandlerRMI implements ClientHandler,Runnable {
         }
 
         this.view.disconnect(this);
-        this.sendingThread.shutdown();
+        // interrupt the sending thread, blocked on the response queue
+        this.sendingThread.shutdownNow();
     }
 
     /**
@@ -98,7 +122,10 @@ public class ClientHandlerRMI implements ClientHandler,Runnable {
                 var response = this.responseQueue.take();
 
                 this.client.sendMessage(response);
-            } catch (InterruptedException | RemoteException e) {
+            } catch (InterruptedException e) {
+                // the client has been disconnected
+                return;
+            } catch (RemoteException e) {
                 System.out.println("Error on sending for client " + this.clientId + "exception: " + e.getMessage());
             }
         }
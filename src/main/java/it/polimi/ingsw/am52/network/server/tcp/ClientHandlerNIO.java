@@ -0,0 +1,355 @@
+package it.polimi.ingsw.am52.network.server.tcp;
+
+import it.polimi.ingsw.am52.controller.VirtualView;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.network.server.ClientHandler;
+import it.polimi.ingsw.am52.network.server.EncodedMessage;
+import it.polimi.ingsw.am52.network.server.RequestDispatcher;
+import it.polimi.ingsw.am52.network.server.RequestQueue;
+import it.polimi.ingsw.am52.settings.RejectionPolicy;
+import it.polimi.ingsw.am52.settings.ServerSettings;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link ClientHandler} for TCP connections served by a {@link SelectorLoop}.
+ * The wire format is the same of {@link ClientHandlerTCP}: one json message for each line.
+ * The handler does not own any thread: the loop notifies when the channel is readable or writable,
+ * and the received requests are executed, in order, by the {@link RequestDispatcher}.
+ */
+public class ClientHandlerNIO implements ClientHandler {
+
+    /**
+     * The maximum length (in bytes) of a single line, longer lines close the connection.
+     */
+    public static final int MAX_LINE_LENGTH = 1 << 20;
+
+    /**
+     * The size of the read buffer.
+     */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * The clientId
+     */
+    private final int clientId;
+
+    /**
+     * The client channel
+     */
+    private final SocketChannel channel;
+
+    /**
+     * The client's VirtualView used to trigger the Controller
+     */
+    private final VirtualView view;
+
+    /**
+     * The dispatcher executing the requests of all the clients
+     */
+    private final RequestDispatcher dispatcher;
+
+    /**
+     * The queue of the requests of this client, executed in order
+     */
+    private final RequestQueue requests;
+
+    /**
+     * The buffer used by the loop to read from the channel
+     */
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    /**
+     * The bytes of the line not yet terminated
+     */
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+
+    /**
+     * The encoded messages waiting to be written on the channel
+     */
+    private final Queue<ByteBuffer> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of bytes queued and not yet written on the channel
+     */
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    /**
+     * The maximum number of bytes waiting to be written, a client that does not read
+     * its messages is disconnected when the limit is exceeded
+     */
+    private final int maxPendingWrites;
+
+    /**
+     * Whether the next line is the first one of the connection, the only one that can be a handshake.
+     * Used only by the loop thread.
+     */
+    private boolean firstLine = true;
+
+    /**
+     * Whether the channel has been closed
+     */
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * The loop serving this client, set at registration
+     */
+    private volatile SelectorLoop loop;
+
+    /**
+     * The selection key of the channel, set at registration
+     */
+    private volatile SelectionKey key;
+
+    /**
+     * The class Constructor
+     * @param clientId the unique clientId generated by the server
+     * @param channel the client channel accepted by the server
+     * @param virtualView the virtual view instantiated by the server
+     * @param dispatcher the dispatcher executing the requests
+     * @throws IOException if the channel cannot be set in non-blocking mode
+     */
+    public ClientHandlerNIO(int clientId, SocketChannel channel, VirtualView virtualView, RequestDispatcher dispatcher) throws IOException {
+        this(clientId, channel, virtualView, dispatcher, ServerSettings.DEF_MAX_PENDING_WRITES);
+    }
+
+    /**
+     * The class Constructor
+     * @param clientId the unique clientId generated by the server
+     * @param channel the client channel accepted by the server
+     * @param virtualView the virtual view instantiated by the server
+     * @param dispatcher the dispatcher executing the requests
+     * @param maxPendingWrites the maximum number of bytes waiting to be written to the client
+     * @throws IOException if the channel cannot be set in non-blocking mode
+     */
+    public ClientHandlerNIO(int clientId, SocketChannel channel, VirtualView virtualView, RequestDispatcher dispatcher, int maxPendingWrites) throws IOException {
+        this.clientId = clientId;
+        this.channel = channel;
+        this.view = virtualView;
+        this.dispatcher = dispatcher;
+        this.maxPendingWrites = maxPendingWrites;
+        this.requests = dispatcher.newQueue();
+        this.channel.configureBlocking(false);
+    }
+
+    /**
+     * Get the clientId
+     * @return the client id
+     */
+    @Override
+    public int getClientId() {
+        return clientId;
+    }
+
+    /**
+     * The handler does not own any thread: the selector loop reads and writes the channel,
+     * and the requests run on the dispatcher. Nothing to do here.
+     */
+    @Override
+    public void run() {
+    }
+
+    /**
+     * Method to send the response through the network, used both in broadcast and response of a request.
+     * The message is queued, and written by the loop when the channel is writable.
+     * @param response the message to send
+     */
+    @Override
+    public void sendMessage(JsonMessage<BaseResponseData> response) {
+        if (this.closed.get()) {
+            return;
+        }
+        try {
+            byte[] bytes = (response.toJson() + "\n").getBytes(StandardCharsets.UTF_8);
+            this.write(ByteBuffer.wrap(bytes));
+        } catch (Exception e) {
+            System.out.println("Exception on sending response to client: " + this.clientId + "exception: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method to send a broadcast message, the encoded bytes are shared with the other recipients.
+     * @param message the message to send
+     */
+    @Override
+    public void sendEncoded(EncodedMessage message) {
+        if (this.closed.get()) {
+            return;
+        }
+        try {
+            this.write(message.newBuffer());
+        } catch (Exception e) {
+            System.out.println("Exception on sending response to client: " + this.clientId + "exception: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Queue the bytes to write, and ask the loop to write them when the channel is writable.
+     * If the client does not read, and the queued bytes exceed the limit, the connection is closed.
+     * @param buffer the bytes to write
+     */
+    private void write(ByteBuffer buffer) {
+        if (this.pendingBytes.addAndGet(buffer.remaining()) > this.maxPendingWrites) {
+            System.out.println("Too many pending writes, disconnecting client: " + this.clientId);
+            close();
+            return;
+        }
+        this.pendingWrites.add(buffer);
+
+        SelectorLoop currentLoop = this.loop;
+        if (currentLoop != null) {
+            currentLoop.execute(this::enableWrite);
+        }
+    }
+
+    /**
+     * Register the channel to the selector of the loop. Called by the loop thread.
+     * @param loop the loop serving this client
+     * @param selector the selector of the loop
+     * @throws ClosedChannelException if the channel has already been closed
+     */
+    void register(SelectorLoop loop, Selector selector) throws ClosedChannelException {
+        this.loop = loop;
+        int ops = this.pendingWrites.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+        this.key = this.channel.register(selector, ops, this);
+    }
+
+    /**
+     * Read all the available bytes, split them in lines and schedule the execution
+     * of the complete lines. Called by the loop thread.
+     * @throws IOException if the read fails
+     */
+    void onReadable() throws IOException {
+        int read;
+        while ((read = this.channel.read(this.readBuffer)) > 0) {
+            byte[] bytes = this.readBuffer.array();
+            int start = 0;
+            for (int i = 0; i != this.readBuffer.position(); i++) {
+                if (bytes[i] == '\n') {
+                    this.partialLine.write(bytes, start, i - start);
+                    String line = this.partialLine.toString(StandardCharsets.UTF_8);
+                    this.partialLine.reset();
+                    if (line.endsWith("\r")) {
+                        line = line.substring(0, line.length() - 1);
+                    }
+                    start = i + 1;
+
+                    if (this.firstLine) {
+                        this.firstLine = false;
+                        if (Framing.parseHandshake(line) > 0) {
+                            // the selector transport keeps the line protocol
+                            this.write(ByteBuffer.wrap((Framing.LINES + "\n").getBytes(StandardCharsets.UTF_8)));
+                            continue;
+                        }
+                    }
+                    // no logging here: every print would block the other connections of the selector
+                    String finalLine = line;
+                    if (!this.requests.submit(() -> execute(finalLine))) {
+                        System.out.println("Request rejected, too many pending requests from: " + this.getClientId());
+                        if (this.dispatcher.getRejectionPolicy() == RejectionPolicy.DISCONNECT) {
+                            close();
+                            return;
+                        }
+                        // the dropped request is answered at once, so the client does not wait for it
+                        var res = this.view.reject(finalLine);
+                        if (res != null) {
+                            this.sendMessage(res);
+                        }
+                    }
+                }
+            }
+            // keep the bytes of the line not yet terminated
+            this.partialLine.write(bytes, start, this.readBuffer.position() - start);
+            this.readBuffer.clear();
+
+            if (this.partialLine.size() > MAX_LINE_LENGTH) {
+                System.out.println("Line too long from client: " + this.clientId);
+                close();
+                return;
+            }
+        }
+
+        if (read < 0) {
+            close();
+        }
+    }
+
+    /**
+     * Write the queued messages until the channel accepts bytes. Called by the loop thread.
+     * @throws IOException if the write fails
+     */
+    void onWritable() throws IOException {
+        ByteBuffer head;
+        while ((head = this.pendingWrites.peek()) != null) {
+            this.pendingBytes.addAndGet(-this.channel.write(head));
+            if (head.hasRemaining()) {
+                // the socket buffer is full, wait for the next writable event
+                return;
+            }
+            this.pendingWrites.poll();
+        }
+        this.key.interestOps(SelectionKey.OP_READ);
+    }
+
+    /**
+     * Close the channel and notify the disconnection to the view, after the pending requests.
+     */
+    void close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (this.key != null) {
+                this.key.cancel();
+            }
+            this.channel.close();
+        } catch (IOException e) {
+            // the channel is closed anyway
+        }
+        this.pendingWrites.clear();
+
+        // the disconnection runs after all the pending requests of the client
+        this.requests.submitLast(() -> {
+            System.out.println("Client disconnected: " + this.clientId);
+            this.view.disconnect(this);
+        });
+    }
+
+    /**
+     * Add the write interest to the selection key. Called by the loop thread.
+     */
+    private void enableWrite() {
+        SelectionKey currentKey = this.key;
+        if (currentKey != null && currentKey.isValid() && !this.pendingWrites.isEmpty()) {
+            currentKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * Execute a single request in the virtual view, and send back the response.
+     * @param jsonMsg the json message read from the channel
+     */
+    private void execute(String jsonMsg) {
+        try {
+            var res = this.view.execute(jsonMsg);
+
+            if (res != null) {
+                this.sendMessage(res);
+            }
+        } catch (Exception e) {
+            System.out.println("Handler "+ this.getClientId() + "throw exception:" + e.getMessage());
+        }
+    }
+}
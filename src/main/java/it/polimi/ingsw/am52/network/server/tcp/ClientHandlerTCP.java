@@ -3,16 +3,31 @@ package it.polimi.ingsw.am52.network.server.tcp;
 import it.polimi.ingsw.am52.controller.VirtualView;
 import it.polimi.ingsw.am52.json.BaseResponseData;
 import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.MessageCodec;
+import it.polimi.ingsw.am52.json.MessageCodecs;
 import it.polimi.ingsw.am52.network.server.ClientHandler;
+import it.polimi.ingsw.am52.network.server.EncodedMessage;
+import it.polimi.ingsw.am52.network.server.RequestDispatcher;
+import it.polimi.ingsw.am52.network.server.RequestQueue;
+import it.polimi.ingsw.am52.settings.RejectionPolicy;
+import it.polimi.ingsw.am52.settings.ServerSettings;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import java.io.*;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
- * Implementation of {@link ClientHandler} for TCP connections
+ * Implementation of {@link ClientHandler} for TCP connections. The client speaks the line protocol,
+ * one json text for each line, unless its first line is the handshake of the {@link Framing framed protocol}.
+ * The messages are encoded by the caller and written by the sending thread of the connection, so a client
+ * that does not read its messages does not block the threads that send to it.
  */
 public class ClientHandlerTCP implements ClientHandler {
     /**
@@ -28,31 +43,117 @@ public class ClientHandlerTCP implements ClientHandler {
     /**
      * The client's out stream
      */
-    private final PrintWriter out;
+    private final OutputStream out;
+
+    /**
+     * The maximum length of the first line, read before choosing the protocol
+     */
+    private static final int MAX_FIRST_LINE_LENGTH = 1024 * 1024;
 
     /**
      * The client's in stream
      */
-    private final BufferedReader in;
+    private final InputStream in;
+
+    /**
+     * The maximum frame size accepted by the server
+     */
+    private final int maxFrameSize;
+
+    /**
+     * Whether the client uses the framed protocol
+     */
+    private volatile boolean framed = false;
+
+    /**
+     * The codec of the frames, negotiated in the handshake
+     */
+    private volatile MessageCodec codec = MessageCodecs.JSON;
 
     /**
      * The client's VirtualView used to trigger the Controller
      */
     private final VirtualView view;
 
+    /**
+     * The dispatcher executing the requests of all the clients
+     */
+    private final RequestDispatcher dispatcher;
+
+    /**
+     * The queue of the requests of this client, executed in order
+     */
+    private final RequestQueue requests;
+
+    /**
+     * The thread that writes the queued messages to the client
+     */
+    private final ExecutorService sendingThread;
+
+    /**
+     * The encoded messages waiting to be written to the client
+     */
+    private final LinkedBlockingQueue<byte[]> sendQueue = new LinkedBlockingQueue<>();
+
+    /**
+     * The number of bytes queued and not yet written to the client
+     */
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    /**
+     * The maximum number of bytes waiting to be written, a client that does not read
+     * its messages is disconnected when the limit is exceeded
+     */
+    private final int maxPendingWrites;
+
     /**
      * The class Constructor
      * @param clientId the unique clientId generated by the server
      * @param socket the client socket accepted by the server
      * @param virtualView the virtual view instantiated by the server
+     * @param dispatcher the dispatcher executing the requests
      * @throws Exception if the initialization of the in/out stream fails
      */
-    public ClientHandlerTCP(int clientId,Socket socket, VirtualView virtualView) throws Exception {
+    public ClientHandlerTCP(int clientId, Socket socket, VirtualView virtualView, RequestDispatcher dispatcher) throws Exception {
+        this(clientId, socket, virtualView, dispatcher, ServerSettings.DEF_MAX_FRAME_SIZE);
+    }
+
+    /**
+     * The class Constructor
+     * @param clientId the unique clientId generated by the server
+     * @param socket the client socket accepted by the server
+     * @param virtualView the virtual view instantiated by the server
+     * @param dispatcher the dispatcher executing the requests
+     * @param maxFrameSize the maximum frame size accepted from the clients using the framed protocol
+     * @throws Exception if the initialization of the in/out stream fails
+     */
+    public ClientHandlerTCP(int clientId, Socket socket, VirtualView virtualView, RequestDispatcher dispatcher, int maxFrameSize) throws Exception {
+        this(clientId, socket, virtualView, dispatcher, maxFrameSize, ServerSettings.DEF_MAX_PENDING_WRITES, Executors.newSingleThreadExecutor());
+    }
+
+    /**
+     * The class Constructor
+     * @param clientId the unique clientId generated by the server
+     * @param socket the client socket accepted by the server
+     * @param virtualView the virtual view instantiated by the server
+     * @param dispatcher the dispatcher executing the requests
+     * @param maxFrameSize the maximum frame size accepted from the clients using the framed protocol
+     * @param maxPendingWrites the maximum number of bytes waiting to be written to the client
+     * @param sendingThread the single-thread executor that writes the messages to the client
+     * @throws Exception if the initialization of the in/out stream fails
+     */
+    public ClientHandlerTCP(int clientId, Socket socket, VirtualView virtualView, RequestDispatcher dispatcher, int maxFrameSize,
+                            int maxPendingWrites, ExecutorService sendingThread) throws Exception {
         this.clientId = clientId;
         this.socket = socket;
-        this.out = new PrintWriter(socket.getOutputStream(), true);
-        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+        this.out = new BufferedOutputStream(socket.getOutputStream());
+        this.in = new BufferedInputStream(socket.getInputStream());
+        this.maxFrameSize = maxFrameSize;
         this.view = virtualView;
+        this.dispatcher = dispatcher;
+        this.requests = dispatcher.newQueue();
+        this.maxPendingWrites = maxPendingWrites;
+        this.sendingThread = sendingThread;
     }
 
     /**
@@ -66,52 +167,247 @@ public class ClientHandlerTCP implements ClientHandler {
 
     /**
      * Listening thread to all incoming messages from the client's socket.
-     * When a message is received a new thread is created to handle the request in the virtual view.
-     * After the execution of the thread the response is forwarded to the client, by this ClientHandler, by sendResponse method.
+     * When a message is received it is queued in the dispatcher, that handles the requests in the virtual view
+     * in the same order they have been received. After the execution the response is forwarded to the client,
+     * by this ClientHandler, by sendResponse method.
      */
     @Override
     public void run() {
-        String jsonMsg;
+        // Start thread to write the messages
+        this.sendingThread.execute(this::sendAsync);
 
         try {
-            while((jsonMsg = in.readLine()) != null){
-                System.out.println("received: " + jsonMsg + " from:" + this.getClientId());
-
-                String finalJsonMsg = jsonMsg;
-                new Thread(() -> {
-                    try {
-                        var res = this.view.execute(finalJsonMsg);
-
-                        if (res != null){
-                            try {
-                                this.sendMessage(res);
-                            } catch (Exception e) {
-                                throw new RuntimeException(e);
-                            }
-                        }
-                    } catch (NoSuchMethodException e) {
-                        System.out.println("Handler "+ this.getClientId() + "throw exception:" + e.getMessage());
-                    }
-                }).start();
+            String firstLine = Framing.readLine(this.in, MAX_FIRST_LINE_LENGTH);
+            int requestedFrameSize = Framing.parseHandshake(firstLine);
+
+            if (requestedFrameSize > 0) {
+                int frameSize = Math.min(requestedFrameSize, this.maxFrameSize);
+                MessageCodec requestedCodec = Framing.parseCodec(firstLine);
+                synchronized (this.sendQueue) {
+                    // the messages queued after the answer are frames
+                    this.enqueue((Framing.handshake(frameSize, requestedCodec.getName()) + "\n").getBytes(StandardCharsets.UTF_8));
+                    this.codec = requestedCodec;
+                    this.framed = true;
+                }
+                this.readFrames(frameSize);
+            } else if (firstLine != null && this.submitLine(firstLine)) {
+                this.readLines();
             }
         } catch (IOException e) {
             // break the loop and finally call the disconnection
         } finally {
-            System.out.println("Client disconnected: " + this.clientId);
-            this.view.disconnect(this);
+            this.closeSocket();
+            // the disconnection runs after all the pending requests of the client,
+            // this thread waits for it before terminating.
+            CountDownLatch disconnected = new CountDownLatch(1);
+            this.requests.submitLast(() -> {
+                try {
+                    System.out.println("Client disconnected: " + this.clientId);
+                    this.view.disconnect(this);
+                } finally {
+                    disconnected.countDown();
+                }
+            });
+            try {
+                disconnected.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // interrupt the sending thread, blocked on the send queue
+            this.sendingThread.shutdownNow();
+        }
+    }
+
+    /**
+     * Read the requests of the line protocol, until the client disconnects.
+     * @throws IOException if the read fails
+     */
+    private void readLines() throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(this.in, StandardCharsets.UTF_8));
+        String jsonMsg;
+
+        while ((jsonMsg = reader.readLine()) != null) {
+            if (!this.submitLine(jsonMsg)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Read the requests of the framed protocol, until the client disconnects. The requests are
+     * decoded directly from the frame bytes, with the negotiated codec, on this thread.
+     * @param frameSize the negotiated maximum frame size
+     * @throws IOException if the read fails, or a frame is too large
+     */
+    private void readFrames(int frameSize) throws IOException {
+        FrameReader frames = new FrameReader(this.in, frameSize);
+        ByteBuffer payload;
+
+        while ((payload = frames.next()) != null) {
+            JsonMessage<?> request;
+            try {
+                request = this.codec.decodeRequest(payload);
+            } catch (IOException e) {
+                // if the message cannot be deserialized we ignore it
+                System.out.println("Error: " + e.getMessage() + "from id: " + this.clientId);
+                continue;
+            }
+            System.out.println("received: " + request.getMethod() + " from:" + this.getClientId());
+
+            if (!this.submit(() -> this.execute(request), () -> this.view.reject(request))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Queue a request of the line protocol.
+     * @param jsonMsg the json message read from the socket
+     * @return false if the client must be disconnected
+     */
+    private boolean submitLine(String jsonMsg) {
+        System.out.println("received: " + jsonMsg + " from:" + this.getClientId());
+        return this.submit(() -> this.execute(jsonMsg), () -> this.view.reject(jsonMsg));
+    }
+
+    /**
+     * Queue the execution of a request. A request dropped by the queue is answered at once with an error,
+     * so the client does not wait for its response.
+     * @param task the execution of the request
+     * @param rejection the error response of the request, if it is dropped
+     * @return false if the request has been rejected and the client must be disconnected
+     */
+    private boolean submit(Runnable task, Supplier<JsonMessage<BaseResponseData>> rejection) {
+        if (!this.requests.submit(task)) {
+            System.out.println("Request rejected, too many pending requests from: " + this.getClientId());
+            if (this.dispatcher.getRejectionPolicy() == RejectionPolicy.DISCONNECT) {
+                return false;
+            }
+            var res = rejection.get();
+            if (res != null) {
+                this.sendMessage(res);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Execute a single request in the virtual view, and send back the response.
+     * @param jsonMsg the json message read from the socket
+     */
+    private void execute(String jsonMsg) {
+        try {
+            var res = this.view.execute(jsonMsg);
+
+            if (res != null){
+                this.sendMessage(res);
+            }
+        } catch (NoSuchMethodException e) {
+            System.out.println("Handler "+ this.getClientId() + "throw exception:" + e.getMessage());
+        }
+    }
+
+    /**
+     * Execute a single request, already deserialized, in the virtual view, and send back the response.
+     * @param request the request read from the socket
+     */
+    private void execute(JsonMessage<?> request) {
+        try {
+            var res = this.view.execute(request);
+
+            if (res != null){
+                this.sendMessage(res);
+            }
+        } catch (NoSuchMethodException e) {
+            System.out.println("Handler "+ this.getClientId() + "throw exception:" + e.getMessage());
         }
     }
 
     /**
-     * Method to send the response through the network, used both in broadcast and response of a request
+     * Method to send the response through the network, used both in broadcast and response of a request.
+     * The message is encoded on the calling thread, and written by the sending thread.
      * @param response the message to send
      */
     @Override
     public void sendMessage(JsonMessage<BaseResponseData> response) {
         try {
-            this.out.println(response.toJson());
+            synchronized (this.sendQueue) {
+                if (this.framed) {
+                    byte[] payload = this.codec.encode(response);
+                    this.enqueue(Framing.newFrame(payload, payload.length));
+                } else {
+                    this.enqueue((response.toJson() + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Exception on sending response to client: " + this.clientId + "exception: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method to send a broadcast message, the encoding is shared with the other recipients
+     * @param message the message to send
+     */
+    @Override
+    public void sendEncoded(EncodedMessage message) {
+        try {
+            synchronized (this.sendQueue) {
+                this.enqueue(this.framed ? message.toFrame(this.codec) : message.toLine());
+            }
         } catch (Exception e) {
             System.out.println("Exception on sending response to client: " + this.clientId + "exception: " + e.getMessage());
         }
     }
+
+    /**
+     * Queue the bytes to write. If the client does not read, and the queued bytes exceed the limit,
+     * the socket is closed: the listening thread then disconnects the client.
+     * @param bytes the bytes to write, they are not modified
+     */
+    private void enqueue(byte[] bytes) {
+        if (this.socket.isClosed()) {
+            return;
+        }
+        if (this.pendingBytes.addAndGet(bytes.length) > this.maxPendingWrites) {
+            System.out.println("Too many pending writes, disconnecting client: " + this.clientId);
+            this.closeSocket();
+            return;
+        }
+        this.sendQueue.add(bytes);
+    }
+
+    /**
+     * Write the queued messages to the client, the stream is flushed when the queue is empty.
+     */
+    private void sendAsync() {
+        while (true) {
+            try {
+                byte[] bytes = this.sendQueue.take();
+
+                this.out.write(bytes);
+                this.pendingBytes.addAndGet(-bytes.length);
+                if (this.sendQueue.isEmpty()) {
+                    this.out.flush();
+                }
+            } catch (InterruptedException e) {
+                // the client has been disconnected
+                return;
+            } catch (IOException e) {
+                // the listening thread disconnects the client
+                this.closeSocket();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Close the socket, the listening thread stops reading and disconnects the client.
+     */
+    private void closeSocket() {
+        try {
+            this.socket.close();
+        } catch (IOException e) {
+            // the socket is closed anyway
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package it.polimi.ingsw.am52.network.server.tcp;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Read the frames of the framed socket protocol (see {@link Framing}). The payloads are read
+ * into a single buffer, reused for all the frames and grown up to the maximum frame size:
+ * the buffer returned by {@link #next()} is valid until the next call.
+ */
+public class FrameReader {
+
+    /**
+     * The initial size of the buffer.
+     */
+    private static final int INITIAL_SIZE = 8 * 1024;
+
+    /**
+     * The stream to read.
+     */
+    private final InputStream in;
+
+    /**
+     * The maximum size of a frame.
+     */
+    private final int maxFrameSize;
+
+    /**
+     * The header of the current frame.
+     */
+    private final byte[] header = new byte[Framing.HEADER_SIZE];
+
+    /**
+     * The payload of the current frame.
+     */
+    private byte[] payload;
+
+    /**
+     * Creates the reader of the frames of a stream.
+     * @param in The stream to read.
+     * @param maxFrameSize The maximum size of a frame, in bytes.
+     */
+    public FrameReader(InputStream in, int maxFrameSize) {
+        this.in = in;
+        this.maxFrameSize = maxFrameSize;
+        this.payload = new byte[Math.min(INITIAL_SIZE, maxFrameSize)];
+    }
+
+    /**
+     * Read the next frame.
+     * @return The payload of the frame, or null if the stream ended.
+     * @throws IOException If the read fails, the stream ends inside a frame or the frame is too large.
+     */
+    public ByteBuffer next() throws IOException {
+        int read = this.in.readNBytes(this.header, 0, Framing.HEADER_SIZE);
+        if (read == 0) {
+            return null;
+        }
+        if (read != Framing.HEADER_SIZE) {
+            throw new EOFException("Stream ended inside a frame header.");
+        }
+
+        int length = ((this.header[0] & 0xFF) << 24) | ((this.header[1] & 0xFF) << 16)
+                | ((this.header[2] & 0xFF) << 8) | (this.header[3] & 0xFF);
+        if (length < 0 || length > this.maxFrameSize) {
+            throw new IOException(String.format("Frame of %d bytes exceeds the limit of %d bytes.",
+                    Integer.toUnsignedLong(length), this.maxFrameSize));
+        }
+
+        if (length > this.payload.length) {
+            this.payload = new byte[Math.min(Math.max(length, 2 * this.payload.length), this.maxFrameSize)];
+        }
+        if (this.in.readNBytes(this.payload, 0, length) != length) {
+            throw new EOFException("Stream ended inside a frame.");
+        }
+        return ByteBuffer.wrap(this.payload, 0, length);
+    }
+}
@@ -0,0 +1,184 @@
+package it.polimi.ingsw.am52.network.server.tcp;
+
+import it.polimi.ingsw.am52.json.MessageCodec;
+import it.polimi.ingsw.am52.json.MessageCodecs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The framed socket protocol. By default, the socket connection carries one json text
+ * for each line. A client can ask for the framed protocol by sending the handshake line
+ * "#framed &lt;maxFrameSize&gt; [codec]" as its first line: a server supporting frames answers with
+ * "#framed &lt;maxFrameSize&gt; &lt;codec&gt;" (the negotiated size and codec, json if the requested
+ * one is unknown) and from then on both sides send frames, made of a 4-byte big-endian length
+ * followed by the payload, encoded by the negotiated {@link MessageCodec}.
+ * A server that does not support frames answers "#lines", an older server ignores the line
+ * (it is not a valid json request), so the client falls back to lines after a timeout.
+ */
+public final class Framing {
+
+    /**
+     * The prefix of the handshake line, sent by the client and echoed by the server.
+     */
+    public static final String HANDSHAKE = "#framed";
+
+    /**
+     * The answer of a server that keeps the line protocol.
+     */
+    public static final String LINES = "#lines";
+
+    /**
+     * The size of the frame header, in bytes.
+     */
+    public static final int HEADER_SIZE = 4;
+
+    /**
+     * The maximum length of the answer to the handshake, in bytes.
+     */
+    public static final int MAX_HANDSHAKE_LENGTH = 64;
+
+    /**
+     * The time the client waits for the answer to the handshake, in milliseconds.
+     */
+    public static final int HANDSHAKE_TIMEOUT_MILLIS = 2000;
+
+    /**
+     * Utility class, it cannot be instantiated.
+     */
+    private Framing() {
+    }
+
+    /**
+     * Create the handshake line, with the json codec.
+     * @param maxFrameSize The maximum frame size, in bytes.
+     * @return The handshake line, without the line terminator.
+     */
+    public static String handshake(int maxFrameSize) {
+        return handshake(maxFrameSize, MessageCodecs.JSON.getName());
+    }
+
+    /**
+     * Create the handshake line.
+     * @param maxFrameSize The maximum frame size, in bytes.
+     * @param codec The name of the codec of the frames.
+     * @return The handshake line, without the line terminator.
+     */
+    public static String handshake(int maxFrameSize, String codec) {
+        return HANDSHAKE + " " + maxFrameSize + " " + codec;
+    }
+
+    /**
+     * Parse a handshake line.
+     * @param line The line to parse.
+     * @return The maximum frame size requested in the line, or -1 if the line is not a valid handshake.
+     */
+    public static int parseHandshake(String line) {
+        String[] tokens = splitHandshake(line);
+        if (tokens == null) {
+            return -1;
+        }
+        try {
+            int maxFrameSize = Integer.parseInt(tokens[1]);
+            return maxFrameSize > 0 ? maxFrameSize : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parse the codec of a handshake line.
+     * @param line The handshake line.
+     * @return The codec requested in the line, the json codec if the line does not specify
+     * a codec or the codec is unknown.
+     */
+    public static MessageCodec parseCodec(String line) {
+        String[] tokens = splitHandshake(line);
+        return MessageCodecs.getOrDefault(tokens != null && tokens.length > 2 ? tokens[2] : null);
+    }
+
+    /**
+     * Read a single line from the stream, used for the handshake. The line terminator
+     * ("\n" or "\r\n") is not included.
+     * @param in The stream to read.
+     * @param maxLength The maximum length of the line, in bytes.
+     * @return The line, or null if the stream ended before any byte.
+     * @throws IOException If the read fails, or the line is too long.
+     */
+    public static String readLine(InputStream in, int maxLength) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (line.size() == maxLength) {
+                throw new IOException(String.format("Line longer than %d bytes.", maxLength));
+            }
+            line.write(b);
+        }
+        if (b == -1 && line.size() == 0) {
+            return null;
+        }
+        String text = line.toString(StandardCharsets.UTF_8);
+        return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+    }
+
+    /**
+     * Write a line, used for the handshake and by the line protocol.
+     * @param out The stream to write.
+     * @param line The line, without the line terminator.
+     * @throws IOException If the write fails.
+     */
+    public static void writeLine(OutputStream out, String line) throws IOException {
+        out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * Write a frame.
+     * @param out The stream to write.
+     * @param payload The payload of the frame.
+     * @throws IOException If the write fails.
+     */
+    public static void writeFrame(OutputStream out, byte[] payload) throws IOException {
+        out.write(header(payload.length));
+        out.write(payload);
+        out.flush();
+    }
+
+    /**
+     * Create a complete frame.
+     * @param payload The bytes containing the payload.
+     * @param length The length of the payload, starting from the first byte.
+     * @return The header followed by the payload.
+     */
+    public static byte[] newFrame(byte[] payload, int length) {
+        byte[] frame = new byte[HEADER_SIZE + length];
+        System.arraycopy(header(length), 0, frame, 0, HEADER_SIZE);
+        System.arraycopy(payload, 0, frame, HEADER_SIZE, length);
+        return frame;
+    }
+
+    /**
+     * Split a handshake line in its tokens.
+     * @param line The line to split.
+     * @return The tokens (the prefix, the size and the optional codec), or null if the line is not a handshake.
+     */
+    private static String[] splitHandshake(String line) {
+        if (line == null || !line.startsWith(HANDSHAKE + " ")) {
+            return null;
+        }
+        String[] tokens = line.trim().split(" +");
+        return tokens.length == 2 || tokens.length == 3 ? tokens : null;
+    }
+
+    /**
+     * Create the header of a frame.
+     * @param length The length of the payload.
+     * @return The header, the big-endian length.
+     */
+    private static byte[] header(int length) {
+        return new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length };
+    }
+}
@@ -0,0 +1,115 @@
+package it.polimi.ingsw.am52.network.server.tcp;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A single event loop of the non-blocking TCP transport. The loop owns a {@link Selector},
+ * and it is the only thread that touches the selection keys of the {@link ClientHandlerNIO}
+ * registered to it. Other threads interact with the loop by submitting tasks with {@link #execute(Runnable)}.
+ */
+public class SelectorLoop implements Runnable {
+
+    /**
+     * The selector of this loop.
+     */
+    private final Selector selector;
+
+    /**
+     * The tasks submitted by other threads, executed by the loop thread before each selection.
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a new loop, with its own selector.
+     * @throws IOException If the selector cannot be opened.
+     */
+    public SelectorLoop() throws IOException {
+        this.selector = Selector.open();
+    }
+
+    /**
+     * Register a new client to this loop. The registration is performed by the loop thread.
+     * @param handler The handler of the client channel.
+     */
+    public void register(ClientHandlerNIO handler) {
+        execute(() -> {
+            try {
+                handler.register(this, this.selector);
+            } catch (IOException e) {
+                handler.close();
+            }
+        });
+    }
+
+    /**
+     * Submit a task to be executed by the loop thread, and wake up the selector.
+     * @param task The task to execute.
+     */
+    public void execute(Runnable task) {
+        this.tasks.add(task);
+        this.selector.wakeup();
+    }
+
+    /**
+     * Close the selector, the loop thread terminates at the next iteration.
+     */
+    public void close() {
+        try {
+            this.selector.close();
+        } catch (IOException e) {
+            // the loop is terminating anyway
+        }
+    }
+
+    /**
+     * The event loop: wait for ready channels, then dispatch the read and write events
+     * to the handler attached to each key.
+     */
+    @Override
+    public void run() {
+        while (this.selector.isOpen()) {
+            try {
+                this.selector.select();
+                runTasks();
+
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+
+                    ClientHandlerNIO handler = (ClientHandlerNIO) key.attachment();
+                    try {
+                        if (key.isValid() && key.isReadable()) {
+                            handler.onReadable();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            handler.onWritable();
+                        }
+                    } catch (IOException | CancelledKeyException e) {
+                        handler.close();
+                    }
+                }
+            } catch (Exception e) {
+                if (this.selector.isOpen()) {
+                    System.out.println("Selector loop exception: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Execute all the pending tasks.
+     */
+    private void runTasks() {
+        Runnable task;
+        while ((task = this.tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
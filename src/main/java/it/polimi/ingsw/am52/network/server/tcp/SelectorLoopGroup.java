@@ -0,0 +1,65 @@
+package it.polimi.ingsw.am52.network.server.tcp;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fixed group of {@link SelectorLoop}, each one running on its own thread.
+ * New clients are assigned to the loops in round-robin order.
+ */
+public class SelectorLoopGroup {
+
+    /**
+     * The default number of loops: a few I/O threads are enough to serve all the clients.
+     */
+    public static final int DEF_LOOPS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The loops of this group.
+     */
+    private final SelectorLoop[] loops;
+
+    /**
+     * The index of the next loop to assign.
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Creates the group, and starts all its loop threads.
+     * @param nLoops The number of loops (at least one).
+     * @throws IOException If a selector cannot be opened.
+     */
+    public SelectorLoopGroup(int nLoops) throws IOException {
+        this.loops = new SelectorLoop[Math.max(1, nLoops)];
+        for (int i = 0; i != this.loops.length; i++) {
+            this.loops[i] = new SelectorLoop();
+            Thread.ofPlatform().name("tcp-selector-" + i).daemon(true).start(this.loops[i]);
+        }
+    }
+
+    /**
+     * Register a client to one of the loops of this group.
+     * @param handler The handler of the client channel.
+     */
+    public void register(ClientHandlerNIO handler) {
+        int index = Math.floorMod(this.next.getAndIncrement(), this.loops.length);
+        this.loops[index].register(handler);
+    }
+
+    /**
+     *
+     * @return The number of loops of this group.
+     */
+    public int size() {
+        return this.loops.length;
+    }
+
+    /**
+     * Close all the loops of this group.
+     */
+    public void close() {
+        for (SelectorLoop loop : this.loops) {
+            loop.close();
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import it.polimi.ingsw.am52.json.MessageCodec;
+import it.polimi.ingsw.am52.json.MessageCodecs;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -33,6 +36,16 @@ public class ClientSettings {
      */
     public static final NetworkMode DEFAULT_NETWORK_MODE = NetworkMode.SOCKET;
 
+    /**
+     * The default socket protocol, one json text for each line.
+     */
+    public static final boolean DEFAULT_FRAMED = false;
+
+    /**
+     * The default codec of the framed socket protocol, the json text.
+     */
+    public static final String DEFAULT_CODEC = MessageCodecs.JSON.getName();
+
     //endregion
 
     //region Private Fields
@@ -56,6 +69,16 @@ public class ClientSettings {
      */
     private final NetworkMode networkMode;
 
+    /**
+     * Whether the socket connection asks for the length-prefixed framed protocol.
+     */
+    private final boolean framed;
+
+    /**
+     * The codec of the messages of the framed socket protocol.
+     */
+    private final String codec;
+
     //endregion
 
     //region Constructor
@@ -69,6 +92,35 @@ public class ClientSettings {
      * @throws IllegalArgumentException If the port number is outside the allowed range.
      */
     public ClientSettings(String ip, int port, ClientMode mode, NetworkMode network) throws IllegalArgumentException {
+        this(ip, port, mode, network, DEFAULT_FRAMED);
+    }
+
+    /**
+     * Creates an object with the specified client settings.
+     * @param ip The ip address of the server to connect with.
+     * @param port The number of port used for the connection.
+     * @param mode The running mode of the client (GUI or TUI).
+     * @param network The network mode (Socket or RMI).
+     * @param framed Whether the socket connection asks for the length-prefixed framed protocol.
+     * @throws IllegalArgumentException If the port number is outside the allowed range.
+     */
+    public ClientSettings(String ip, int port, ClientMode mode, NetworkMode network, boolean framed) throws IllegalArgumentException {
+        this(ip, port, mode, network, framed, DEFAULT_CODEC);
+    }
+
+    /**
+     * Creates an object with the specified client settings.
+     * @param ip The ip address of the server to connect with.
+     * @param port The number of port used for the connection.
+     * @param mode The running mode of the client (GUI or TUI).
+     * @param network The network mode (Socket or RMI).
+     * @param framed Whether the socket connection asks for the length-prefixed framed protocol.
+     * @param codec The codec of the messages of the framed protocol. A codec other than json
+     *              implies the framed protocol.
+     * @throws IllegalArgumentException If the port number is outside the allowed range, or the
+     * codec is unknown.
+     */
+    public ClientSettings(String ip, int port, ClientMode mode, NetworkMode network, boolean framed, String codec) throws IllegalArgumentException {
 
         if (port < PORT_MIN || port > PORT_MAX) {
             throw new IllegalArgumentException(
@@ -77,10 +129,19 @@ public class ClientSettings {
             );
         }
 
+        if (MessageCodecs.get(codec) == null) {
+            throw new IllegalArgumentException(
+                    String.format("Unknown codec \"%s\", the available codecs are %s.",
+                            codec, MessageCodecs.getNames())
+            );
+        }
+
         this.serverIp = ip;
         this.port = port;
         this.mode = mode;
         this.networkMode = network;
+        this.codec = MessageCodecs.get(codec).getName();
+        this.framed = framed || !this.codec.equals(DEFAULT_CODEC);
     }
 
     //endregion
@@ -119,6 +180,22 @@ public class ClientSettings {
         return networkMode;
     }
 
+    /**
+     *
+     * @return True if the socket connection asks for the length-prefixed framed protocol.
+     */
+    public boolean isFramed() {
+        return framed;
+    }
+
+    /**
+     *
+     * @return The codec of the messages of the framed socket protocol.
+     */
+    public String getCodec() {
+        return codec;
+    }
+
 
     //endregion
 
@@ -132,6 +209,8 @@ public class ClientSettings {
      *     <li>"port": integer, the port number bound by the server (min=1024, max=65535).</li>
      *     <li>"mode": string, the verbosity level for logging ("verbose", "info", "warning", "error").</li>
      *     <li>"network": string, the network connection ("socket", or "rmi")</li>
+     *     <li>"framed": boolean, use the length-prefixed framed socket protocol</li>
+     *     <li>"codec": string, the codec of the framed socket protocol ("json", "compact")</li>
      * </ul>
      * If a field is missing, or it has an invalid value, the default value of that setting
      * is used.
@@ -184,6 +263,8 @@ public class ClientSettings {
      *     <li>"port": integer, the port number where the server is listening for connection (min=1024, max=65535).</li>
      *     <li>"mode": string, the graphical mode ("gui", "tui").</li>
      *     <li>"network": string, the network connection to use ("socket", "rmi")</li>
+     *     <li>"framed": boolean, use the length-prefixed framed socket protocol</li>
+     *     <li>"codec": string, the codec of the framed socket protocol ("json", "compact")</li>
      * </ul>
      * The fields "serverIp" and "port" are mandatory, "mode" and "network" are optional.
      * If an optional field is missing, or it has an invalid value, the default value of that setting
@@ -214,6 +295,8 @@ public class ClientSettings {
         // in the json object.
         ClientMode mode = DEFAULT_CLIENT_MODE;   // Def. graphical mode
         NetworkMode network = DEFAULT_NETWORK_MODE;  // Def. network mode.
+        boolean framed = DEFAULT_FRAMED;    // Def. line protocol.
+        String codec = DEFAULT_CODEC;       // Def. json codec.
 
         // Get the iterator able to iterate over all json fields, and overwrite settings, if found.
         Iterator<String> iter = jsonNode.fieldNames();
@@ -233,6 +316,14 @@ public class ClientSettings {
                     // Get NetworkMode value from json, or use default value.
                     network = parseNetwork(jsonNode.get(field).asText());
                     break;
+                case "framed":
+                    // Get the boolean value, or use default value.
+                    framed = jsonNode.get(field).asBoolean(DEFAULT_FRAMED);
+                    break;
+                case "codec":
+                    // Get the codec name, or use default value.
+                    codec = parseCodec(jsonNode.get(field).asText());
+                    break;
                 default:
                     // Ignore invalid (or additional) field names.
                     break;
@@ -240,7 +331,7 @@ public class ClientSettings {
         }
 
         // Return the client settings object with specified values.
-        return new ClientSettings(serverIp, port, mode, network);
+        return new ClientSettings(serverIp, port, mode, network, framed, codec);
     }
 
     //endregion
@@ -345,6 +436,17 @@ public class ClientSettings {
         }
     }
 
+    /**
+     * Convert a string into the name of a registered codec. If the codec is unknown,
+     * the DEFAULT_CODEC is returned.
+     * @param value The text to parse.
+     * @return The name of the codec.
+     */
+    private static String parseCodec(String value) {
+        MessageCodec codec = MessageCodecs.get(value);
+        return codec != null ? codec.getName() : DEFAULT_CODEC;
+    }
+
     //region Overrides
 
     /**
@@ -363,6 +465,8 @@ public class ClientSettings {
         sb.append(String.format("  Port: %s%n", getPort()));
         sb.append(String.format("  Network mode: %s%n", getNetworkMode()));
         sb.append(String.format("  Client mode: %s%n", getMode()));
+        sb.append(String.format("  Framed: %s%n", isFramed()));
+        sb.append(String.format("  Codec: %s%n", getCodec()));
 
         return sb.toString();
     }
@@ -40,6 +40,8 @@ public class CmdLineArgsReader {
             options.add(new FixedPortOption());
             options.add(new LimitOption());
             options.add(new VerbosityOption());
+            options.add(new NioOption());
+            options.add(new VirtualThreadsOption());
 
             serverOptions = new ImmutableList<>(options);
         }
@@ -58,6 +60,8 @@ public class CmdLineArgsReader {
             List<Option> options = new ArrayList<>();
             options.add(new TuiOption());
             options.add(new RmiOption());
+            options.add(new FramedOption());
+            options.add(new CompactOption());
 
             clientOptions = new ImmutableList<>(options);
         }
@@ -88,6 +92,8 @@ public class CmdLineArgsReader {
      *     server to the value maxLobbies (>=1)</li>
      *     <li>-v/--verbosity lvl: set the verbosity of the server logging, to the value lvl,
      *     in range [1,4]</li>
+     *     <li>-n/--nio: serve the TCP connections with a non-blocking selector.</li>
+     *     <li>-x/--virtual: run the clients and their requests on virtual threads.</li>
      * </ul>
      * Client args:
      * <ul>
@@ -167,6 +173,8 @@ public class CmdLineArgsReader {
         PortMode portMode = PortMode.AUTO;
         int maxLobbies = ServerSettings.DEF_MAX_LOBBIES;
         VerbosityLevel verbosity = ServerSettings.DEF_VERBOSITY;
+        TcpMode tcpMode = ServerSettings.DEF_TCP_MODE;
+        ThreadMode threadMode = ServerSettings.DEF_THREAD_MODE;
 
         // Parse all remaining options.
         for (int i = 0; i != options.size(); i++) {
@@ -189,6 +197,18 @@ public class CmdLineArgsReader {
                     portMode = PortMode.FIXED;
                     break;
 
+                // -n/--nio: non-blocking tcp transport.
+                case NioOption.SHORT_FLAG:
+                case NioOption.LONG_FLAG:
+                    tcpMode = TcpMode.NIO;
+                    break;
+
+                // -x/--virtual: virtual threads.
+                case VirtualThreadsOption.SHORT_FLAG:
+                case VirtualThreadsOption.LONG_FLAG:
+                    threadMode = ThreadMode.VIRTUAL;
+                    break;
+
                 // -l/--limit: the maximum number of concurrent lobbies.
                 case LimitOption.SHORT_FLAG:
                 case LimitOption.LONG_FLAG:
@@ -240,7 +260,12 @@ public class CmdLineArgsReader {
                         socketPort.orElse(ServerSettings.DEF_SOCKET_PORT),
                         rmiPort.orElse(ServerSettings.DEF_RMI_PORT),
                         verbosity,
-                        portMode);
+                        portMode,
+                        tcpMode,
+                        ServerSettings.DEF_DISPATCH_THREADS,
+                        ServerSettings.DEF_MAX_QUEUED_REQUESTS,
+                        ServerSettings.DEF_REJECTION_POLICY,
+                        threadMode);
 
         return new ApplicationSettings(serverSettings);
     }
@@ -286,6 +311,8 @@ public class CmdLineArgsReader {
         // are entered at the command line.
         ClientMode  clientMode = ClientSettings.DEFAULT_CLIENT_MODE;
         NetworkMode networkMode = ClientSettings.DEFAULT_NETWORK_MODE;
+        boolean framed = ClientSettings.DEFAULT_FRAMED;
+        String codec = ClientSettings.DEFAULT_CODEC;
 
         // Parse all remaining options.
         for (String option : options) {
@@ -309,11 +336,21 @@ public class CmdLineArgsReader {
                 case TuiOption.LONG_FLAG:
                     clientMode = ClientMode.TEXTUAL;
                     break;
+                // -b/--framed: use the framed socket protocol.
+                case FramedOption.SHORT_FLAG:
+                case FramedOption.LONG_FLAG:
+                    framed = true;
+                    break;
+                // -c/--compact: use the compact binary codec, on the framed socket protocol.
+                case CompactOption.SHORT_FLAG:
+                case CompactOption.LONG_FLAG:
+                    codec = CompactOption.CODEC;
+                    break;
             }
         }
 
         // Return the client settings.
-        return new ApplicationSettings(new ClientSettings(ip, port, clientMode, networkMode));
+        return new ApplicationSettings(new ClientSettings(ip, port, clientMode, networkMode, framed, codec));
     }
 
     /**
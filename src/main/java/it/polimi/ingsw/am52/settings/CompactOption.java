@@ -0,0 +1,34 @@
+package it.polimi.ingsw.am52.settings;
+
+import it.polimi.ingsw.am52.json.MessageCodecs;
+
+/**
+ * Represent the compact option for the client application. If this option
+ * is set on the command line, the socket client asks the server for the
+ * framed protocol with the compact binary codec, instead of the json text.
+ */
+public class CompactOption extends Option {
+
+    public static final String SHORT_FLAG = "-c";
+    public static final String LONG_FLAG = "--compact";
+
+    /**
+     * The codec selected by this option.
+     */
+    public static final String CODEC = MessageCodecs.COMPACT.getName();
+
+    public CompactOption() {
+        super(SHORT_FLAG, LONG_FLAG);
+    }
+
+    @Override
+    public Object parseValueText(String text) throws IllegalArgumentException {
+        throw new IllegalArgumentException("The compact option does not require any argument.");
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format("%s/%s: use length-prefixed frames with the compact binary codec (%s) on the socket connection, if the server supports them.",
+                getShortFlag(), getLongFlag(), CODEC);
+    }
+}
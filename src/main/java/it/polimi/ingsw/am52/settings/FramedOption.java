@@ -0,0 +1,27 @@
+package it.polimi.ingsw.am52.settings;
+
+/**
+ * Represent the framed option for the client application. If this option
+ * is set on the command line, the socket client asks the server for the
+ * length-prefixed framed protocol, instead of one json text for each line.
+ */
+public class FramedOption extends Option {
+
+    public static final String SHORT_FLAG = "-b";
+    public static final String LONG_FLAG = "--framed";
+
+    public FramedOption() {
+        super(SHORT_FLAG, LONG_FLAG);
+    }
+
+    @Override
+    public Object parseValueText(String text) throws IllegalArgumentException {
+        throw new IllegalArgumentException("The framed option does not require any argument.");
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format("%s/%s: use length-prefixed frames on the socket connection, if the server supports them.",
+                getShortFlag(), getLongFlag());
+    }
+}
@@ -0,0 +1,27 @@
+package it.polimi.ingsw.am52.settings;
+
+/**
+ * Represent the nio option for server application. If this option
+ * is set on the command line, the server serves the TCP connections
+ * with non-blocking channels, instead of one thread for each client.
+ */
+public class NioOption extends Option {
+
+    public static final String SHORT_FLAG = "-n";
+    public static final String LONG_FLAG = "--nio";
+
+    public NioOption() {
+        super(SHORT_FLAG, LONG_FLAG);
+    }
+
+    @Override
+    public Object parseValueText(String text) throws IllegalArgumentException {
+        throw new IllegalArgumentException("The nio option does not require any argument.");
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format("%s/%s: serve the TCP connections with a non-blocking selector, instead of one thread for each client.",
+                getShortFlag(), getLongFlag());
+    }
+}
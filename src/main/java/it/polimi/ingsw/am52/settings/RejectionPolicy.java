@@ -0,0 +1,24 @@
+package it.polimi.ingsw.am52.settings;
+
+/**
+ * What the server does with a request received from a client that already has
+ * too many requests waiting to be executed.
+ */
+public enum RejectionPolicy {
+    /**
+     * The request is discarded, and answered with an error response (status 429), the client stays connected.
+     */
+    DROP,
+    /**
+     * The request is discarded, and the client is disconnected.
+     */
+    DISCONNECT;
+
+    public static RejectionPolicy parse(String value) {
+        return switch (value.toLowerCase()) {
+            case "drop" -> RejectionPolicy.DROP;
+            case "disconnect" -> RejectionPolicy.DISCONNECT;
+            default -> throw new IllegalArgumentException();
+        };
+    }
+}
@@ -39,6 +39,41 @@ public class ServerSettings {
      */
     private final PortMode portMode;
 
+    /**
+     * The transport used to serve the TCP connections.
+     */
+    private final TcpMode tcpMode;
+
+    /**
+     * The number of worker threads executing the client requests.
+     */
+    private final int dispatchThreads;
+
+    /**
+     * The maximum number of requests of a single client waiting to be executed.
+     */
+    private final int maxQueuedRequests;
+
+    /**
+     * What to do with the requests of a client that exceed the queue limit.
+     */
+    private final RejectionPolicy rejectionPolicy;
+
+    /**
+     * The kind of threads running the clients and their requests.
+     */
+    private final ThreadMode threadMode;
+
+    /**
+     * The maximum size of a frame, in bytes, for the clients using the framed socket protocol.
+     */
+    private final int maxFrameSize;
+
+    /**
+     * The maximum number of bytes waiting to be written to a single client.
+     */
+    private final int maxPendingWrites;
+
     //endregion
 
     //region Public Static Final Fields
@@ -88,6 +123,81 @@ public class ServerSettings {
      */
     public static final PortMode DEF_PORT_MODE = PortMode.AUTO;
 
+    /**
+     * The default transport for the TCP connections.
+     */
+    public static final TcpMode DEF_TCP_MODE = TcpMode.BLOCKING;
+
+    /**
+     * The minimum allowed number of worker threads.
+     */
+    public static final int MIN_DISPATCH_THREADS = 1;
+
+    /**
+     * The maximum allowed number of worker threads.
+     */
+    public static final int MAX_DISPATCH_THREADS = 1024;
+
+    /**
+     * The default number of worker threads, twice the available processors (at least 4).
+     */
+    public static final int DEF_DISPATCH_THREADS = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The minimum allowed per-client queue limit.
+     */
+    public static final int MIN_QUEUED_REQUESTS = 1;
+
+    /**
+     * The maximum allowed per-client queue limit.
+     */
+    public static final int MAX_QUEUED_REQUESTS = 10000;
+
+    /**
+     * The default per-client queue limit.
+     */
+    public static final int DEF_MAX_QUEUED_REQUESTS = 64;
+
+    /**
+     * The default policy for the requests exceeding the queue limit.
+     */
+    public static final RejectionPolicy DEF_REJECTION_POLICY = RejectionPolicy.DROP;
+
+    /**
+     * The default kind of threads.
+     */
+    public static final ThreadMode DEF_THREAD_MODE = ThreadMode.PLATFORM;
+
+    /**
+     * The minimum size of a frame of the framed socket protocol, in bytes.
+     */
+    public static final int MIN_FRAME_SIZE = 1024;
+
+    /**
+     * The maximum size of a frame of the framed socket protocol, in bytes.
+     */
+    public static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The default maximum size of a frame of the framed socket protocol, in bytes.
+     */
+    public static final int DEF_MAX_FRAME_SIZE = 1024 * 1024;
+
+    /**
+     * The minimum number of bytes waiting to be written to a single client.
+     */
+    public static final int MIN_PENDING_WRITES = 64 * 1024;
+
+    /**
+     * The maximum number of bytes waiting to be written to a single client.
+     */
+    public static final int MAX_PENDING_WRITES = 256 * 1024 * 1024;
+
+    /**
+     * The default maximum number of bytes waiting to be written to a single client.
+     */
+    public static final int DEF_MAX_PENDING_WRITES = 16 * 1024 * 1024;
+
     //endregion
 
     //region Private Static Fields
@@ -117,6 +227,13 @@ public class ServerSettings {
      *     <li>"maxLobbies": integer, the maximum number of concurrent games (min=1).</li>
      *     <li>"port": integer, the port number bound by the server (min=1024, max=65535).</li>
      *     <li>"verbosity": string, the verbosity level for logging ("verbose", "info", "warning", "error").</li>
+     *     <li>"tcpMode": string, the transport of the TCP connections ("blocking", "nio").</li>
+     *     <li>"dispatchThreads": integer, the number of threads executing the requests (min=1, max=1024).</li>
+     *     <li>"maxQueuedRequests": integer, the requests of a client waiting to be executed (min=1, max=10000).</li>
+     *     <li>"rejectionPolicy": string, the policy for the requests over the limit ("drop", "disconnect").</li>
+     *     <li>"threadMode": string, the kind of threads running the clients ("platform", "virtual").</li>
+     *     <li>"maxFrameSize": integer, the maximum frame size of the framed socket protocol (min=1024, max=67108864).</li>
+     *     <li>"maxPendingWrites": integer, the bytes waiting to be written to a client (min=65536, max=268435456).</li>
      * </ul>
      * If a field is missing, or it has an invalid value, the default value of that setting
      * is used.
@@ -143,6 +260,13 @@ public class ServerSettings {
         int rmiPort = DEF_RMI_PORT;         // Def. port number for rmi
         VerbosityLevel verbosity = DEF_VERBOSITY;   // Def. server logging verbosity
         PortMode portMode = DEF_PORT_MODE;  // Def. port mode.
+        TcpMode tcpMode = DEF_TCP_MODE;     // Def. tcp transport.
+        int dispatchThreads = DEF_DISPATCH_THREADS;         // Def. worker threads
+        int maxQueuedRequests = DEF_MAX_QUEUED_REQUESTS;    // Def. per-client queue limit
+        RejectionPolicy rejectionPolicy = DEF_REJECTION_POLICY; // Def. rejection policy
+        ThreadMode threadMode = DEF_THREAD_MODE;            // Def. kind of threads
+        int maxFrameSize = DEF_MAX_FRAME_SIZE;              // Def. max frame size
+        int maxPendingWrites = DEF_MAX_PENDING_WRITES;      // Def. per-client write limit
 
         // Get the iterator able to iterate over all json fields, and overwrite settings, if found.
         Iterator<String> iter = jsonNode.fieldNames();
@@ -151,7 +275,7 @@ public class ServerSettings {
             // The field text string.
             final String field = iter.next();
             // Switch the text of the filed: the valid filed names are
-            // "maxLobbies", "port", "verbosity", and "portMode".
+            // "maxLobbies", "port", "verbosity", "portMode", and "tcpMode".
             // Invalid field names are ignored. The values of maxLobbies and port are just
             // converted to integer values (or their default values) without
             // any check on valid values, because all values are validate inside the
@@ -176,6 +300,35 @@ public class ServerSettings {
                 case "portMode":
                     // Parse the port mode value of the "portMode" field.
                     portMode = parsePortMode(jsonNode.get(field).asText());
+                    break;
+                case "tcpMode":
+                    // Parse the tcp mode value of the "tcpMode" field.
+                    tcpMode = parseTcpMode(jsonNode.get(field).asText());
+                    break;
+                case "dispatchThreads":
+                    // Get the number of worker threads, or use default value.
+                    dispatchThreads = jsonNode.get(field).asInt(DEF_DISPATCH_THREADS);
+                    break;
+                case "maxQueuedRequests":
+                    // Get the per-client queue limit, or use default value.
+                    maxQueuedRequests = jsonNode.get(field).asInt(DEF_MAX_QUEUED_REQUESTS);
+                    break;
+                case "rejectionPolicy":
+                    // Parse the rejection policy value of the "rejectionPolicy" field.
+                    rejectionPolicy = parseRejectionPolicy(jsonNode.get(field).asText());
+                    break;
+                case "threadMode":
+                    // Parse the thread mode value of the "threadMode" field.
+                    threadMode = parseThreadMode(jsonNode.get(field).asText());
+                    break;
+                case "maxFrameSize":
+                    // Get the integer value of the "maxFrameSize" field.
+                    maxFrameSize = jsonNode.get(field).asInt(DEF_MAX_FRAME_SIZE);
+                    break;
+                case "maxPendingWrites":
+                    // Get the integer value of the "maxPendingWrites" field.
+                    maxPendingWrites = jsonNode.get(field).asInt(DEF_MAX_PENDING_WRITES);
+                    break;
                 default:
                     // Ignore invalid (or additional) field names.
                     break;
@@ -183,7 +336,8 @@ public class ServerSettings {
         }
 
         // If the port number has NOT been set, and the port mode has been set to AUTO.
-        return new ServerSettings(maxLobbies, socketPort, rmiPort, verbosity, portMode);
+        return new ServerSettings(maxLobbies, socketPort, rmiPort, verbosity, portMode, tcpMode,
+                dispatchThreads, maxQueuedRequests, rejectionPolicy, threadMode, maxFrameSize, maxPendingWrites);
     }
 
     /**
@@ -193,6 +347,13 @@ public class ServerSettings {
      *     <li>"maxLobbies": integer, the maximum number of concurrent games (min=1).</li>
      *     <li>"port": integer, the port number bound by the server (min=1024, max=65535).</li>
      *     <li>"verbosity": string, the verbosity level for logging ("verbose", "info", "warning", "error").</li>
+     *     <li>"tcpMode": string, the transport of the TCP connections ("blocking", "nio").</li>
+     *     <li>"dispatchThreads": integer, the number of threads executing the requests (min=1, max=1024).</li>
+     *     <li>"maxQueuedRequests": integer, the requests of a client waiting to be executed (min=1, max=10000).</li>
+     *     <li>"rejectionPolicy": string, the policy for the requests over the limit ("drop", "disconnect").</li>
+     *     <li>"threadMode": string, the kind of threads running the clients ("platform", "virtual").</li>
+     *     <li>"maxFrameSize": integer, the maximum frame size of the framed socket protocol (min=1024, max=67108864).</li>
+     *     <li>"maxPendingWrites": integer, the bytes waiting to be written to a client (min=65536, max=268435456).</li>
      * </ul>
      * If a field is missing, or it has an invalid value, the default value of that setting
      ** is used.
@@ -219,6 +380,13 @@ public class ServerSettings {
      *     <li>"maxLobbies": integer, the maximum number of concurrent games (min=1).</li>
      *     <li>"port": integer, the port number bound by the server (min=1024, max=65535).</li>
      *     <li>"verbosity": string, the verbosity level for logging ("verbose", "info", "warning", "error").</li>
+     *     <li>"tcpMode": string, the transport of the TCP connections ("blocking", "nio").</li>
+     *     <li>"dispatchThreads": integer, the number of threads executing the requests (min=1, max=1024).</li>
+     *     <li>"maxQueuedRequests": integer, the requests of a client waiting to be executed (min=1, max=10000).</li>
+     *     <li>"rejectionPolicy": string, the policy for the requests over the limit ("drop", "disconnect").</li>
+     *     <li>"threadMode": string, the kind of threads running the clients ("platform", "virtual").</li>
+     *     <li>"maxFrameSize": integer, the maximum frame size of the framed socket protocol (min=1024, max=67108864).</li>
+     *     <li>"maxPendingWrites": integer, the bytes waiting to be written to a client (min=65536, max=268435456).</li>
      * </ul>
      * If a field is missing, or it has an invalid value, the default value of that setting
      ** is used.
@@ -255,6 +423,13 @@ public class ServerSettings {
         this.rmiPort = DEF_RMI_PORT;
         this.verbosity = verbosity;
         this.portMode = PortMode.AUTO;
+        this.tcpMode = DEF_TCP_MODE;
+        this.dispatchThreads = DEF_DISPATCH_THREADS;
+        this.maxQueuedRequests = DEF_MAX_QUEUED_REQUESTS;
+        this.rejectionPolicy = DEF_REJECTION_POLICY;
+        this.threadMode = DEF_THREAD_MODE;
+        this.maxFrameSize = DEF_MAX_FRAME_SIZE;
+        this.maxPendingWrites = DEF_MAX_PENDING_WRITES;
     }
 
     /**
@@ -270,12 +445,137 @@ public class ServerSettings {
      * @author Livio B.
      */
     public ServerSettings(int maxLobbies, int socketPort, int rmiPort, VerbosityLevel verbosity, PortMode portMode) {
+        this(maxLobbies, socketPort, rmiPort, verbosity, portMode, DEF_TCP_MODE);
+    }
+
+    /**
+     * Create an object with the specified server settings.
+     * @param maxLobbies The maximum number of concurrency games on the server. If the
+     *                   specified value is less than 1, the DEF_MAX_LOBBIES value is assigned.
+     * @param socketPort The number of port used for the socket connection. If the value is less than
+     *                   1024 or greater than 65535, the DEF_SOCKET_PORT value is assigned.
+     * @param rmiPort The number of port used for the socket connection. If the value is less than
+     *                1024 or greater than 65535, the DEF_RMI_PORT value is assigned.
+     * @param verbosity The verbosity level for logging.
+     * @param portMode The mode used to select the port number for the connection.
+     * @param tcpMode The transport used to serve the TCP connections.
+     */
+    public ServerSettings(int maxLobbies, int socketPort, int rmiPort, VerbosityLevel verbosity, PortMode portMode, TcpMode tcpMode) {
+        this(maxLobbies, socketPort, rmiPort, verbosity, portMode, tcpMode,
+                DEF_DISPATCH_THREADS, DEF_MAX_QUEUED_REQUESTS, DEF_REJECTION_POLICY);
+    }
+
+    /**
+     * Create an object with the specified server settings, using platform threads.
+     * @param maxLobbies The maximum number of concurrency games on the server.
+     * @param socketPort The number of port used for the socket connection.
+     * @param rmiPort The number of port used for the socket connection.
+     * @param verbosity The verbosity level for logging.
+     * @param portMode The mode used to select the port number for the connection.
+     * @param tcpMode The transport used to serve the TCP connections.
+     * @param dispatchThreads The number of threads executing the requests.
+     * @param maxQueuedRequests The maximum number of requests of a client waiting to be executed.
+     * @param rejectionPolicy What to do with the requests exceeding the queue limit.
+     */
+    public ServerSettings(int maxLobbies, int socketPort, int rmiPort, VerbosityLevel verbosity, PortMode portMode, TcpMode tcpMode,
+                          int dispatchThreads, int maxQueuedRequests, RejectionPolicy rejectionPolicy) {
+        this(maxLobbies, socketPort, rmiPort, verbosity, portMode, tcpMode,
+                dispatchThreads, maxQueuedRequests, rejectionPolicy, DEF_THREAD_MODE);
+    }
+
+    /**
+     * Create an object with the specified server settings.
+     * @param maxLobbies The maximum number of concurrency games on the server. If the
+     *                   specified value is less than 1, the DEF_MAX_LOBBIES value is assigned.
+     * @param socketPort The number of port used for the socket connection. If the value is less than
+     *                   1024 or greater than 65535, the DEF_SOCKET_PORT value is assigned.
+     * @param rmiPort The number of port used for the socket connection. If the value is less than
+     *                1024 or greater than 65535, the DEF_RMI_PORT value is assigned.
+     * @param verbosity The verbosity level for logging.
+     * @param portMode The mode used to select the port number for the connection.
+     * @param tcpMode The transport used to serve the TCP connections.
+     * @param dispatchThreads The number of threads executing the requests. If the value is out of
+     *                        range, the DEF_DISPATCH_THREADS value is assigned.
+     * @param maxQueuedRequests The maximum number of requests of a client waiting to be executed. If the
+     *                          value is out of range, the DEF_MAX_QUEUED_REQUESTS value is assigned.
+     * @param rejectionPolicy What to do with the requests exceeding the queue limit.
+     * @param threadMode The kind of threads running the clients and their requests.
+     */
+    public ServerSettings(int maxLobbies, int socketPort, int rmiPort, VerbosityLevel verbosity, PortMode portMode, TcpMode tcpMode,
+                          int dispatchThreads, int maxQueuedRequests, RejectionPolicy rejectionPolicy, ThreadMode threadMode) {
+        this(maxLobbies, socketPort, rmiPort, verbosity, portMode, tcpMode,
+                dispatchThreads, maxQueuedRequests, rejectionPolicy, threadMode, DEF_MAX_FRAME_SIZE);
+    }
+
+    /**
+     * Create an object with the specified server settings.
+     * @param maxLobbies The maximum number of concurrency games on the server. If the
+     *                   specified value is less than 1, the DEF_MAX_LOBBIES value is assigned.
+     * @param socketPort The number of port used for the socket connection. If the value is less than
+     *                   1024 or greater than 65535, the DEF_SOCKET_PORT value is assigned.
+     * @param rmiPort The number of port used for the socket connection. If the value is less than
+     *                1024 or greater than 65535, the DEF_RMI_PORT value is assigned.
+     * @param verbosity The verbosity level for logging.
+     * @param portMode The mode used to select the port number for the connection.
+     * @param tcpMode The transport used to serve the TCP connections.
+     * @param dispatchThreads The number of threads executing the requests. If the value is out of
+     *                        range, the DEF_DISPATCH_THREADS value is assigned.
+     * @param maxQueuedRequests The maximum number of requests of a client waiting to be executed. If the
+     *                          value is out of range, the DEF_MAX_QUEUED_REQUESTS value is assigned.
+     * @param rejectionPolicy What to do with the requests exceeding the queue limit.
+     * @param threadMode The kind of threads running the clients and their requests.
+     * @param maxFrameSize The maximum size of a frame of the framed socket protocol. If the value is
+     *                     out of range, the DEF_MAX_FRAME_SIZE value is assigned.
+     */
+    public ServerSettings(int maxLobbies, int socketPort, int rmiPort, VerbosityLevel verbosity, PortMode portMode, TcpMode tcpMode,
+                          int dispatchThreads, int maxQueuedRequests, RejectionPolicy rejectionPolicy, ThreadMode threadMode,
+                          int maxFrameSize) {
+        this(maxLobbies, socketPort, rmiPort, verbosity, portMode, tcpMode,
+                dispatchThreads, maxQueuedRequests, rejectionPolicy, threadMode, maxFrameSize, DEF_MAX_PENDING_WRITES);
+    }
+
+    /**
+     * Create an object with the specified server settings.
+     * @param maxLobbies The maximum number of concurrency games on the server. If the
+     *                   specified value is less than 1, the DEF_MAX_LOBBIES value is assigned.
+     * @param socketPort The number of port used for the socket connection. If the value is less than
+     *                   1024 or greater than 65535, the DEF_SOCKET_PORT value is assigned.
+     * @param rmiPort The number of port used for the socket connection. If the value is less than
+     *                1024 or greater than 65535, the DEF_RMI_PORT value is assigned.
+     * @param verbosity The verbosity level for logging.
+     * @param portMode The mode used to select the port number for the connection.
+     * @param tcpMode The transport used to serve the TCP connections.
+     * @param dispatchThreads The number of threads executing the requests. If the value is out of
+     *                        range, the DEF_DISPATCH_THREADS value is assigned.
+     * @param maxQueuedRequests The maximum number of requests of a client waiting to be executed. If the
+     *                          value is out of range, the DEF_MAX_QUEUED_REQUESTS value is assigned.
+     * @param rejectionPolicy What to do with the requests exceeding the queue limit.
+     * @param threadMode The kind of threads running the clients and their requests.
+     * @param maxFrameSize The maximum size of a frame of the framed socket protocol. If the value is
+     *                     out of range, the DEF_MAX_FRAME_SIZE value is assigned.
+     * @param maxPendingWrites The maximum number of bytes waiting to be written to a single client. If the
+     *                         value is out of range, the DEF_MAX_PENDING_WRITES value is assigned.
+     */
+    public ServerSettings(int maxLobbies, int socketPort, int rmiPort, VerbosityLevel verbosity, PortMode portMode, TcpMode tcpMode,
+                          int dispatchThreads, int maxQueuedRequests, RejectionPolicy rejectionPolicy, ThreadMode threadMode,
+                          int maxFrameSize, int maxPendingWrites) {
 
         this.maxLobbies = (maxLobbies < MIN_LOBBIES || maxLobbies > MAX_LOBBIES) ? DEF_MAX_LOBBIES : maxLobbies;
         this.socketPort = (socketPort < ServerSettings.PORT_MIN || socketPort > ServerSettings.PORT_MAX) ? DEF_SOCKET_PORT : socketPort;
         this.rmiPort = (rmiPort < ServerSettings.PORT_MIN || rmiPort > ServerSettings.PORT_MAX) ? DEF_RMI_PORT : rmiPort;
         this.verbosity = verbosity;
         this.portMode = portMode;
+        this.tcpMode = tcpMode;
+        this.dispatchThreads = (dispatchThreads < MIN_DISPATCH_THREADS || dispatchThreads > MAX_DISPATCH_THREADS) ?
+                DEF_DISPATCH_THREADS : dispatchThreads;
+        this.maxQueuedRequests = (maxQueuedRequests < MIN_QUEUED_REQUESTS || maxQueuedRequests > MAX_QUEUED_REQUESTS) ?
+                DEF_MAX_QUEUED_REQUESTS : maxQueuedRequests;
+        this.rejectionPolicy = rejectionPolicy;
+        this.threadMode = threadMode;
+        this.maxFrameSize = (maxFrameSize < MIN_FRAME_SIZE || maxFrameSize > MAX_FRAME_SIZE) ?
+                DEF_MAX_FRAME_SIZE : maxFrameSize;
+        this.maxPendingWrites = (maxPendingWrites < MIN_PENDING_WRITES || maxPendingWrites > MAX_PENDING_WRITES) ?
+                DEF_MAX_PENDING_WRITES : maxPendingWrites;
 
         if (this.portMode == PortMode.FIXED &&
                 (this.socketPort == this.rmiPort)) {
@@ -335,6 +635,62 @@ public class ServerSettings {
         return  this.portMode;
     }
 
+    /**
+     *
+     * @return The transport used to serve the TCP connections.
+     */
+    public TcpMode getTcpMode() {
+        return this.tcpMode;
+    }
+
+    /**
+     *
+     * @return The number of worker threads executing the client requests.
+     */
+    public int getDispatchThreads() {
+        return this.dispatchThreads;
+    }
+
+    /**
+     *
+     * @return The maximum number of requests of a single client waiting to be executed.
+     */
+    public int getMaxQueuedRequests() {
+        return this.maxQueuedRequests;
+    }
+
+    /**
+     *
+     * @return What to do with the requests of a client that exceed the queue limit.
+     */
+    public RejectionPolicy getRejectionPolicy() {
+        return this.rejectionPolicy;
+    }
+
+    /**
+     *
+     * @return The kind of threads running the clients and their requests.
+     */
+    public ThreadMode getThreadMode() {
+        return this.threadMode;
+    }
+
+    /**
+     *
+     * @return The maximum size of a frame of the framed socket protocol, in bytes.
+     */
+    public int getMaxFrameSize() {
+        return this.maxFrameSize;
+    }
+
+    /**
+     *
+     * @return The maximum number of bytes waiting to be written to a single client.
+     */
+    public int getMaxPendingWrites() {
+        return this.maxPendingWrites;
+    }
+
     //endregion
 
     //region Private Static Methods
@@ -448,6 +804,69 @@ public class ServerSettings {
         }
     }
 
+    /**
+     * Convert a string into a TcpMode enum value. If the string cannot
+     * be converted, the DEF_TCP_MODE is returned. The valid string values are
+     * (case-insensitive):
+     * <ul>
+     *     <li>"blocking"</li>
+     *     <li>"nio"</li>
+     * </ul>
+     * @param value The text to parse.
+     * @return The tcp mode value.
+     */
+    private static TcpMode parseTcpMode(String value) {
+        try {
+            // Delegate the parsing stuff to the TcpMode enum.
+            return TcpMode.parse(value);
+        } catch (Exception e) {
+            // On parsing error, return default tcp mode.
+            return DEF_TCP_MODE;
+        }
+    }
+
+    /**
+     * Convert a string into a RejectionPolicy enum value. If the string cannot
+     * be converted, the DEF_REJECTION_POLICY is returned. The valid string values are
+     * (case-insensitive):
+     * <ul>
+     *     <li>"drop"</li>
+     *     <li>"disconnect"</li>
+     * </ul>
+     * @param value The text to parse.
+     * @return The rejection policy value.
+     */
+    private static RejectionPolicy parseRejectionPolicy(String value) {
+        try {
+            // Delegate the parsing stuff to the RejectionPolicy enum.
+            return RejectionPolicy.parse(value);
+        } catch (Exception e) {
+            // On parsing error, return default rejection policy.
+            return DEF_REJECTION_POLICY;
+        }
+    }
+
+    /**
+     * Convert a string into a ThreadMode enum value. If the string cannot
+     * be converted, the DEF_THREAD_MODE is returned. The valid string values are
+     * (case-insensitive):
+     * <ul>
+     *     <li>"platform"</li>
+     *     <li>"virtual"</li>
+     * </ul>
+     * @param value The text to parse.
+     * @return The thread mode value.
+     */
+    private static ThreadMode parseThreadMode(String value) {
+        try {
+            // Delegate the parsing stuff to the ThreadMode enum.
+            return ThreadMode.parse(value);
+        } catch (Exception e) {
+            // On parsing error, return default thread mode.
+            return DEF_THREAD_MODE;
+        }
+    }
+
     //endregion
 
     //region Overrides
@@ -468,6 +887,13 @@ public class ServerSettings {
         sb.append(String.format("  Socket Port: %s%n", getSocketPort()));
         sb.append(String.format("  RMI Port: %s%n", getRmiPort()));
         sb.append(String.format("  Port mode: %s%n", getPortMode()));
+        sb.append(String.format("  TCP mode: %s%n", getTcpMode()));
+        sb.append(String.format("  Dispatch threads: %d%n", getDispatchThreads()));
+        sb.append(String.format("  Max queued requests: %d%n", getMaxQueuedRequests()));
+        sb.append(String.format("  Rejection policy: %s%n", getRejectionPolicy()));
+        sb.append(String.format("  Thread mode: %s%n", getThreadMode()));
+        sb.append(String.format("  Max frame size: %d%n", getMaxFrameSize()));
+        sb.append(String.format("  Max pending writes: %d%n", getMaxPendingWrites()));
         sb.append(String.format("  Log verbosity: %s%n", getVerbosity()));
 
         return sb.toString();
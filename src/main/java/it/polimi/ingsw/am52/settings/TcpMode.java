@@ -0,0 +1,23 @@
+package it.polimi.ingsw.am52.settings;
+
+/**
+ * The transport used by the server to serve the TCP connections.
+ */
+public enum TcpMode {
+    /**
+     * Blocking sockets, one thread for each connected client.
+     */
+    BLOCKING,
+    /**
+     * Non-blocking channels, served by a few selector threads.
+     */
+    NIO;
+
+    public static TcpMode parse(String value) {
+        return switch (value.toLowerCase()) {
+            case "blocking" -> TcpMode.BLOCKING;
+            case "nio" -> TcpMode.NIO;
+            default -> throw new IllegalArgumentException();
+        };
+    }
+}
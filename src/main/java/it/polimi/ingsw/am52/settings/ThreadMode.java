@@ -0,0 +1,23 @@
+package it.polimi.ingsw.am52.settings;
+
+/**
+ * The kind of threads used by the server to run the clients and their requests.
+ */
+public enum ThreadMode {
+    /**
+     * Platform (operating system) threads, from fixed-size pools.
+     */
+    PLATFORM,
+    /**
+     * Virtual threads, one for each task.
+     */
+    VIRTUAL;
+
+    public static ThreadMode parse(String value) {
+        return switch (value.toLowerCase()) {
+            case "platform" -> ThreadMode.PLATFORM;
+            case "virtual" -> ThreadMode.VIRTUAL;
+            default -> throw new IllegalArgumentException();
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package it.polimi.ingsw.am52.settings;
+
+/**
+ * Represent the virtual option for server application. If this option
+ * is set on the command line, the server runs the client handlers, the requests,
+ * the RMI send queues and the heartbeats on virtual threads.
+ */
+public class VirtualThreadsOption extends Option {
+
+    public static final String SHORT_FLAG = "-x";
+    public static final String LONG_FLAG = "--virtual";
+
+    public VirtualThreadsOption() {
+        super(SHORT_FLAG, LONG_FLAG);
+    }
+
+    @Override
+    public Object parseValueText(String text) throws IllegalArgumentException {
+        throw new IllegalArgumentException("The virtual option does not require any argument.");
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format("%s/%s: run the clients and their requests on virtual threads, instead of fixed pools of platform threads.",
+                getShortFlag(), getLongFlag());
+    }
+}
@@ -16,7 +16,7 @@ public class ImmutableList<T> implements Iterable<T> {
     /**
      * The item's container.
      */
-    private final List<T> items = new ArrayList<>();
+    private final List<T> items;
 
     //endregion
 
@@ -29,7 +29,27 @@ public class ImmutableList<T> implements Iterable<T> {
      * @param source The original list of items.
      */
     public ImmutableList(List<T> source) {
-        this.items.addAll(source);
+        this(new ArrayList<>(source), true);
+    }
+
+    /**
+     * Create an immutable list that uses the passed list as its container.
+     * @param items The container of the items.
+     * @param shared Unused, it distinguishes this constructor from the copying one.
+     */
+    private ImmutableList(List<T> items, boolean shared) {
+        this.items = items;
+    }
+
+    /**
+     * Create an immutable list backed by the passed list, without copying it. The
+     * passed list must never change.
+     * @param items The items of the list.
+     * @return The immutable list.
+     * @param <T> The type of the items.
+     */
+    public static <T> ImmutableList<T> view(List<T> items) {
+        return new ImmutableList<>(items, true);
     }
 
     //region
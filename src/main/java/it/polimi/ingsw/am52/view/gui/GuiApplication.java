@@ -48,15 +48,17 @@ public class GuiApplication extends Application {
      * @param serverIp the server to which connect
      * @param port the port to which connect
      * @param connectionMode the type of connection RMI/TCP
+     * @param framed whether the socket connection uses the framed protocol
+     * @param codec the codec of the framed protocol
      */
-    public static void run(String serverIp, int port, NetworkMode connectionMode) {
+    public static void run(String serverIp, int port, NetworkMode connectionMode, boolean framed, String codec) {
         try {
-            ClientConnection.setConnection(serverIp, port, connectionMode );
+            ClientConnection.setConnection(serverIp, port, connectionMode, framed, codec);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
 
-        ClientConnection.getLobbyList();
+        ClientConnection.subscribeLobbies();
 
         launch();
     }
@@ -67,6 +67,8 @@ public class InputReader implements Runnable {
                     case 'J' -> new JoinLobbyStrategy();
                     case 'C' -> new CreateLobbyStrategy();
                     case 'R' -> new ReloadLobbyStrategy();
+                    case 'Q' -> new QuickMatchStrategy();
+                    case 'L' -> new LeaveLobbyStrategy();
                     default -> strategy;
                 };
                 break;
@@ -10,12 +10,12 @@ import static it.polimi.ingsw.am52.view.tui.InputReader.readLine;
  * The main application for the TUI, which can start the TUI in rmi or tcp connection mode.
  */
 public class TuiApplication {
-    public static void run(String serverIp, int port, NetworkMode connectionMode) {
+    public static void run(String serverIp, int port, NetworkMode connectionMode, boolean framed, String codec) {
         try {
-            ClientConnection.setConnection(serverIp, port, connectionMode);
+            ClientConnection.setConnection(serverIp, port, connectionMode, framed, codec);
 
             // First call to init model
-            ClientConnection.getLobbyList();
+            ClientConnection.subscribeLobbies();
 
             // Print View
             TuiPrinter.getInstance().update(EventType.LIST_LOBBY);
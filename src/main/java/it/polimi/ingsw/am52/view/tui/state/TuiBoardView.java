@@ -1,6 +1,7 @@
 package it.polimi.ingsw.am52.view.tui.state;
 
 import it.polimi.ingsw.am52.model.game.GamePhase;
+import it.polimi.ingsw.am52.model.playingBoards.BoardExtent;
 import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
 import it.polimi.ingsw.am52.view.viewModel.BoardMap;
 import it.polimi.ingsw.am52.view.viewModel.CardIds;
@@ -123,23 +124,12 @@ public class TuiBoardView extends TuiView {
             availableSlots = ViewModelState.getInstance().getAvailableSlots();
         }
 
-        //get corners
-        int maxH = Math.max(
-                board.keySet().stream().map(BoardSlot::getHoriz).max(Integer::compareTo).orElse(0),
-                availableSlots.stream().map(BoardSlot::getHoriz).max(Integer::compareTo).orElse(0)
-        );
-        int maxV = Math.max(
-                board.keySet().stream().map(BoardSlot::getVert).max(Integer::compareTo).orElse(0),
-                availableSlots.stream().map(BoardSlot::getVert).max(Integer::compareTo).orElse(0)
-        );
-        int minH = Math.min(
-                board.keySet().stream().map(BoardSlot::getHoriz).min(Integer::compareTo).orElse(0),
-                availableSlots.stream().map(BoardSlot::getHoriz).min(Integer::compareTo).orElse(0)
-        );
-        int minV = Math.min(
-                board.keySet().stream().map(BoardSlot::getVert).min(Integer::compareTo).orElse(0),
-                availableSlots.stream().map(BoardSlot::getVert).min(Integer::compareTo).orElse(0)
-        );
+        //get corners, in a single pass over the cards and the available slots (the root is always shown)
+        BoardExtent extent = BoardExtent.of(board.keySet()).union(BoardExtent.of(availableSlots)).include(0, 0);
+        int maxH = extent.maxHoriz();
+        int maxV = extent.maxVert();
+        int minH = extent.minHoriz();
+        int minV = extent.minVert();
 
         // for most high to most low card //rows
         for (int y = maxV; y >= minV ; y--) {
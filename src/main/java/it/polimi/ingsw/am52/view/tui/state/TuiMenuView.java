@@ -39,6 +39,8 @@ public class TuiMenuView extends TuiView {
             add('J');
             add('C');
             add('R');
+            add('Q');
+            add('L');
         }};
     }
 
@@ -74,6 +76,8 @@ public class TuiMenuView extends TuiView {
         System.out.println("│ - (J {id} {nickname}) join_lobby -> join lobby with id               │");
         System.out.println("│ - (C {maxPlayers} {nickname}) create_lobby -> to create a lobby      │");
         System.out.println("│ - (R) reload_lobby -> to reload available lobbies                    │");
+        System.out.println("│ - (Q) quick_match -> to wait for a match with other players          │");
+        System.out.println("│ - (L) leave_queue -> to stop waiting for a match                     │");
         System.out.println("└──────────────────────────────────────────────────────────────────────┘");
     }
 
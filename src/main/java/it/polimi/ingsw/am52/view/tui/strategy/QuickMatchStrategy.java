@@ -0,0 +1,52 @@
+package it.polimi.ingsw.am52.view.tui.strategy;
+
+import it.polimi.ingsw.am52.json.response.ResponseStatus;
+import it.polimi.ingsw.am52.model.game.GameManager;
+import it.polimi.ingsw.am52.network.client.ClientConnection;
+
+import java.util.Scanner;
+
+/**
+ * The class from Strategy to implement the behaviour to wait for a match, the server chooses the lobby
+ */
+public class QuickMatchStrategy extends Strategy {
+
+    //region Constructor
+
+    /**
+     * The Constructor of the class, which is empty because there are no private fields to be instantiated
+     */
+    public QuickMatchStrategy() {}
+
+    //endregion
+
+    //region Public Method
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseStatus executeWithNetworkCall() {
+        ResponseStatus networkResponse;
+        Scanner scanner = new Scanner(System.in);
+
+        System.out.println("┌──────────────────────────────────────────────────────────────────────┐");
+        System.out.println("│                              QUICKMATCH                              │");
+        System.out.println("├──────────────────────────────────────────────────────────────────────┘");
+        System.out.print("│ - Enter your username: ");
+        String username = scanner.nextLine();
+
+        System.out.printf("│ - Enter the number of players of the match (MAX %d): ", GameManager.MAX_PLAYERS);
+        int players = scanner.nextInt();
+
+        networkResponse = ClientConnection.quickMatch(username, players);
+
+        if (networkResponse != null && networkResponse.getErrorCode() == 0) {
+            System.out.println("│ - Waiting for the other players...");
+        }
+
+        return networkResponse;
+    }
+
+    //endregion
+}
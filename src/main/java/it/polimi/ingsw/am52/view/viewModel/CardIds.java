@@ -3,7 +3,6 @@ package it.polimi.ingsw.am52.view.viewModel;
 import it.polimi.ingsw.am52.model.cards.*;
 import it.polimi.ingsw.am52.model.objectives.Objective;
 
-import java.util.Optional;
 
 /**
  * The class to represents an image of a card, with all the related information and the methods to print a face of the card.
@@ -270,10 +269,8 @@ public class CardIds {
     public void loadFace() {
         if (face == null) {
             var card = KingdomCard.getCardWithId(cardId);
-            if (cardFace == 0) {
-                this.face = card.getFrontFace();
-            } else if (cardFace == 1) {
-                this.face = card.getBackFace();
+            if (cardFace == 0 || cardFace == 1) {
+                this.face = CardCatalog.getFace(card.getCardId(), this.getSide());
             }
         }
     }
@@ -284,10 +281,8 @@ public class CardIds {
     public void loadStarterFace() {
         if (face == null) {
             var card = StarterCard.getCardWithId(cardId);
-            if (cardFace == 0) {
-                this.face = card.getFrontFace();
-            } else if (cardFace == 1) {
-                this.face = card.getBackFace();
+            if (cardFace == 0 || cardFace == 1) {
+                this.face = CardCatalog.getFace(card.getCardId(), this.getSide());
             }
         }
     }
@@ -324,16 +319,16 @@ public class CardIds {
      */
     private String[] getStarterCardAsArrayString(boolean coveredTL, boolean coveredTR, boolean coveredBR, boolean coveredBL, String[] result){
         result[1] = result[1].formatted(
-                getSymbol(this.face.getTopLeftCorner(), coveredTL),
+                getSymbol(CornerLocation.TOP_LEFT, coveredTL),
                 "",
-                getSymbol(this.face.getTopRightCorner(), coveredTR));
+                getSymbol(CornerLocation.TOP_RIGHT, coveredTR));
 
-        result[3] = result[3].formatted(getResourceCounterString(this.face.getPermanentResources()));
+        result[3] = result[3].formatted(getResourceCounterString(CardCatalog.getPermanentResources(this.cardId, this.getSide())));
 
         result[5] = result[5].formatted(
-                getSymbol(this.face.getBottomLeftCorner(), coveredBL),
+                getSymbol(CornerLocation.BOTTOM_LEFT, coveredBL),
                 "",
-                getSymbol(this.face.getBottomRightCorner(), coveredBR)
+                getSymbol(CornerLocation.BOTTOM_RIGHT, coveredBR)
         );
 
         return result;
@@ -351,24 +346,24 @@ public class CardIds {
     private String[] getResourceCardAsArrayString(boolean coveredTL, boolean coveredTR, boolean coveredBR, boolean coveredBL, String[] result){
         if (this.cardFace == 0) {
             result[1] = result[1].formatted(
-                    getSymbol(this.face.getTopLeftCorner(), coveredTL),
-                    KingdomCard.getCardWithId(this.cardId).getFrontFace().getPoints(),
-                    getSymbol(this.face.getTopRightCorner(), coveredTR)
+                    getSymbol(CornerLocation.TOP_LEFT, coveredTL),
+                    this.getPoints(),
+                    getSymbol(CornerLocation.TOP_RIGHT, coveredTR)
             );
             result[3] = result[3].formatted("");
         } else {
             result[1] = result[1].formatted(
-                    getSymbol(this.face.getTopLeftCorner(), coveredTL),
-                    KingdomCard.getCardWithId(this.cardId).getBackFace().getPoints(),
-                    getSymbol(this.face.getTopRightCorner(), coveredTR)
+                    getSymbol(CornerLocation.TOP_LEFT, coveredTL),
+                    this.getPoints(),
+                    getSymbol(CornerLocation.TOP_RIGHT, coveredTR)
             );
-            result[3] = result[3].formatted(getResourceCounterString(this.face.getPermanentResources()));
+            result[3] = result[3].formatted(getResourceCounterString(CardCatalog.getPermanentResources(this.cardId, this.getSide())));
         }
 
         result[5] = result[5].formatted(
-                getSymbol(this.face.getBottomLeftCorner(), coveredBL),
+                getSymbol(CornerLocation.BOTTOM_LEFT, coveredBL),
                 "",
-                getSymbol(this.face.getBottomRightCorner(), coveredBR));
+                getSymbol(CornerLocation.BOTTOM_RIGHT, coveredBR));
 
         return result;
     }
@@ -383,31 +378,31 @@ public class CardIds {
      * @return              The array completely formatted
      */
     private String[] getGoldCardAsArrayString(boolean coveredTL, boolean coveredTR, boolean coveredBR, boolean coveredBL, String[] result){
-        result[3] = result[3].formatted(getResourceCounterString(this.face.getPermanentResources()));
+        result[3] = result[3].formatted(getResourceCounterString(CardCatalog.getPermanentResources(this.cardId, this.getSide())));
 
         if (this.cardFace == 0) {
-            String totalRequiredResources = getResourceCounterString(GoldCard.getCardWithId(this.cardId).getFrontFace().getRequiredResources());
+            String totalRequiredResources = getResourceCounterString(CardCatalog.getRequiredResources(this.cardId, CardSide.FRONT));
 
             result[1] = result[1].formatted(
-                    getSymbol(this.face.getTopLeftCorner(), coveredTL),
-                    KingdomCard.getCardWithId(this.cardId).getFrontFace().getPoints(),
-                    getSymbol(this.face.getTopRightCorner(), coveredTR)
+                    getSymbol(CornerLocation.TOP_LEFT, coveredTL),
+                    this.getPoints(),
+                    getSymbol(CornerLocation.TOP_RIGHT, coveredTR)
             );
 
             result[5] = result[5].formatted(
-                    getSymbol(this.face.getBottomLeftCorner(), coveredBL),
+                    getSymbol(CornerLocation.BOTTOM_LEFT, coveredBL),
                     totalRequiredResources,
-                    getSymbol(this.face.getBottomRightCorner(), coveredBR));
+                    getSymbol(CornerLocation.BOTTOM_RIGHT, coveredBR));
         } else {
             result[1] = result[1].formatted(
-                    getSymbol(this.face.getTopLeftCorner(), coveredTL),
-                    KingdomCard.getCardWithId(this.cardId).getBackFace().getPoints(),
-                    getSymbol(this.face.getTopRightCorner(), coveredTR));
+                    getSymbol(CornerLocation.TOP_LEFT, coveredTL),
+                    this.getPoints(),
+                    getSymbol(CornerLocation.TOP_RIGHT, coveredTR));
 
             result[5] = result[5].formatted(
-                    getSymbol(this.face.getBottomLeftCorner(), coveredBL),
+                    getSymbol(CornerLocation.BOTTOM_LEFT, coveredBL),
                     "",
-                    getSymbol(this.face.getBottomRightCorner(), coveredBR));
+                    getSymbol(CornerLocation.BOTTOM_RIGHT, coveredBR));
         }
 
         return result;
@@ -447,25 +442,42 @@ public class CardIds {
 
     /**
      * Private method to return the correct character which represents the correct resource/item on the given corner
-     * @param corner        The corner considered on the card, which is Optional because it can be missing
+     * @param corner        The location of the corner on the card, the corner can be missing
      * @param isCovered     True if the corner is covered, otherwise False
      * @return              The char representing the resource/item
      */
-    private char getSymbol(Optional<CardCorner> corner, boolean isCovered) {
+    private char getSymbol(CornerLocation corner, boolean isCovered) {
         var res = ' '; // default blank placeable corner
+        int code = CardCatalog.getCornerCode(this.cardId, this.getSide(), corner);
 
-        if (corner.isEmpty() || isCovered){ //Corner is non-placeable?
+        if (code == CardCatalog.CORNER_HIDDEN || isCovered){ //Corner is non-placeable?
             res = 'X';
         } else {
-            res = this.getSymbol(corner.get().getResources()); //corner has Resource?
+            res = this.getSymbol(CardCatalog.getCornerResources(code)); //corner has Resource?
             if (res == ' ') {
-                res = this.getSymbol(corner.get().getItems()); //corner has Item?
+                res = this.getSymbol(CardCatalog.getCornerItems(code)); //corner has Item?
             }
         }
 
         return res;
     }
 
+    /**
+     * Private method to return the side of the card face
+     * @return              The side of the card face (0 = front, 1 = back)
+     */
+    private CardSide getSide() {
+        return CardSide.fromInteger(this.cardFace);
+    }
+
+    /**
+     * Private method to return the points gained by placing the card face
+     * @return              The string with the information about the points of the face of the card
+     */
+    private String getPoints() {
+        return ((KingdomCardFace) this.face).getPoints();
+    }
+
     /**
      * Private method to insert on the card the resource
      * @param counter   The resource counter of the card
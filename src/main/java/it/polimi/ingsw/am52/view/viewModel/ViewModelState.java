@@ -2,6 +2,7 @@ package it.polimi.ingsw.am52.view.viewModel;
 
 import it.polimi.ingsw.am52.json.BaseResponseData;
 import it.polimi.ingsw.am52.json.dto.DrawType;
+import it.polimi.ingsw.am52.json.request.ListLobbyData;
 import it.polimi.ingsw.am52.json.response.*;
 import it.polimi.ingsw.am52.model.cards.KingdomColor;
 import it.polimi.ingsw.am52.model.game.GamePhase;
@@ -13,6 +14,7 @@ import it.polimi.ingsw.am52.json.response.ListLobbyResponseData;
 import it.polimi.ingsw.am52.view.tui.state.ViewType;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * The object ViewModelState represents an image of the current situation of the model for the client.
@@ -39,6 +41,11 @@ public class ViewModelState extends ModelObservable {
      */
     private Map<Integer,Integer> lobbies;
 
+    /**
+     * The version of the lobby list, from the server
+     */
+    private long lobbiesVersion = ListLobbyData.ANY_VERSION;
+
     /**
      * The lobby I am currently in
      */
@@ -154,6 +161,11 @@ public class ViewModelState extends ModelObservable {
      */
     private String disconnectedPlayer;
 
+    /**
+     * The legal placements of the cards in the hand, received with the last hints request
+     */
+    private List<HintsResponseData.Hint> hints;
+
     //endregion
 
     //region Constructor
@@ -165,7 +177,7 @@ public class ViewModelState extends ModelObservable {
     private ViewModelState(){
         super();
         type = ViewType.MENU;
-        lobbies = new HashMap<>();
+        lobbies = new ConcurrentSkipListMap<>();
         nicknames = new ArrayList<>();
         clientNickname = "";
         clientColor = null;
@@ -186,6 +198,7 @@ public class ViewModelState extends ModelObservable {
         turn = 1;
         chatRecords = new ArrayList<>();
         disconnectedPlayer = "";
+        hints = new ArrayList<>();
     }
 
     /**
@@ -235,6 +248,9 @@ public class ViewModelState extends ModelObservable {
         else if (response instanceof ChatResponseData) {
             this.updateChat((ChatResponseData) response);
         }
+        else if (response instanceof LobbyUpdateResponseData) {
+            this.updateLobbyList((LobbyUpdateResponseData) response);
+        }
     }
 
     /**
@@ -242,7 +258,39 @@ public class ViewModelState extends ModelObservable {
      * @param listLobby     The response from the Server.
      */
     public void updateLobbyList(ListLobbyResponseData listLobby){
-        this.lobbies = listLobby.getLobbies();
+        // A list older than the known lobbies arrived after their changes, it is ignored
+        if (listLobby.getVersion() < this.lobbiesVersion) {
+            return;
+        }
+        // The lobbies are not sent again if they have not changed since the version of the list
+        if (!listLobby.getNotModified()) {
+            // The list is copied, the changes pushed by the server are applied to it while the view reads it
+            this.lobbies = new ConcurrentSkipListMap<>(listLobby.getLobbies());
+        }
+        this.lobbiesVersion = listLobby.getVersion();
+        this.notifyObservers(EventType.LIST_LOBBY);
+    }
+
+    /**
+     * The method to apply the changes of the lobbies pushed by the Server.
+     * @param lobbyUpdate     The changes from the Server.
+     */
+    public void updateLobbyList(LobbyUpdateResponseData lobbyUpdate){
+        if (this.currentLobbyId != -1 || lobbyUpdate.getVersion() <= this.lobbiesVersion) {
+            // Not in the menu anymore, or changes already known
+            return;
+        }
+        if (lobbyUpdate.getFromVersion() > this.lobbiesVersion) {
+            // Some changes are missing, list the lobbies again
+            ClientConnection.getLobbyList();
+            return;
+        }
+
+        // Every lobby changed after the known version is in the update, with its last seats
+        this.lobbies.putAll(lobbyUpdate.getAdded());
+        this.lobbies.putAll(lobbyUpdate.getChanged());
+        lobbyUpdate.getRemoved().forEach(this.lobbies::remove);
+        this.lobbiesVersion = lobbyUpdate.getVersion();
         this.notifyObservers(EventType.LIST_LOBBY);
     }
 
@@ -290,11 +338,14 @@ public class ViewModelState extends ModelObservable {
 
             // Change automatically the view displayed
             this.type = ViewType.MENU;
+
+            // The lobbies are listed again by the subscription that follows the leave
+            this.lobbies = new ConcurrentSkipListMap<>();
+            this.lobbiesVersion = ListLobbyData.ANY_VERSION;
         }
         else {
             this.nicknames.remove(leaveGame.getUsername());
         }
-        this.lobbies = leaveGame.getLobbies();
 
         this.notifyObservers(EventType.LEAVE_GAME);
     }
@@ -498,6 +549,14 @@ public class ViewModelState extends ModelObservable {
         }
     }
 
+    /**
+     * The method to store the hints received from the Server, they are read by the view when it needs them.
+     * @param hints       The response from the Server.
+     */
+    public void updateHints(HintsResponseData hints) {
+        this.hints = hints.getHints();
+    }
+
     // endregion
 
     //region Getters
@@ -509,6 +568,13 @@ public class ViewModelState extends ModelObservable {
         return lobbies;
     }
 
+    /**
+     * @return  The version of the lobby list, ListLobbyData.ANY_VERSION if it is not known
+     */
+    public long getLobbiesVersion() {
+        return lobbiesVersion;
+    }
+
     /**
      * @return  The ID of the lobby the player entered
      */
@@ -634,6 +700,13 @@ public class ViewModelState extends ModelObservable {
         return Collections.unmodifiableList(this.chatRecords);
     }
 
+    /**
+     * @return The legal placements of the cards in the hand, received with the last hints request
+     */
+    public List<HintsResponseData.Hint> getHints() {
+        return this.hints;
+    }
+
     //endregion
     public BoardMap<BoardSlot, CardIds> getBoard(String nickname) {
         //Maybe call here to transform id into cards
@@ -4,6 +4,7 @@ module it.polimi.ingsw.am52 {
 
     requires org.controlsfx.controls;
     requires com.fasterxml.jackson.databind;
+    requires com.fasterxml.jackson.dataformat.smile;
     requires java.rmi;
     requires java.desktop;
 
@@ -0,0 +1,30 @@
+package it.polimi.ingsw.controllerTests;
+
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.network.server.ClientHandler;
+
+/**
+ * A client handler without connection, the messages are discarded.
+ */
+class FakeHandler implements ClientHandler {
+
+    private final int clientId;
+
+    FakeHandler(int clientId) {
+        this.clientId = clientId;
+    }
+
+    @Override
+    public int getClientId() {
+        return this.clientId;
+    }
+
+    @Override
+    public void run() {
+    }
+
+    @Override
+    public void sendMessage(JsonMessage<BaseResponseData> response) {
+    }
+}
@@ -0,0 +1,113 @@
+package it.polimi.ingsw.controllerTests;
+
+import it.polimi.ingsw.am52.controller.GameMailbox;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the mailbox of the games: the commands of a game are applied one at a time,
+ * the commands of different games run in parallel.
+ */
+public class GameMailboxTest {
+
+    private static ExecutorService workers;
+
+    @BeforeAll
+    public static void setUp() {
+        workers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Mailbox: the commands of a game never overlap")
+    public void sequentialCommands() throws Exception {
+        final int nCallers = 8;
+        final int nCommands = 500;
+        GameMailbox mailbox = new GameMailbox(workers);
+        int[] counter = { 0 };
+        AtomicBoolean inside = new AtomicBoolean(false);
+        AtomicBoolean overlap = new AtomicBoolean(false);
+
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i != nCallers; i++) {
+            callers.add(Thread.ofPlatform().start(() -> {
+                for (int j = 0; j != nCommands; j++) {
+                    mailbox.call("increment", () -> {
+                        if (!inside.compareAndSet(false, true)) {
+                            overlap.set(true);
+                        }
+                        // Not atomic: lost updates if two commands overlap.
+                        counter[0] = counter[0] + 1;
+                        inside.set(false);
+                        return counter[0];
+                    });
+                }
+            }));
+        }
+        for (Thread caller : callers) {
+            caller.join();
+        }
+
+        assertFalse(overlap.get());
+        assertEquals(nCallers * nCommands, counter[0]);
+        assertEquals(0, mailbox.getDepth());
+        assertEquals(nCallers * nCommands, mailbox.getServiceTimes().get("increment").getCount());
+    }
+
+    @Test
+    @DisplayName("Mailbox: different games run in parallel")
+    public void parallelGames() throws Exception {
+        GameMailbox first = new GameMailbox(workers);
+        GameMailbox second = new GameMailbox(workers);
+        // Both commands must be running at the same time to pass the barrier.
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        Future<Integer> firstResult = CompletableFuture.supplyAsync(() -> first.call("wait", () -> await(barrier)));
+        Future<Integer> secondResult = CompletableFuture.supplyAsync(() -> second.call("wait", () -> await(barrier)));
+
+        assertTrue(firstResult.get(5, TimeUnit.SECONDS) >= 0);
+        assertTrue(secondResult.get(5, TimeUnit.SECONDS) >= 0);
+    }
+
+    @Test
+    @DisplayName("Mailbox: nested commands and exceptions")
+    public void nestedCommandsAndExceptions() {
+        GameMailbox mailbox = new GameMailbox(workers);
+
+        // A command issued by a command of the same game does not wait for itself.
+        int result = mailbox.call("outer", () -> mailbox.call("inner", () -> 42));
+        assertEquals(42, result);
+        assertEquals(1, mailbox.getServiceTimes().get("outer").getCount());
+        assertEquals(1, mailbox.getServiceTimes().get("inner").getCount());
+
+        // The exception of the command reaches the caller.
+        assertThrows(IllegalStateException.class, () -> mailbox.call("fail", () -> {
+            throw new IllegalStateException("failed");
+        }));
+        assertEquals(1, mailbox.getServiceTimes().get("fail").getCount());
+
+        // The mailbox still works after a failed command.
+        assertEquals("ok", mailbox.call("after", () -> "ok"));
+    }
+
+    private static int await(CyclicBarrier barrier) {
+        try {
+            return barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package it.polimi.ingsw.controllerTests;
+
+import it.polimi.ingsw.am52.controller.GameController;
+import it.polimi.ingsw.am52.controller.GameRegistry;
+import it.polimi.ingsw.am52.controller.User;
+import it.polimi.ingsw.am52.json.response.JoinLobbyResponseData;
+import it.polimi.ingsw.am52.settings.ServerSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the registry of the open games, and measure the lobby endpoints with many open games.
+ */
+public class GameRegistryTest {
+
+    /**
+     * The ids of the test clients.
+     */
+    private static final AtomicInteger ids = new AtomicInteger(50_000);
+
+    @Test
+    @DisplayName("GameRegistry: create, get and remove")
+    public void registry() {
+        GameRegistry games = new GameRegistry();
+        GameController first = games.create(2);
+        GameController second = games.create(3);
+
+        assertEquals(1, first.getId());
+        assertEquals(2, second.getId());
+        assertSame(second, games.get(2).orElseThrow());
+        assertTrue(games.get(3).isEmpty());
+        assertEquals(2, games.size());
+
+        joinLobby(first, "Alice");
+        assertEquals(1, games.getLobbies().get(1));
+        assertEquals(3, games.getLobbies().get(2));
+
+        games.remove(first);
+        assertTrue(games.get(1).isEmpty());
+        assertEquals(1, games.size());
+        // The ids are never reused.
+        assertEquals(3, games.create(2).getId());
+    }
+
+    @Test
+    @DisplayName("GameRegistry: concurrent lobbies")
+    public void concurrentLobbies() throws Exception {
+        final int nThreads = 4;
+        final int nLobbies = 500;
+        GameRegistry games = new GameRegistry();
+        ExecutorService threads = Executors.newFixedThreadPool(nThreads);
+        try {
+            List<Future<List<Integer>>> results = new ArrayList<>();
+            for (int t = 0; t != nThreads; t++) {
+                results.add(threads.submit(() -> {
+                    List<Integer> lobbyIds = new ArrayList<>();
+                    for (int i = 0; i != nLobbies; i++) {
+                        GameController game = createLobby(games);
+                        lobbyIds.add(game.getId());
+                        // Delete half of the games while the other threads create and list theirs.
+                        if (i % 2 == 0) {
+                            games.remove(game);
+                        }
+                        games.getLobbies();
+                    }
+                    return lobbyIds;
+                }));
+            }
+
+            List<Integer> lobbyIds = new ArrayList<>();
+            for (Future<List<Integer>> result : results) {
+                lobbyIds.addAll(result.get(60, TimeUnit.SECONDS));
+            }
+            // All the ids are unique.
+            assertEquals(nThreads * nLobbies, lobbyIds.stream().distinct().count());
+            for (int i = 0; i != lobbyIds.size(); i++) {
+                assertEquals(i % nLobbies % 2 != 0, games.get(lobbyIds.get(i)).isPresent());
+            }
+            assertEquals(nThreads * nLobbies / 2, games.size());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("GameRegistry: create and join with many open lobbies")
+    public void manyLobbies() {
+        final int nLobbies = ServerSettings.MAX_LOBBIES;
+        final int nRounds = 2_000;
+        GameRegistry games = new GameRegistry();
+
+        long start = System.nanoTime();
+        for (int i = 0; i != nLobbies; i++) {
+            createLobby(games);
+        }
+        long createNanos = System.nanoTime() - start;
+
+        // Join the open lobbies, looked up by id: the games do not start.
+        start = System.nanoTime();
+        for (int i = 0; i != nRounds; i++) {
+            int lobbyId = nLobbies - i;
+            assertEquals(lobbyId, joinLobby(games.get(lobbyId).orElseThrow(), "Bob").getLobbyId());
+        }
+        long joinNanos = System.nanoTime() - start;
+
+        // The same lookups with a linear scan, as the registry used to do.
+        List<GameController> list = new ArrayList<>();
+        for (int lobbyId = 1; lobbyId <= nLobbies; lobbyId++) {
+            list.add(games.get(lobbyId).orElseThrow());
+        }
+        start = System.nanoTime();
+        for (int i = 0; i != nRounds; i++) {
+            int lobbyId = nLobbies - i;
+            assertTrue(list.stream().anyMatch(c -> c.getId() == lobbyId));
+        }
+        long scanNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i != nRounds; i++) {
+            assertTrue(games.get(nLobbies - i).isPresent());
+        }
+        long lookupNanos = System.nanoTime() - start;
+
+        System.out.printf("%d lobbies: create %.0f/s, join %.0f/s, lookup %d ns (linear scan %d ns)%n",
+                nLobbies, nLobbies * 1e9 / createNanos, nRounds * 1e9 / joinNanos,
+                lookupNanos / nRounds, scanNanos / nRounds);
+        assertEquals(nLobbies, games.size());
+        assertEquals(nLobbies, games.getLobbies().size());
+    }
+
+    /**
+     * Open a lobby of four players, joined by its creator, as the createLobby endpoint does.
+     * @return The game of the lobby.
+     */
+    private static GameController createLobby(GameRegistry games) {
+        GameController game = games.create(4);
+        joinLobby(game, "Alice");
+        return game;
+    }
+
+    /**
+     * Join a lobby, with a new client.
+     * @return The response.
+     */
+    private static JoinLobbyResponseData joinLobby(GameController game, String nickname) {
+        JoinLobbyResponseData response = game.joinLobby(new User(nickname, new FakeHandler(ids.incrementAndGet())));
+        assertEquals(0, response.getStatus().getErrorCode(), response.getStatus().getErrorMessage());
+        return response;
+    }
+}
@@ -0,0 +1,166 @@
+package it.polimi.ingsw.controllerTests;
+
+import it.polimi.ingsw.am52.controller.GameController;
+import it.polimi.ingsw.am52.controller.User;
+import it.polimi.ingsw.am52.json.response.*;
+import it.polimi.ingsw.am52.model.game.GameLobby;
+import it.polimi.ingsw.am52.model.game.GameManager;
+import it.polimi.ingsw.am52.model.game.GamePhase;
+import it.polimi.ingsw.am52.model.game.GameSnapshot;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the snapshots of the games: the readers see the game between two commands, never a turn half applied.
+ */
+public class GameSnapshotTest {
+
+    @Test
+    @DisplayName("GameSnapshot: a snapshot never changes")
+    public void immutable() {
+        GameManager manager = new GameManager(List.of("Alice", "Bob"));
+        GameSnapshot first = manager.getSnapshot();
+        assertEquals(GamePhase.INIT, first.phase());
+        assertEquals(Set.of("Alice", "Bob"), first.players().keySet());
+        assertEquals(Set.of("Alice", "Bob"), Set.copyOf(first.getNicknames()));
+        assertEquals(3, first.getPlayer("Alice").hand().size());
+        assertSame(first, manager.getSnapshot());
+
+        for (String nickname : List.of("Alice", "Bob")) {
+            GameSnapshot.PlayerSnapshot player = manager.getSnapshot().getPlayer(nickname);
+            manager.setPlayerChosenObject(nickname, player.objectiveOptions().getFirst());
+            manager.placeStarterCard(nickname, player.starterCardId(), 0);
+        }
+
+        // Every command publishes a new snapshot, the old one still shows the game before the commands.
+        GameSnapshot placing = manager.getSnapshot();
+        assertEquals(first.version() + 4, placing.version());
+        assertEquals(GamePhase.PLACING, placing.phase());
+        assertEquals(GamePhase.INIT, first.phase());
+        assertThrows(UnsupportedOperationException.class, () -> placing.scoreBoard().put("Alice", 20));
+        assertThrows(UnsupportedOperationException.class, () -> placing.getPlayer("Alice").hand().clear());
+
+        // A failed command publishes the game as it is: nothing changed.
+        assertThrows(RuntimeException.class, () -> manager.takeResourceCard(-1));
+        assertEquals(placing.phase(), manager.getSnapshot().phase());
+        assertEquals(placing.visibleResourceCards(), manager.getSnapshot().visibleResourceCards());
+
+        // A player that leaves is no longer in the next snapshot.
+        manager.leaveGame("Bob");
+        assertEquals(List.of("Alice"), manager.getSnapshot().getNicknames());
+        assertEquals(Set.of("Alice", "Bob"), Set.copyOf(placing.getNicknames()));
+    }
+
+    @Test
+    @DisplayName("GameSnapshot: no torn reads under parallel initGame and placeCard")
+    public void parallelReads() throws Exception {
+        final int nReaders = 4;
+        final int nTurns = 40;
+        GameController game = new GameController(new GameLobby(1, 2));
+        Map<String, Integer> clientIds = Map.of("Alice", 80_001, "Bob", 80_002);
+        game.joinLobby(new User("Alice", new FakeHandler(80_001)));
+        JoinLobbyResponseData joined = game.joinLobby(new User("Bob", new FakeHandler(80_002)));
+        assertEquals(GamePhase.INIT, joined.getStatus().getGamePhase());
+
+        // The slots where each player can place a card.
+        Map<Integer, List<BoardSlot>> slots = new HashMap<>();
+        String current = "";
+        for (int clientId : clientIds.values()) {
+            InitGameResponseData init = game.initGame(clientId);
+            assertEquals(0, game.selectObjective(clientId, init.getPlayerObjectiveCardIds().getFirst()).getStatus().getErrorCode());
+            PlaceStarterCardResponseData starter = game.placeStarterCard(clientId, init.getStarterCardId(), 0);
+            assertEquals(0, starter.getStatus().getErrorCode());
+            slots.put(clientId, starter.getBoardSlots());
+            current = starter.getStatus().getCurrPlayer();
+        }
+
+        AtomicBoolean playing = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        Queue<String> tornReads = new ConcurrentLinkedQueue<>();
+
+        // The readers check that each view is consistent: the hand matches the phase of the turn,
+        // and the top of the decks is neither in the hand nor on the board.
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i != nReaders; i++) {
+            readers.add(Thread.ofPlatform().start(() -> {
+                while (playing.get()) {
+                    for (Map.Entry<String, Integer> client : clientIds.entrySet()) {
+                        InitGameResponseData view = game.initGame(client.getValue());
+                        reads.incrementAndGet();
+                        String torn = checkView(client.getKey(), view);
+                        if (torn != null) {
+                            tornReads.add(torn);
+                        }
+                    }
+                }
+            }));
+        }
+
+        int turns = 0;
+        try {
+            GamePhase phase = GamePhase.PLACING;
+            while (turns != nTurns && phase != GamePhase.END) {
+                int clientId = clientIds.get(current);
+                InitGameResponseData init = game.initGame(clientId);
+
+                // The back of a card can always be placed.
+                PlaceCardResponseData placed = game.placeCard(clientId, init.getPlayerHandCardIds().getFirst(), 1,
+                        slots.get(clientId).getFirst());
+                assertEquals(0, placed.getStatus().getErrorCode(), placed.getStatus().getErrorMessage());
+                slots.put(clientId, placed.getAvailableSlots());
+
+                DrawCardResponseData drawn = game.drawCard(clientId, turns % 2);
+                assertEquals(0, drawn.getStatus().getErrorCode(), drawn.getStatus().getErrorMessage());
+                phase = drawn.getStatus().getGamePhase();
+                current = drawn.getStatus().getCurrPlayer();
+                turns++;
+            }
+        } finally {
+            playing.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        assertTrue(tornReads.isEmpty(), tornReads.peek());
+        assertTrue(reads.get() > 0);
+        System.out.printf("%d turns, %d consistent reads by %d readers%n", turns, reads.get(), nReaders);
+    }
+
+    /**
+     * @param nickname The nickname of the reader.
+     * @param view The view of the reader.
+     * @return The description of the inconsistency, null if the view is consistent.
+     */
+    private static String checkView(String nickname, InitGameResponseData view) {
+        if (view.getStatus().getErrorCode() != 0) {
+            return "error " + view.getStatus().getErrorMessage();
+        }
+
+        GamePhase phase = view.getStatus().getGamePhase();
+        List<Integer> hand = view.getPlayerHandCardIds();
+        if (phase == GamePhase.PLACING || phase == GamePhase.DRAWING) {
+            boolean hasPlaced = phase == GamePhase.DRAWING && nickname.equals(view.getStatus().getCurrPlayer());
+            int expected = hasPlaced ? 2 : 3;
+            if (hand.size() != expected) {
+                return nickname + " has " + hand.size() + " cards in " + phase;
+            }
+        }
+
+        for (int next : List.of(view.getNextResourceCardId(), view.getNextGoldCardId())) {
+            if (next != -1 && (hand.contains(next) || view.getVisibleResourceCardIds().contains(next)
+                    || view.getVisibleGoldCardIds().contains(next))) {
+                return "card " + next + " is both on top of the deck and drawn";
+            }
+        }
+        return null;
+    }
+}
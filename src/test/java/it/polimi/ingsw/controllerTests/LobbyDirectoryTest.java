@@ -0,0 +1,150 @@
+package it.polimi.ingsw.controllerTests;
+
+import it.polimi.ingsw.am52.controller.GameController;
+import it.polimi.ingsw.am52.controller.GameRegistry;
+import it.polimi.ingsw.am52.controller.LobbyDirectory;
+import it.polimi.ingsw.am52.controller.User;
+import it.polimi.ingsw.am52.json.request.ListLobbyData;
+import it.polimi.ingsw.am52.settings.ServerSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the directory of the lobbies: versions, pages and filters.
+ */
+public class LobbyDirectoryTest {
+
+    @Test
+    @DisplayName("LobbyDirectory: versions")
+    public void versions() {
+        LobbyDirectory directory = new LobbyDirectory();
+        assertEquals(0, directory.getVersion());
+        assertEquals(Map.of(), directory.getLobbies());
+
+        directory.update(1, 2, 2);
+        directory.update(2, 3, 3);
+        assertEquals(2, directory.getVersion());
+        // The full list is built once for each version.
+        Map<Integer, Integer> lobbies = directory.getLobbies();
+        assertEquals(Map.of(1, 2, 2, 3), lobbies);
+        assertSame(lobbies, directory.getLobbies());
+
+        directory.update(1, 2, 0);
+        assertEquals(3, directory.getVersion());
+        assertEquals(Map.of(1, 0, 2, 3), directory.getLobbies());
+
+        // Removing a missing lobby does not change the version.
+        directory.remove(1);
+        directory.remove(1);
+        assertEquals(4, directory.getVersion());
+        assertEquals(Map.of(2, 3), directory.getLobbies());
+        assertEquals(1, directory.size());
+    }
+
+    @Test
+    @DisplayName("LobbyDirectory: pages and filters")
+    public void pages() {
+        LobbyDirectory directory = new LobbyDirectory();
+        // Lobbies 1..12: 2, 3 and 4 players, the lobbies multiple of 4 are full.
+        for (int id = 1; id <= 12; id++) {
+            int maxPlayers = 2 + id % 3;
+            directory.update(id, maxPlayers, id % 4 == 0 ? 0 : id % maxPlayers + 1);
+        }
+
+        // All the lobbies, in order of id.
+        LobbyDirectory.Page page = directory.list(null);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12), List.copyOf(page.lobbies().keySet()));
+        assertEquals(-1, page.nextLobbyId());
+        assertEquals(directory.getVersion(), page.version());
+
+        // Pages of five lobbies.
+        page = directory.list(new ListLobbyData(ListLobbyData.ANY_VERSION, 0, 5, 0, 0));
+        assertEquals(List.of(1, 2, 3, 4, 5), List.copyOf(page.lobbies().keySet()));
+        assertEquals(5, page.nextLobbyId());
+        page = directory.list(new ListLobbyData(ListLobbyData.ANY_VERSION, page.nextLobbyId(), 5, 0, 0));
+        assertEquals(List.of(6, 7, 8, 9, 10), List.copyOf(page.lobbies().keySet()));
+        assertEquals(10, page.nextLobbyId());
+        page = directory.list(new ListLobbyData(ListLobbyData.ANY_VERSION, page.nextLobbyId(), 5, 0, 0));
+        assertEquals(List.of(11, 12), List.copyOf(page.lobbies().keySet()));
+        assertEquals(-1, page.nextLobbyId());
+
+        // A page that ends with the last lobby is the last page.
+        page = directory.list(new ListLobbyData(ListLobbyData.ANY_VERSION, 6, 6, 0, 0));
+        assertEquals(6, page.lobbies().size());
+        assertEquals(-1, page.nextLobbyId());
+
+        // Only the lobbies with free seats.
+        page = directory.list(new ListLobbyData(ListLobbyData.ANY_VERSION, 0, 0, 0, 1));
+        assertEquals(List.of(1, 2, 3, 5, 6, 7, 9, 10, 11), List.copyOf(page.lobbies().keySet()));
+
+        // Lobbies of 3 players, with at least 2 free seats.
+        page = directory.list(new ListLobbyData(ListLobbyData.ANY_VERSION, 0, 0, 3, 2));
+        assertEquals(Map.of(1, 2, 7, 2, 10, 2), page.lobbies());
+
+        // Pages of the filtered lobbies.
+        page = directory.list(new ListLobbyData(ListLobbyData.ANY_VERSION, 0, 2, 0, 1));
+        assertEquals(List.of(1, 2), List.copyOf(page.lobbies().keySet()));
+        page = directory.list(new ListLobbyData(ListLobbyData.ANY_VERSION, page.nextLobbyId(), 2, 0, 1));
+        assertEquals(List.of(3, 5), List.copyOf(page.lobbies().keySet()));
+    }
+
+    @Test
+    @DisplayName("LobbyDirectory: the games publish their seats")
+    public void games() {
+        GameRegistry games = new GameRegistry();
+        LobbyDirectory directory = games.getDirectory();
+        GameController game = games.create(2);
+        assertEquals(Map.of(1, 2), directory.getLobbies());
+
+        long version = directory.getVersion();
+        game.joinLobby(new User("Alice", new FakeHandler(60_001)));
+        assertEquals(Map.of(1, 1), directory.getLobbies());
+        assertTrue(directory.getVersion() > version);
+
+        // A rejected player does not change the directory.
+        version = directory.getVersion();
+        game.joinLobby(new User("Alice", new FakeHandler(60_002)));
+        assertEquals(version, directory.getVersion());
+
+        games.remove(game);
+        assertEquals(Map.of(), directory.getLobbies());
+    }
+
+    @Test
+    @DisplayName("LobbyDirectory: a page of many lobbies")
+    public void manyLobbies() {
+        final int nLobbies = ServerSettings.MAX_LOBBIES;
+        final int nRounds = 2_000;
+        LobbyDirectory directory = new LobbyDirectory();
+        for (int id = 1; id <= nLobbies; id++) {
+            directory.update(id, 4, id % 4);
+        }
+        ListLobbyData firstPage = new ListLobbyData(ListLobbyData.ANY_VERSION, 0, 20, 0, 1);
+
+        // Warm up.
+        for (int i = 0; i != nRounds; i++) {
+            directory.list(firstPage);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i != nRounds; i++) {
+            assertEquals(20, directory.list(firstPage).lobbies().size());
+        }
+        long pageNanos = (System.nanoTime() - start) / nRounds;
+
+        // The full list, rebuilt after every change as the lobbies used to be.
+        start = System.nanoTime();
+        for (int i = 0; i != nRounds / 20; i++) {
+            directory.update(1, 4, i % 4);
+            assertEquals(nLobbies, directory.getLobbies().size());
+        }
+        long fullNanos = (System.nanoTime() - start) / (nRounds / 20);
+
+        System.out.printf("%d lobbies: page of 20 in %d ns, full list in %d ns%n", nLobbies, pageNanos, fullNanos);
+    }
+}
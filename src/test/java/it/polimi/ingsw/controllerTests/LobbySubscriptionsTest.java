@@ -0,0 +1,206 @@
+package it.polimi.ingsw.controllerTests;
+
+import it.polimi.ingsw.am52.controller.LobbyDirectory;
+import it.polimi.ingsw.am52.controller.LobbySubscriptions;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.response.ListLobbyResponse;
+import it.polimi.ingsw.am52.json.response.ListLobbyResponseData;
+import it.polimi.ingsw.am52.json.response.LobbyUpdateResponseData;
+import it.polimi.ingsw.am52.json.response.ResponseStatus;
+import it.polimi.ingsw.am52.network.server.Sender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the subscriptions to the lobbies: the changes of a tick are coalesced in a single update.
+ */
+public class LobbySubscriptionsTest {
+
+    /**
+     * A tick that never ends in the tests, the updates are flushed by the test and
+     * sent by the flushing thread.
+     */
+    private static final long MANUAL_TICK_MILLIS = 600_000;
+
+    @Test
+    @DisplayName("LobbySubscriptions: the changes of a tick are coalesced")
+    public void coalesced() {
+        LobbyDirectory directory = new LobbyDirectory();
+        LobbySubscriptions subscriptions = new LobbySubscriptions(directory, MANUAL_TICK_MILLIS, Runnable::run);
+        List<JsonMessage<BaseResponseData>> received = new ArrayList<>();
+        ListLobbyResponseData lobbies = subscriptions.subscribe(1, received::add);
+        assertEquals(Map.of(), lobbies.getLobbies());
+        assertEquals(0, lobbies.getVersion());
+
+        directory.update(1, 2, 2);
+        directory.update(2, 3, 3);
+        directory.update(1, 2, 1);
+        directory.update(2, 3, 2);
+        directory.update(2, 3, 1);
+        // A lobby opened and closed in the same tick.
+        directory.update(3, 4, 4);
+        directory.remove(3);
+        assertTrue(received.isEmpty());
+
+        subscriptions.flush();
+        assertEquals(1, received.size());
+        LobbyUpdateResponseData update = (LobbyUpdateResponseData) received.getFirst().getData();
+        assertTrue(update.getIsBroadcast());
+        assertEquals(0, update.getFromVersion());
+        assertEquals(7, update.getVersion());
+        assertEquals(Map.of(1, 1, 2, 1), update.getAdded());
+        assertEquals(Map.of(), update.getChanged());
+        assertEquals(List.of(3), update.getRemoved());
+
+        // The next tick starts from the last version.
+        directory.update(1, 2, 0);
+        directory.remove(2);
+        subscriptions.flush();
+        // Nothing to send.
+        subscriptions.flush();
+        assertEquals(2, received.size());
+        update = (LobbyUpdateResponseData) received.get(1).getData();
+        assertEquals(7, update.getFromVersion());
+        assertEquals(9, update.getVersion());
+        assertEquals(Map.of(1, 0), update.getChanged());
+        assertEquals(List.of(2), update.getRemoved());
+    }
+
+    @Test
+    @DisplayName("LobbySubscriptions: subscribe and unsubscribe")
+    public void subscribers() {
+        LobbyDirectory directory = new LobbyDirectory();
+        LobbySubscriptions subscriptions = new LobbySubscriptions(directory, MANUAL_TICK_MILLIS, Runnable::run);
+
+        // Without subscribers the changes are dropped.
+        directory.update(1, 2, 2);
+        subscriptions.flush();
+
+        List<JsonMessage<BaseResponseData>> first = new ArrayList<>();
+        List<JsonMessage<BaseResponseData>> second = new ArrayList<>();
+        ListLobbyResponseData lobbies = subscriptions.subscribe(1, first::add);
+        assertEquals(Map.of(1, 2), lobbies.getLobbies());
+        assertEquals(1, lobbies.getVersion());
+        subscriptions.subscribe(2, second::add);
+        assertEquals(2, subscriptions.size());
+        assertTrue(first.isEmpty());
+
+        directory.update(1, 2, 1);
+        subscriptions.flush();
+        // The subscribers share the same update, it starts from the version they listed.
+        assertEquals(1, first.size());
+        assertSame(first.getFirst(), second.getFirst());
+        assertEquals(1, ((LobbyUpdateResponseData) first.getFirst().getData()).getFromVersion());
+
+        subscriptions.unsubscribe(1);
+        assertFalse(subscriptions.isSubscribed(1));
+        assertTrue(subscriptions.isSubscribed(2));
+        directory.update(2, 2, 2);
+        subscriptions.flush();
+        assertEquals(1, first.size());
+        assertEquals(2, second.size());
+    }
+
+    @Test
+    @DisplayName("LobbySubscriptions: a stalled subscriber does not delay the others")
+    public void stalledSubscriber() throws Exception {
+        LobbyDirectory directory = new LobbyDirectory();
+        ExecutorService senders = Executors.newCachedThreadPool();
+        LobbySubscriptions subscriptions = new LobbySubscriptions(directory, MANUAL_TICK_MILLIS, senders);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            LinkedBlockingQueue<JsonMessage<BaseResponseData>> received = new LinkedBlockingQueue<>();
+            subscriptions.subscribe(1, received::add);
+            subscriptions.subscribe(2, response -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            // The first update blocks the stalled subscriber, the next ones wait in its queue.
+            for (int i = 0; i <= LobbySubscriptions.MAX_PENDING_UPDATES + 1; i++) {
+                directory.update(1, 4, 4 - i % 4);
+                subscriptions.flush();
+                assertNotNull(received.poll(10, TimeUnit.SECONDS), "update not received");
+            }
+
+            // Over the limit the stalled subscriber is unsubscribed, the other one is not.
+            assertFalse(subscriptions.isSubscribed(2));
+            assertTrue(subscriptions.isSubscribed(1));
+        } finally {
+            release.countDown();
+            senders.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("LobbySubscriptions: the ticks apply to the listed lobbies")
+    public void ticks() throws Exception {
+        final int nLobbies = 200;
+        final int nSubscribers = 100;
+        LobbyDirectory directory = new LobbyDirectory();
+        LobbySubscriptions subscriptions = new LobbySubscriptions(directory, 20);
+        for (int id = 1; id <= nLobbies; id++) {
+            directory.update(id, 4, 4);
+        }
+
+        LinkedBlockingQueue<JsonMessage<BaseResponseData>> received = new LinkedBlockingQueue<>();
+        ListLobbyResponseData listed = subscriptions.subscribe(0, received::add);
+        Sender ignore = response -> { };
+        for (int i = 1; i != nSubscribers; i++) {
+            subscriptions.subscribe(i, ignore);
+        }
+
+        // A churn of joins, leaves and new lobbies.
+        int nChanges = 0;
+        for (int round = 0; round != 3; round++) {
+            for (int id = 1; id <= nLobbies; id++) {
+                directory.update(id, 4, 3 - (id + round) % 4);
+                nChanges++;
+            }
+            directory.update(nLobbies + round + 1, 2, 2);
+            directory.remove(round + 1);
+            nChanges += 2;
+        }
+
+        // Apply the updates to the listed lobbies, until the last version.
+        Map<Integer, Integer> lobbies = new TreeMap<>(listed.getLobbies());
+        long version = listed.getVersion();
+        int nUpdates = 0;
+        long updateBytes = 0;
+        while (version != directory.getVersion()) {
+            JsonMessage<BaseResponseData> message = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(message, "update not received");
+            LobbyUpdateResponseData update = (LobbyUpdateResponseData) message.getData();
+            // The updates follow each other, without gaps.
+            assertEquals(version, update.getFromVersion());
+            lobbies.putAll(update.getAdded());
+            lobbies.putAll(update.getChanged());
+            update.getRemoved().forEach(lobbies::remove);
+            version = update.getVersion();
+            nUpdates++;
+            updateBytes += message.toJsonBytes().length;
+        }
+        assertEquals(directory.getLobbies(), lobbies);
+        assertTrue(nUpdates < nChanges / 10, nUpdates + " updates");
+
+        // The same lobbies, listed by every client after each change.
+        long listBytes = new ListLobbyResponse(new ListLobbyResponseData(new ResponseStatus(), lobbies))
+                .toJson().getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%d changes of %d lobbies: %d updates, %d bytes to each subscriber (polling: %d bytes each)%n",
+                nChanges, nLobbies, nUpdates, updateBytes, nChanges * listBytes);
+    }
+}
@@ -0,0 +1,259 @@
+package it.polimi.ingsw.controllerTests;
+
+import it.polimi.ingsw.am52.controller.GameController;
+import it.polimi.ingsw.am52.controller.GameRegistry;
+import it.polimi.ingsw.am52.controller.MatchmakingQueues;
+import it.polimi.ingsw.am52.controller.User;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.response.JoinLobbyResponseData;
+import it.polimi.ingsw.am52.json.response.ResponseStatus;
+import it.polimi.ingsw.am52.model.game.GamePhase;
+import it.polimi.ingsw.am52.network.server.ClientHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the quick match queues: the players are packed in new games, that start when full.
+ */
+public class MatchmakingQueuesTest {
+
+    /**
+     * A client handler without connection, the messages are recorded.
+     */
+    private static class RecordingHandler implements ClientHandler {
+
+        private final int clientId;
+
+        private final List<JsonMessage<BaseResponseData>> received = new CopyOnWriteArrayList<>();
+
+        RecordingHandler(int clientId) {
+            this.clientId = clientId;
+        }
+
+        @Override
+        public int getClientId() {
+            return this.clientId;
+        }
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public void sendMessage(JsonMessage<BaseResponseData> response) {
+            this.received.add(response);
+        }
+    }
+
+    @Test
+    @DisplayName("MatchmakingQueues: a full queue starts a game")
+    public void matched() {
+        GameRegistry games = new GameRegistry();
+        MatchmakingQueues queues = new MatchmakingQueues(games);
+        RecordingHandler alice = new RecordingHandler(70_001);
+        RecordingHandler bob = new RecordingHandler(70_002);
+        Map<Integer, GameController> linked = new ConcurrentHashMap<>();
+
+        JoinLobbyResponseData response = queues.enqueue(new User("Alice", alice), 2, game -> linked.put(alice.getClientId(), game));
+        assertEquals(0, response.getStatus().getErrorCode());
+        assertEquals(-1, response.getLobbyId());
+        assertTrue(queues.isQueued(alice.getClientId()));
+        assertEquals(1, queues.getQueueLength(2));
+        assertEquals(0, games.size());
+
+        response = queues.enqueue(new User("Bob", bob), 2, game -> linked.put(bob.getClientId(), game));
+        assertEquals(0, response.getStatus().getErrorCode());
+        assertEquals(GamePhase.INIT, response.getStatus().getGamePhase());
+        assertEquals(List.of("Alice", "Bob"), response.getNicknames());
+        assertFalse(queues.isQueued(alice.getClientId()));
+        assertEquals(0, queues.getQueueLength(2));
+
+        // The game is open, but it is not listed: its seats are taken.
+        GameController game = games.get(response.getLobbyId()).orElseThrow();
+        assertEquals(Map.of(), games.getDirectory().getLobbies());
+        assertSame(game, linked.get(alice.getClientId()));
+        assertSame(game, linked.get(bob.getClientId()));
+
+        // Only the waiting player is notified, the other one has the match in its response.
+        assertTrue(bob.received.isEmpty());
+        assertEquals(1, alice.received.size());
+        JoinLobbyResponseData broadcast = (JoinLobbyResponseData) alice.received.getFirst().getData();
+        assertTrue(broadcast.getIsBroadcast());
+        assertEquals(response.getLobbyId(), broadcast.getLobbyId());
+        assertEquals(GamePhase.INIT, broadcast.getStatus().getGamePhase());
+
+        assertEquals(2, queues.getTimeToMatch().count());
+    }
+
+    @Test
+    @DisplayName("MatchmakingQueues: players with the same nickname are not matched together")
+    public void nicknames() {
+        GameRegistry games = new GameRegistry();
+        MatchmakingQueues queues = new MatchmakingQueues(games);
+
+        queues.enqueue(new User("Alice", new RecordingHandler(70_011)), 2, game -> { });
+        JoinLobbyResponseData response = queues.enqueue(new User("Alice", new RecordingHandler(70_012)), 2, game -> { });
+        assertEquals(-1, response.getLobbyId());
+        assertEquals(2, queues.getQueueLength(2));
+
+        // The oldest Alice plays with Bob, the other one keeps waiting.
+        response = queues.enqueue(new User("Bob", new RecordingHandler(70_013)), 2, game -> { });
+        assertEquals(List.of("Alice", "Bob"), response.getNicknames());
+        assertFalse(queues.isQueued(70_011));
+        assertTrue(queues.isQueued(70_012));
+        assertEquals(1, queues.getQueueLength(2));
+    }
+
+    @Test
+    @DisplayName("MatchmakingQueues: invalid requests and cancel")
+    public void cancel() {
+        GameRegistry games = new GameRegistry();
+        MatchmakingQueues queues = new MatchmakingQueues(games);
+        RecordingHandler alice = new RecordingHandler(70_021);
+
+        assertEquals(400, queues.enqueue(new User("Alice", alice), 1, game -> { }).getStatus().getErrorCode());
+        assertEquals(400, queues.enqueue(new User("Alice", alice), 5, game -> { }).getStatus().getErrorCode());
+        assertEquals(400, queues.enqueue(new User(" ", alice), 2, game -> { }).getStatus().getErrorCode());
+        assertFalse(queues.isQueued(alice.getClientId()));
+
+        assertEquals(0, queues.enqueue(new User("Alice", alice), 3, game -> { }).getStatus().getErrorCode());
+        assertEquals(403, queues.enqueue(new User("Alice", alice), 2, game -> { }).getStatus().getErrorCode());
+        assertEquals(1, queues.getQueueLength(3));
+
+        assertTrue(queues.cancel(alice.getClientId()));
+        assertFalse(queues.cancel(alice.getClientId()));
+        assertFalse(queues.isQueued(alice.getClientId()));
+        assertEquals(0, queues.getQueueLength(3));
+
+        // The cancelled player is not matched.
+        queues.enqueue(new User("Bob", new RecordingHandler(70_022)), 3, game -> { });
+        queues.enqueue(new User("Carl", new RecordingHandler(70_023)), 3, game -> { });
+        assertEquals(0, games.size());
+        assertTrue(alice.received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("MatchmakingQueues: the players of a match that cannot start are notified")
+    public void failedMatch() {
+        GameRegistry games = new GameRegistry() {
+            @Override
+            public JoinLobbyResponseData createMatch(List<User> players) {
+                return new JoinLobbyResponseData(new ResponseStatus(GamePhase.LOBBY, 500, "No games available"));
+            }
+        };
+        MatchmakingQueues queues = new MatchmakingQueues(games);
+        RecordingHandler alice = new RecordingHandler(70_031);
+        RecordingHandler bob = new RecordingHandler(70_032);
+
+        queues.enqueue(new User("Alice", alice), 2, game -> fail());
+        JoinLobbyResponseData response = queues.enqueue(new User("Bob", bob), 2, game -> fail());
+        assertEquals(500, response.getStatus().getErrorCode());
+
+        // The waiting player receives the error, and nobody is left waiting.
+        assertEquals(1, alice.received.size());
+        JoinLobbyResponseData broadcast = (JoinLobbyResponseData) alice.received.getFirst().getData();
+        assertTrue(broadcast.getIsBroadcast());
+        assertEquals(500, broadcast.getStatus().getErrorCode());
+        assertTrue(bob.received.isEmpty());
+        assertFalse(queues.isQueued(alice.getClientId()));
+        assertFalse(queues.isQueued(bob.getClientId()));
+        assertEquals(0, queues.getQueueLength(2));
+
+        // No player has been matched.
+        assertEquals(0, queues.getTimeToMatch().count());
+    }
+
+    @Test
+    @DisplayName("MatchmakingQueues: cancel while the match is starting")
+    public void cancelWhileMatching() throws Exception {
+        GameRegistry games = new GameRegistry();
+        MatchmakingQueues queues = new MatchmakingQueues(games);
+        CountDownLatch linking = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Map<Integer, GameController> linked = new ConcurrentHashMap<>();
+
+        // The waiting player is linked to its game only after the cancel.
+        queues.enqueue(new User("Alice", new RecordingHandler(70_041)), 2, game -> {
+            linking.countDown();
+            try {
+                assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            linked.put(70_041, game);
+        });
+
+        ExecutorService matcher = Executors.newSingleThreadExecutor();
+        try {
+            Future<JoinLobbyResponseData> match = matcher.submit(() ->
+                    queues.enqueue(new User("Bob", new RecordingHandler(70_042)), 2, game -> { }));
+            assertTrue(linking.await(10, TimeUnit.SECONDS));
+
+            // The ticket is taken: the cancel fails, and the player is still queued until it is linked.
+            assertFalse(queues.cancel(70_041));
+            assertTrue(queues.isQueued(70_041));
+            cancelled.countDown();
+
+            assertEquals(0, match.get(10, TimeUnit.SECONDS).getStatus().getErrorCode());
+            assertFalse(queues.isQueued(70_041));
+            assertNotNull(linked.get(70_041));
+        } finally {
+            matcher.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("MatchmakingQueues: concurrent players")
+    public void concurrent() throws Exception {
+        final int nPlayers = 1_224;
+        GameRegistry games = new GameRegistry();
+        MatchmakingQueues queues = new MatchmakingQueues(games);
+        Map<Integer, GameController> linked = new ConcurrentHashMap<>();
+        AtomicInteger immediate = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> requests = new ArrayList<>();
+            for (int i = 0; i != nPlayers; i++) {
+                final int clientId = 71_000 + i;
+                // The same number of players in each queue, a multiple of 2, 3 and 4.
+                final int numPlayers = 2 + i % 3;
+                requests.add(clients.submit(() -> {
+                    JoinLobbyResponseData response = queues.enqueue(new User("P" + clientId, new RecordingHandler(clientId)),
+                            numPlayers, game -> assertNull(linked.put(clientId, game)));
+                    assertEquals(0, response.getStatus().getErrorCode());
+                    if (response.getLobbyId() != -1) {
+                        immediate.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> request : requests) {
+                request.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        // Every player has been matched exactly once, in a game of its size.
+        assertEquals(nPlayers, linked.size());
+        assertEquals(nPlayers / 3 / 2 + nPlayers / 3 / 3 + nPlayers / 3 / 4, games.size());
+        assertEquals(games.size(), immediate.get());
+        for (Map.Entry<Integer, GameController> entry : linked.entrySet()) {
+            assertTrue(games.get(entry.getValue().getId()).isPresent());
+        }
+        for (int numPlayers = 2; numPlayers <= 4; numPlayers++) {
+            assertEquals(0, queues.getQueueLength(numPlayers));
+        }
+
+        MatchmakingQueues.TimeToMatch timeToMatch = queues.getTimeToMatch();
+        assertEquals(nPlayers, timeToMatch.count());
+        System.out.printf("%d players in %d games, time to match: %s%n", nPlayers, games.size(), timeToMatch);
+    }
+}
@@ -0,0 +1,107 @@
+package it.polimi.ingsw.controllerTests;
+
+import it.polimi.ingsw.am52.controller.ServerController;
+import it.polimi.ingsw.am52.json.request.ListLobbyData;
+import it.polimi.ingsw.am52.json.request.QuickMatchData;
+import it.polimi.ingsw.am52.json.response.ListLobbyResponseData;
+import it.polimi.ingsw.am52.network.server.ClientHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the registry of the clients in the ServerController.
+ */
+public class ServerControllerTest {
+
+    /**
+     * The ids of the test clients, far from the ids assigned by the servers of the other tests.
+     */
+    private static final AtomicInteger ids = new AtomicInteger(40_000);
+
+    @Test
+    @DisplayName("ServerController: handlers registry")
+    public void handlers() {
+        ServerController server = ServerController.getInstance();
+        ClientHandler handler = new FakeHandler(ids.incrementAndGet());
+        ClientHandler other = new FakeHandler(handler.getClientId());
+
+        assertTrue(server.getHandler(handler.getClientId()).isEmpty());
+        server.addHandler(handler);
+        assertSame(handler, server.getHandler(handler.getClientId()).orElseThrow());
+
+        // Only the registered handler can remove its id.
+        server.disconnect(other);
+        assertSame(handler, server.getHandler(handler.getClientId()).orElseThrow());
+        server.disconnect(handler);
+        assertTrue(server.getHandler(handler.getClientId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("ServerController: lobbies not modified")
+    public void notModified() {
+        ServerController server = ServerController.getInstance();
+        ListLobbyResponseData lobbies = server.getLobbyList(null);
+        assertEquals(0, lobbies.getStatus().getErrorCode());
+        assertFalse(lobbies.getNotModified());
+
+        // The client already has this version of the lobbies.
+        ListLobbyResponseData response = server.getLobbyList(new ListLobbyData(lobbies.getVersion(), 0, 0, 0, 0));
+        assertEquals(0, response.getStatus().getErrorCode());
+        assertTrue(response.getNotModified());
+        assertTrue(response.getLobbies().isEmpty());
+        assertEquals(lobbies.getVersion(), response.getVersion());
+
+        // An older version lists the lobbies.
+        response = server.getLobbyList(new ListLobbyData(lobbies.getVersion() - 1, 0, 0, 0, 0));
+        assertFalse(response.getNotModified());
+        assertEquals(lobbies.getLobbies(), response.getLobbies());
+    }
+
+    @Test
+    @DisplayName("ServerController: lobby subscriptions")
+    public void subscriptions() {
+        ServerController server = ServerController.getInstance();
+        ClientHandler handler = new FakeHandler(ids.incrementAndGet());
+
+        // Only the connected clients can subscribe.
+        assertEquals(404, server.subscribeLobbies(handler.getClientId(), true).getStatus().getErrorCode());
+        server.addHandler(handler);
+        ListLobbyResponseData lobbies = server.subscribeLobbies(handler.getClientId(), true);
+        assertEquals(0, lobbies.getStatus().getErrorCode());
+        assertEquals(server.getLobbyList(null).getLobbies(), lobbies.getLobbies());
+        assertTrue(server.getLobbySubscriptions().isSubscribed(handler.getClientId()));
+
+        assertEquals(0, server.subscribeLobbies(handler.getClientId(), false).getStatus().getErrorCode());
+        assertFalse(server.getLobbySubscriptions().isSubscribed(handler.getClientId()));
+
+        // The subscription ends with the connection.
+        server.subscribeLobbies(handler.getClientId(), true);
+        server.disconnect(handler);
+        assertFalse(server.getLobbySubscriptions().isSubscribed(handler.getClientId()));
+    }
+
+    @Test
+    @DisplayName("ServerController: quick match queue")
+    public void quickMatch() {
+        ServerController server = ServerController.getInstance();
+        ClientHandler handler = new FakeHandler(ids.incrementAndGet());
+        QuickMatchData data = new QuickMatchData("Alice", 4);
+
+        // Only the connected clients can wait for a match.
+        assertEquals(404, server.quickMatch(handler.getClientId(), data, game -> { }).getStatus().getErrorCode());
+        server.addHandler(handler);
+        assertEquals(-1, server.quickMatch(handler.getClientId(), data, game -> { }).getLobbyId());
+        assertTrue(server.getMatchmaking().isQueued(handler.getClientId()));
+        assertTrue(server.cancelQuickMatch(handler.getClientId()));
+        assertFalse(server.cancelQuickMatch(handler.getClientId()));
+
+        // The player leaves the queue with the connection.
+        server.quickMatch(handler.getClientId(), data, game -> { });
+        server.disconnect(handler);
+        assertFalse(server.getMatchmaking().isQueued(handler.getClientId()));
+    }
+}
@@ -0,0 +1,123 @@
+package it.polimi.ingsw.modelTests.cardsTest;
+
+import it.polimi.ingsw.am52.exceptions.CardException;
+import it.polimi.ingsw.am52.model.cards.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test that the card catalog has the same data of the card faces.
+ */
+public class CardCatalogTest {
+
+    @Test
+    @DisplayName("CardCatalog: same data of the card faces")
+    public void catalog() {
+        List<Card> cards = new ArrayList<>();
+        cards.addAll(ResourceCard.getCards().stream().toList());
+        cards.addAll(GoldCard.getCards().stream().toList());
+        cards.addAll(StarterCard.getCards().stream().toList());
+        assertEquals(CardCatalog.CARDS, cards.size());
+
+        for (Card card : cards) {
+            for (CardSide side : CardSide.values()) {
+                CardFace face = side == CardSide.FRONT ? card.getFrontFace() : card.getBackFace();
+                assertSame(face, CardCatalog.getFace(card.getCardId(), side));
+
+                for (CornerLocation location : CornerLocation.values()) {
+                    Optional<CardCorner> corner = face.getCornerAt(location);
+                    int code = CardCatalog.getCornerCode(card.getCardId(), side, location);
+                    assertEquals(corner.isPresent(), CardCatalog.hasCorner(face, location));
+                    assertEquals(corner.isPresent(), code != CardCatalog.CORNER_HIDDEN);
+                    assertEquals(corner.map(CardCorner::getResources).orElse(new ResourcesCounter()),
+                            CardCatalog.getCornerResources(code));
+                    assertEquals(corner.map(CardCorner::getItems).orElse(new ItemsCounter()),
+                            CardCatalog.getCornerItems(code));
+                    assertEquals(CardCatalog.getCornerResources(code), CardCatalog.getCornerResources(face, location));
+                    assertEquals(CardCatalog.getCornerItems(code), CardCatalog.getCornerItems(face, location));
+                }
+
+                assertEquals(face.getResources(), CardCatalog.getResources(face));
+                assertEquals(face.getPermanentResources(), CardCatalog.getPermanentResources(card.getCardId(), side));
+
+                if (face instanceof KingdomCardFace kingdomFace) {
+                    assertSame(kingdomFace.getKingdom(), CardCatalog.getKingdom(face));
+                    assertEquals(kingdomFace.getItems(), CardCatalog.getItems(face));
+                    assertEquals(face instanceof GoldFrontFace gold ? gold.getRequiredResources() : new ResourcesCounter(),
+                            CardCatalog.getRequiredResources(card.getCardId(), side));
+
+                    // The requirements and the points against a few boards.
+                    for (int n = 0; n != 6; n++) {
+                        ResourcesCounter resources = new ResourcesCounter(n, 5 - n, n % 3, n / 2);
+                        ItemsCounter items = new ItemsCounter(n, 2 * n, 5 - n);
+                        assertEquals(kingdomFace.canPlace(() -> resources), CardCatalog.canPlace(face, resources));
+                        assertEquals(kingdomFace.gainedPoints(() -> items, n % 5), CardCatalog.gainedPoints(face, items, n % 5));
+                    }
+                } else {
+                    assertNull(CardCatalog.getKingdom(face));
+                    assertEquals(new ItemsCounter(), CardCatalog.getItems(face));
+                }
+            }
+        }
+
+        assertThrows(CardException.class, () -> CardCatalog.getFace(CardCatalog.CARDS, CardSide.FRONT));
+        assertThrows(CardException.class, () -> CardCatalog.getFace(-1, CardSide.BACK));
+    }
+
+    @Test
+    @DisplayName("CardCatalog: one instance of each card, from any thread")
+    public void registry() throws Exception {
+        assertEquals(CardCatalog.CARDS, CardCatalog.load());
+
+        // The lookups by identifier return the cards of the lists.
+        for (ResourceCard card : ResourceCard.getCards().stream().toList()) {
+            assertSame(card, ResourceCard.getCardWithId(card.getCardId()));
+            assertSame(card, KingdomCard.getCardWithId(card.getCardId()));
+        }
+        for (GoldCard card : GoldCard.getCards().stream().toList()) {
+            assertSame(card, GoldCard.getCardWithId(card.getCardId()));
+            assertSame(card, KingdomCard.getCardWithId(card.getCardId()));
+        }
+        for (StarterCard card : StarterCard.getCards().stream().toList()) {
+            assertSame(card, StarterCard.getCardWithId(card.getCardId()));
+        }
+        assertThrows(CardException.class, () -> GoldCard.getCardWithId(39));
+        assertThrows(CardException.class, () -> KingdomCard.getCardWithId(80));
+
+        // Every thread sees the same instances.
+        Card[] cards = new Card[CardCatalog.CARDS];
+        Arrays.setAll(cards, CardCatalog::getCard);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Card[]>> futures = new ArrayList<>();
+            for (int t = 0; t != 8; t++) {
+                futures.add(executor.submit(() -> {
+                    Card[] seen = new Card[CardCatalog.CARDS];
+                    Arrays.setAll(seen, CardCatalog::getCard);
+                    return seen;
+                }));
+            }
+            for (Future<Card[]> future : futures) {
+                assertArrayEquals(cards, future.get());
+                for (int id = 0; id != cards.length; id++) {
+                    assertSame(cards[id], future.get()[id]);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Equal cards have equal hash codes, a set never holds the same card twice.
+        Set<Card> hand = new HashSet<>(Arrays.asList(cards));
+        assertEquals(CardCatalog.CARDS, hand.size());
+        assertTrue(hand.contains(new Card(7, cards[7].getFrontFace(), cards[7].getBackFace())));
+        assertEquals(cards[7].hashCode(), new Card(7, cards[7].getFrontFace(), cards[7].getBackFace()).hashCode());
+    }
+}
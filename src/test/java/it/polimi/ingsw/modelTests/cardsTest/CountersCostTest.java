@@ -0,0 +1,99 @@
+package it.polimi.ingsw.modelTests.cardsTest;
+
+import it.polimi.ingsw.am52.model.cards.*;
+import it.polimi.ingsw.am52.model.objectives.ItemPattern;
+import it.polimi.ingsw.am52.model.objectives.ResourcePattern;
+import it.polimi.ingsw.am52.model.playingBoards.PlayingBoard;
+import it.polimi.ingsw.modelTests.util.DummyPlayingBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measure the cost of the operations on the resources and items counters: the
+ * arithmetic, the gold cards requirements, the patterns and the placements.
+ * The results of the operations are tested in {@link ResourcesCounterTest} and {@link ItemsCounterTest}.
+ */
+public class CountersCostTest {
+
+    /**
+     * The number of times each operation is measured.
+     */
+    private static final int N_ROUNDS = 200_000;
+
+    /**
+     * The number of boards built to measure the placements.
+     */
+    private static final int N_BOARDS = 10_000;
+
+    @Test
+    @EnabledIfSystemProperty(named = "loadTest", matches = "true")
+    @DisplayName("Counters: cost of the operations")
+    public void cost() {
+        ResourcesCounter r1 = new ResourcesCounter(7, 3, 12, 5);
+        ResourcesCounter r2 = new ResourcesCounter(1, 2, 0, 3);
+        ItemsCounter i1 = new ItemsCounter(4, 9, 2);
+        ItemsCounter i2 = new ItemsCounter(1, 0, 2);
+
+        long addNanos = measure(N_ROUNDS, () -> ResourcesCounter.subtract(ResourcesCounter.add(r1, r2), r2).getAnimalCount() +
+                ItemsCounter.subtract(ItemsCounter.add(i1, i2), i2).getInkCount());
+
+        // All the gold cards against a board with few resources.
+        DummyPlayingBoard board = new DummyPlayingBoard(new ResourcesCounter(3, 2, 1, 0), new ItemsCounter(5, 3, 4));
+        GoldFrontFace[] golds = GoldCard.getCards().stream().map(GoldCard::getFrontFace).toArray(GoldFrontFace[]::new);
+        long canPlaceNanos = measure(N_ROUNDS, () -> {
+            int placeable = 0;
+            for (GoldFrontFace gold : golds) {
+                placeable += gold.canPlace(board) ? 1 : 0;
+            }
+            return placeable;
+        }) / golds.length;
+
+        DummyPlayingBoard rich = new DummyPlayingBoard(new ResourcesCounter(40, 2, 31, 0), new ItemsCounter(25, 13, 14));
+        long patternNanos = measure(N_ROUNDS, () -> ItemPattern.ALL_ITEMS.findPatterns(rich) +
+                ResourcePattern.FUNGI_RESOURCES.findPatterns(rich) + ResourcePattern.ANIMAL_RESOURCES.findPatterns(rich));
+
+        // The front faces of the resource cards, placed on a new board.
+        KingdomCardFace[] faces = ResourceCard.getCards().stream().map(ResourceCard::getFrontFace).toArray(KingdomCardFace[]::new);
+        long placeNanos = measure(N_BOARDS, () -> {
+            PlayingBoard playingBoard = new PlayingBoard(StarterCard.getCardWithId(80).getBackFace());
+            int points = 0;
+            for (KingdomCardFace face : faces) {
+                if (playingBoard.getAvailableSlots().size() == 0) {
+                    break;
+                }
+                points += playingBoard.placeCard(playingBoard.getAvailableSlots().get(0), face);
+            }
+            return points + playingBoard.getResources().getFungiCount();
+        }) / faces.length;
+
+        System.out.printf("Counters add+subtract: %d ns; gold canPlace: %d ns; 3 patterns: %d ns; placement: %d ns%n",
+                addNanos, canPlaceNanos, patternNanos, placeNanos);
+    }
+
+    /**
+     * @param rounds The number of times the operation is measured.
+     * @param operation The operation, its result is consumed.
+     * @return The best average time of the operation among a few passes, in nanoseconds, after a warm-up.
+     */
+    private static long measure(int rounds, IntSupplier operation) {
+        int sink = 0;
+        for (int i = 0; i != rounds; i++) {
+            sink += operation.getAsInt();
+        }
+        long best = Long.MAX_VALUE;
+        for (int pass = 0; pass != 5; pass++) {
+            long start = System.nanoTime();
+            for (int i = 0; i != rounds / 5; i++) {
+                sink += operation.getAsInt();
+            }
+            best = Math.min(best, (System.nanoTime() - start) / (rounds / 5));
+        }
+        assertNotEquals(Integer.MIN_VALUE, sink);
+        return best;
+    }
+}
@@ -2,6 +2,9 @@ package it.polimi.ingsw.modelTests.cardsTest;
 
 import it.polimi.ingsw.am52.model.cards.Item;
 import it.polimi.ingsw.am52.model.cards.ItemsCounter;
+import it.polimi.ingsw.am52.model.cards.ResourcesCounter;
+import it.polimi.ingsw.am52.model.objectives.ItemPattern;
+import it.polimi.ingsw.modelTests.util.DummyPlayingBoard;
 
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.DisplayName;
@@ -177,4 +180,47 @@ public class ItemsCounterTest
 
         //endregion
     }
+
+    /**
+     * Test for class ItemsCounter:<ul>
+     *     <li>Method covers(), all the items compared at once</li>
+     *     <li>Method countMultiples(), the patterns counted at once</li>
+     *     <li>Class Accumulator, the items updated in place</li>
+     * </ul>
+     */
+    @Test
+    @DisplayName("ItemsCounter covers(), countMultiples() and Accumulator")
+    public void packedTest() {
+
+        // The largest and the smallest counts.
+        ItemsCounter extremes = new ItemsCounter(32767, -32768, 0);
+        assertEquals(32767, extremes.getFeatherCount());
+        assertEquals(-32768, extremes.getInkCount());
+        assertEquals(0, extremes.getVellumCount());
+        assertTrue(extremes.hasNegative());
+
+        ItemsCounter available = new ItemsCounter(5, 3, 4);
+        assertTrue(available.covers(new ItemsCounter(5, 3, 4)));
+        assertTrue(available.covers(new ItemsCounter(0, 0, 0)));
+        assertFalse(available.covers(new ItemsCounter(0, 4, 0)));
+        assertFalse(available.covers(new ItemsCounter(6, 0, 0)));
+
+        assertEquals(3, available.countMultiples(new ItemsCounter(1, 1, 1)));
+        assertEquals(2, available.countMultiples(new ItemsCounter(2, 0, 0)));
+        assertEquals(1, available.countMultiples(new ItemsCounter(0, 2, 0)));
+        assertEquals(2, available.countMultiples(new ItemsCounter(0, 0, 2)));
+        assertEquals(0, available.countMultiples(new ItemsCounter(0, 0, 5)));
+
+        // The accumulator adds and subtracts in place.
+        ItemsCounter.Accumulator accumulator = new ItemsCounter.Accumulator(new ItemsCounter());
+        accumulator.add(new ItemsCounter(Item.INK));
+        accumulator.add(new ItemsCounter(Item.INK));
+        accumulator.subtract(new ItemsCounter(Item.VELLUM));
+        assertEquals(new ItemsCounter(0, 2, -1), accumulator.toCounter());
+        assertSame(accumulator.toCounter(), accumulator.toCounter());
+
+        // The item patterns count the multiples of the items on the board.
+        assertEquals(3, ItemPattern.ALL_ITEMS.findPatterns(new DummyPlayingBoard(new ResourcesCounter(), available)));
+        assertEquals(13, ItemPattern.ALL_ITEMS.findPatterns(new DummyPlayingBoard(new ResourcesCounter(), new ItemsCounter(25, 13, 14))));
+    }
 }
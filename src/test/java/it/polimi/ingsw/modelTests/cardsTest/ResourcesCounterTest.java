@@ -1,13 +1,16 @@
 package it.polimi.ingsw.modelTests.cardsTest;
 
+import it.polimi.ingsw.am52.model.cards.ItemsCounter;
 import it.polimi.ingsw.am52.model.cards.Resource;
 import it.polimi.ingsw.am52.model.cards.ResourcesCounter;
+import it.polimi.ingsw.am52.model.objectives.ResourcePattern;
+import it.polimi.ingsw.modelTests.util.DummyPlayingBoard;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit test for ResourcesCounter class.
@@ -201,4 +204,65 @@ public class ResourcesCounterTest
 
         //endregion
     }
+
+    /**
+     * Test for class ResourcesCounter:<ul>
+     *     <li>Method covers(), all the resources compared at once</li>
+     *     <li>Method countMultiples(), the patterns counted at once</li>
+     *     <li>Class Accumulator, the resources updated in place</li>
+     * </ul>
+     */
+    @Test
+    @DisplayName("ResourcesCounter covers(), countMultiples() and Accumulator")
+    public void packedTest() {
+
+        // Random numbers generator.
+        Random r = new Random(18);
+
+        for (int round = 0; round != 10_000; round++) {
+            int[] available = r.ints(4, -20, 40).toArray();
+            int[] required = r.ints(4, 0, 6).toArray();
+            ResourcesCounter a = new ResourcesCounter(available[0], available[1], available[2], available[3]);
+            ResourcesCounter q = new ResourcesCounter(required[0], required[1], required[2], required[3]);
+
+            // Compare each resource.
+            boolean covers = true;
+            boolean negative = false;
+            for (int i = 0; i != 4; i++) {
+                covers &= available[i] >= required[i];
+                negative |= available[i] < 0;
+            }
+            assertEquals(covers, a.covers(q));
+            assertEquals(negative, a.hasNegative());
+
+            // Subtract the pattern until a resource is negative.
+            if (!negative) {
+                int patterns = 0;
+                ResourcesCounter left = ResourcesCounter.subtract(a, q);
+                while (!left.hasNegative() && !q.equals(new ResourcesCounter())) {
+                    patterns++;
+                    left = ResourcesCounter.subtract(left, q);
+                }
+                assertEquals(patterns, a.countMultiples(q));
+            }
+        }
+
+        // The accumulator adds and subtracts in place, its counter is created once for each change.
+        ResourcesCounter.Accumulator accumulator = new ResourcesCounter.Accumulator(new ResourcesCounter(1, 2, 3, 4));
+        accumulator.add(new ResourcesCounter(Resource.INSECT));
+        accumulator.subtract(new ResourcesCounter(2, 0, 0, 0));
+        ResourcesCounter counter = accumulator.toCounter();
+        assertEquals(new ResourcesCounter(-1, 2, 3, 5), counter);
+        assertSame(counter, accumulator.toCounter());
+        accumulator.add(new ResourcesCounter());
+        assertNotSame(counter, accumulator.toCounter());
+        assertEquals(counter, accumulator.toCounter());
+
+        // The resource patterns count the multiples of the resources on the board.
+        DummyPlayingBoard board = new DummyPlayingBoard(new ResourcesCounter(3, 2, 1, 0), new ItemsCounter());
+        assertEquals(1, ResourcePattern.FUNGI_RESOURCES.findPatterns(board));
+        DummyPlayingBoard rich = new DummyPlayingBoard(new ResourcesCounter(40, 2, 31, 0), new ItemsCounter());
+        assertEquals(13, ResourcePattern.FUNGI_RESOURCES.findPatterns(rich));
+        assertEquals(10, ResourcePattern.ANIMAL_RESOURCES.findPatterns(rich));
+    }
 }
@@ -0,0 +1,114 @@
+package it.polimi.ingsw.modelTests.jsonTests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonDeserializer;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.request.PlaceCardData;
+import it.polimi.ingsw.am52.json.request.PlaceCardRequest;
+import it.polimi.ingsw.am52.json.response.ChatResponse;
+import it.polimi.ingsw.am52.json.response.ChatResponseData;
+import it.polimi.ingsw.am52.json.response.ResponseStatus;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for the shared json codec and the streaming deserialization.
+ */
+public class JsonCodecTest {
+
+    @Test
+    @DisplayName("The method is serialized before the data")
+    public void methodFirstTest() throws Exception {
+        String jsonText = new PlaceCardRequest(new PlaceCardData(31, 1, new BoardSlot(1, -1))).toJson();
+
+        assertTrue(jsonText.startsWith("{\"" + JsonDeserializer.METHOD_FIELD + "\":"));
+        assertTrue(jsonText.indexOf(JsonDeserializer.METHOD_FIELD) < jsonText.indexOf(JsonDeserializer.DATA_FIELD));
+    }
+
+    @Test
+    @DisplayName("Request round trip, with method and data in any order")
+    public void requestRoundTripTest() throws Exception {
+        String jsonText = new PlaceCardRequest(new PlaceCardData(31, 1, new BoardSlot(1, -1))).toJson();
+        checkPlaceCard(JsonDeserializer.deserializeRequest(jsonText));
+
+        // The data before the method, and an unknown field.
+        String dataFirst = "{\"data\":{\"cardId\":31,\"face\":1,\"placedSlot\":{\"h\":1,\"v\":-1}},\"extra\":[1,{\"a\":2}],\"method\":\"placeCard\"}";
+        checkPlaceCard(JsonDeserializer.deserializeRequest(dataFirst));
+    }
+
+    @Test
+    @DisplayName("Response round trip")
+    public void responseRoundTripTest() throws Exception {
+        ChatResponse response = new ChatResponse(new ChatResponseData(new ResponseStatus(), "hello"));
+
+        JsonMessage<BaseResponseData> message = JsonDeserializer.deserializeResponse(response.toJson());
+
+        assertInstanceOf(ChatResponse.class, message);
+        assertEquals(JsonDeserializer.CHAT_METHOD, message.getMethod());
+        assertEquals("hello", ((ChatResponseData) message.getData()).getMessage());
+        assertEquals(response.toJson(), message.toJson());
+    }
+
+    @Test
+    @DisplayName("Invalid messages")
+    public void invalidMessagesTest() {
+        assertThrows(IOException.class, () -> JsonDeserializer.deserializeRequest("{\"data\":{}}"));
+        assertThrows(IOException.class, () -> JsonDeserializer.deserializeRequest("{\"method\":\"unknown\",\"data\":{}}"));
+        assertThrows(IOException.class, () -> JsonDeserializer.deserializeRequest("[\"method\",\"placeCard\"]"));
+        assertThrows(IOException.class, () -> JsonDeserializer.deserializeResponse("{\"method\":\"placeCard\",\"data\":"));
+    }
+
+    @Test
+    @DisplayName("Decoding time, tree parsing versus streaming")
+    public void decodingTimeTest() throws Exception {
+        final int nMessages = 20_000;
+        String jsonText = new PlaceCardRequest(new PlaceCardData(31, 1, new BoardSlot(1, -1))).toJson();
+
+        // Warm up both paths.
+        for (int i = 0; i != nMessages; i++) {
+            treeDecode(jsonText);
+            JsonDeserializer.deserializeRequest(jsonText);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i != nMessages; i++) {
+            treeDecode(jsonText);
+        }
+        long treeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i != nMessages; i++) {
+            JsonDeserializer.deserializeRequest(jsonText);
+        }
+        long streamNanos = System.nanoTime() - start;
+
+        System.out.printf("Request decoding: tree %d ns/msg, streaming %d ns/msg%n",
+                treeNanos / nMessages, streamNanos / nMessages);
+    }
+
+    /**
+     * The previous decoding: two object mappers, a tree, and the data parsed twice.
+     */
+    private static PlaceCardRequest treeDecode(String jsonText) throws IOException {
+        JsonNode jsonNode = new ObjectMapper().readTree(jsonText);
+        jsonNode.get(JsonDeserializer.METHOD_FIELD).asText();
+        PlaceCardData data = new ObjectMapper().readValue(jsonNode.get(JsonDeserializer.DATA_FIELD).toString(), PlaceCardData.class);
+        return new PlaceCardRequest(data);
+    }
+
+    private static void checkPlaceCard(JsonMessage<?> message) {
+        assertInstanceOf(PlaceCardRequest.class, message);
+        PlaceCardData data = ((PlaceCardRequest) message).getData();
+        assertEquals(31, data.getCardId());
+        assertEquals(1, data.getFace());
+        assertEquals(1, data.getPlacedSlot().getHoriz());
+        assertEquals(-1, data.getPlacedSlot().getVert());
+    }
+}
@@ -0,0 +1,246 @@
+package it.polimi.ingsw.modelTests.jsonTests;
+
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonDeserializer;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.MessageCodec;
+import it.polimi.ingsw.am52.json.MessageCodecs;
+import it.polimi.ingsw.am52.json.request.*;
+import it.polimi.ingsw.am52.json.response.*;
+import it.polimi.ingsw.am52.model.game.GamePhase;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for the codecs of the messages: every codec decodes the same messages it encodes,
+ * and the compact codec is compared with the json codec.
+ */
+public class MessageCodecTest {
+
+    @Test
+    @DisplayName("Codecs: registered codecs")
+    public void registeredCodecs() {
+        assertSame(MessageCodecs.JSON, MessageCodecs.get("json"));
+        assertSame(MessageCodecs.COMPACT, MessageCodecs.get("COMPACT"));
+        assertNull(MessageCodecs.get("xml"));
+        assertNull(MessageCodecs.get(null));
+        assertSame(MessageCodecs.JSON, MessageCodecs.getOrDefault("xml"));
+        assertTrue(MessageCodecs.getNames().containsAll(List.of("json", "compact")));
+    }
+
+    @Test
+    @DisplayName("Codecs: round trip of all the requests and the responses")
+    public void roundTrip() throws Exception {
+        for (MessageCodec codec : List.of(MessageCodecs.JSON, MessageCodecs.COMPACT)) {
+            for (JsonMessage<?> request : newRequests()) {
+                JsonMessage<?> decoded = codec.decodeRequest(ByteBuffer.wrap(codec.encode(request)));
+                assertSame(request.getClass(), decoded.getClass());
+                assertEquals(request.toJson(), decoded.toJson(), codec + " " + request.getMethod());
+            }
+            for (JsonMessage<BaseResponseData> response : newResponses()) {
+                JsonMessage<?> decoded = codec.decodeResponse(ByteBuffer.wrap(codec.encode(response)));
+                assertSame(response.getClass(), decoded.getClass());
+                assertEquals(response.toJson(), decoded.toJson(), codec + " " + response.getMethod());
+            }
+        }
+
+        // The json codec writes the same bytes of the json text.
+        JsonMessage<BaseResponseData> response = newResponses().getFirst();
+        assertArrayEquals(response.toJsonBytes(), MessageCodecs.JSON.encode(response));
+
+        // The payload can be in the middle of a larger buffer.
+        byte[] encoded = MessageCodecs.COMPACT.encode(response);
+        ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 8);
+        buffer.position(4);
+        buffer.put(encoded);
+        buffer.flip().position(4);
+        assertEquals(response.toJson(), MessageCodecs.COMPACT.decodeResponse(buffer).toJson());
+    }
+
+    @Test
+    @DisplayName("Codecs: correlation id")
+    public void correlationId() throws Exception {
+        for (MessageCodec codec : List.of(MessageCodecs.JSON, MessageCodecs.COMPACT)) {
+            JsonMessage<?> request = new ChatRequest(new ChatData("Alice", "hello", "Bob"));
+            assertNull(codec.decodeRequest(ByteBuffer.wrap(codec.encode(request))).getId());
+            request.setId(42);
+            assertEquals(42, codec.decodeRequest(ByteBuffer.wrap(codec.encode(request))).getId());
+
+            JsonMessage<BaseResponseData> response = newPlaceCard();
+            response.setId(-3);
+            assertEquals(-3, codec.decodeResponse(ByteBuffer.wrap(codec.encode(response))).getId());
+        }
+
+        // The id is written only if present, and it can be anywhere in the json object.
+        assertFalse(new ListLobbyRequest(null).toJson().contains("\"id\""));
+        JsonMessage<?> request = JsonDeserializer.deserializeRequest(
+                "{\"data\":{\"objectiveId\":95},\"id\":5,\"method\":\"selectObjective\"}");
+        assertEquals(5, request.getId());
+        assertEquals(95, ((SelectObjectiveData) request.getData()).getObjectiveId());
+        assertNull(JsonDeserializer.deserializeRequest("{\"method\":\"listLobby\",\"id\":null}").getId());
+    }
+
+    @Test
+    @DisplayName("Codecs: invalid bytes")
+    public void invalidBytes() {
+        assertThrows(IOException.class, () -> MessageCodecs.COMPACT.decodeRequest(ByteBuffer.wrap(new byte[] { 1, 2, 3 })));
+        // A json text is not a valid compact message, and the other way around.
+        assertThrows(IOException.class, () -> MessageCodecs.COMPACT.decodeRequest(
+                ByteBuffer.wrap(new ListLobbyRequest(null).toJsonBytes())));
+        assertThrows(IOException.class, () -> MessageCodecs.JSON.decodeRequest(
+                ByteBuffer.wrap(MessageCodecs.COMPACT.encode(new ListLobbyRequest(null)))));
+    }
+
+    @Test
+    @DisplayName("Codecs: the compact codec is at least two times smaller")
+    public void compactSize() throws Exception {
+        for (JsonMessage<BaseResponseData> response : List.of(newInitGame(), newPlaceCard(), newListLobby())) {
+            int jsonSize = MessageCodecs.JSON.encode(response).length;
+            int compactSize = MessageCodecs.COMPACT.encode(response).length;
+            assertTrue(2 * compactSize <= jsonSize, response.getMethod() + ": " + compactSize + " of " + jsonSize);
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "loadTest", matches = "true")
+    @DisplayName("Codecs: size and time of all the messages")
+    public void comparison() throws Exception {
+        final int nRounds = 5_000;
+        Map<String, JsonMessage<?>> messages = new LinkedHashMap<>();
+        for (JsonMessage<?> request : newRequests()) {
+            messages.put("request " + request.getMethod(), request);
+        }
+        for (JsonMessage<BaseResponseData> response : newResponses()) {
+            messages.put("response " + response.getMethod(), response);
+        }
+
+        System.out.printf("%-28s %8s %8s %10s %10s %10s %10s%n", "message",
+                "json B", "cmpct B", "json enc", "cmpct enc", "json dec", "cmpct dec");
+        for (Map.Entry<String, JsonMessage<?>> entry : messages.entrySet()) {
+            boolean request = entry.getKey().startsWith("request");
+            long[] json = measure(MessageCodecs.JSON, entry.getValue(), request, nRounds);
+            long[] compact = measure(MessageCodecs.COMPACT, entry.getValue(), request, nRounds);
+            System.out.printf("%-28s %8d %8d %7d ns %7d ns %7d ns %7d ns%n", entry.getKey(),
+                    json[0], compact[0], json[1], compact[1], json[2], compact[2]);
+        }
+    }
+
+    /**
+     * Measure a codec.
+     * @return The encoded size, the mean encoding time and the mean decoding time.
+     */
+    private static long[] measure(MessageCodec codec, JsonMessage<?> message, boolean request, int nRounds) throws IOException {
+        byte[] encoded = codec.encode(message);
+        // Warm up.
+        for (int i = 0; i != nRounds; i++) {
+            codec.encode(message);
+            decode(codec, encoded, request);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i != nRounds; i++) {
+            codec.encode(message);
+        }
+        long encodeNanos = (System.nanoTime() - start) / nRounds;
+
+        start = System.nanoTime();
+        for (int i = 0; i != nRounds; i++) {
+            decode(codec, encoded, request);
+        }
+        long decodeNanos = (System.nanoTime() - start) / nRounds;
+
+        return new long[] { encoded.length, encodeNanos, decodeNanos };
+    }
+
+    private static JsonMessage<?> decode(MessageCodec codec, byte[] encoded, boolean request) throws IOException {
+        return request ? codec.decodeRequest(ByteBuffer.wrap(encoded)) : codec.decodeResponse(ByteBuffer.wrap(encoded));
+    }
+
+    private static List<JsonMessage<?>> newRequests() {
+        return List.of(
+                new JoinLobbyRequest(new JoinLobbyData("Alice", 3)),
+                new ListLobbyRequest(null),
+                new ListLobbyRequest(new ListLobbyData(3, 10, 20, 4, 1)),
+                new CreateLobbyRequest(new CreateLobbyData("Alice", 4)),
+                new InitGameRequest(null),
+                new LeaveGameRequest(null),
+                new SelectObjectiveRequest(new SelectObjectiveData(95)),
+                new PlaceStarterCardRequest(new PlaceStarterCardData(81, 1)),
+                new PlaceCardRequest(new PlaceCardData(31, 1, new BoardSlot(1, -1))),
+                new DrawCardRequest(new DrawCardData(1)),
+                new TakeCardRequest(new TakeCardData(12, 0)),
+                new EndGameRequest(null),
+                new ChatRequest(new ChatData("Alice", "hello", "Bob")),
+                new SubscribeLobbyRequest(new SubscribeLobbyData(false)),
+                new QuickMatchRequest(new QuickMatchData("Alice", 3)),
+                new HintsRequest(null)
+        );
+    }
+
+    private static List<JsonMessage<BaseResponseData>> newResponses() {
+        List<JsonMessage<BaseResponseData>> responses = new ArrayList<>();
+        responses.add(new JoinLobbyResponse(new JoinLobbyResponseData(newStatus(), 3, List.of("Alice", "Bob"))));
+        responses.add(new CreateLobbyResponse(new JoinLobbyResponseData(newStatus(), 3, List.of("Alice"))));
+        responses.add(newListLobby());
+        responses.add(new ListLobbyResponse(new ListLobbyResponseData(newStatus(), 42)));
+        responses.add(newInitGame());
+        responses.add(new LeaveGameResponse(new LeaveGameResponseData(newStatus(), "Alice")));
+        responses.add(new SelectObjectiveResponse(new SelectObjectiveResponseData(newStatus(), 95)));
+        responses.add(new PlaceStarterCardResponse(new PlaceStarterCardResponseData(newStatus(), 81, 1, "Alice", newSlots(4))));
+        responses.add(newPlaceCard());
+        responses.add(new DrawCardResponse(new DrawCardResponseData(newStatus(), 12, 1, 14)));
+        responses.add(new TakeCardResponse(new TakeCardResponseData(newStatus(), 12, 13, 0, 14)));
+        responses.add(new EndGameResponse(new EndGameResponseData(newStatus(), List.of("Alice"), "Bob")));
+        responses.add(new ChatResponse(new ChatResponseData(newStatus(), "Alice : hello")));
+        responses.add(new SubscribeLobbyResponse(new ListLobbyResponseData(newStatus(), Map.of(1, 2, 3, 4), 12, -1)));
+        responses.add(new LobbyUpdateResponse(new LobbyUpdateResponseData(newStatus(), 12, 15,
+                Map.of(5, 4), Map.of(1, 1), List.of(3))));
+        responses.add(new QuickMatchResponse(new JoinLobbyResponseData(newStatus(), -1, List.of())));
+        responses.add(new HintsResponse(new HintsResponseData(newStatus(), List.of(
+                new HintsResponseData.Hint(31, 0, new BoardSlot(1, -1), 2, 0),
+                new HintsResponseData.Hint(31, 1, new BoardSlot(-1, 1), 0, 3)))));
+        return responses;
+    }
+
+    private static JsonMessage<BaseResponseData> newInitGame() {
+        return new InitGameResponse(new InitGameResponseData(newStatus(),
+                List.of("Alice", "Bob", "Carol", "Dave"), List.of(87, 88), List.of(4, 15), List.of(41, 52),
+                List.of(3, 27, 45), List.of(89, 94), 81, 9, 60));
+    }
+
+    private static JsonMessage<BaseResponseData> newPlaceCard() {
+        return new PlaceCardResponse(new PlaceCardResponseData(newStatus(), 31, 1, new BoardSlot(1, -1),
+                newSlots(12), "Alice", 7));
+    }
+
+    private static JsonMessage<BaseResponseData> newListLobby() {
+        Map<Integer, Integer> lobbies = new LinkedHashMap<>();
+        for (int i = 0; i != 20; i++) {
+            lobbies.put(i, 2 + i % 3);
+        }
+        return new ListLobbyResponse(new ListLobbyResponseData(newStatus(), lobbies));
+    }
+
+    private static List<BoardSlot> newSlots(int count) {
+        List<BoardSlot> slots = new ArrayList<>();
+        for (int i = 0; i != count; i++) {
+            slots.add(new BoardSlot(2 * i - count, (i % 2) * 2));
+        }
+        return slots;
+    }
+
+    private static ResponseStatus newStatus() {
+        return new ResponseStatus(GamePhase.PLACING, "Alice", 0, "");
+    }
+}
@@ -0,0 +1,70 @@
+package it.polimi.ingsw.modelTests.objectivesTests;
+
+import it.polimi.ingsw.am52.model.objectives.PatternFinder;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import it.polimi.ingsw.am52.model.playingBoards.RelativeLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test that the lines found by PatternFinder.findLines() are the sequences found by
+ * repeating PatternFinder.findAlignedSlots() on the remaining slots.
+ */
+public class AlignedSlotsTest {
+
+    /**
+     * The number of random sets of slots.
+     */
+    private static final int N_SETS = 300;
+
+    @Test
+    @DisplayName("PatternFinder: lines of aligned slots")
+    public void lines() {
+        Random random = new Random(21);
+        for (int n = 0; n != N_SETS; n++) {
+            // A random set of slots, more or less dense.
+            double density = random.nextDouble();
+            List<BoardSlot> slots = new ArrayList<>();
+            for (int h = -10; h <= 10; h++) {
+                for (int v = -10; v <= 10; v++) {
+                    if (BoardSlot.validateCoords(h, v) && random.nextDouble() < density) {
+                        slots.add(new BoardSlot(h, v));
+                    }
+                }
+            }
+            Collections.shuffle(slots, random);
+
+            for (RelativeLocation direction : RelativeLocation.values()) {
+                List<List<BoardSlot>> lines = PatternFinder.findLines(slots, direction);
+
+                // Each slot is in exactly one line.
+                assertEquals(slots.size(), lines.stream().mapToInt(List::size).sum());
+                assertEquals(new HashSet<>(slots), lines.stream().flatMap(List::stream).collect(HashSet::new, Set::add, Set::addAll));
+
+                assertEquals(new HashSet<>(expectedLines(slots, direction)), new HashSet<>(lines));
+            }
+        }
+
+        assertTrue(PatternFinder.findLines(List.of(), RelativeLocation.TOP).isEmpty());
+    }
+
+    /**
+     * @param slots The slots.
+     * @param direction The direction of the lines.
+     * @return The lines found by removing the aligned slots one sequence at a time.
+     */
+    private static List<List<BoardSlot>> expectedLines(List<BoardSlot> slots, RelativeLocation direction) {
+        List<List<BoardSlot>> lines = new ArrayList<>();
+        List<BoardSlot> remaining = new ArrayList<>(slots);
+        while (!remaining.isEmpty()) {
+            List<BoardSlot> aligned = PatternFinder.findAlignedSlots(remaining, direction);
+            lines.add(aligned);
+            remaining.removeAll(aligned);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,95 @@
+package it.polimi.ingsw.modelTests.objectivesTests;
+
+import it.polimi.ingsw.am52.model.cards.KingdomCard;
+import it.polimi.ingsw.am52.model.cards.KingdomCardFace;
+import it.polimi.ingsw.am52.model.objectives.*;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import it.polimi.ingsw.modelTests.util.DummyPlayingBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test that the objectives scored on the kingdom planes of a board give the same
+ * points of the pattern finders that walk the lines of aligned slots.
+ */
+public class KingdomPlanesTest {
+
+    /**
+     * The number of random boards.
+     */
+    private static final int N_BOARDS = 500;
+
+    /**
+     * The finders of the diagonal and tower objectives that walk the lines of aligned slots, by identifier.
+     */
+    private static final List<PatternFinder> LINE_FINDERS = List.of(
+            DiagonalPattern.FUNGI_DIAGONAL, DiagonalPattern.PLANT_DIAGONAL,
+            DiagonalPattern.ANIMAL_DIAGONAL, DiagonalPattern.INSECT_DIAGONAL,
+            TowerPattern.FUNGI_TOWER, TowerPattern.PLANT_TOWER, TowerPattern.ANIMAL_TOWER, TowerPattern.INSECT_TOWER);
+
+    @Test
+    @DisplayName("KingdomPlanes: same points of the pattern finders")
+    public void samePoints() {
+        Random random = new Random(22);
+        List<Objective> objectives = Objective.getObjectives().toList();
+
+        for (int n = 0; n != N_BOARDS; n++) {
+            // A random board, more or less dense, with few kingdoms to have many patterns.
+            double density = random.nextDouble();
+            int kingdoms = 1 + random.nextInt(4);
+            int size = 2 + random.nextInt(12);
+            DummyPlayingBoard board = new DummyPlayingBoard();
+            for (int h = -size; h <= size; h++) {
+                for (int v = -size; v <= size; v++) {
+                    if (BoardSlot.validateCoords(h, v) && (h != 0 || v != 0) && random.nextDouble() < density) {
+                        // One of the ten cards of a kingdom (resource or gold), either side.
+                        int kingdom = random.nextInt(kingdoms);
+                        KingdomCard card = KingdomCard.getCardWithId(10 * kingdom + random.nextInt(10) + 40 * random.nextInt(2));
+                        board.addCard(new BoardSlot(h, v), random.nextBoolean() ? card.getFrontFace() : card.getBackFace());
+                    }
+                }
+            }
+
+            Optional<KingdomPlanes> planes = KingdomPlanes.of(board);
+            assertTrue(planes.isPresent());
+
+            int expected = 0;
+            for (Objective objective : objectives) {
+                int points = objective.calculatePoints(board);
+                if (objective.getObjectiveId() < LINE_FINDERS.size()) {
+                    assertEquals(LINE_FINDERS.get(objective.getObjectiveId()).findPatterns(board) * objective.getBonusPoints(),
+                            points, "Objective " + objective.getObjectiveId());
+                }
+                expected += points;
+            }
+
+            // The tracker shares the planes of the board among the objectives.
+            assertEquals(expected, new ObjectivesTracker(objectives, board).getPoints());
+        }
+    }
+
+    @Test
+    @DisplayName("KingdomPlanes: boards too tall for the planes")
+    public void fallback() {
+        // A diagonal of 70 fungi cards spans more than 64 bits.
+        KingdomCardFace fungi = KingdomCard.getCardWithId(0).getFrontFace();
+        DummyPlayingBoard board = new DummyPlayingBoard();
+        for (int i = 1; i <= 70; i++) {
+            board.addCard(new BoardSlot(i, i), fungi);
+        }
+        assertTrue(KingdomPlanes.of(board).isEmpty());
+
+        // The objectives are still scored, by the pattern finders.
+        assertEquals(23 * 2, new ObjectivesTracker(List.of(Objective.getObjectiveWithId(0), Objective.getObjectiveWithId(4)), board).getPoints());
+
+        // An empty board has empty planes.
+        assertTrue(KingdomPlanes.of(new DummyPlayingBoard()).isPresent());
+        assertEquals(0, new ObjectivesTracker(Objective.getObjectives().toList(), new DummyPlayingBoard()).getPoints());
+    }
+}
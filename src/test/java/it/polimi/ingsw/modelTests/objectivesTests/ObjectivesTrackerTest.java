@@ -0,0 +1,97 @@
+package it.polimi.ingsw.modelTests.objectivesTests;
+
+import it.polimi.ingsw.am52.model.cards.KingdomCard;
+import it.polimi.ingsw.am52.model.cards.KingdomCardFace;
+import it.polimi.ingsw.am52.model.cards.StarterCard;
+import it.polimi.ingsw.am52.model.objectives.Objective;
+import it.polimi.ingsw.am52.model.objectives.ObjectivesTracker;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import it.polimi.ingsw.am52.model.playingBoards.PlayingBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test that the objectives tracked on a playing board, updated after each placement,
+ * give the same points of the objectives scored from scratch.
+ */
+public class ObjectivesTrackerTest {
+
+    /**
+     * The number of random games.
+     */
+    private static final int N_GAMES = 200;
+
+    /**
+     * The maximum number of cards placed in a game.
+     */
+    private static final int MAX_CARDS = 45;
+
+    @Test
+    @DisplayName("ObjectivesTracker: same points of the objectives scored from scratch")
+    public void samePoints() throws Exception {
+        Random random = new Random(24);
+
+        // The 16 objectives of the game, and two shapes that are not in the game: one whose
+        // shapes share cards only along their line, and one whose shapes share cards across lines.
+        List<Objective> objectives = new ArrayList<>(Objective.getObjectives().toList());
+        objectives.addAll(Objective.parseFromJson("""
+                [ { "id": 16, "bonus": 4, "shape": [
+                    { "horiz": 0, "vert": 0, "kingdom": "plant" },
+                    { "horiz": 0, "vert": 2, "kingdom": "plant" },
+                    { "horiz": 2, "vert": 0, "kingdom": "animal" } ] },
+                  { "id": 17, "bonus": 5, "shape": [
+                    { "horiz": 0, "vert": 0, "kingdom": "fungi" },
+                    { "horiz": 1, "vert": 1, "kingdom": "insect" },
+                    { "horiz": 2, "vert": 0, "kingdom": "fungi" } ] } ]
+                """).toList());
+
+        for (int n = 0; n != N_GAMES; n++) {
+            List<KingdomCard> cards = new ArrayList<>();
+            for (int id = 0; id != 80; id++) {
+                cards.add(KingdomCard.getCardWithId(id));
+            }
+            Collections.shuffle(cards, random);
+
+            PlayingBoard board = new PlayingBoard(StarterCard.getCardWithId(80 + random.nextInt(6)).getBackFace());
+            board.trackObjectives(objectives);
+            List<ObjectivesTracker> trackers = new ArrayList<>();
+            for (Objective objective : objectives) {
+                trackers.add(new ObjectivesTracker(List.of(objective), board));
+            }
+
+            int placed = 0;
+            for (KingdomCard card : cards) {
+                if (placed == MAX_CARDS || board.getAvailableSlots().size() == 0) {
+                    break;
+                }
+                // Mostly back faces, that can always be placed and leave all corners visible.
+                KingdomCardFace face = random.nextInt(4) == 0 ? card.getFrontFace() : card.getBackFace();
+                if (!face.canPlace(board)) {
+                    continue;
+                }
+                BoardSlot slot = board.getAvailableSlots().get(random.nextInt(board.getAvailableSlots().size()));
+                board.placeCard(slot, face);
+                placed++;
+
+                int expected = 0;
+                for (int index = 0; index != objectives.size(); index++) {
+                    trackers.get(index).update(board, slot);
+                    int points = objectives.get(index).calculatePoints(board.getInfo());
+                    assertEquals(points, trackers.get(index).getPoints(), "Objective " + objectives.get(index).getObjectiveId());
+                    expected += points;
+                }
+                assertEquals(expected, board.getObjectivePoints());
+            }
+        }
+
+        // A board without tracked objectives.
+        assertEquals(0, new PlayingBoard(StarterCard.getCardWithId(80).getBackFace()).getObjectivePoints());
+    }
+}
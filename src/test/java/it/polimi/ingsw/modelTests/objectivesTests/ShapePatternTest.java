@@ -0,0 +1,147 @@
+package it.polimi.ingsw.modelTests.objectivesTests;
+
+import it.polimi.ingsw.am52.exceptions.ObjectivesException;
+import it.polimi.ingsw.am52.model.cards.ItemsCounter;
+import it.polimi.ingsw.am52.model.cards.Kingdom;
+import it.polimi.ingsw.am52.model.cards.KingdomCard;
+import it.polimi.ingsw.am52.model.cards.KingdomCardFace;
+import it.polimi.ingsw.am52.model.cards.ResourcesCounter;
+import it.polimi.ingsw.am52.model.objectives.*;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import it.polimi.ingsw.modelTests.util.DummyPlayingBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test that the objectives described in json give the same points of the
+ * hand-written pattern finders, and that new shapes can be described.
+ */
+public class ShapePatternTest {
+
+    /**
+     * The number of random boards.
+     */
+    private static final int N_BOARDS = 500;
+
+    /**
+     * The hand-written finders of the 16 objectives, by identifier.
+     */
+    private static final List<PatternFinder> FINDERS = List.of(
+            DiagonalPattern.FUNGI_DIAGONAL, DiagonalPattern.PLANT_DIAGONAL,
+            DiagonalPattern.ANIMAL_DIAGONAL, DiagonalPattern.INSECT_DIAGONAL,
+            TowerPattern.FUNGI_TOWER, TowerPattern.PLANT_TOWER, TowerPattern.ANIMAL_TOWER, TowerPattern.INSECT_TOWER,
+            ResourcePattern.FUNGI_RESOURCES, ResourcePattern.PLANT_RESOURCES,
+            ResourcePattern.ANIMAL_RESOURCES, ResourcePattern.INSECT_RESOURCES,
+            ItemPattern.ALL_ITEMS, ItemPattern.FEATHER_ITEMS, ItemPattern.INK_ITEMS, ItemPattern.VELLUM_ITEMS);
+
+    @Test
+    @DisplayName("ShapePattern: the objectives described in json find the same patterns")
+    public void sameObjectives() {
+        Random random = new Random(23);
+        List<Objective> objectives = Objective.getObjectives().toList();
+        assertEquals(FINDERS.size(), objectives.size());
+
+        for (int n = 0; n != N_BOARDS; n++) {
+            DummyPlayingBoard board = randomBoard(random, 2 + random.nextInt(12));
+            board.setResources(new ResourcesCounter(random.nextInt(20), random.nextInt(20), random.nextInt(20), random.nextInt(20)));
+            board.setItems(new ItemsCounter(random.nextInt(10), random.nextInt(10), random.nextInt(10)));
+
+            for (Objective objective : objectives) {
+                int expected = FINDERS.get(objective.getObjectiveId()).findPatterns(board) * objective.getBonusPoints();
+                assertEquals(expected, objective.calculatePoints(board), "Objective " + objective.getObjectiveId());
+            }
+        }
+
+        // A board too tall for the planes: the shapes are found on the cards of the board.
+        DummyPlayingBoard tall = new DummyPlayingBoard();
+        KingdomCardFace fungi = KingdomCard.getCardWithId(0).getFrontFace();
+        KingdomCardFace plant = KingdomCard.getCardWithId(10).getFrontFace();
+        for (int i = 0; i != 70; i++) {
+            tall.addCard(new BoardSlot(i + 3, i + 1), fungi);
+            tall.addCard(new BoardSlot(0, 2 * i + 2), fungi);
+            tall.addCard(new BoardSlot(1, 2 * i + 1), plant);
+        }
+        assertTrue(KingdomPlanes.of(tall).isEmpty());
+        for (int id = 0; id != 8; id++) {
+            assertEquals(FINDERS.get(id).findPatterns(tall) * Objective.getObjectiveWithId(id).getBonusPoints(),
+                    Objective.getObjectiveWithId(id).calculatePoints(tall));
+        }
+    }
+
+    @Test
+    @DisplayName("ShapePattern: a new shape described in json")
+    public void newShape() throws Exception {
+        // An "L" of two plant cards and an animal card on the right of the lower one.
+        List<Objective> objectives = Objective.parseFromJson("""
+                [ { "id": 16, "bonus": 4, "shape": [
+                    { "horiz": 0, "vert": 0, "kingdom": "plant" },
+                    { "horiz": 0, "vert": 2, "kingdom": "plant" },
+                    { "horiz": 2, "vert": 0, "kingdom": "animal" } ] } ]
+                """).toList();
+        assertEquals(1, objectives.size());
+        assertEquals(16, objectives.get(0).getObjectiveId());
+
+        // A column of five plant cards, with animal cards on the right of the first three.
+        DummyPlayingBoard board = new DummyPlayingBoard();
+        for (int v = 0; v != 10; v += 2) {
+            board.addCard(new BoardSlot(0, v), KingdomCard.getCardWithId(10).getFrontFace());
+        }
+        for (int v = 0; v != 6; v += 2) {
+            board.addCard(new BoardSlot(2, v), KingdomCard.getCardWithId(20).getFrontFace());
+        }
+        // Shapes at (0,0) and (0,4), the one at (0,2) shares a plant card.
+        assertEquals(2 * 4, objectives.get(0).calculatePoints(board));
+
+        // The same shape, built without json.
+        assertEquals(2, new ShapePattern(List.of(
+                new ShapePattern.ShapeCell(0, 0, Kingdom.PLANT_KINGDOM),
+                new ShapePattern.ShapeCell(0, 2, Kingdom.PLANT_KINGDOM),
+                new ShapePattern.ShapeCell(2, 0, Kingdom.ANIMAL_KINGDOM))).findPatterns(board));
+
+        // Invalid descriptions.
+        assertThrows(ObjectivesException.class, () -> Objective.parseFromJson("{}"));
+        assertThrows(ObjectivesException.class, () -> Objective.parseFromJson("[ { \"id\": 0, \"bonus\": 2 } ]"));
+        assertThrows(ObjectivesException.class, () -> Objective.parseFromJson(
+                "[ { \"id\": 0, \"bonus\": 2, \"resources\": { \"gold\": 3 } } ]"));
+        assertThrows(ObjectivesException.class, () -> Objective.parseFromJson(
+                "[ { \"id\": 0, \"bonus\": 2, \"shape\": [ { \"horiz\": 0, \"vert\": 0, \"kingdom\": \"dragon\" } ] } ]"));
+        assertThrows(ObjectivesException.class, () -> Objective.parseFromJson(
+                "[ { \"id\": 0, \"bonus\": 2, \"shape\": [ { \"horiz\": 0, \"vert\": 0, \"kingdom\": \"plant\" } ]," +
+                        " \"resources\": { \"plant\": 3 } } ]"));
+        assertThrows(ObjectivesException.class, () -> Objective.parseFromJson(
+                "[ { \"id\": 0, \"bonus\": 2, \"shape\": [ { \"horiz\": 0, \"vert\": 0, \"kingdom\": \"plant\" } ]," +
+                        " \"items\": { \"ink\": 2 } } ]"));
+        assertThrows(ObjectivesException.class, () -> Objective.parseFromJson(
+                "[ { \"id\": 0, \"bonus\": 2, \"resources\": { \"plant\": 3 }, \"items\": { \"ink\": 2 } } ]"));
+        assertThrows(ObjectivesException.class, () -> new ShapePattern(List.of(
+                new ShapePattern.ShapeCell(1, 1, Kingdom.PLANT_KINGDOM))));
+        assertThrows(ObjectivesException.class, () -> new ShapePattern(List.of(
+                new ShapePattern.ShapeCell(0, 0, Kingdom.PLANT_KINGDOM),
+                new ShapePattern.ShapeCell(0, 1, Kingdom.PLANT_KINGDOM))));
+    }
+
+    /**
+     * @param random The random generator.
+     * @param size The half-size of the board.
+     * @return A random board, more or less dense, with few kingdoms to have many patterns.
+     */
+    private static DummyPlayingBoard randomBoard(Random random, int size) {
+        double density = random.nextDouble();
+        int kingdoms = 1 + random.nextInt(4);
+        DummyPlayingBoard board = new DummyPlayingBoard();
+        for (int h = -size; h <= size; h++) {
+            for (int v = -size; v <= size; v++) {
+                if (BoardSlot.validateCoords(h, v) && (h != 0 || v != 0) && random.nextDouble() < density) {
+                    KingdomCard card = KingdomCard.getCardWithId(10 * random.nextInt(kingdoms) + random.nextInt(10));
+                    board.addCard(new BoardSlot(h, v), card.getFrontFace());
+                }
+            }
+        }
+        return board;
+    }
+}
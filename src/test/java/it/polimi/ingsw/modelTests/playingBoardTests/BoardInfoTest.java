@@ -0,0 +1,135 @@
+package it.polimi.ingsw.modelTests.playingBoardTests;
+
+import it.polimi.ingsw.am52.model.cards.KingdomCardFace;
+import it.polimi.ingsw.am52.model.cards.ResourceCard;
+import it.polimi.ingsw.am52.model.cards.StarterCard;
+import it.polimi.ingsw.am52.model.playingBoards.BoardExtent;
+import it.polimi.ingsw.am52.model.playingBoards.BoardInfo;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import it.polimi.ingsw.am52.model.playingBoards.PlayingBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the infos of the playing board: they share the cards with the board, and they never change.
+ */
+public class BoardInfoTest {
+
+    @Test
+    @DisplayName("BoardInfo: an info shows the board when it was taken")
+    public void versions() {
+        // All the corners of the back faces are visible: every available slot can be used.
+        PlayingBoard board = new PlayingBoard(StarterCard.getCardWithId(80).getBackFace());
+        List<BoardInfo> infos = new ArrayList<>();
+        List<BoardSlot> placed = new ArrayList<>();
+        infos.add(board.getInfo());
+
+        for (int id = 0; id != 30; id++) {
+            BoardSlot slot = board.getAvailableSlots().get(0);
+            board.placeCard(slot, ResourceCard.getCardWithId(id).getBackFace());
+            placed.add(slot);
+            infos.add(board.getInfo());
+        }
+
+        // The infos of the same version share the same lists.
+        assertSame(board.getInfo().getAvailableSlots(), board.getInfo().getAvailableSlots());
+        assertEquals(board.getCoveredSlots().toList(), placed);
+        // The first info keeps the extent of the starter card and its four corners.
+        assertEquals(new BoardExtent(-1, 1, -1, 1), infos.getFirst().getExtent());
+
+        for (int version = 0; version != infos.size(); version++) {
+            BoardInfo info = infos.get(version);
+            // The covered slots are the first cards placed, in order of placement.
+            assertEquals(placed.subList(0, version), info.getCoveredSlots().toList());
+            for (int i = 0; i != placed.size(); i++) {
+                BoardSlot slot = placed.get(i);
+                if (i < version) {
+                    KingdomCardFace card = info.getCardAt(slot);
+                    assertEquals(ResourceCard.getCardWithId(i).getBackFace(), card);
+                } else {
+                    // Placed after the info was taken.
+                    assertThrows(RuntimeException.class, () -> info.getCardAt(slot));
+                }
+            }
+            // The slot of the next card was available in this version.
+            if (version < placed.size()) {
+                assertTrue(info.getAvailableSlots().contains(placed.get(version)));
+                assertFalse(infos.get(version + 1).getAvailableSlots().contains(placed.get(version)));
+            }
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "loadTest", matches = "true")
+    @DisplayName("BoardInfo: the cost of an info does not depend on the cards")
+    public void cost() {
+        final int nRounds = 100_000;
+        PlayingBoard board = new PlayingBoard(StarterCard.getCardWithId(80).getBackFace());
+        for (int id = 0; id != 40; id++) {
+            board.placeCard(board.getAvailableSlots().get(0), ResourceCard.getCardWithId(id).getBackFace());
+        }
+
+        // Warm up.
+        for (int i = 0; i != nRounds; i++) {
+            board.getInfo().getCoveredSlots();
+        }
+
+        long start = System.nanoTime();
+        int covered = 0;
+        for (int i = 0; i != nRounds; i++) {
+            covered += board.getInfo().getCoveredSlots().size();
+        }
+        long infoNanos = (System.nanoTime() - start) / nRounds;
+
+        assertEquals(40 * nRounds, covered);
+        System.out.printf("Info of a board with 40 cards and its covered slots: %d ns%n", infoNanos);
+    }
+
+    @Test
+    @DisplayName("BoardInfo: the available slots and the extent after random placements")
+    public void placements() {
+        final int nBoards = 60;
+        final int nCards = 40;
+        Random random = new Random(16);
+
+        for (int b = 0; b != nBoards; b++) {
+            PlayingBoard board = new PlayingBoard(StarterCard.getCardWithId(80 + b % 6).getBackFace());
+            for (int id = 0; id != nCards; id++) {
+                List<BoardSlot> available = board.getAvailableSlots().toList();
+                BoardSlot slot = available.get(random.nextInt(available.size()));
+                // The front faces hide some corners, and make some slots not available.
+                ResourceCard card = ResourceCard.getCardWithId(id);
+                KingdomCardFace face = random.nextBoolean() ? card.getFrontFace() : card.getBackFace();
+                board.placeCard(slot, face);
+
+                assertSame(face, board.getCardAt(slot));
+                assertThrows(RuntimeException.class, () -> board.placeCard(slot, face));
+
+                // The extent is the one of the cards, the root and the available slots.
+                List<BoardSlot> slots = new ArrayList<>(board.getCoveredSlots().toList());
+                slots.addAll(board.getAvailableSlots().toList());
+                slots.add(new BoardSlot());
+                assertEquals(BoardExtent.of(slots), board.getExtent());
+                assertEquals(board.getExtent(), board.getInfo().getExtent());
+            }
+
+            // The available slots are distinct, and they are neither covered nor the root.
+            Set<BoardSlot> covered = new HashSet<>(board.getCoveredSlots().toList());
+            Set<BoardSlot> available = new HashSet<>(board.getAvailableSlots().toList());
+            assertEquals(nCards, covered.size());
+            assertEquals(board.getAvailableSlots().size(), available.size());
+            assertFalse(available.contains(new BoardSlot()));
+            available.retainAll(covered);
+            assertTrue(available.isEmpty());
+        }
+    }
+}
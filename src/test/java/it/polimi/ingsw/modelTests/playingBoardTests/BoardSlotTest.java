@@ -0,0 +1,53 @@
+package it.polimi.ingsw.modelTests.playingBoardTests;
+
+import it.polimi.ingsw.am52.model.cards.CornerLocation;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import it.polimi.ingsw.am52.model.playingBoards.RelativeLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the packed coordinates of the board slots.
+ */
+public class BoardSlotTest {
+
+    @Test
+    @DisplayName("BoardSlot: packed coordinates and neighbors")
+    public void packed() {
+        Set<Integer> packedSlots = new HashSet<>();
+        for (int h = -81; h <= 81; h++) {
+            for (int v = -81; v <= 81; v++) {
+                assertEquals(h % 2 == 0 ? v % 2 == 0 : v % 2 != 0, BoardSlot.validateCoords(h, v));
+                if (!BoardSlot.validateCoords(h, v)) {
+                    final int horiz = h;
+                    final int vert = v;
+                    assertThrows(RuntimeException.class, () -> new BoardSlot(horiz, vert));
+                    continue;
+                }
+
+                BoardSlot slot = new BoardSlot(h, v);
+                int packed = slot.toPacked();
+                assertNotEquals(0, packed);
+                assertTrue(packedSlots.add(packed));
+                assertEquals(packed, slot.hashCode());
+                assertEquals(h, BoardSlot.unpackHoriz(packed));
+                assertEquals(v, BoardSlot.unpackVert(packed));
+                assertEquals(slot, BoardSlot.fromPacked(packed));
+
+                // The neighbors are found by adding an offset, also across the zero coordinates.
+                for (RelativeLocation location : RelativeLocation.values()) {
+                    assertEquals(slot.getSlotAt(location).toPacked(), BoardSlot.packedNeighbor(packed, location));
+                }
+                for (CornerLocation corner : CornerLocation.values()) {
+                    assertEquals(slot.getSlotAt(corner).toPacked(), BoardSlot.packedNeighbor(packed, corner));
+                }
+            }
+        }
+        assertEquals(BoardSlot.PACKED_ROOT, new BoardSlot().toPacked());
+    }
+}
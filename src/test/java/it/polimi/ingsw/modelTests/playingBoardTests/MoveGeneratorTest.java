@@ -0,0 +1,132 @@
+package it.polimi.ingsw.modelTests.playingBoardTests;
+
+import it.polimi.ingsw.am52.model.cards.CardSide;
+import it.polimi.ingsw.am52.model.cards.KingdomCard;
+import it.polimi.ingsw.am52.model.cards.KingdomCardFace;
+import it.polimi.ingsw.am52.model.cards.StarterCard;
+import it.polimi.ingsw.am52.model.cards.StarterCardFace;
+import it.polimi.ingsw.am52.model.objectives.Objective;
+import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
+import it.polimi.ingsw.am52.model.playingBoards.MoveGenerator;
+import it.polimi.ingsw.am52.model.playingBoards.PlayingBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test that the moves generated on a playing board are the legal placements of the hand,
+ * with the points and the objective points that the board gives when the card is placed.
+ */
+public class MoveGeneratorTest {
+
+    /**
+     * The number of random games.
+     */
+    private static final int N_GAMES = 10;
+
+    /**
+     * The number of cards placed in a game.
+     */
+    private static final int N_CARDS = 20;
+
+    @Test
+    @DisplayName("MoveGenerator: same points of the placed cards")
+    public void samePoints() {
+        Random random = new Random(25);
+        List<Objective> objectives = Objective.getObjectives().toList();
+
+        for (int n = 0; n != N_GAMES; n++) {
+            List<KingdomCard> cards = new ArrayList<>();
+            for (int id = 0; id != 80; id++) {
+                cards.add(KingdomCard.getCardWithId(id));
+            }
+            Collections.shuffle(cards, random);
+
+            StarterCardFace starter = StarterCard.getCardWithId(80 + random.nextInt(6)).getFrontFace();
+            PlayingBoard board = new PlayingBoard(starter);
+            board.trackObjectives(objectives);
+            List<BoardSlot> slots = new ArrayList<>();
+            List<KingdomCardFace> faces = new ArrayList<>();
+
+            for (int placed = 0; placed != N_CARDS && !board.getAvailableSlots().toList().isEmpty(); placed++) {
+                List<KingdomCard> hand = cards.subList(3 * placed, 3 * placed + 3);
+                List<MoveGenerator.Move> moves = new MoveGenerator(board).getMoves(hand);
+
+                // Each side that can be placed, on each available slot.
+                int expectedMoves = 0;
+                for (KingdomCard card : hand) {
+                    expectedMoves += card.getFrontFace().canPlace(board) ? board.getAvailableSlots().size() : 0;
+                    expectedMoves += board.getAvailableSlots().size();
+                }
+                assertEquals(expectedMoves, moves.size());
+
+                // Each move gives the same points on a copy of the board.
+                for (MoveGenerator.Move move : moves) {
+                    PlayingBoard copy = copyBoard(starter, slots, faces, objectives);
+                    int points = copy.placeCard(move.slot(), getFace(move));
+                    assertEquals(points, move.points(), move.toString());
+                    assertEquals(copy.getObjectivePoints() - board.getObjectivePoints(), move.objectivePoints(), move.toString());
+                }
+
+                // Play one of the moves.
+                MoveGenerator.Move move = moves.get(random.nextInt(moves.size()));
+                board.placeCard(move.slot(), getFace(move));
+                slots.add(move.slot());
+                faces.add(getFace(move));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("MoveGenerator: boards without objectives")
+    public void noObjectives() {
+        PlayingBoard board = new PlayingBoard(StarterCard.getCardWithId(80).getBackFace());
+        List<KingdomCard> hand = List.of(KingdomCard.getCardWithId(0), KingdomCard.getCardWithId(40));
+
+        // The gold card needs resources: only its back side can be placed.
+        List<MoveGenerator.Move> moves = new MoveGenerator(board).getMoves(hand);
+        assertEquals(3 * board.getAvailableSlots().size(), moves.size());
+        assertTrue(moves.stream().noneMatch(m -> m.card().getCardId() == 40 && m.side() == CardSide.FRONT));
+        assertTrue(moves.stream().allMatch(m -> m.objectivePoints() == 0));
+
+        // The visitor receives the same moves.
+        List<MoveGenerator.Move> visited = new ArrayList<>();
+        new MoveGenerator(board).visitMoves(hand, (card, side, slot, points, objectivePoints) ->
+                visited.add(new MoveGenerator.Move(card, side, slot, points, objectivePoints)));
+        assertEquals(moves, visited);
+
+        // An empty hand has no moves.
+        assertTrue(new MoveGenerator(board).getMoves(List.of()).isEmpty());
+    }
+
+    /**
+     * @param move The move.
+     * @return The face of the card of the move.
+     */
+    private static KingdomCardFace getFace(MoveGenerator.Move move) {
+        return move.side() == CardSide.FRONT ? move.card().getFrontFace() : move.card().getBackFace();
+    }
+
+    /**
+     * @param starter The starter card.
+     * @param slots The slots of the placed cards, in order of placement.
+     * @param faces The placed faces.
+     * @param objectives The tracked objectives.
+     * @return A new board with the same cards.
+     */
+    private static PlayingBoard copyBoard(StarterCardFace starter, List<BoardSlot> slots, List<KingdomCardFace> faces,
+                                          List<Objective> objectives) {
+        PlayingBoard copy = new PlayingBoard(starter);
+        for (int i = 0; i != slots.size(); i++) {
+            copy.placeCard(slots.get(i), faces.get(i));
+        }
+        copy.trackObjectives(objectives);
+        return copy;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.*;
 
 import it.polimi.ingsw.am52.model.cards.*;
 import it.polimi.ingsw.am52.util.ImmutableList;
+import it.polimi.ingsw.am52.model.playingBoards.BoardExtent;
 import it.polimi.ingsw.am52.model.playingBoards.BoardInfo;
 import it.polimi.ingsw.am52.model.playingBoards.BoardSlot;
 import it.polimi.ingsw.am52.model.playingBoards.RelativeLocation;
@@ -380,6 +381,11 @@ public class DummyPlayingBoard implements BoardInfo {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public BoardExtent getExtent() {
+        return BoardExtent.of(this.placedCards.keySet());
+    }
+
     @Override
     public KingdomCardFace getCardAt(BoardSlot location) {
         return this.placedCards.get(location);
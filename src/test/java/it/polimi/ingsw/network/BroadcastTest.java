@@ -0,0 +1,196 @@
+package it.polimi.ingsw.network;
+
+import it.polimi.ingsw.am52.controller.VirtualView;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonDeserializer;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.MessageCodecs;
+import it.polimi.ingsw.am52.json.response.ChatResponse;
+import it.polimi.ingsw.am52.json.response.ChatResponseData;
+import it.polimi.ingsw.am52.json.response.ResponseStatus;
+import it.polimi.ingsw.am52.model.game.GamePhase;
+import it.polimi.ingsw.am52.network.server.BroadcastMetrics;
+import it.polimi.ingsw.am52.network.server.EncodedMessage;
+import it.polimi.ingsw.am52.network.server.Sender;
+import it.polimi.ingsw.am52.network.server.RequestDispatcher;
+import it.polimi.ingsw.am52.network.server.tcp.ClientHandlerTCP;
+import it.polimi.ingsw.am52.network.server.tcp.FrameReader;
+import it.polimi.ingsw.am52.network.server.tcp.Framing;
+import it.polimi.ingsw.am52.settings.RejectionPolicy;
+import it.polimi.ingsw.am52.settings.ServerSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the broadcast messages: the message is encoded once for all the recipients.
+ */
+public class BroadcastTest {
+
+    /**
+     * A recipient that receives the response objects, as the RMI handlers.
+     */
+    private static class ObjectRecipient implements Sender {
+
+        private final List<JsonMessage<BaseResponseData>> received = new ArrayList<>();
+
+        @Override
+        public void sendMessage(JsonMessage<BaseResponseData> response) {
+            this.received.add(response);
+        }
+    }
+
+    /**
+     * A recipient that receives the encoded bytes, as the NIO handlers.
+     */
+    private static class BufferRecipient implements Sender {
+
+        private final List<ByteBuffer> received = new ArrayList<>();
+
+        @Override
+        public void sendMessage(JsonMessage<BaseResponseData> response) {
+            fail("The broadcast must use the shared encoding");
+        }
+
+        @Override
+        public void sendEncoded(EncodedMessage message) {
+            try {
+                this.received.add(message.newBuffer());
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Broadcast: one encoding for all the recipients")
+    public void encodeOnce() throws Exception {
+        BroadcastMetrics metrics = BroadcastMetrics.getInstance();
+        long encodingsBefore = metrics.getEncodings();
+        long sentBefore = metrics.getSentBytes();
+
+        JsonMessage<BaseResponseData> response = newChatResponse();
+        EncodedMessage message = new EncodedMessage(response);
+
+        ObjectRecipient rmi = new ObjectRecipient();
+        List<BufferRecipient> sockets = List.of(new BufferRecipient(), new BufferRecipient(), new BufferRecipient());
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        rmi.sendEncoded(message);
+        for (BufferRecipient socket : sockets) {
+            socket.sendEncoded(message);
+        }
+        stream.write(message.toLine());
+
+        // The RMI recipient gets the same response object.
+        assertSame(response, rmi.received.getFirst());
+
+        // The socket recipients get the same bytes, each one with its own buffer.
+        String expected = response.toJson() + "\n";
+        int lineLength = expected.getBytes(StandardCharsets.UTF_8).length;
+        for (BufferRecipient socket : sockets) {
+            ByteBuffer buffer = socket.received.getFirst();
+            assertTrue(buffer.isReadOnly());
+            assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString());
+        }
+        assertEquals(expected, stream.toString(StandardCharsets.UTF_8));
+        assertEquals(JsonDeserializer.CHAT_METHOD, JsonDeserializer.deserializeResponse(expected.trim()).getMethod());
+
+        assertEquals(1, metrics.getEncodings() - encodingsBefore);
+        assertEquals(4L * lineLength, metrics.getSentBytes() - sentBefore);
+    }
+
+    @Test
+    @DisplayName("Broadcast: no encoding without socket recipients")
+    public void noSocketRecipients() {
+        long encodingsBefore = BroadcastMetrics.getInstance().getEncodings();
+
+        EncodedMessage message = new EncodedMessage(newChatResponse());
+        ObjectRecipient first = new ObjectRecipient();
+        ObjectRecipient second = new ObjectRecipient();
+        first.sendEncoded(message);
+        second.sendEncoded(message);
+
+        assertSame(first.received.getFirst(), second.received.getFirst());
+        assertEquals(0, BroadcastMetrics.getInstance().getEncodings() - encodingsBefore);
+    }
+
+    @Test
+    @DisplayName("Broadcast: one frame for each codec")
+    public void framePerCodec() throws Exception {
+        long encodingsBefore = BroadcastMetrics.getInstance().getEncodings();
+
+        JsonMessage<BaseResponseData> response = newChatResponse();
+        EncodedMessage message = new EncodedMessage(response);
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        ByteArrayOutputStream compact = new ByteArrayOutputStream();
+        for (int i = 0; i != 3; i++) {
+            json.write(message.toFrame(MessageCodecs.JSON));
+            compact.write(message.toFrame(MessageCodecs.COMPACT));
+        }
+
+        // One json encoding and one compact encoding, shared by all the recipients.
+        assertEquals(2, BroadcastMetrics.getInstance().getEncodings() - encodingsBefore);
+
+        byte[] jsonPayload = response.toJsonBytes();
+        byte[] compactPayload = MessageCodecs.COMPACT.encode(response);
+        assertEquals(3 * (Framing.HEADER_SIZE + jsonPayload.length), json.size());
+        assertEquals(3 * (Framing.HEADER_SIZE + compactPayload.length), compact.size());
+
+        FrameReader frames = new FrameReader(new ByteArrayInputStream(compact.toByteArray()), 1024);
+        assertEquals(response.toJson(), MessageCodecs.COMPACT.decodeResponse(frames.next()).toJson());
+    }
+
+    @Test
+    @DisplayName("Broadcast: a TCP client that does not read does not block the sender")
+    public void slowTcpRecipient() throws Exception {
+        RequestDispatcher requests = new RequestDispatcher(1, 64, RejectionPolicy.DROP);
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(4096);
+            socket.connect(server.getLocalSocketAddress());
+            Socket accepted = server.accept();
+            accepted.setSendBufferSize(4096);
+            ClientHandlerTCP handler = new ClientHandlerTCP(49_999, accepted, new VirtualView(49_999), requests,
+                    ServerSettings.DEF_MAX_FRAME_SIZE, ServerSettings.MIN_PENDING_WRITES, Executors.newSingleThreadExecutor());
+            Thread listener = new Thread(handler);
+            listener.setDaemon(true);
+            listener.start();
+
+            // The client never reads: the messages are queued, and the sender never waits for the socket.
+            EncodedMessage message = new EncodedMessage(newChatResponse());
+            int count = 4 * ServerSettings.MIN_PENDING_WRITES / message.toLine().length;
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                for (int i = 0; i != count; i++) {
+                    handler.sendEncoded(message);
+                }
+            });
+
+            // Over the limit of the pending writes the client is disconnected.
+            listener.join(10_000);
+            assertFalse(listener.isAlive());
+            assertTrue(accepted.isClosed());
+        } finally {
+            requests.shutdown(1000);
+        }
+    }
+
+    private static JsonMessage<BaseResponseData> newChatResponse() {
+        ChatResponseData data = new ChatResponseData(new ResponseStatus(GamePhase.NULL, 0, ""), "Alice : hello");
+        data.setIsBroadcast(true);
+        return new ChatResponse(data);
+    }
+}
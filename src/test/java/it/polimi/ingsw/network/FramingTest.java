@@ -0,0 +1,280 @@
+package it.polimi.ingsw.network;
+
+import it.polimi.ingsw.am52.controller.VirtualView;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonDeserializer;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.MessageCodecs;
+import it.polimi.ingsw.am52.json.request.ListLobbyRequest;
+import it.polimi.ingsw.am52.json.response.ListLobbyResponse;
+import it.polimi.ingsw.am52.json.response.ListLobbyResponseData;
+import it.polimi.ingsw.am52.json.response.ResponseStatus;
+import it.polimi.ingsw.am52.network.client.ConnectionTCP;
+import it.polimi.ingsw.am52.network.server.RequestDispatcher;
+import it.polimi.ingsw.am52.network.server.tcp.ClientHandlerTCP;
+import it.polimi.ingsw.am52.network.server.tcp.FrameReader;
+import it.polimi.ingsw.am52.network.server.tcp.Framing;
+import it.polimi.ingsw.am52.settings.RejectionPolicy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the framed socket protocol: the handshake, the frames, and the fallback to the line protocol.
+ */
+public class FramingTest {
+
+    /**
+     * The maximum frame size of the test server.
+     */
+    private static final int SERVER_FRAME_SIZE = 4096;
+
+    private static ServerSocket serverSocket;
+
+    private static RequestDispatcher requests;
+
+    private static final AtomicInteger ids = new AtomicInteger(20_000);
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        requests = new RequestDispatcher(2, 64, RejectionPolicy.DROP);
+
+        Thread acceptor = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    int id = ids.incrementAndGet();
+                    Thread handler = new Thread(new ClientHandlerTCP(id, socket, new VirtualView(id), requests, SERVER_FRAME_SIZE));
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (Exception e) {
+                    // closed at the end of the tests
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        serverSocket.close();
+        requests.shutdown(1000);
+    }
+
+    @Test
+    @DisplayName("Framing: handshake parsing")
+    public void handshakeParsing() {
+        assertEquals(1024, Framing.parseHandshake(Framing.handshake(1024)));
+        assertEquals(-1, Framing.parseHandshake(null));
+        assertEquals(-1, Framing.parseHandshake(Framing.LINES));
+        assertEquals(-1, Framing.parseHandshake("#framed"));
+        assertEquals(-1, Framing.parseHandshake("#framed abc"));
+        assertEquals(-1, Framing.parseHandshake("#framed -5"));
+        assertEquals(-1, Framing.parseHandshake("{\"method\":\"listLobby\"}"));
+        assertEquals(-1, Framing.parseHandshake("#framed 1024 compact extra"));
+
+        // The codec is optional, json by default.
+        assertEquals(1024, Framing.parseHandshake("#framed 1024"));
+        assertSame(MessageCodecs.JSON, Framing.parseCodec("#framed 1024"));
+        assertSame(MessageCodecs.COMPACT, Framing.parseCodec(Framing.handshake(1024, "compact")));
+    }
+
+    @Test
+    @DisplayName("Framing: the frames reuse the same buffer")
+    public void frameReader() throws Exception {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        Framing.writeFrame(stream, "first".getBytes(StandardCharsets.UTF_8));
+        Framing.writeFrame(stream, new byte[0]);
+        Framing.writeFrame(stream, "second".getBytes(StandardCharsets.UTF_8));
+
+        FrameReader frames = new FrameReader(new ByteArrayInputStream(stream.toByteArray()), 16);
+        ByteBuffer first = frames.next();
+        assertEquals("first", StandardCharsets.UTF_8.decode(first).toString());
+        assertEquals(0, frames.next().remaining());
+        ByteBuffer second = frames.next();
+        assertEquals("second", StandardCharsets.UTF_8.decode(second).toString());
+        assertSame(first.array(), second.array());
+        assertNull(frames.next());
+
+        // A frame larger than the limit, and a truncated frame.
+        stream.reset();
+        Framing.writeFrame(stream, new byte[17]);
+        assertThrows(IOException.class, () -> new FrameReader(new ByteArrayInputStream(stream.toByteArray()), 16).next());
+        byte[] truncated = Framing.newFrame("truncated".getBytes(StandardCharsets.UTF_8), 9);
+        assertThrows(EOFException.class, () -> new FrameReader(new ByteArrayInputStream(truncated, 0, 8), 16).next());
+    }
+
+    @Test
+    @DisplayName("Framing: handshake and framed request")
+    public void framedRequest() throws Exception {
+        try (Socket socket = connect()) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+
+            // The server lowers the requested size to its own limit.
+            Framing.writeLine(out, Framing.handshake(1024 * 1024));
+            assertEquals(SERVER_FRAME_SIZE, Framing.parseHandshake(Framing.readLine(in, Framing.MAX_HANDSHAKE_LENGTH)));
+
+            FrameReader frames = new FrameReader(in, SERVER_FRAME_SIZE);
+            for (int i = 0; i != 3; i++) {
+                Framing.writeFrame(out, new ListLobbyRequest(null).toJsonBytes());
+                checkListLobbyResponse(JsonDeserializer.deserializeResponse(frames.next()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Framing: handshake with the compact codec")
+    public void compactRequest() throws Exception {
+        try (Socket socket = connect()) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+
+            Framing.writeLine(out, Framing.handshake(SERVER_FRAME_SIZE, "compact"));
+            String answer = Framing.readLine(in, Framing.MAX_HANDSHAKE_LENGTH);
+            assertEquals(SERVER_FRAME_SIZE, Framing.parseHandshake(answer));
+            assertSame(MessageCodecs.COMPACT, Framing.parseCodec(answer));
+
+            FrameReader frames = new FrameReader(in, SERVER_FRAME_SIZE);
+            Framing.writeFrame(out, MessageCodecs.COMPACT.encode(new ListLobbyRequest(null)));
+            checkListLobbyResponse(MessageCodecs.COMPACT.decodeResponse(frames.next()));
+        }
+    }
+
+    @Test
+    @DisplayName("Framing: an unknown codec falls back to json")
+    public void unknownCodec() throws Exception {
+        try (Socket socket = connect()) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+
+            Framing.writeLine(out, Framing.handshake(SERVER_FRAME_SIZE, "xml"));
+            String answer = Framing.readLine(in, Framing.MAX_HANDSHAKE_LENGTH);
+            assertSame(MessageCodecs.JSON, Framing.parseCodec(answer));
+
+            FrameReader frames = new FrameReader(in, SERVER_FRAME_SIZE);
+            Framing.writeFrame(out, new ListLobbyRequest(null).toJsonBytes());
+            checkListLobbyResponse(JsonDeserializer.deserializeResponse(frames.next()));
+        }
+    }
+
+    @Test
+    @DisplayName("Framing: the clients without handshake use the lines")
+    public void lineRequest() throws Exception {
+        try (Socket socket = connect()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+
+            for (int i = 0; i != 2; i++) {
+                Framing.writeLine(out, new ListLobbyRequest(null).toJson());
+                checkListLobbyResponse(JsonDeserializer.deserializeResponse(in.readLine()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Framing: a frame over the limit closes the connection")
+    public void oversizeFrame() throws Exception {
+        try (Socket socket = connect()) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+
+            Framing.writeLine(out, Framing.handshake(SERVER_FRAME_SIZE));
+            assertEquals(SERVER_FRAME_SIZE, Framing.parseHandshake(Framing.readLine(in, Framing.MAX_HANDSHAKE_LENGTH)));
+
+            // Only the header: the server must not wait for the payload.
+            out.write(new byte[] { 0, 0, (byte) 0x80, 0 });
+            out.flush();
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Framing: client connection with frames")
+    public void framedConnection() throws Exception {
+        ConnectionTCP connection = new ConnectionTCP("127.0.0.1", serverSocket.getLocalPort(), true);
+        assertTrue(connection.isFramed());
+        startListening(connection);
+
+        ListLobbyResponseData response = connection.listLobby(null);
+        assertNotNull(response);
+        assertEquals(0, response.getStatus().getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Framing: client connection with the compact codec")
+    public void compactConnection() throws Exception {
+        ConnectionTCP connection = new ConnectionTCP("127.0.0.1", serverSocket.getLocalPort(), false, "compact");
+        assertTrue(connection.isFramed());
+        assertSame(MessageCodecs.COMPACT, connection.getCodec());
+        startListening(connection);
+
+        ListLobbyResponseData response = connection.listLobby(null);
+        assertNotNull(response);
+        assertEquals(0, response.getStatus().getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Framing: fallback to the lines with a server ignoring the handshake")
+    public void fallbackConnection() throws Exception {
+        // A server of the line protocol that ignores the invalid lines.
+        try (ServerSocket legacy = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread server = new Thread(() -> {
+                try (Socket socket = legacy.accept()) {
+                    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    String line;
+                    while ((line = in.readLine()) != null) {
+                        try {
+                            JsonDeserializer.deserializeRequest(line);
+                        } catch (IOException e) {
+                            continue;
+                        }
+                        Framing.writeLine(socket.getOutputStream(),
+                                new ListLobbyResponse(new ListLobbyResponseData(new ResponseStatus(), Map.of())).toJson());
+                    }
+                } catch (IOException e) {
+                    // test completed
+                }
+            });
+            server.setDaemon(true);
+            server.start();
+
+            ConnectionTCP connection = new ConnectionTCP("127.0.0.1", legacy.getLocalPort(), true);
+            assertFalse(connection.isFramed());
+            startListening(connection);
+
+            assertNotNull(connection.listLobby(null));
+        }
+    }
+
+    private static void startListening(ConnectionTCP connection) {
+        Thread listener = new Thread(connection);
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    private static Socket connect() throws IOException {
+        Socket socket = new Socket("127.0.0.1", serverSocket.getLocalPort());
+        socket.setSoTimeout(10_000);
+        return socket;
+    }
+
+    private static void checkListLobbyResponse(JsonMessage<BaseResponseData> response) {
+        assertEquals(JsonDeserializer.LIST_LOBBY_METHOD, response.getMethod());
+        assertEquals(0, response.getData().getStatus().getErrorCode());
+    }
+}
@@ -1,6 +1,7 @@
 package it.polimi.ingsw.network;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import it.polimi.ingsw.am52.controller.ServerController;
 import it.polimi.ingsw.am52.json.BaseResponseData;
 import it.polimi.ingsw.am52.json.JsonDeserializer;
 import it.polimi.ingsw.am52.json.JsonMessage;
@@ -21,7 +22,6 @@ import java.rmi.RemoteException;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static java.util.Map.entry;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -212,7 +212,7 @@ public class NetworkTest {
         this.testCallExactMatch(
                 thirdClient,
                 new LeaveGameRequest(new LeaveGameData()),
-                new LeaveGameResponse(new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY, "", 0, ""), "Livio", Map.ofEntries(entry(1, 0)))));
+                new LeaveGameResponse(new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY, "", 0, ""), "Livio")));
 
         // region PlaceCardResponse first
         System.out.println("-----PLACECARD PHASE-----");
@@ -325,12 +325,32 @@ public class NetworkTest {
             assert false;
         }
 
+        // The disconnection is processed by the server asynchronously: wait for it
+        // before the next request, otherwise the leave may be handled first.
+        waitDisconnection(1);
+
         //the game ends
         // Leave lobby created by third client
         this.testCallExactMatch(
                 secondClient,
                 new LeaveGameRequest(new LeaveGameData()),
-                new LeaveGameResponse(new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY, "", 0, ""), "Lorenzo", Map.ofEntries())));
+                new LeaveGameResponse(new LeaveGameResponseData(new ResponseStatus(GamePhase.LOBBY, "", 0, ""), "Lorenzo")));
+    }
+
+    /**
+     * Wait until the server has removed the handler of the specified client.
+     * @param clientId the id of the disconnected client
+     */
+    private void waitDisconnection(int clientId) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (ServerController.getInstance().getHandler(clientId).isPresent() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
     }
 
     /**
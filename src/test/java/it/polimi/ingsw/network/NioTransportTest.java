@@ -0,0 +1,216 @@
+package it.polimi.ingsw.network;
+
+import it.polimi.ingsw.am52.controller.VirtualView;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonDeserializer;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.request.ListLobbyRequest;
+import it.polimi.ingsw.am52.network.server.RequestDispatcher;
+import it.polimi.ingsw.am52.network.server.tcp.ClientHandlerNIO;
+import it.polimi.ingsw.am52.network.server.tcp.Framing;
+import it.polimi.ingsw.am52.network.server.tcp.SelectorLoopGroup;
+import it.polimi.ingsw.am52.settings.RejectionPolicy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the non-blocking TCP transport: the clients use plain sockets, the server side
+ * is served by the selector loops.
+ */
+public class NioTransportTest {
+
+    private static ServerSocketChannel serverChannel;
+
+    private static SelectorLoopGroup loops;
+
+    private static RequestDispatcher requests;
+
+    private static final AtomicInteger ids = new AtomicInteger(10_000);
+
+    /**
+     * The limit of the bytes waiting to be written to a client, small to test the clients that do not read.
+     */
+    private static final int MAX_PENDING_WRITES = 64 * 1024;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress("127.0.0.1", 0));
+        loops = new SelectorLoopGroup(2);
+        requests = new RequestDispatcher(4, 64, RejectionPolicy.DROP);
+
+        Thread acceptor = new Thread(() -> {
+            while (serverChannel.isOpen()) {
+                try {
+                    SocketChannel channel = serverChannel.accept();
+                    channel.socket().setSendBufferSize(4096);
+                    int id = ids.incrementAndGet();
+                    loops.register(new ClientHandlerNIO(id, channel, new VirtualView(id), requests, MAX_PENDING_WRITES));
+                } catch (IOException e) {
+                    // closed at the end of the tests
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        serverChannel.close();
+        loops.close();
+        requests.shutdown(1000);
+    }
+
+    @Test
+    @DisplayName("NIO transport: request and response")
+    public void requestResponse() throws Exception {
+        try (Socket socket = connect()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+
+            out.write((listLobbyJson() + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            checkListLobbyResponse(in.readLine());
+        }
+    }
+
+    @Test
+    @DisplayName("NIO transport: fragmented and batched lines")
+    public void fragmentedLines() throws Exception {
+        try (Socket socket = connect()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+
+            // One request split in two writes.
+            byte[] request = (listLobbyJson() + "\n").getBytes(StandardCharsets.UTF_8);
+            out.write(request, 0, request.length / 2);
+            out.flush();
+            Thread.sleep(50);
+            out.write(request, request.length / 2, request.length - request.length / 2);
+            out.flush();
+            checkListLobbyResponse(in.readLine());
+
+            // Three requests in a single write (one terminated with \r\n).
+            String batch = listLobbyJson() + "\n" + listLobbyJson() + "\r\n" + listLobbyJson() + "\n";
+            out.write(batch.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            for (int i = 0; i != 3; i++) {
+                checkListLobbyResponse(in.readLine());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("NIO transport: the framed protocol is declined")
+    public void framingDeclined() throws Exception {
+        try (Socket socket = connect()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+
+            out.write((Framing.handshake(4096) + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            assertEquals(Framing.LINES, in.readLine());
+
+            // The connection keeps the line protocol.
+            out.write((listLobbyJson() + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            checkListLobbyResponse(in.readLine());
+        }
+    }
+
+    @Test
+    @DisplayName("NIO transport: many clients on few threads")
+    public void manyClients() throws Exception {
+        final int nClients = 200;
+        List<Socket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i != nClients; i++) {
+                Socket socket = connect();
+                sockets.add(socket);
+                socket.getOutputStream().write((listLobbyJson() + "\n").getBytes(StandardCharsets.UTF_8));
+                socket.getOutputStream().flush();
+            }
+            for (Socket socket : sockets) {
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                checkListLobbyResponse(in.readLine());
+            }
+            assertEquals(2, loops.size());
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("NIO transport: a client that does not read is disconnected")
+    public void slowReader() throws Exception {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("127.0.0.1", serverChannel.socket().getLocalPort()));
+        socket.setSoTimeout(10_000);
+        try (socket) {
+            OutputStream out = socket.getOutputStream();
+            byte[] request = (listLobbyJson() + "\n").getBytes(StandardCharsets.UTF_8);
+
+            // Send the requests without reading the responses, until the server closes the connection.
+            try {
+                for (int i = 0; i != 20 * MAX_PENDING_WRITES / request.length; i++) {
+                    out.write(request);
+                }
+                out.flush();
+            } catch (IOException e) {
+                // the server has already closed the connection
+            }
+
+            // The responses are not all there: the connection ends before the read times out.
+            try {
+                InputStream in = socket.getInputStream();
+                byte[] buffer = new byte[8192];
+                while (in.read(buffer) >= 0) {
+                    // discard the responses written before the disconnection
+                }
+            } catch (SocketException e) {
+                // the connection has been reset
+            }
+        }
+    }
+
+    private static Socket connect() throws IOException {
+        Socket socket = new Socket("127.0.0.1", serverChannel.socket().getLocalPort());
+        socket.setSoTimeout(10_000);
+        return socket;
+    }
+
+    private static String listLobbyJson() throws Exception {
+        return new ListLobbyRequest(null).toJson();
+    }
+
+    private static void checkListLobbyResponse(String line) throws Exception {
+        assertNotNull(line);
+        JsonMessage<BaseResponseData> response = JsonDeserializer.deserializeResponse(line);
+        assertEquals(JsonDeserializer.LIST_LOBBY_METHOD, response.getMethod());
+        assertEquals(0, response.getData().getStatus().getErrorCode());
+    }
+}
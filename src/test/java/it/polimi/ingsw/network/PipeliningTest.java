@@ -0,0 +1,312 @@
+package it.polimi.ingsw.network;
+
+import it.polimi.ingsw.am52.controller.VirtualView;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.json.JsonDeserializer;
+import it.polimi.ingsw.am52.json.JsonMessage;
+import it.polimi.ingsw.am52.json.request.ChatData;
+import it.polimi.ingsw.am52.json.request.ListLobbyRequest;
+import it.polimi.ingsw.am52.json.response.*;
+import it.polimi.ingsw.am52.network.client.ConnectionTCP;
+import it.polimi.ingsw.am52.network.server.RequestDispatcher;
+import it.polimi.ingsw.am52.network.server.tcp.ClientHandlerTCP;
+import it.polimi.ingsw.am52.network.server.tcp.Framing;
+import it.polimi.ingsw.am52.settings.RejectionPolicy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the correlation ids of the requests: the server echoes them, and the client
+ * can have several requests in flight, answered in any order.
+ */
+public class PipeliningTest {
+
+    private static ServerSocket serverSocket;
+
+    private static RequestDispatcher requests;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        requests = new RequestDispatcher(2, 64, RejectionPolicy.DROP);
+
+        Thread acceptor = new Thread(() -> {
+            int id = 30_000;
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    id++;
+                    Thread handler = new Thread(new ClientHandlerTCP(id, socket, new VirtualView(id), requests));
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (Exception e) {
+                    // closed at the end of the tests
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        serverSocket.close();
+        requests.shutdown(1000);
+    }
+
+    @Test
+    @DisplayName("Pipelining: the server echoes the correlation id")
+    public void echoedId() throws Exception {
+        try (Socket socket = new Socket("127.0.0.1", serverSocket.getLocalPort())) {
+            socket.setSoTimeout(10_000);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+
+            // Two requests in flight, each response has the id of its request.
+            ListLobbyRequest first = new ListLobbyRequest(null);
+            first.setId(7);
+            ListLobbyRequest second = new ListLobbyRequest(null);
+            second.setId(8);
+            Framing.writeLine(out, first.toJson());
+            Framing.writeLine(out, second.toJson());
+            assertEquals(7, JsonDeserializer.deserializeResponse(in.readLine()).getId());
+            assertEquals(8, JsonDeserializer.deserializeResponse(in.readLine()).getId());
+
+            // A request without id, the response has no id field.
+            Framing.writeLine(out, new ListLobbyRequest(null).toJson());
+            String line = in.readLine();
+            assertFalse(line.contains("\"" + JsonDeserializer.ID_FIELD + "\""), line);
+            assertNull(JsonDeserializer.deserializeResponse(line).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Pipelining: responses out of order")
+    public void outOfOrder() throws Exception {
+        // A server that answers the first request, then waits for two requests and answers them in reverse order.
+        try (ServerSocket reversing = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread server = new Thread(() -> {
+                try (Socket socket = reversing.accept()) {
+                    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    JsonMessage<?> first = JsonDeserializer.deserializeRequest(in.readLine());
+                    JsonMessage<BaseResponseData> echoed = new ListLobbyResponse(new ListLobbyResponseData(new ResponseStatus(), Map.of()));
+                    echoed.setId(first.getId());
+                    Framing.writeLine(socket.getOutputStream(), echoed.toJson());
+
+                    List<JsonMessage<BaseResponseData>> responses = new ArrayList<>();
+                    for (int i = 0; i != 2; i++) {
+                        JsonMessage<?> request = JsonDeserializer.deserializeRequest(in.readLine());
+                        JsonMessage<BaseResponseData> response = request.getMethod().equals(JsonDeserializer.CHAT_METHOD) ?
+                                new ChatResponse(new ChatResponseData(new ResponseStatus(), "Alice : hello")) :
+                                new ListLobbyResponse(new ListLobbyResponseData(new ResponseStatus(), Map.of(1, 2)));
+                        response.setId(request.getId());
+                        responses.addFirst(response);
+                    }
+                    for (JsonMessage<BaseResponseData> response : responses) {
+                        Framing.writeLine(socket.getOutputStream(), response.toJson());
+                    }
+                    // wait for the client to close the connection
+                    in.readLine();
+                } catch (IOException e) {
+                    // test completed
+                }
+            });
+            server.setDaemon(true);
+            server.start();
+
+            ConnectionTCP connection = new ConnectionTCP("127.0.0.1", reversing.getLocalPort());
+            startListening(connection);
+
+            // The requests are pipelined once the server has echoed an id.
+            assertEquals(Map.of(), connection.listLobby(null).getLobbies());
+
+            ExecutorService clients = Executors.newFixedThreadPool(2);
+            try {
+                Future<ListLobbyResponseData> lobbies = clients.submit(() -> connection.listLobby(null));
+                Future<ChatResponseData> chat = clients.submit(() -> connection.chat(new ChatData("Alice", "hello", null)));
+
+                assertEquals(Map.of(1, 2), lobbies.get(10, TimeUnit.SECONDS).getLobbies());
+                assertEquals("Alice : hello", chat.get(10, TimeUnit.SECONDS).getMessage());
+                assertEquals(0, connection.getPendingRequests());
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Pipelining: request timeout")
+    public void requestTimeout() throws Exception {
+        // A server that never answers.
+        try (ServerSocket silent = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread server = new Thread(() -> {
+                try (Socket socket = silent.accept()) {
+                    while (socket.getInputStream().read() != -1) {
+                        // ignore the requests
+                    }
+                } catch (IOException e) {
+                    // test completed
+                }
+            });
+            server.setDaemon(true);
+            server.start();
+
+            ConnectionTCP connection = new ConnectionTCP("127.0.0.1", silent.getLocalPort());
+            connection.setRequestTimeoutMillis(200);
+            startListening(connection);
+
+            long start = System.nanoTime();
+            assertNull(connection.listLobby(null));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000);
+            assertEquals(0, connection.getPendingRequests());
+        }
+    }
+
+    @Test
+    @DisplayName("Pipelining: server without correlation ids")
+    public void withoutIds() throws Exception {
+        // A server that answers in order without ids, after a delay for the first request.
+        try (ServerSocket inOrder = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread server = new Thread(() -> {
+                try (Socket socket = inOrder.accept()) {
+                    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    String line;
+                    for (int i = 0; (line = in.readLine()) != null; i++) {
+                        JsonMessage<?> request = JsonDeserializer.deserializeRequest(line);
+                        JsonMessage<BaseResponseData> response = request.getMethod().equals(JsonDeserializer.CHAT_METHOD) ?
+                                new ChatResponse(new ChatResponseData(new ResponseStatus(), "Alice : hello")) :
+                                new ListLobbyResponse(new ListLobbyResponseData(new ResponseStatus(), Map.of(1, 2)));
+                        if (i == 0) {
+                            Thread.sleep(500);
+                        }
+                        Framing.writeLine(socket.getOutputStream(), response.toJson());
+                    }
+                } catch (IOException | InterruptedException e) {
+                    // test completed
+                }
+            });
+            server.setDaemon(true);
+            server.start();
+
+            ConnectionTCP connection = new ConnectionTCP("127.0.0.1", inOrder.getLocalPort());
+            startListening(connection);
+
+            // The late response of the timed out request does not complete the next one.
+            connection.setRequestTimeoutMillis(100);
+            assertNull(connection.listLobby(null));
+            connection.setRequestTimeoutMillis(10_000);
+            assertEquals("Alice : hello", connection.chat(new ChatData("Alice", "hello", null)).getMessage());
+
+            // Concurrent requests are sent one at a time, each one gets its response.
+            ExecutorService clients = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<ListLobbyResponseData>> lobbies = new ArrayList<>();
+                List<Future<ChatResponseData>> chats = new ArrayList<>();
+                for (int i = 0; i != 8; i++) {
+                    lobbies.add(clients.submit(() -> connection.listLobby(null)));
+                    chats.add(clients.submit(() -> connection.chat(new ChatData("Alice", "hello", null))));
+                }
+                for (Future<ListLobbyResponseData> response : lobbies) {
+                    assertEquals(Map.of(1, 2), response.get(10, TimeUnit.SECONDS).getLobbies());
+                }
+                for (Future<ChatResponseData> response : chats) {
+                    assertEquals("Alice : hello", response.get(10, TimeUnit.SECONDS).getMessage());
+                }
+                assertEquals(0, connection.getPendingRequests());
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Pipelining: concurrent requests to the server")
+    public void concurrentRequests() throws Exception {
+        final int nRequests = 32;
+        ConnectionTCP connection = new ConnectionTCP("127.0.0.1", serverSocket.getLocalPort(), true);
+        startListening(connection);
+
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ListLobbyResponseData>> responses = new ArrayList<>();
+            for (int i = 0; i != nRequests; i++) {
+                responses.add(clients.submit(() -> connection.listLobby(null)));
+            }
+            for (Future<ListLobbyResponseData> response : responses) {
+                assertEquals(0, response.get(10, TimeUnit.SECONDS).getStatus().getErrorCode());
+            }
+            assertEquals(0, connection.getPendingRequests());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Pipelining: a dropped request is answered with an error")
+    public void droppedRequest() throws Exception {
+        // One worker, and one request for each client: while the worker is busy, the second request is dropped.
+        RequestDispatcher busy = new RequestDispatcher(1, 1, RejectionPolicy.DROP);
+        CountDownLatch release = new CountDownLatch(1);
+        busy.newQueue().submit(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socket socket = new Socket("127.0.0.1", server.getLocalPort())) {
+            Socket accepted = server.accept();
+            Thread handler = new Thread(new ClientHandlerTCP(39_999, accepted, new VirtualView(39_999), busy));
+            handler.setDaemon(true);
+            handler.start();
+
+            socket.setSoTimeout(10_000);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+
+            ListLobbyRequest queued = new ListLobbyRequest(null);
+            queued.setId(1);
+            ListLobbyRequest dropped = new ListLobbyRequest(null);
+            dropped.setId(2);
+            Framing.writeLine(out, queued.toJson());
+            Framing.writeLine(out, dropped.toJson());
+
+            // The dropped request is answered at once, with its method and its id.
+            JsonMessage<BaseResponseData> rejection = JsonDeserializer.deserializeResponse(in.readLine());
+            assertEquals(JsonDeserializer.LIST_LOBBY_METHOD, rejection.getMethod());
+            assertEquals(2, rejection.getId());
+            assertEquals(429, rejection.getData().getStatus().getErrorCode());
+
+            // The queued request is executed when the worker is free.
+            release.countDown();
+            JsonMessage<BaseResponseData> response = JsonDeserializer.deserializeResponse(in.readLine());
+            assertEquals(1, response.getId());
+            assertEquals(0, response.getData().getStatus().getErrorCode());
+        } finally {
+            release.countDown();
+            busy.shutdown(1000);
+        }
+    }
+
+    private static void startListening(ConnectionTCP connection) {
+        Thread listener = new Thread(connection);
+        listener.setDaemon(true);
+        listener.start();
+    }
+}
@@ -0,0 +1,129 @@
+package it.polimi.ingsw.network;
+
+import it.polimi.ingsw.am52.network.server.RequestDispatcher;
+import it.polimi.ingsw.am52.network.server.RequestQueue;
+import it.polimi.ingsw.am52.settings.RejectionPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for the RequestDispatcher and RequestQueue classes.
+ */
+public class RequestDispatcherTest {
+
+    @Test
+    @DisplayName("Requests of a client run in order, one at a time")
+    public void testOrdering() throws InterruptedException {
+        RequestDispatcher dispatcher = new RequestDispatcher(8, 10000, RejectionPolicy.DROP);
+
+        final int nClients = 20;
+        final int nRequests = 500;
+        List<List<Integer>> executed = new ArrayList<>();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(nClients);
+
+        for (int c = 0; c != nClients; c++) {
+            List<Integer> clientLog = Collections.synchronizedList(new ArrayList<>());
+            executed.add(clientLog);
+            RequestQueue queue = dispatcher.newQueue();
+            AtomicInteger inFlight = new AtomicInteger();
+
+            for (int r = 0; r != nRequests; r++) {
+                final int request = r;
+                assertTrue(queue.submit(() -> {
+                    maxConcurrency.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    clientLog.add(request);
+                    inFlight.decrementAndGet();
+                }));
+            }
+            queue.submitLast(done::countDown);
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        // Each client saw its requests in submission order, never concurrently.
+        for (List<Integer> clientLog : executed) {
+            assertEquals(nRequests, clientLog.size());
+            for (int r = 0; r != nRequests; r++) {
+                assertEquals(r, clientLog.get(r));
+            }
+        }
+        assertEquals(1, maxConcurrency.get());
+
+        dispatcher.shutdown(1000);
+        assertEquals(0, dispatcher.getQueuedCount());
+        assertEquals(0, dispatcher.getRunningCount());
+        assertEquals(0, dispatcher.getRejectedCount());
+        assertEquals((long) nClients * (nRequests + 1), dispatcher.getCompletedCount());
+    }
+
+    @Test
+    @DisplayName("Requests over the queue limit are rejected and counted")
+    public void testRejection() throws InterruptedException {
+        RequestDispatcher dispatcher = new RequestDispatcher(1, 3, RejectionPolicy.DISCONNECT);
+        assertEquals(RejectionPolicy.DISCONNECT, dispatcher.getRejectionPolicy());
+
+        RequestQueue queue = dispatcher.newQueue();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // The first request blocks the only worker.
+        assertTrue(queue.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(1, dispatcher.getRunningCount());
+
+        // Three requests fill the queue, the others are rejected.
+        assertTrue(queue.submit(() -> { }));
+        assertTrue(queue.submit(() -> { }));
+        assertTrue(queue.submit(() -> { }));
+        assertFalse(queue.submit(() -> { }));
+        assertFalse(queue.submit(() -> { }));
+        assertEquals(3, queue.size());
+        assertEquals(3, dispatcher.getQueuedCount());
+        assertEquals(2, dispatcher.getRejectedCount());
+
+        // The final task is always accepted.
+        CountDownLatch last = new CountDownLatch(1);
+        queue.submitLast(last::countDown);
+        assertEquals(4, queue.size());
+
+        release.countDown();
+        assertTrue(last.await(5, TimeUnit.SECONDS));
+
+        dispatcher.shutdown(1000);
+        assertEquals(0, dispatcher.getQueuedCount());
+        assertEquals(5, dispatcher.getCompletedCount());
+        assertEquals(2, dispatcher.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("A failing request does not stop the queue")
+    public void testFailingRequest() throws InterruptedException {
+        RequestDispatcher dispatcher = new RequestDispatcher(2, 10, RejectionPolicy.DROP);
+        RequestQueue queue = dispatcher.newQueue();
+        CountDownLatch done = new CountDownLatch(1);
+
+        queue.submit(() -> { throw new IllegalStateException("test"); });
+        queue.submit(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        dispatcher.shutdown(1000);
+        assertEquals(2, dispatcher.getCompletedCount());
+    }
+}
@@ -107,9 +107,35 @@ public class TestConnectionRMI extends UnicastRemoteObject implements RemoteConn
      * Method to perform the listLobby Request
      */
     @Override
-    public ListLobbyResponseData listLobby() throws RemoteException {
+    public ListLobbyResponseData listLobby(ListLobbyData data) throws RemoteException {
         try {
-            return this.view.listLobby();
+            return this.view.listLobby(data);
+        } catch (RemoteException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to perform the subscribeLobby Request
+     */
+    @Override
+    public ListLobbyResponseData subscribeLobby(SubscribeLobbyData data) throws RemoteException {
+        try {
+            return this.view.subscribeLobby(data);
+        } catch (RemoteException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to perform the quickMatch Request
+     *
+     * @param data the request
+     */
+    @Override
+    public JoinLobbyResponseData quickMatch(QuickMatchData data) throws RemoteException {
+        try {
+            return this.view.quickMatch(data);
         } catch (RemoteException e) {
             return null;
         }
@@ -231,5 +257,20 @@ public class TestConnectionRMI extends UnicastRemoteObject implements RemoteConn
             return null;
         }
     }
+
+    /**
+     * Method to perform the hints request
+     * @param data the request data
+     * @return the response data
+     * @throws RemoteException if exemptions happens in RMI
+     */
+    @Override
+    public HintsResponseData hints(HintsData data) throws RemoteException {
+        try {
+            return this.view.hints(data);
+        } catch (RemoteException e) {
+            return null;
+        }
+    }
     //end region
 }
@@ -85,8 +85,9 @@ public class TestConnectionTCP implements Connection, Runnable {
                         System.out.println("response received BROADCAST TCP");
                     } else {
                         // If the response is not a broadcast then one of the ActionRMI method is waiting for the response to be added in the queue
-                        // the offer methods inserts the element in the queue only if a thread is waiting for it, timeout handled
-                        if (!responseQueue.offer(res)){
+                        // the offer methods inserts the element in the queue only if a thread is waiting for it, timeout handled.
+                        // The requester may not be waiting yet, if the response is faster than the request thread: give it some time.
+                        if (!responseQueue.offer(res, 5, TimeUnit.SECONDS)){
                             System.out.println("Request thread timed out");
                         }
                     }
@@ -164,8 +165,26 @@ public class TestConnectionTCP implements Connection, Runnable {
      * Method to perform the listLobby Request
      */
     @Override
-    public ListLobbyResponseData listLobby() throws RemoteException {
-        return (ListLobbyResponseData) this.send(new ListLobbyRequest(null));
+    public ListLobbyResponseData listLobby(ListLobbyData data) throws RemoteException {
+        return (ListLobbyResponseData) this.send(new ListLobbyRequest(data));
+    }
+
+    /**
+     * Method to perform the subscribeLobby Request
+     */
+    @Override
+    public ListLobbyResponseData subscribeLobby(SubscribeLobbyData data) throws RemoteException {
+        return (ListLobbyResponseData) this.send(new SubscribeLobbyRequest(data));
+    }
+
+    /**
+     * Method to perform the quickMatch Request
+     *
+     * @param data the request
+     */
+    @Override
+    public JoinLobbyResponseData quickMatch(QuickMatchData data) throws RemoteException {
+        return (JoinLobbyResponseData) this.send(new QuickMatchRequest(data));
     }
 
     /**
@@ -248,4 +267,15 @@ public class TestConnectionTCP implements Connection, Runnable {
     public ChatResponseData chat(ChatData data) throws RemoteException {
         return (ChatResponseData) this.send(new ChatRequest(data));
     }
+
+    /**
+     * Method to perform the hints request
+     * @param data the request data
+     * @return the response data
+     * @throws RemoteException if exemptions happens in RMI
+     */
+    @Override
+    public HintsResponseData hints(HintsData data) throws RemoteException {
+        return (HintsResponseData) this.send(new HintsRequest(data));
+    }
 }
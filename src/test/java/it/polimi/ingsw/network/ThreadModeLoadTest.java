@@ -0,0 +1,178 @@
+package it.polimi.ingsw.network;
+
+import it.polimi.ingsw.am52.controller.VirtualView;
+import it.polimi.ingsw.am52.json.BaseResponseData;
+import it.polimi.ingsw.am52.network.client.RemoteConnection;
+import it.polimi.ingsw.am52.network.server.ServerThreads;
+import it.polimi.ingsw.am52.network.server.rmi.ClientHandlerRMI;
+import it.polimi.ingsw.am52.settings.ServerSettings;
+import it.polimi.ingsw.am52.settings.ThreadMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.rmi.server.UnicastRemoteObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test of the thread modes of the server. Each simulated client is an RMI client handler,
+ * with its heartbeat loop and its send queue, as in the running server. The test reports
+ * the live platform threads and the heap used with all the clients connected.
+ * <P>
+ * The default run uses a few clients. The full run (1k, 10k and 50k clients in both modes)
+ * is enabled with -DloadTest=true.
+ */
+public class ThreadModeLoadTest {
+
+    /**
+     * The result of a single load run.
+     * @param mode The thread mode.
+     * @param clients The number of connected clients.
+     * @param served The number of clients whose heartbeat loop is running.
+     * @param threads The live platform threads added by the clients.
+     * @param heapBytes The heap used by the clients.
+     */
+    private record LoadResult(ThreadMode mode, int clients, int served, int threads, long heapBytes) {
+        @Override
+        public String toString() {
+            return String.format("%-8s clients: %6d; served: %6d; platform threads: %6d; heap: %7.1f MB; heap/client: %5.1f KB",
+                    mode, clients, served, threads, heapBytes / (1024.0 * 1024.0), heapBytes / 1024.0 / clients);
+        }
+    }
+
+    /**
+     * A client that only answers the heartbeats.
+     */
+    private static class IdleClient implements RemoteConnection {
+
+        private final CountDownLatch firstHeartBeat;
+
+        private final AtomicInteger served;
+
+        private boolean beaten = false;
+
+        private IdleClient(CountDownLatch firstHeartBeat, AtomicInteger served) {
+            this.firstHeartBeat = firstHeartBeat;
+            this.served = served;
+        }
+
+        @Override
+        public void heartBeat() {
+            if (!this.beaten) {
+                this.beaten = true;
+                this.served.incrementAndGet();
+                this.firstHeartBeat.countDown();
+            }
+        }
+
+        @Override
+        public void sendMessage(BaseResponseData response) {
+        }
+    }
+
+    @Test
+    @DisplayName("Virtual threads: idle clients do not pin platform threads")
+    public void smallLoad() throws Exception {
+        final int nClients = 500;
+
+        LoadResult platform = run(ThreadMode.PLATFORM, nClients);
+        LoadResult virtual = run(ThreadMode.VIRTUAL, nClients);
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertEquals(nClients, platform.served());
+        assertEquals(nClients, virtual.served());
+
+        // Platform mode: one heartbeat thread and one sending thread for each client.
+        assertTrue(platform.threads() >= 2 * nClients);
+        // Virtual mode: only the carrier threads (at most one for each processor, plus the scheduler).
+        assertTrue(virtual.threads() < nClients / 10);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "loadTest", matches = "true")
+    @DisplayName("Thread modes with 1k, 10k and 50k clients")
+    public void fullLoad() throws Exception {
+        List<LoadResult> results = new ArrayList<>();
+        for (int nClients : new int[] { 1_000, 10_000, 50_000 }) {
+            for (ThreadMode mode : ThreadMode.values()) {
+                LoadResult result = run(mode, nClients);
+                System.out.println(result);
+                results.add(result);
+            }
+        }
+        results.forEach(System.out::println);
+    }
+
+    /**
+     * Connect the clients, wait for their first heartbeat, then measure threads and heap.
+     * As in the server, the client executor of the platform mode is a pool sized as
+     * the maximum number of lobbies.
+     * @param mode The thread mode.
+     * @param nClients The number of clients.
+     * @return The result of the run.
+     */
+    private static LoadResult run(ThreadMode mode, int nClients) throws Exception {
+        ServerThreads threads = new ServerThreads(mode);
+        int poolSize = Math.min(nClients, ServerSettings.MAX_LOBBIES);
+        int expected = mode == ThreadMode.PLATFORM ? poolSize : nClients;
+
+        System.gc();
+        int threadsBefore = liveThreads();
+        long heapBefore = usedHeap();
+
+        ExecutorService clients = threads.newClientExecutor(poolSize);
+        CountDownLatch firstHeartBeat = new CountDownLatch(expected);
+        AtomicInteger served = new AtomicInteger();
+        List<VirtualView> views = new ArrayList<>(nClients);
+
+        for (int i = 0; i != nClients; i++) {
+            int id = 1_000_000 + i;
+            VirtualView view = new VirtualView(id);
+            views.add(view);
+            clients.execute(new ClientHandlerRMI(id, new IdleClient(firstHeartBeat, served), view,
+                    threads.newSingleThreadExecutor()));
+        }
+
+        firstHeartBeat.await(2, TimeUnit.MINUTES);
+        // Give the sending threads the time to start.
+        Thread.sleep(200);
+
+        System.gc();
+        int threadsDuring = liveThreads();
+        long heapDuring = usedHeap();
+
+        // Disconnect all clients: the heartbeat sleep is interrupted.
+        clients.shutdownNow();
+        clients.awaitTermination(1, TimeUnit.MINUTES);
+        for (VirtualView view : views) {
+            UnicastRemoteObject.unexportObject(view, true);
+        }
+
+        return new LoadResult(mode, nClients, served.get(), threadsDuring - threadsBefore, heapDuring - heapBefore);
+    }
+
+    /**
+     *
+     * @return The number of live platform threads (virtual threads are not listed).
+     */
+    private static int liveThreads() {
+        return Thread.getAllStackTraces().size();
+    }
+
+    /**
+     *
+     * @return The used heap, in bytes.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -401,6 +401,63 @@ public class CmdLineArgsReaderTest
         assertEquals(NetworkMode.RMI, clientSettings.getNetworkMode());
     }
 
+    /**
+     * The user can set the socket client to use the framed protocol:
+     * <ul>
+     *     <li>-b/--framed: ask the server for length-prefixed frames</li>
+     *     <li>no options: one json text for each line</li>
+     * </ul>.
+     * Test if the CmdLineArgsReader.readCmdLineArgs() works correctly
+     * for this option.
+     */
+    @Test
+    @DisplayName("-b/--framed test")
+    public void framedOptionTest() {
+
+        // No options, the line protocol.
+        CmdLineArgs cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("127.0.0.1 5635"));
+        assertEquals(ClientSettings.DEFAULT_FRAMED, cmdArgs.getSettings().getClientSettings().isFramed());
+
+        // Short flag.
+        cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("127.0.0.1 5635 -b"));
+        assertTrue(cmdArgs.getSettings().getClientSettings().isFramed());
+
+        // Long flag, together with the tui option.
+        cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("127.0.0.1 5635 -t --framed"));
+        ClientSettings clientSettings = cmdArgs.getSettings().getClientSettings();
+        assertTrue(clientSettings.isFramed());
+        assertEquals(ClientMode.TEXTUAL, clientSettings.getMode());
+        assertEquals(NetworkMode.SOCKET, clientSettings.getNetworkMode());
+    }
+
+    /**
+     * The user can set the socket client to use the compact codec:
+     * <ul>
+     *     <li>-c/--compact: ask the server for frames with the compact codec</li>
+     *     <li>no options: json codec</li>
+     * </ul>.
+     * Test if the CmdLineArgsReader.readCmdLineArgs() works correctly
+     * for this option.
+     */
+    @Test
+    @DisplayName("-c/--compact test")
+    public void compactOptionTest() {
+
+        // No options, the json codec.
+        CmdLineArgs cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("127.0.0.1 5635"));
+        assertEquals(ClientSettings.DEFAULT_CODEC, cmdArgs.getSettings().getClientSettings().getCodec());
+
+        // Short flag, the compact codec implies the framed protocol.
+        cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("127.0.0.1 5635 -c"));
+        assertEquals("compact", cmdArgs.getSettings().getClientSettings().getCodec());
+        assertTrue(cmdArgs.getSettings().getClientSettings().isFramed());
+
+        // Long flag, together with the framed option.
+        cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("127.0.0.1 5635 --framed --compact"));
+        assertEquals("compact", cmdArgs.getSettings().getClientSettings().getCodec());
+        assertTrue(cmdArgs.getSettings().getClientSettings().isFramed());
+    }
+
     /**
      * The user can set the server to use specified port number,
      * instead of automatically search an available port:
@@ -451,6 +508,67 @@ public class CmdLineArgsReaderTest
 
     }
 
+    /**
+     * The user can set the server to serve the TCP connections with non-blocking channels:
+     * <ul>
+     *     <li>-n/--nio: set "nio" tcp mode</li>
+     *     <li>no options: "blocking"</li>
+     * </ul>.
+     * Test if the CmdLineArgsReader.readCmdLineArgs() works correctly
+     * for this option.
+     */
+    @Test
+    @DisplayName("-n/--nio test")
+    public void nioOptionTest() {
+
+        // No options, the default tcp mode.
+        CmdLineArgs cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs(""));
+        assertEquals(ServerSettings.DEF_TCP_MODE, cmdArgs.getSettings().getServerSettings().getTcpMode());
+
+        // Short flag.
+        cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("-n"));
+        assertEquals(TcpMode.NIO, cmdArgs.getSettings().getServerSettings().getTcpMode());
+
+        // Long flag, together with other options.
+        cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("-f --nio -l 12"));
+        checkServerCmdLineArgs(
+                cmdArgs,
+                ServerSettings.DEF_SOCKET_PORT,
+                12,
+                ServerSettings.DEF_VERBOSITY,
+                PortMode.FIXED
+        );
+        assertEquals(TcpMode.NIO, cmdArgs.getSettings().getServerSettings().getTcpMode());
+    }
+
+    /**
+     * The user can set the server to run the clients on virtual threads:
+     * <ul>
+     *     <li>-x/--virtual: set "virtual" thread mode</li>
+     *     <li>no options: "platform"</li>
+     * </ul>.
+     * Test if the CmdLineArgsReader.readCmdLineArgs() works correctly
+     * for this option.
+     */
+    @Test
+    @DisplayName("-x/--virtual test")
+    public void virtualOptionTest() {
+
+        // No options, the default thread mode.
+        CmdLineArgs cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs(""));
+        assertEquals(ServerSettings.DEF_THREAD_MODE, cmdArgs.getSettings().getServerSettings().getThreadMode());
+
+        // Short flag.
+        cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("-x"));
+        assertEquals(ThreadMode.VIRTUAL, cmdArgs.getSettings().getServerSettings().getThreadMode());
+        assertEquals(ServerSettings.DEF_TCP_MODE, cmdArgs.getSettings().getServerSettings().getTcpMode());
+
+        // Long flag, together with the nio option.
+        cmdArgs = CmdLineArgsReader.readCmdLineArgs(getArgs("--virtual -n"));
+        assertEquals(ThreadMode.VIRTUAL, cmdArgs.getSettings().getServerSettings().getThreadMode());
+        assertEquals(TcpMode.NIO, cmdArgs.getSettings().getServerSettings().getTcpMode());
+    }
+
     /**
      * The user can set log verbosity of the server: <ul>
      *     <li>-v/--verbosity lvl: set the verbosity to level lvl, in range [1, 4]</li>
@@ -141,6 +141,79 @@ public class ParseTest
                 NetworkMode.SOCKET);
     }
 
+    /**
+     * Test the parseFromJson() method, with the framed protocol.
+     */
+    @Test
+    @DisplayName("Test file settings05.json")
+    public void testSettings05()
+    {
+        // This file has the following json text:
+        // {
+        //  "serverIp": "127.0.0.1",
+        //  "port": 12336,
+        //  "mode": "tui",
+        //  "network": "socket",
+        //  "framed": true
+        //}
+
+        // Path and filename of the json settings file.
+        final String jsonFileName = "settings05.json";
+        final Path jsonFilePath = Path.of(PATH, jsonFileName);
+        // Check if the file exists.
+        assertTrue(Files.exists(jsonFilePath));
+
+        // Parse the client settings.
+        ClientSettings settings = assertDoesNotThrow(()->ClientSettings.loadJsonFile(jsonFilePath));
+
+        // Check settings.
+        checkClientSettings(settings,
+                "127.0.0.1",
+                12336,
+                ClientMode.TEXTUAL,
+                NetworkMode.SOCKET);
+        assertTrue(settings.isFramed());
+    }
+
+    /**
+     * Test the parseFromJson() method, with the codec.
+     */
+    @Test
+    @DisplayName("Test file settings06.json")
+    public void testSettings06()
+    {
+        // This file has the following json text:
+        // {
+        //  "serverIp": "127.0.0.1",
+        //  "port": 12336,
+        //  "codec": "compact"
+        //}
+
+        // Path and filename of the json settings file.
+        final String jsonFileName = "settings06.json";
+        final Path jsonFilePath = Path.of(PATH, jsonFileName);
+        // Check if the file exists.
+        assertTrue(Files.exists(jsonFilePath));
+
+        // Parse the client settings.
+        ClientSettings settings = assertDoesNotThrow(()->ClientSettings.loadJsonFile(jsonFilePath));
+
+        // Check settings: the compact codec implies the framed protocol.
+        checkClientSettings(settings,
+                "127.0.0.1",
+                12336,
+                ClientSettings.DEFAULT_CLIENT_MODE,
+                ClientSettings.DEFAULT_NETWORK_MODE);
+        assertEquals("compact", settings.getCodec());
+        assertTrue(settings.isFramed());
+
+        // An unknown codec is replaced by the default one.
+        settings = assertDoesNotThrow(() -> ClientSettings.parseFromJson(
+                "{\"serverIp\": \"127.0.0.1\", \"port\": 12336, \"codec\": \"xml\"}"));
+        assertEquals(ClientSettings.DEFAULT_CODEC, settings.getCodec());
+        assertFalse(settings.isFramed());
+    }
+
     private static void checkClientSettings(ClientSettings settings, String expectedIp, int expectedPort, ClientMode expectedMode, NetworkMode expectedNetwork) {
         assertEquals(expectedIp, settings.getServerIp());
         assertEquals(expectedPort, settings.getPort());
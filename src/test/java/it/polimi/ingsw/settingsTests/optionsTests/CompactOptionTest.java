@@ -0,0 +1,47 @@
+package it.polimi.ingsw.settingsTests.optionsTests;
+
+import it.polimi.ingsw.am52.settings.CompactOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for the class CompactOption.
+ */
+public class CompactOptionTest
+{
+    /**
+     * Test short flag and long flag.
+     */
+    @Test
+    @DisplayName("Compact option flags test")
+    public void testFlags()
+    {
+        CompactOption option = new CompactOption();
+
+        assertEquals("-c", option.getShortFlag());
+        assertEquals("--compact", option.getLongFlag());
+
+        assertTrue(option.validateOptionFlag("-c"));
+        assertTrue(option.validateOptionFlag("--compact"));
+
+        assertFalse(option.requiresValue());
+    }
+
+    /**
+     * Test the parseOptionText method.
+     */
+    @Test
+    @DisplayName("CompactOption: parseOptionText() test")
+    public void testParse()
+    {
+        CompactOption option = new CompactOption();
+
+        // The parseOptionText() always throws, because there isn't any
+        // required argument for this option.
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText("1"));
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText(""));
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText("compact"));
+    }
+}
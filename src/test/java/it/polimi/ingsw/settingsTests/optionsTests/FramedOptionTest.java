@@ -0,0 +1,47 @@
+package it.polimi.ingsw.settingsTests.optionsTests;
+
+import it.polimi.ingsw.am52.settings.FramedOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for the class FramedOption.
+ */
+public class FramedOptionTest
+{
+    /**
+     * Test short flag and long flag.
+     */
+    @Test
+    @DisplayName("Framed option flags test")
+    public void testFlags()
+    {
+        FramedOption option = new FramedOption();
+
+        assertEquals("-b", option.getShortFlag());
+        assertEquals("--framed", option.getLongFlag());
+
+        assertTrue(option.validateOptionFlag("-b"));
+        assertTrue(option.validateOptionFlag("--framed"));
+
+        assertFalse(option.requiresValue());
+    }
+
+    /**
+     * Test the parseOptionText method.
+     */
+    @Test
+    @DisplayName("FramedOption: parseOptionText() test")
+    public void testParse()
+    {
+        FramedOption option = new FramedOption();
+
+        // The parseOptionText() always throws, because there isn't any
+        // required argument for this option.
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText("1"));
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText(""));
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText("framed"));
+    }
+}
@@ -0,0 +1,63 @@
+package it.polimi.ingsw.settingsTests.optionsTests;
+
+import it.polimi.ingsw.am52.settings.NioOption;
+import it.polimi.ingsw.am52.settings.TcpMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for the class NioOption.
+ */
+public class NioOptionTest
+{
+    /**
+     * Test short flag and long flag.
+     */
+    @Test
+    @DisplayName("Nio option flags test")
+    public void testFlags()
+    {
+        NioOption option = new NioOption();
+
+        assertEquals("-n", option.getShortFlag());
+        assertEquals("--nio", option.getLongFlag());
+
+        assertTrue(option.validateOptionFlag("-n"));
+        assertTrue(option.validateOptionFlag("--nio"));
+
+        assertFalse(option.requiresValue());
+    }
+
+    /**
+     * Test the parseOptionText method.
+     */
+    @Test
+    @DisplayName("NioOption: parseOptionText() test")
+    public void testParse()
+    {
+        NioOption option = new NioOption();
+
+        // The parseOptionText() always throws, because there isn't any
+        // required argument for this option.
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText("1"));
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText(""));
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText("nio"));
+    }
+
+    /**
+     * Test the parse method of the TcpMode enum.
+     */
+    @Test
+    @DisplayName("TcpMode: parse() test")
+    public void testTcpModeParse()
+    {
+        assertEquals(TcpMode.BLOCKING, TcpMode.parse("blocking"));
+        assertEquals(TcpMode.NIO, TcpMode.parse("nio"));
+        assertEquals(TcpMode.NIO, TcpMode.parse("NIO"));
+
+        assertThrows(IllegalArgumentException.class, () -> TcpMode.parse("select"));
+        assertThrows(IllegalArgumentException.class, () -> TcpMode.parse(""));
+    }
+}
@@ -0,0 +1,63 @@
+package it.polimi.ingsw.settingsTests.optionsTests;
+
+import it.polimi.ingsw.am52.settings.VirtualThreadsOption;
+import it.polimi.ingsw.am52.settings.ThreadMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for the class VirtualThreadsOption.
+ */
+public class VirtualThreadsOptionTest
+{
+    /**
+     * Test short flag and long flag.
+     */
+    @Test
+    @DisplayName("Virtual option flags test")
+    public void testFlags()
+    {
+        VirtualThreadsOption option = new VirtualThreadsOption();
+
+        assertEquals("-x", option.getShortFlag());
+        assertEquals("--virtual", option.getLongFlag());
+
+        assertTrue(option.validateOptionFlag("-x"));
+        assertTrue(option.validateOptionFlag("--virtual"));
+
+        assertFalse(option.requiresValue());
+    }
+
+    /**
+     * Test the parseOptionText method.
+     */
+    @Test
+    @DisplayName("VirtualThreadsOption: parseOptionText() test")
+    public void testParse()
+    {
+        VirtualThreadsOption option = new VirtualThreadsOption();
+
+        // The parseOptionText() always throws, because there isn't any
+        // required argument for this option.
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText("1"));
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText(""));
+        assertThrows(IllegalArgumentException.class, () -> option.parseValueText("virtual"));
+    }
+
+    /**
+     * Test the parse method of the ThreadMode enum.
+     */
+    @Test
+    @DisplayName("ThreadMode: parse() test")
+    public void testThreadModeParse()
+    {
+        assertEquals(ThreadMode.PLATFORM, ThreadMode.parse("platform"));
+        assertEquals(ThreadMode.VIRTUAL, ThreadMode.parse("virtual"));
+        assertEquals(ThreadMode.VIRTUAL, ThreadMode.parse("Virtual"));
+
+        assertThrows(IllegalArgumentException.class, () -> ThreadMode.parse("carrier"));
+        assertThrows(IllegalArgumentException.class, () -> ThreadMode.parse(""));
+    }
+}
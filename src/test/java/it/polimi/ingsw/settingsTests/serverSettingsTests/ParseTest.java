@@ -2,7 +2,10 @@ package it.polimi.ingsw.settingsTests.serverSettingsTests;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import it.polimi.ingsw.am52.settings.PortMode;
+import it.polimi.ingsw.am52.settings.RejectionPolicy;
 import it.polimi.ingsw.am52.settings.ServerSettings;
+import it.polimi.ingsw.am52.settings.TcpMode;
+import it.polimi.ingsw.am52.settings.ThreadMode;
 import it.polimi.ingsw.am52.settings.VerbosityLevel;
 import static it.polimi.ingsw.am52.settings.ServerSettings.*;
 import org.junit.jupiter.api.DisplayName;
@@ -752,6 +755,212 @@ public class ParseTest
         assertEquals(PortMode.AUTO, settings.getPortMode());
     }
 
+    /**
+     * Test the parseFromJson() method in case the json file sets the
+     * tcp mode.
+     */
+    @Test
+    @DisplayName("Test file settings24.json")
+    public void testSettings24()
+    {
+        // This file has two setting values:
+        // {
+        //  "socketPort": 2367,
+        //  "tcpMode": "nio"
+        // }
+
+        // Path and filename of the json settings file.
+        final String jsonFileName = "settings24.json";
+        final Path jsonFilePath = Path.of(PATH, jsonFileName);
+        // Check if the file exists.
+        assertTrue(Files.exists(jsonFilePath));
+
+        ServerSettings settings = assertDoesNotThrow(() -> ServerSettings.loadJsonFile(jsonFilePath));
+
+        checkSettings(settings,
+                DEF_MAX_LOBBIES,
+                2367,
+                DEF_RMI_PORT,
+                DEF_PORT_MODE,
+                DEF_VERBOSITY
+        );
+        assertEquals(TcpMode.NIO, settings.getTcpMode());
+    }
+
+    /**
+     * Test the parseFromJson() method in case the json file has an
+     * invalid tcp mode.
+     */
+    @Test
+    @DisplayName("Test file settings25.json")
+    public void testSettings25()
+    {
+        // This file has two setting values, the tcp mode is invalid:
+        // {
+        //  "maxLobbies": 20,
+        //  "tcpMode": "select"
+        // }
+
+        // Path and filename of the json settings file.
+        final String jsonFileName = "settings25.json";
+        final Path jsonFilePath = Path.of(PATH, jsonFileName);
+        // Check if the file exists.
+        assertTrue(Files.exists(jsonFilePath));
+
+        ServerSettings settings = assertDoesNotThrow(() -> ServerSettings.loadJsonFile(jsonFilePath));
+
+        checkSettings(settings,
+                20,
+                DEF_SOCKET_PORT,
+                DEF_RMI_PORT,
+                DEF_PORT_MODE,
+                DEF_VERBOSITY
+        );
+        assertEquals(DEF_TCP_MODE, settings.getTcpMode());
+    }
+
+    /**
+     * Test the parseFromJson() method in case the json file sets the
+     * request dispatcher settings.
+     */
+    @Test
+    @DisplayName("Test file settings26.json")
+    public void testSettings26()
+    {
+        // This file has three setting values:
+        // {
+        //  "dispatchThreads": 16,
+        //  "maxQueuedRequests": 8,
+        //  "rejectionPolicy": "disconnect"
+        // }
+
+        // Path and filename of the json settings file.
+        final String jsonFileName = "settings26.json";
+        final Path jsonFilePath = Path.of(PATH, jsonFileName);
+        // Check if the file exists.
+        assertTrue(Files.exists(jsonFilePath));
+
+        ServerSettings settings = assertDoesNotThrow(() -> ServerSettings.loadJsonFile(jsonFilePath));
+
+        assertEquals(16, settings.getDispatchThreads());
+        assertEquals(8, settings.getMaxQueuedRequests());
+        assertEquals(RejectionPolicy.DISCONNECT, settings.getRejectionPolicy());
+        assertEquals(DEF_TCP_MODE, settings.getTcpMode());
+    }
+
+    /**
+     * Test the parseFromJson() method in case the json file has invalid
+     * request dispatcher settings.
+     */
+    @Test
+    @DisplayName("Test file settings27.json")
+    public void testSettings27()
+    {
+        // This file has three setting values, all invalid:
+        // {
+        //  "dispatchThreads": 0,
+        //  "maxQueuedRequests": 100000,
+        //  "rejectionPolicy": "block"
+        // }
+
+        // Path and filename of the json settings file.
+        final String jsonFileName = "settings27.json";
+        final Path jsonFilePath = Path.of(PATH, jsonFileName);
+        // Check if the file exists.
+        assertTrue(Files.exists(jsonFilePath));
+
+        ServerSettings settings = assertDoesNotThrow(() -> ServerSettings.loadJsonFile(jsonFilePath));
+
+        assertEquals(DEF_DISPATCH_THREADS, settings.getDispatchThreads());
+        assertEquals(DEF_MAX_QUEUED_REQUESTS, settings.getMaxQueuedRequests());
+        assertEquals(DEF_REJECTION_POLICY, settings.getRejectionPolicy());
+    }
+
+    /**
+     * Test the parseFromJson() method in case the json file sets the
+     * thread mode.
+     */
+    @Test
+    @DisplayName("Test file settings28.json")
+    public void testSettings28()
+    {
+        // This file has two setting values:
+        // {
+        //  "threadMode": "virtual",
+        //  "tcpMode": "nio"
+        // }
+
+        // Path and filename of the json settings file.
+        final String jsonFileName = "settings28.json";
+        final Path jsonFilePath = Path.of(PATH, jsonFileName);
+        // Check if the file exists.
+        assertTrue(Files.exists(jsonFilePath));
+
+        ServerSettings settings = assertDoesNotThrow(() -> ServerSettings.loadJsonFile(jsonFilePath));
+
+        assertEquals(ThreadMode.VIRTUAL, settings.getThreadMode());
+        assertEquals(TcpMode.NIO, settings.getTcpMode());
+        assertEquals(DEF_DISPATCH_THREADS, settings.getDispatchThreads());
+    }
+
+    /**
+     * Test the parseFromJson() method, with the max frame size.
+     */
+    @Test
+    @DisplayName("Test file settings29.json")
+    public void testSettings29()
+    {
+        // This file has two setting values:
+        // {
+        //  "maxFrameSize": 65536,
+        //  "tcpMode": "blocking"
+        // }
+
+        // Path and filename of the json settings file.
+        final String jsonFileName = "settings29.json";
+        final Path jsonFilePath = Path.of(PATH, jsonFileName);
+        // Check if the file exists.
+        assertTrue(Files.exists(jsonFilePath));
+
+        ServerSettings settings = assertDoesNotThrow(() -> ServerSettings.loadJsonFile(jsonFilePath));
+
+        assertEquals(65536, settings.getMaxFrameSize());
+        assertEquals(TcpMode.BLOCKING, settings.getTcpMode());
+
+        // A size out of range is replaced by the default one.
+        settings = assertDoesNotThrow(() -> ServerSettings.parseFromJson("{\"maxFrameSize\": 16}"));
+        assertEquals(DEF_MAX_FRAME_SIZE, settings.getMaxFrameSize());
+    }
+
+    /**
+     * Test the parseFromJson() method, with the max pending writes.
+     */
+    @Test
+    @DisplayName("Test file settings30.json")
+    public void testSettings30()
+    {
+        // This file has two setting values:
+        // {
+        //  "maxPendingWrites": 1048576,
+        //  "tcpMode": "nio"
+        // }
+
+        // Path and filename of the json settings file.
+        final String jsonFileName = "settings30.json";
+        final Path jsonFilePath = Path.of(PATH, jsonFileName);
+        // Check if the file exists.
+        assertTrue(Files.exists(jsonFilePath));
+
+        ServerSettings settings = assertDoesNotThrow(() -> ServerSettings.loadJsonFile(jsonFilePath));
+
+        assertEquals(1048576, settings.getMaxPendingWrites());
+        assertEquals(TcpMode.NIO, settings.getTcpMode());
+
+        // A limit out of range is replaced by the default one.
+        settings = assertDoesNotThrow(() -> ServerSettings.parseFromJson("{\"maxPendingWrites\": 16}"));
+        assertEquals(DEF_MAX_PENDING_WRITES, settings.getMaxPendingWrites());
+    }
+
     /**
      * Check that the server settings have the expected values.
      * @param settings The server settings to check.